@@ -15,10 +15,13 @@ public class VendorDatabaseProperties {
 
   private static final String DISABLE_FK_BEFORE_TRUNCATE = "disableFkBeforeTruncate";
 
+  private static final String INSERT_BATCHING_MAX_ROWS = "insertBatching.maxRows";
+
   private final Properties properties;
 
   private final int variableValuePreviewSize;
   private final boolean disableFkBeforeTruncate;
+  private final int insertBatchingMaxRows;
 
   public VendorDatabaseProperties(final Properties properties) {
     this.properties = properties;
@@ -36,6 +39,11 @@ public class VendorDatabaseProperties {
     }
     disableFkBeforeTruncate =
         Boolean.parseBoolean(properties.getProperty(DISABLE_FK_BEFORE_TRUNCATE));
+
+    if (!properties.containsKey(INSERT_BATCHING_MAX_ROWS)) {
+      throw new IllegalArgumentException("Property '" + INSERT_BATCHING_MAX_ROWS + "' is missing");
+    }
+    insertBatchingMaxRows = Integer.parseInt(properties.getProperty(INSERT_BATCHING_MAX_ROWS));
   }
 
   public int variableValuePreviewSize() {
@@ -46,6 +54,14 @@ public class VendorDatabaseProperties {
     return disableFkBeforeTruncate;
   }
 
+  /**
+   * @return max number of rows inserted by a single multi-row INSERT statement, or 1 if the
+   *     database doesn't support them
+   */
+  public int insertBatchingMaxRows() {
+    return insertBatchingMaxRows;
+  }
+
   public Properties properties() {
     return properties;
   }
@@ -35,6 +35,7 @@ import io.camunda.db.rdbms.write.service.TenantWriter;
 import io.camunda.db.rdbms.write.service.UserTaskWriter;
 import io.camunda.db.rdbms.write.service.UserWriter;
 import io.camunda.db.rdbms.write.service.VariableWriter;
+import java.util.concurrent.CompletableFuture;
 
 public class RdbmsWriter {
 
@@ -188,4 +189,12 @@ public class RdbmsWriter {
   public void flush() {
     executionQueue.flush();
   }
+
+  public CompletableFuture<Integer> flushAsync() {
+    return executionQueue.flushAsync();
+  }
+
+  public void close() {
+    executionQueue.close();
+  }
 }
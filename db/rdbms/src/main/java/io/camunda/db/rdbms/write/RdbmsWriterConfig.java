@@ -13,12 +13,14 @@ import java.time.Duration;
 public record RdbmsWriterConfig(
     int partitionId,
     int maxQueueSize,
+    boolean asyncFlush,
     Duration defaultHistoryTTL,
     Duration minHistoryCleanupInterval,
     Duration maxHistoryCleanupInterval,
     int historyCleanupBatchSize) {
 
   public static final int DEFAULT_QUEUE_SIZE = -1;
+  public static final boolean DEFAULT_ASYNC_FLUSH = false;
   public static final Duration DEFAULT_HISTORY_TTL = Duration.ofDays(30);
   public static final Duration DEFAULT_MIN_HISTORY_CLEANUP_INTERVAL = Duration.ofMinutes(1);
   public static final Duration DEFAULT_MAX_HISTORY_CLEANUP_INTERVAL = Duration.ofMinutes(60);
@@ -32,6 +34,7 @@ public record RdbmsWriterConfig(
 
     private int partitionId;
     private int maxQueueSize = DEFAULT_QUEUE_SIZE;
+    private boolean asyncFlush = DEFAULT_ASYNC_FLUSH;
     private Duration defaultHistoryTTL = DEFAULT_HISTORY_TTL;
     private Duration minHistoryCleanupInterval = DEFAULT_MIN_HISTORY_CLEANUP_INTERVAL;
     private Duration maxHistoryCleanupInterval = DEFAULT_MAX_HISTORY_CLEANUP_INTERVAL;
@@ -47,6 +50,11 @@ public record RdbmsWriterConfig(
       return this;
     }
 
+    public Builder asyncFlush(boolean asyncFlush) {
+      this.asyncFlush = asyncFlush;
+      return this;
+    }
+
     public Builder defaultHistoryTTL(Duration defaultHistoryTTL) {
       this.defaultHistoryTTL = defaultHistoryTTL;
       return this;
@@ -72,6 +80,7 @@ public record RdbmsWriterConfig(
       return new RdbmsWriterConfig(
           partitionId,
           maxQueueSize,
+          asyncFlush,
           defaultHistoryTTL,
           minHistoryCleanupInterval,
           maxHistoryCleanupInterval,
@@ -18,6 +18,8 @@ import io.camunda.db.rdbms.sql.UserTaskMapper;
 import io.camunda.db.rdbms.sql.VariableMapper;
 import io.camunda.db.rdbms.write.queue.DefaultExecutionQueue;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.apache.ibatis.session.SqlSessionFactory;
 
 public class RdbmsWriterFactory {
@@ -62,7 +64,12 @@ public class RdbmsWriterFactory {
   public RdbmsWriter createWriter(final RdbmsWriterConfig config) {
     final var executionQueue =
         new DefaultExecutionQueue(
-            sqlSessionFactory, config.partitionId(), config.maxQueueSize(), metrics);
+            sqlSessionFactory,
+            config.partitionId(),
+            config.maxQueueSize(),
+            metrics,
+            createFlushExecutor(config),
+            vendorDatabaseProperties.insertBatchingMaxRows());
     return new RdbmsWriter(
         config,
         executionQueue,
@@ -77,4 +84,16 @@ public class RdbmsWriterFactory {
         variableMapper,
         vendorDatabaseProperties);
   }
+
+  private ExecutorService createFlushExecutor(final RdbmsWriterConfig config) {
+    if (!config.asyncFlush()) {
+      return null;
+    }
+
+    return Executors.newSingleThreadExecutor(
+        Thread.ofPlatform()
+            .name("rdbms-flush-partition-" + config.partitionId())
+            .daemon()
+            .factory());
+  }
 }
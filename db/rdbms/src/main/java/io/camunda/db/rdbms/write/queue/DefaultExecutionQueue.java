@@ -11,13 +11,17 @@ import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
 import org.slf4j.Logger;
@@ -25,41 +29,94 @@ import org.slf4j.LoggerFactory;
 
 public class DefaultExecutionQueue implements ExecutionQueue {
 
+  /**
+   * Suffix of the statement which inserts a list of rows at once, e.g. {@code insertBatch} for
+   * {@code insert}. The list of parameters is passed as {@code list} to the statement.
+   */
+  static final String INSERT_BATCH_STATEMENT_SUFFIX = "Batch";
+
   private static final Logger LOG = LoggerFactory.getLogger(DefaultExecutionQueue.class);
 
   private final SqlSessionFactory sessionFactory;
   private final List<PreFlushListener> preFlushListeners = new ArrayList<>();
   private final List<PostFlushListener> postFlushListeners = new ArrayList<>();
 
-  private final LinkedList<QueueItem> queue = new LinkedList<>();
+  private final List<QueueItem> queue = new ArrayList<>();
+  // positions of the queued items by context type and id, ascending, to find merge candidates
+  private final Map<QueueItemKey, List<Integer>> queuePositions = new HashMap<>();
 
   private final long partitionId; // for addressing the logger
   private final int queueFlushLimit;
 
   private final RdbmsWriterMetrics metrics;
 
+  // only set if batches are flushed asynchronously, see flushAsync()
+  private final ExecutorService flushExecutor;
+  private PendingBatch inFlightBatch;
+  private boolean notifyingPreFlushListeners;
+
+  // max rows per multi-row INSERT statement; 1 if the database doesn't support them
+  private final int maxInsertBatchRows;
+  private final Map<String, Boolean> hasInsertBatchStatement = new ConcurrentHashMap<>();
+
   public DefaultExecutionQueue(
       final SqlSessionFactory sessionFactory,
       final long partitionId,
       final int queueFlushLimit,
       final RdbmsWriterMetrics metrics) {
+    this(sessionFactory, partitionId, queueFlushLimit, metrics, null);
+  }
+
+  /**
+   * Creates a queue which flushes batches asynchronously on the given executor, if it's not null.
+   * The queue takes ownership of the executor and shuts it down on {@link #close()}.
+   */
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final RdbmsWriterMetrics metrics,
+      final ExecutorService flushExecutor) {
+    this(sessionFactory, partitionId, queueFlushLimit, metrics, flushExecutor, 1);
+  }
+
+  /**
+   * Creates a queue which additionally inserts up to {@code maxInsertBatchRows} rows with a single
+   * statement, see {@link #executeNext(SqlSession, List, int)}.
+   */
+  public DefaultExecutionQueue(
+      final SqlSessionFactory sessionFactory,
+      final long partitionId,
+      final int queueFlushLimit,
+      final RdbmsWriterMetrics metrics,
+      final ExecutorService flushExecutor,
+      final int maxInsertBatchRows) {
     this.sessionFactory = sessionFactory;
     this.partitionId = partitionId;
     this.queueFlushLimit = queueFlushLimit;
     this.metrics = metrics;
+    this.flushExecutor = flushExecutor;
+    this.maxInsertBatchRows = maxInsertBatchRows;
   }
 
   @Override
   public void executeInQueue(final QueueItem entry) {
     LOG.trace("[RDBMS ExecutionQueue, Partition {}] Added entry to queue: {}", partitionId, entry);
+    final boolean flushAsync;
     synchronized (queue) {
       if (queue.isEmpty()) {
         metrics.startFlushLatencyMeasurement();
       }
 
+      indexPosition(QueueItemKey.of(entry), queue.size());
       queue.add(entry);
       metrics.recordEnqueuedStatement(entry.statementId());
-      checkQueueForFlush();
+      flushAsync = checkQueueForFlush();
+    }
+
+    // outside the lock, as it may wait for the batch in flight
+    if (flushAsync) {
+      flushAsync();
     }
   }
 
@@ -80,6 +137,10 @@ public class DefaultExecutionQueue implements ExecutionQueue {
    */
   @Override
   public int flush() {
+    if (flushExecutor != null) {
+      return joinFlush(flushAsync());
+    }
+
     synchronized (queue) {
       if (queue.isEmpty()) {
         LOG.trace(
@@ -101,29 +162,164 @@ public class DefaultExecutionQueue implements ExecutionQueue {
   }
 
   /**
-   * Iterate from end over the queue and try to find a last added compatible queueItem. The
-   * queueItem will be replaced with a new, combined queueItem.
+   * If the queue was created with a flush executor, the queued items are taken as a batch, which is
+   * flushed on that executor while new items are queued. Only one batch is in flight at a time: if
+   * the previous batch is still flushing, this waits for it before taking the next batch, which
+   * applies backpressure if the database is slower than the exporter. If the previous batch failed,
+   * its items are flushed again in front of the next batch. If the queue is empty, only the items
+   * of a failed previous batch are flushed again.
+   *
+   * <p>Pre-flush listeners are called by the calling thread before the batch is taken, so any items
+   * they queue are part of the batch. Post-flush listeners are called by the flush executor, once
+   * the batch was committed. As the next batch is only taken once the previous one completed, the
+   * post-flush listeners of a batch are always called before the pre-flush listeners of the next
+   * batch.
+   *
+   * @return future which is completed with the number of flushed items once the batch is committed,
+   *     or completed exceptionally if the batch failed
+   */
+  @Override
+  public CompletableFuture<Integer> flushAsync() {
+    if (flushExecutor == null) {
+      return ExecutionQueue.super.flushAsync();
+    }
+
+    awaitInFlightBatch();
+    synchronized (queue) {
+      // only the exporter flushes, but if another flush started a batch meanwhile, wait for it
+      final var previousBatch = inFlightBatch;
+      if (previousBatch != null) {
+        awaitBatch(previousBatch);
+      }
+      inFlightBatch = null;
+
+      final List<QueueItem> batch = new ArrayList<>();
+      if (previousBatch != null && previousBatch.result().isCompletedExceptionally()) {
+        LOG.warn(
+            "[RDBMS ExecutionQueue, Partition {}] Failed to flush batch, retrying its {} items with the next batch",
+            partitionId,
+            previousBatch.items().size());
+        batch.addAll(previousBatch.items());
+      }
+
+      if (!queue.isEmpty()) {
+        notifyPreFlushListeners();
+        batch.addAll(queue);
+        queue.clear();
+        queuePositions.clear();
+        metrics.stopFlushLatencyMeasurement();
+      }
+
+      if (batch.isEmpty()) {
+        LOG.trace(
+            "[RDBMS ExecutionQueue, Partition {}] Skip Flushing because execution queue is empty",
+            partitionId);
+        return CompletableFuture.completedFuture(0);
+      }
+
+      final var result = CompletableFuture.supplyAsync(() -> flushBatch(batch), flushExecutor);
+      inFlightBatch = new PendingBatch(batch, result);
+      return result;
+    }
+  }
+
+  @Override
+  public void close() {
+    if (flushExecutor != null) {
+      awaitInFlightBatch();
+      flushExecutor.shutdown();
+    }
+  }
+
+  /**
+   * Find the last added compatible queueItem and replace it with a new, combined queueItem. If all
+   * combiners declare the {@link QueueItemMerger#contextType()} and {@link QueueItemMerger#id()} of
+   * the items they can merge, the candidates are looked up directly. Otherwise, it iterates from
+   * end over the whole queue.
    */
   @Override
   public boolean tryMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
     synchronized (queue) {
-      int index = queue.size() - 1;
-      for (final Iterator<QueueItem> it = queue.descendingIterator(); it.hasNext(); ) {
-        final QueueItem item = it.next();
-
-        for (final QueueItemMerger merger : combiners) {
-          if (merger.canBeMerged(item)) {
-            LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
-            queue.set(index, merger.merge(item));
-            metrics.recordMergedQueueItem(item.contextType(), item.statementId());
-            return true;
+      int mergeIndex = -1;
+      QueueItemMerger mergeCombiner = null;
+
+      for (final QueueItemMerger merger : combiners) {
+        if (merger.contextType() == null || merger.id() == null) {
+          return scanAndMergeWithExistingQueueItem(combiners);
+        }
+
+        final var positions =
+            queuePositions.get(new QueueItemKey(merger.contextType(), merger.id()));
+        if (positions == null) {
+          continue;
+        }
+
+        // on the same item, the first combiner wins, same as when scanning the queue
+        for (int i = positions.size() - 1; i >= 0 && positions.get(i) > mergeIndex; i--) {
+          final int index = positions.get(i);
+          if (merger.canBeMerged(queue.get(index))) {
+            mergeIndex = index;
+            mergeCombiner = merger;
+            break;
           }
         }
+      }
 
-        index--;
+      if (mergeCombiner == null) {
+        return false;
       }
 
-      return false;
+      mergeWithExistingQueueItem(mergeIndex, mergeCombiner);
+      return true;
+    }
+  }
+
+  private boolean scanAndMergeWithExistingQueueItem(final QueueItemMerger... combiners) {
+    for (int index = queue.size() - 1; index >= 0; index--) {
+      final QueueItem item = queue.get(index);
+
+      for (final QueueItemMerger merger : combiners) {
+        if (merger.canBeMerged(item)) {
+          mergeWithExistingQueueItem(index, merger);
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  private void mergeWithExistingQueueItem(final int index, final QueueItemMerger merger) {
+    final QueueItem item = queue.get(index);
+    LOG.trace("Merging new item with item {}, {}", item.contextType(), item.id());
+    final QueueItem mergedItem = merger.merge(item);
+    queue.set(index, mergedItem);
+
+    final var key = QueueItemKey.of(item);
+    final var mergedKey = QueueItemKey.of(mergedItem);
+    if (!key.equals(mergedKey)) {
+      unindexPosition(key, index);
+      indexPosition(mergedKey, index);
+    }
+
+    metrics.recordMergedQueueItem(item.contextType(), item.statementId());
+  }
+
+  private void indexPosition(final QueueItemKey key, final int index) {
+    final var positions = queuePositions.computeIfAbsent(key, k -> new ArrayList<>(1));
+    // items are usually appended, so the position is usually the greatest one
+    int insertAt = positions.size();
+    while (insertAt > 0 && positions.get(insertAt - 1) > index) {
+      insertAt--;
+    }
+    positions.add(insertAt, index);
+  }
+
+  private void unindexPosition(final QueueItemKey key, final int index) {
+    final var positions = queuePositions.get(key);
+    positions.remove(Integer.valueOf(index));
+    if (positions.isEmpty()) {
+      queuePositions.remove(key);
     }
   }
 
@@ -141,36 +337,17 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     final var optimizedItems = optimizeQueueOrder(queue);
 
     try {
-      for (final var entry : optimizedItems) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
-        session.update(entry.statementId(), entry.parameter());
-        queue.remove();
-        flushedElements++;
-      }
-
-      if (!preFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
-        preFlushListeners.forEach(PreFlushListener::onPreFlush);
-      }
-
-      final var batchResult = session.flushStatements();
-      for (final BatchResult singleBatchResult : batchResult) {
-        if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)) {
-          LOG.error(
-              "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
-              partitionId,
-              singleBatchResult.getMappedStatement().getId());
+      try {
+        while (flushedElements < optimizedItems.size()) {
+          flushedElements = executeNext(session, optimizedItems, flushedElements);
         }
-        metrics.recordExecutedStatement(
-            singleBatchResult.getMappedStatement().getId(),
-            singleBatchResult.getParameterObjects().size());
+      } finally {
+        removeFirstQueueItems(flushedElements);
       }
 
-      session.commit();
-      if (!postFlushListeners.isEmpty()) {
-        LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
-        postFlushListeners.forEach(PostFlushListener::onPostFlush);
-      }
+      notifyPreFlushListeners();
+      commit(session);
+      notifyPostFlushListeners();
       LOG.debug(
           "[RDBMS ExecutionQueue, Partition {}] Commit queue with {} entries in {}ms",
           partitionId,
@@ -188,6 +365,165 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     }
   }
 
+  private int flushBatch(final List<QueueItem> batch) {
+    try (final var ignored = metrics.measureFlushDuration()) {
+      final int numFlushedElements = doFlushBatch(batch);
+      metrics.recordBulkSize(numFlushedElements);
+
+      return numFlushedElements;
+    } catch (final Exception e) {
+      metrics.recordFailedFlush();
+      throw e;
+    }
+  }
+
+  private int doFlushBatch(final List<QueueItem> batch) {
+    LOG.debug(
+        "[RDBMS ExecutionQueue, Partition {}] Flushing batch with {} items",
+        partitionId,
+        batch.size());
+
+    final var startMillis = System.currentTimeMillis();
+    final var session =
+        sessionFactory.openSession(ExecutorType.BATCH, TransactionIsolationLevel.READ_UNCOMMITTED);
+
+    try {
+      final var optimizedItems = optimizeQueueOrder(batch);
+      int executedItems = 0;
+      while (executedItems < optimizedItems.size()) {
+        executedItems = executeNext(session, optimizedItems, executedItems);
+      }
+
+      commit(session);
+      notifyPostFlushListeners();
+      LOG.debug(
+          "[RDBMS ExecutionQueue, Partition {}] Commit batch with {} entries in {}ms",
+          partitionId,
+          batch.size(),
+          System.currentTimeMillis() - startMillis);
+
+      return batch.size();
+    } catch (final Exception e) {
+      LOG.error("[RDBMS ExecutionQueue, Partition {}] Error while executing batch", partitionId, e);
+      session.rollback();
+
+      throw e;
+    } finally {
+      session.close();
+    }
+  }
+
+  /**
+   * Executes the item at the given index. If it's an INSERT and its mapper declares a statement
+   * with the same id suffixed with {@link #INSERT_BATCH_STATEMENT_SUFFIX}, it's inserted together
+   * with the directly following items of the same statement, up to {@link #maxInsertBatchRows}, by
+   * a single multi-row INSERT. As the queue is ordered by statement id before, most inserts of an
+   * entity end up in a few multi-row statements.
+   *
+   * @return the index of the next item to execute
+   */
+  private int executeNext(final SqlSession session, final List<QueueItem> items, final int index) {
+    final var entry = items.get(index);
+    int end = index + 1;
+    if (entry.statementType() == WriteStatementType.INSERT && maxInsertBatchRows > 1) {
+      final int maxEnd = Math.min(items.size(), index + maxInsertBatchRows);
+      while (end < maxEnd
+          && items.get(end).statementType() == WriteStatementType.INSERT
+          && items.get(end).statementId().equals(entry.statementId())) {
+        end++;
+      }
+    }
+
+    final var insertBatchStatementId = entry.statementId() + INSERT_BATCH_STATEMENT_SUFFIX;
+    if (end - index > 1 && hasInsertBatchStatement(insertBatchStatementId)) {
+      final List<Object> parameters = new ArrayList<>(end - index);
+      for (final var item : items.subList(index, end)) {
+        parameters.add(item.parameter());
+      }
+      LOG.trace(
+          "[RDBMS ExecutionQueue, Partition {}] Executing {} entries with statement {}",
+          partitionId,
+          parameters.size(),
+          insertBatchStatementId);
+      session.update(insertBatchStatementId, parameters);
+      return end;
+    }
+
+    LOG.trace("[RDBMS ExecutionQueue, Partition {}] Executing entry: {}", partitionId, entry);
+    session.update(entry.statementId(), entry.parameter());
+    return index + 1;
+  }
+
+  private boolean hasInsertBatchStatement(final String statementId) {
+    return hasInsertBatchStatement.computeIfAbsent(
+        statementId, id -> sessionFactory.getConfiguration().hasStatement(id));
+  }
+
+  /** Waits for the batch in flight to complete, if there is one, without holding the lock. */
+  private void awaitInFlightBatch() {
+    final PendingBatch batch;
+    synchronized (queue) {
+      batch = inFlightBatch;
+    }
+    if (batch != null) {
+      awaitBatch(batch);
+    }
+  }
+
+  private void awaitBatch(final PendingBatch batch) {
+    // failures were already reported to the caller of flushAsync(), the items are retried
+    batch.result().exceptionally(error -> 0).join();
+  }
+
+  /** Waits for the flush to complete, and rethrows the error of a failed flush. */
+  private int joinFlush(final CompletableFuture<Integer> flush) {
+    try {
+      return flush.join();
+    } catch (final CompletionException e) {
+      if (e.getCause() instanceof final RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private void commit(final SqlSession session) {
+    final var batchResult = session.flushStatements();
+    for (final BatchResult singleBatchResult : batchResult) {
+      if (Arrays.stream(singleBatchResult.getUpdateCounts()).anyMatch(i -> i == 0)) {
+        LOG.error(
+            "[RDBMS ExecutionQueue, Partition {}] Some statements with ID {} were not executed successfully",
+            partitionId,
+            singleBatchResult.getMappedStatement().getId());
+      }
+      metrics.recordExecutedStatement(
+          singleBatchResult.getMappedStatement().getId(),
+          singleBatchResult.getParameterObjects().size());
+    }
+
+    session.commit();
+  }
+
+  private void notifyPreFlushListeners() {
+    if (!preFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call pre flush listeners", partitionId);
+      // listeners may queue items, which must not trigger another flush
+      notifyingPreFlushListeners = true;
+      try {
+        preFlushListeners.forEach(PreFlushListener::onPreFlush);
+      } finally {
+        notifyingPreFlushListeners = false;
+      }
+    }
+  }
+
+  private void notifyPostFlushListeners() {
+    if (!postFlushListeners.isEmpty()) {
+      LOG.trace("[RDBMS ExecutionQueue, Partition {}] Call post flush listeners", partitionId);
+      postFlushListeners.forEach(PostFlushListener::onPostFlush);
+    }
+  }
+
   /**
    * Optimizes the order of the queue items to minimize the number of executed statements. Primary
    * goal of this optimization is to batch as many statements as possible For this statements with
@@ -225,14 +561,38 @@ public class DefaultExecutionQueue implements ExecutionQueue {
     return resultList;
   }
 
-  LinkedList<QueueItem> getQueue() {
+  private void removeFirstQueueItems(final int count) {
+    if (count == queue.size()) {
+      queue.clear();
+      queuePositions.clear();
+      return;
+    }
+
+    queue.subList(0, count).clear();
+    reindexQueue();
+  }
+
+  private void reindexQueue() {
+    queuePositions.clear();
+    for (int index = 0; index < queue.size(); index++) {
+      indexPosition(QueueItemKey.of(queue.get(index)), index);
+    }
+  }
+
+  List<QueueItem> getQueue() {
     return queue;
   }
 
-  private void checkQueueForFlush() {
-    if (queueFlushLimit <= 0) {
+  /**
+   * Flushes the queue synchronously if it reached the flush limit.
+   *
+   * @return true if the queue reached the flush limit and must be flushed asynchronously by the
+   *     caller, once it released the lock
+   */
+  private boolean checkQueueForFlush() {
+    if (queueFlushLimit <= 0 || notifyingPreFlushListeners) {
       // no limits, exporter must take care of it
-      return;
+      return false;
     }
 
     LOG.trace(
@@ -240,7 +600,20 @@ public class DefaultExecutionQueue implements ExecutionQueue {
         partitionId,
         queue.size());
     if (queue.size() >= queueFlushLimit) {
+      if (flushExecutor != null) {
+        return true;
+      }
       flush();
     }
+    return false;
+  }
+
+  private record PendingBatch(List<QueueItem> items, CompletableFuture<Integer> result) {}
+
+  private record QueueItemKey(ContextType contextType, Object id) {
+
+    static QueueItemKey of(final QueueItem item) {
+      return new QueueItemKey(item.contextType(), item.id());
+    }
   }
 }
@@ -7,6 +7,8 @@
  */
 package io.camunda.db.rdbms.write.queue;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface ExecutionQueue {
 
   void executeInQueue(QueueItem entry);
@@ -17,5 +19,18 @@ public interface ExecutionQueue {
 
   int flush();
 
+  /**
+   * Flushes the queue, possibly without waiting for the flush to complete. By default, this is the
+   * same as {@link #flush()}.
+   *
+   * @return future which is completed with the number of flushed items
+   */
+  default CompletableFuture<Integer> flushAsync() {
+    return CompletableFuture.completedFuture(flush());
+  }
+
+  /** Waits for pending flushes to complete and releases the resources of the queue. */
+  default void close() {}
+
   boolean tryMergeWithExistingQueueItem(QueueItemMerger... combiners);
 }
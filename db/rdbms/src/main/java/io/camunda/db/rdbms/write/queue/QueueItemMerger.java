@@ -12,4 +12,24 @@ public interface QueueItemMerger {
   boolean canBeMerged(QueueItem queueItem);
 
   QueueItem merge(QueueItem originalItem);
+
+  /**
+   * The context type of all items this merger can merge. Together with {@link #id()}, it allows the
+   * {@link ExecutionQueue} to look up merge candidates directly instead of scanning the whole
+   * queue.
+   *
+   * @return the context type of mergeable items, or null if the merger may merge any item
+   */
+  default ContextType contextType() {
+    return null;
+  }
+
+  /**
+   * The id of all items this merger can merge, see {@link #contextType()}.
+   *
+   * @return the id of mergeable items, or null if the merger may merge any item
+   */
+  default Object id() {
+    return null;
+  }
 }
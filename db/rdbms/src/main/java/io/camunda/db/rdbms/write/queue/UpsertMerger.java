@@ -29,6 +29,16 @@ public class UpsertMerger<T extends Copyable<T>> implements QueueItemMerger {
     this.mergeFunction = (Function<ObjectBuilder<T>, ObjectBuilder<T>>) mergeFunction;
   }
 
+  @Override
+  public ContextType contextType() {
+    return contextType;
+  }
+
+  @Override
+  public Object id() {
+    return id;
+  }
+
   @Override
   public boolean canBeMerged(final QueueItem queueItem) {
     return queueItem.id().equals(id)
@@ -11,17 +11,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.session.TransactionIsolationLevel;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -46,6 +57,11 @@ class DefaultExecutionQueueTest {
     executionQueue = new DefaultExecutionQueue(sqlSessionFactory, 1, 10, metrics);
   }
 
+  @AfterEach
+  public void afterEach() {
+    executionQueue.close();
+  }
+
   @Test
   public void whenElementIsAddedNoFlushHappensBelowLimit() {
     executionQueue.executeInQueue(mock(QueueItem.class));
@@ -270,6 +286,262 @@ class DefaultExecutionQueueTest {
     assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
   }
 
+  @Test
+  public void whenMatchingKeyedItemFoundShouldMergeLatestItem() {
+    final var item1 = flowNodeItem(1L, "statement1");
+    final var item2 = flowNodeItem(2L, "statement2");
+    final var item3 = flowNodeItem(1L, "statement3");
+    final var item4 =
+        new QueueItem(
+            ContextType.VARIABLE, WriteStatementType.INSERT, 1L, "statement4", "parameter4");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+    executionQueue.executeInQueue(item3);
+    executionQueue.executeInQueue(item4);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(
+                ContextType.FLOW_NODE,
+                1L,
+                FlowNodeInstanceDbModel.class,
+                b -> ((FlowNodeInstanceDbModelBuilder) b).state(FlowNodeState.COMPLETED)));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(executionQueue.getQueue()).hasSize(4);
+    assertThat(executionQueue.getQueue().get(0)).isSameAs(item1);
+    assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
+    assertThat(executionQueue.getQueue().get(2).statementId()).isEqualTo("statement3");
+    assertThat(((FlowNodeInstanceDbModel) executionQueue.getQueue().get(2).parameter()).state())
+        .isEqualTo(FlowNodeState.COMPLETED);
+    assertThat(executionQueue.getQueue().get(3)).isSameAs(item4);
+  }
+
+  @Test
+  public void whenMatchingKeyedItemIsNotMergeableShouldMergeOlderItem() {
+    final var item1 = flowNodeItem(1L, "statement1");
+    final var item2 =
+        new QueueItem(
+            ContextType.FLOW_NODE, WriteStatementType.UPDATE, 1L, "statement2", "parameter2");
+    executionQueue.executeInQueue(item1);
+    executionQueue.executeInQueue(item2);
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(
+                ContextType.FLOW_NODE,
+                1L,
+                FlowNodeInstanceDbModel.class,
+                b -> ((FlowNodeInstanceDbModelBuilder) b).state(FlowNodeState.COMPLETED)));
+
+    // then
+    assertThat(result).isTrue();
+    assertThat(((FlowNodeInstanceDbModel) executionQueue.getQueue().get(0).parameter()).state())
+        .isEqualTo(FlowNodeState.COMPLETED);
+    assertThat(executionQueue.getQueue().get(1)).isSameAs(item2);
+  }
+
+  @Test
+  public void whenNoMatchingKeyedItemFoundShouldNotMergeItems() {
+    executionQueue.executeInQueue(flowNodeItem(1L, "statement1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.VARIABLE, WriteStatementType.INSERT, 2L, "statement2", "parameter2"));
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(
+                ContextType.FLOW_NODE,
+                2L,
+                FlowNodeInstanceDbModel.class,
+                b -> ((FlowNodeInstanceDbModelBuilder) b).state(FlowNodeState.COMPLETED)));
+
+    // then
+    assertThat(result).isFalse();
+    verify(metrics, never()).recordMergedQueueItem(any(), any());
+  }
+
+  @Test
+  public void whenQueueWasFlushedShouldNotMergeFlushedItems() {
+    executionQueue.executeInQueue(flowNodeItem(1L, "statement1"));
+    executionQueue.flush();
+    executionQueue.executeInQueue(flowNodeItem(2L, "statement2"));
+
+    // when
+    final var result =
+        executionQueue.tryMergeWithExistingQueueItem(
+            new UpsertMerger<>(
+                ContextType.FLOW_NODE,
+                1L,
+                FlowNodeInstanceDbModel.class,
+                b -> ((FlowNodeInstanceDbModelBuilder) b).state(FlowNodeState.COMPLETED)));
+
+    // then
+    assertThat(result).isFalse();
+    assertThat(executionQueue.getQueue()).hasSize(1);
+  }
+
+  @Test
+  public void whenFlushingAsyncBatchShouldBeFlushedOnExecutor() {
+    // given
+    executionQueue = asyncExecutionQueue(10);
+    executionQueue.executeInQueue(processInstanceItem("statement1"));
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPreFlushListener(
+        () -> executionQueue.executeInQueue(processInstanceItem("statement2")));
+    executionQueue.registerPostFlushListener(postFlushListener);
+
+    // when
+    final var flushed = executionQueue.flushAsync().join();
+
+    // then - items queued by the pre flush listener are part of the batch
+    assertThat(flushed).isEqualTo(2);
+    assertThat(executionQueue.getQueue()).isEmpty();
+    final var inOrder = inOrder(session, postFlushListener);
+    inOrder.verify(session).update("statement1", "parameter");
+    inOrder.verify(session).update("statement2", "parameter");
+    inOrder.verify(session).commit();
+    inOrder.verify(postFlushListener).onPostFlush();
+  }
+
+  @Test
+  public void whenBatchIsFlushingAsyncNewItemsShouldBeQueued() {
+    // given
+    executionQueue = asyncExecutionQueue(10);
+    final var flushStarted = new CompletableFuture<Void>();
+    final var continueFlush = new CompletableFuture<Void>();
+    when(session.flushStatements())
+        .then(
+            invocation -> {
+              flushStarted.complete(null);
+              continueFlush.join();
+              return List.of();
+            });
+    executionQueue.executeInQueue(processInstanceItem("statement1"));
+
+    // when
+    final var result = executionQueue.flushAsync();
+    flushStarted.join();
+    final var item2 = processInstanceItem("statement2");
+    executionQueue.executeInQueue(item2);
+
+    // then
+    assertThat(executionQueue.getQueue()).containsExactly(item2);
+    assertThat(result).isNotDone();
+    verify(session, never()).commit();
+
+    continueFlush.complete(null);
+    assertThat(result.join()).isEqualTo(1);
+    verify(session).commit();
+  }
+
+  @Test
+  public void whenAsyncFlushFailedItemsShouldBeFlushedWithNextBatch() {
+    // given
+    executionQueue = asyncExecutionQueue(10);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    when(session.flushStatements())
+        .thenThrow(new RuntimeException("Some error"))
+        .thenReturn(List.of());
+    final var item1 = processInstanceItem("statement1");
+    executionQueue.executeInQueue(item1);
+    final var failedFlush = executionQueue.flushAsync();
+    assertThat(failedFlush).failsWithin(Duration.ofSeconds(10));
+    verify(postFlushListener, never()).onPostFlush();
+
+    // when
+    final var item2 = processInstanceItem("statement2");
+    executionQueue.executeInQueue(item2);
+    final var flushed = executionQueue.flushAsync().join();
+
+    // then
+    assertThat(flushed).isEqualTo(2);
+    verify(session, times(2)).update("statement1", "parameter");
+    verify(session).update("statement2", "parameter");
+    verify(session).rollback();
+    verify(session).commit();
+    verify(postFlushListener).onPostFlush();
+    verify(metrics).recordFailedFlush();
+  }
+
+  @Test
+  public void whenBatchIsFlushingAsyncNextBatchShouldWaitForIt() {
+    // given
+    executionQueue = asyncExecutionQueue(10);
+    final var preFlushListener = mock(PreFlushListener.class);
+    final var postFlushListener = mock(PostFlushListener.class);
+    executionQueue.registerPreFlushListener(preFlushListener);
+    executionQueue.registerPostFlushListener(postFlushListener);
+    final var continueFlush = new CompletableFuture<Void>();
+    when(session.flushStatements())
+        .then(
+            invocation -> {
+              continueFlush.join();
+              return List.of();
+            })
+        .thenReturn(List.of());
+    executionQueue.executeInQueue(processInstanceItem("statement1"));
+    final var firstFlush = executionQueue.flushAsync();
+
+    // when
+    final var item2 = processInstanceItem("statement2");
+    executionQueue.executeInQueue(item2);
+    final var secondFlush = CompletableFuture.supplyAsync(executionQueue::flushAsync);
+
+    // then - the second batch is only taken once the first one completed
+    assertThat(secondFlush).isNotDone();
+    assertThat(executionQueue.getQueue()).containsExactly(item2);
+
+    continueFlush.complete(null);
+    assertThat(firstFlush.join()).isEqualTo(1);
+    assertThat(secondFlush.join().join()).isEqualTo(1);
+    verify(session, times(2)).commit();
+    final var inOrder = inOrder(preFlushListener, postFlushListener);
+    inOrder.verify(preFlushListener).onPreFlush();
+    inOrder.verify(postFlushListener).onPostFlush();
+    inOrder.verify(preFlushListener).onPreFlush();
+    inOrder.verify(postFlushListener).onPostFlush();
+  }
+
+  @Test
+  public void whenAsyncFlushFailsAgainFlushShouldThrow() {
+    // given
+    executionQueue = asyncExecutionQueue(10);
+    when(session.flushStatements()).thenThrow(new RuntimeException("Some error"));
+    executionQueue.executeInQueue(processInstanceItem("statement1"));
+    assertThat(executionQueue.flushAsync()).failsWithin(Duration.ofSeconds(10));
+
+    // when - the failed batch is retried without new items
+    assertThatThrownBy(() -> executionQueue.flush()).hasMessage("Some error");
+
+    // then
+    verify(session, times(2)).update("statement1", "parameter");
+    verify(session, times(2)).rollback();
+    verify(session, never()).commit();
+  }
+
+  @Test
+  public void whenFlushLimitIsReachedShouldFlushAsync() {
+    // given
+    executionQueue = asyncExecutionQueue(2);
+
+    // when
+    executionQueue.executeInQueue(processInstanceItem("statement1"));
+    executionQueue.executeInQueue(processInstanceItem("statement2"));
+    executionQueue.close();
+
+    // then
+    assertThat(executionQueue.getQueue()).isEmpty();
+    verify(session).update("statement1", "parameter");
+    verify(session).update("statement2", "parameter");
+    verify(session).commit();
+  }
+
   @Test
   public void shouldSortQueueItemsDuringFlush() {
     executionQueue.executeInQueue(
@@ -322,4 +594,105 @@ class DefaultExecutionQueueTest {
     verify(session).update(eq("statement1"), any());
     verify(session).update(eq("statement3"), any());
   }
+
+  @Test
+  public void shouldInsertConsecutiveItemsWithBatchStatement() {
+    // given
+    executionQueue = insertBatchingExecutionQueue(2, "statement1Batch");
+    executionQueue.executeInQueue(processInstanceItem("statement1", "parameter1"));
+    executionQueue.executeInQueue(processInstanceItem("statement1", "parameter2"));
+    executionQueue.executeInQueue(processInstanceItem("statement1", "parameter3"));
+    executionQueue.executeInQueue(processInstanceItem("statement2", "parameter4"));
+    executionQueue.executeInQueue(processInstanceItem("statement2", "parameter5"));
+
+    // when
+    final var flushed = executionQueue.flush();
+
+    // then - at most two rows per batch statement, no batch statement for statement2
+    assertThat(flushed).isEqualTo(5);
+    final var inOrder = inOrder(session);
+    inOrder.verify(session).update("statement1Batch", List.of("parameter1", "parameter2"));
+    inOrder.verify(session).update("statement1", "parameter3");
+    inOrder.verify(session).update("statement2", "parameter4");
+    inOrder.verify(session).update("statement2", "parameter5");
+    inOrder.verify(session).commit();
+    assertThat(executionQueue.getQueue()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotInsertOtherStatementTypesWithBatchStatement() {
+    // given
+    executionQueue = insertBatchingExecutionQueue(10, "statement1Batch");
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.UPDATE,
+            1L,
+            "statement1",
+            "parameter1"));
+    executionQueue.executeInQueue(
+        new QueueItem(
+            ContextType.PROCESS_INSTANCE,
+            WriteStatementType.UPDATE,
+            1L,
+            "statement1",
+            "parameter2"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session).update("statement1", "parameter1");
+    verify(session).update("statement1", "parameter2");
+    verify(session, never()).update(eq("statement1Batch"), any());
+  }
+
+  @Test
+  public void shouldNotLookUpBatchStatementIfInsertBatchingIsDisabled() {
+    // given
+    executionQueue.executeInQueue(processInstanceItem("statement1", "parameter1"));
+    executionQueue.executeInQueue(processInstanceItem("statement1", "parameter2"));
+
+    // when
+    executionQueue.flush();
+
+    // then
+    verify(session).update("statement1", "parameter1");
+    verify(session).update("statement1", "parameter2");
+    verify(sqlSessionFactory, never()).getConfiguration();
+  }
+
+  private static QueueItem flowNodeItem(final long key, final String statementId) {
+    return new QueueItem(
+        ContextType.FLOW_NODE,
+        WriteStatementType.INSERT,
+        key,
+        statementId,
+        new FlowNodeInstanceDbModelBuilder()
+            .flowNodeInstanceKey(key)
+            .state(FlowNodeState.ACTIVE)
+            .build());
+  }
+
+  private DefaultExecutionQueue asyncExecutionQueue(final int queueFlushLimit) {
+    return new DefaultExecutionQueue(
+        sqlSessionFactory, 1, queueFlushLimit, metrics, Executors.newSingleThreadExecutor());
+  }
+
+  private DefaultExecutionQueue insertBatchingExecutionQueue(
+      final int maxInsertBatchRows, final String batchStatementId) {
+    final var configuration = mock(Configuration.class);
+    when(configuration.hasStatement(batchStatementId)).thenReturn(true);
+    when(sqlSessionFactory.getConfiguration()).thenReturn(configuration);
+    return new DefaultExecutionQueue(sqlSessionFactory, 1, 0, metrics, null, maxInsertBatchRows);
+  }
+
+  private static QueueItem processInstanceItem(final String statementId) {
+    return processInstanceItem(statementId, "parameter");
+  }
+
+  private static QueueItem processInstanceItem(final String statementId, final Object parameter) {
+    return new QueueItem(
+        ContextType.PROCESS_INSTANCE, WriteStatementType.INSERT, 1L, statementId, parameter);
+  }
 }
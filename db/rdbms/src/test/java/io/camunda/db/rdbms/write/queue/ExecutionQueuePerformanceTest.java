@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.db.rdbms.write.queue;
+
+import io.camunda.db.rdbms.write.RdbmsWriterMetrics;
+import io.camunda.db.rdbms.write.domain.FlowNodeInstanceDbModel.FlowNodeInstanceDbModelBuilder;
+import io.camunda.db.rdbms.write.domain.VariableDbModel.VariableDbModelBuilder;
+import io.camunda.db.rdbms.write.service.FlowNodeInstanceWriter;
+import io.camunda.search.entities.FlowNodeInstanceEntity.FlowNodeState;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.lang.reflect.Proxy;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast the {@link DefaultExecutionQueue} takes in a typical mix of flow node and
+ * variable upserts: each operation creates a flow node instance with a few variables and raises an
+ * incident on it, and completes a flow node instance created {@link #ACTIVE_FLOW_NODES} operations
+ * before. Both updates are merged into the queued flow node, if it was not flushed yet.
+ *
+ * <p>The queue is flushed against a no-op session once it holds {@code queueSize} items, so the
+ * score mostly depends on how fast merge candidates are found (or not found) in a filled queue.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ExecutionQueuePerformanceTest {
+  private static final int VARIABLES_PER_FLOW_NODE = 5;
+  // number of flow nodes created after a flow node until it's completed
+  private static final int ACTIVE_FLOW_NODES = 100;
+
+  @Param({"1000", "10000"})
+  public int queueSize;
+
+  private DefaultExecutionQueue executionQueue;
+  private FlowNodeInstanceWriter flowNodeInstanceWriter;
+  private final long[] activeFlowNodeKeys = new long[ACTIVE_FLOW_NODES];
+  private int createdFlowNodes;
+  private long nextKey;
+
+  @Setup
+  public void setup() {
+    // plain proxies instead of mocks, as recording the invocations would dominate the score
+    final var session =
+        noopProxy(
+            SqlSession.class,
+            method ->
+                switch (method) {
+                  case "update" -> 1;
+                  case "flushStatements" -> List.of();
+                  default -> null;
+                });
+    final var sessionFactory =
+        noopProxy(SqlSessionFactory.class, method -> "openSession".equals(method) ? session : null);
+
+    executionQueue =
+        new DefaultExecutionQueue(
+            sessionFactory, 1, queueSize, new RdbmsWriterMetrics(new SimpleMeterRegistry()));
+    flowNodeInstanceWriter = new FlowNodeInstanceWriter(executionQueue, null);
+  }
+
+  @Benchmark
+  public long measureFlowNodeAndVariableUpserts() {
+    final long flowNodeInstanceKey = nextKey++;
+    flowNodeInstanceWriter.create(
+        new FlowNodeInstanceDbModelBuilder()
+            .flowNodeInstanceKey(flowNodeInstanceKey)
+            .processInstanceKey(1L)
+            .state(FlowNodeState.ACTIVE)
+            .numSubprocessIncidents(0L)
+            .build());
+
+    for (int i = 0; i < VARIABLES_PER_FLOW_NODE; i++) {
+      final long variableKey = nextKey++;
+      executionQueue.executeInQueue(
+          new QueueItem(
+              ContextType.VARIABLE,
+              WriteStatementType.INSERT,
+              variableKey,
+              "io.camunda.db.rdbms.sql.VariableMapper.insert",
+              new VariableDbModelBuilder()
+                  .variableKey(variableKey)
+                  .name("var" + i)
+                  .value("value")
+                  .scopeKey(flowNodeInstanceKey)
+                  .processInstanceKey(1L)
+                  .build()));
+    }
+
+    flowNodeInstanceWriter.createIncident(flowNodeInstanceKey, nextKey++);
+
+    // complete an older flow node, which is either still queued or already flushed
+    final int slot = createdFlowNodes++ % ACTIVE_FLOW_NODES;
+    if (createdFlowNodes > ACTIVE_FLOW_NODES) {
+      flowNodeInstanceWriter.finish(
+          activeFlowNodeKeys[slot], FlowNodeState.COMPLETED, OffsetDateTime.now());
+    }
+    activeFlowNodeKeys[slot] = flowNodeInstanceKey;
+    return flowNodeInstanceKey;
+  }
+
+  @JMHTest("measureFlowNodeAndVariableUpserts")
+  void shouldUpsertWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/ms score, as measured locally
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 250;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("queueSize", "10000")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private static <T> T noopProxy(final Class<T> type, final Function<String, Object> results) {
+    return type.cast(
+        Proxy.newProxyInstance(
+            type.getClassLoader(),
+            new Class<?>[] {type},
+            (proxy, method, args) -> results.apply(method.getName())));
+  }
+}
@@ -9,6 +9,7 @@ package io.camunda.application.commons.actor;
 
 import io.camunda.application.commons.actor.ActorIdleStrategyConfiguration.IdleStrategySupplier;
 import io.camunda.zeebe.scheduler.ActorScheduler;
+import io.camunda.zeebe.scheduler.ActorThreadPlacement;
 import io.camunda.zeebe.util.VisibleForTesting;
 import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -49,6 +50,8 @@ public final class ActorSchedulerConfiguration {
             .setActorClock(actorClockConfiguration.getClock().orElse(null))
             .setCpuBoundActorThreadCount(cpuThreads)
             .setIoBoundActorThreadCount(ioThreads)
+            .setVirtualIoBoundActorThreads(schedulerConfiguration.virtualIoThreads())
+            .setCpuBoundActorThreadPlacement(schedulerConfiguration.cpuThreadPlacement())
             .setMeterRegistry(metricsEnabled ? registry : null)
             .setSchedulerName(String.format("%s-%s", prefix, nodeId))
             .setIdleStrategySupplier(idleStrategySupplier)
@@ -63,5 +66,24 @@ public final class ActorSchedulerConfiguration {
       int ioThreads,
       boolean metricsEnabled,
       String schedulerPrefix,
-      String nodeId) {}
+      String nodeId,
+      ActorThreadPlacement cpuThreadPlacement,
+      boolean virtualIoThreads) {
+
+    public SchedulerConfiguration(
+        final int cpuThreads,
+        final int ioThreads,
+        final boolean metricsEnabled,
+        final String schedulerPrefix,
+        final String nodeId) {
+      this(
+          cpuThreads,
+          ioThreads,
+          metricsEnabled,
+          schedulerPrefix,
+          nodeId,
+          ActorThreadPlacement.unrestricted(),
+          false);
+    }
+  }
 }
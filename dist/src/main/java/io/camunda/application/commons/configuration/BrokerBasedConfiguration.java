@@ -19,6 +19,7 @@ import io.camunda.zeebe.gateway.RestApiCompositeFilter;
 import io.camunda.zeebe.gateway.impl.configuration.FilterCfg;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
 import io.camunda.zeebe.gateway.rest.impl.filters.FilterRepository;
+import io.camunda.zeebe.scheduler.ActorThreadPlacement;
 import jakarta.servlet.Filter;
 import java.time.Duration;
 import java.util.List;
@@ -73,7 +74,16 @@ public class BrokerBasedConfiguration {
     final var ioThreads = threadCfg.getIoThreadCount();
     final var metricsEnabled = properties.getExperimental().getFeatures().isEnableActorMetrics();
     final var nodeId = String.valueOf(properties.getCluster().getNodeId());
-    return new SchedulerConfiguration(cpuThreads, ioThreads, metricsEnabled, "Broker", nodeId);
+    final var cpuThreadPlacement =
+        ActorThreadPlacement.ofCpuLists(threadCfg.getCpuSets(), threadCfg.isPartitionAffinity());
+    return new SchedulerConfiguration(
+        cpuThreads,
+        ioThreads,
+        metricsEnabled,
+        "Broker",
+        nodeId,
+        cpuThreadPlacement,
+        threadCfg.isVirtualIoThreads());
   }
 
   @ConditionalOnRestGatewayEnabled
@@ -7,10 +7,13 @@
  */
 package io.camunda.application.commons.search;
 
+import io.camunda.application.commons.search.SearchClientDatabaseConfiguration.SearchClientCacheProperties;
 import io.camunda.application.commons.search.SearchClientDatabaseConfiguration.SearchClientProperties;
 import io.camunda.db.rdbms.RdbmsService;
 import io.camunda.search.clients.DocumentBasedSearchClient;
 import io.camunda.search.clients.SearchClients;
+import io.camunda.search.clients.cache.SearchClientCacheConfiguration;
+import io.camunda.search.clients.cache.SearchClientCaches;
 import io.camunda.search.connect.configuration.ConnectConfiguration;
 import io.camunda.search.connect.configuration.DatabaseConfig;
 import io.camunda.search.connect.es.ElasticsearchConnector;
@@ -20,6 +23,7 @@ import io.camunda.search.os.clients.OpensearchSearchClient;
 import io.camunda.search.rdbms.RdbmsSearchClient;
 import io.camunda.webapps.schema.descriptors.IndexDescriptors;
 import io.camunda.zeebe.gateway.rest.ConditionalOnRestGatewayEnabled;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -29,7 +33,7 @@ import org.springframework.context.annotation.Configuration;
 
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnRestGatewayEnabled
-@EnableConfigurationProperties(SearchClientProperties.class)
+@EnableConfigurationProperties({SearchClientProperties.class, SearchClientCacheProperties.class})
 public class SearchClientDatabaseConfiguration {
 
   @Bean
@@ -77,6 +81,15 @@ public class SearchClientDatabaseConfiguration {
     return new SearchClients(searchClient, indexDescriptors);
   }
 
+  @Bean
+  public SearchClientCaches searchClientCaches(
+      final SearchClientCacheProperties configuration, final MeterRegistry meterRegistry) {
+    return new SearchClientCaches(configuration, meterRegistry);
+  }
+
   @ConfigurationProperties("camunda.database")
   public static final class SearchClientProperties extends ConnectConfiguration {}
+
+  @ConfigurationProperties("camunda.search.cache")
+  public static final class SearchClientCacheProperties extends SearchClientCacheConfiguration {}
 }
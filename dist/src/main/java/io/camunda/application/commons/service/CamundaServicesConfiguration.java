@@ -26,6 +26,7 @@ import io.camunda.search.clients.UsageMetricsSearchClient;
 import io.camunda.search.clients.UserSearchClient;
 import io.camunda.search.clients.UserTaskSearchClient;
 import io.camunda.search.clients.VariableSearchClient;
+import io.camunda.search.clients.cache.SearchClientCaches;
 import io.camunda.security.configuration.SecurityConfiguration;
 import io.camunda.security.impl.AuthorizationChecker;
 import io.camunda.service.AuthorizationServices;
@@ -87,12 +88,13 @@ public class CamundaServicesConfiguration {
       final BrokerClient brokerClient,
       final SecurityContextProvider securityContextProvider,
       final DecisionDefinitionSearchClient decisionDefinitionSearchClient,
-      final DecisionRequirementSearchClient decisionRequirementSearchClient) {
+      final DecisionRequirementSearchClient decisionRequirementSearchClient,
+      final SearchClientCaches searchClientCaches) {
     return new DecisionDefinitionServices(
         brokerClient,
         securityContextProvider,
-        decisionDefinitionSearchClient,
-        decisionRequirementSearchClient,
+        searchClientCaches.decisionDefinitions(decisionDefinitionSearchClient),
+        searchClientCaches.decisionRequirements(decisionRequirementSearchClient),
         null);
   }
 
@@ -109,9 +111,13 @@ public class CamundaServicesConfiguration {
   public ProcessDefinitionServices processDefinitionServices(
       final BrokerClient brokerClient,
       final SecurityContextProvider securityContextProvider,
-      final ProcessDefinitionSearchClient processDefinitionSearchClient) {
+      final ProcessDefinitionSearchClient processDefinitionSearchClient,
+      final SearchClientCaches searchClientCaches) {
     return new ProcessDefinitionServices(
-        brokerClient, securityContextProvider, processDefinitionSearchClient, null);
+        brokerClient,
+        securityContextProvider,
+        searchClientCaches.processDefinitions(processDefinitionSearchClient),
+        null);
   }
 
   @Bean
@@ -127,9 +133,13 @@ public class CamundaServicesConfiguration {
   public DecisionRequirementsServices decisionRequirementsServices(
       final BrokerClient brokerClient,
       final SecurityContextProvider securityContextProvider,
-      final DecisionRequirementSearchClient decisionRequirementSearchClient) {
+      final DecisionRequirementSearchClient decisionRequirementSearchClient,
+      final SearchClientCaches searchClientCaches) {
     return new DecisionRequirementsServices(
-        brokerClient, securityContextProvider, decisionRequirementSearchClient, null);
+        brokerClient,
+        securityContextProvider,
+        searchClientCaches.decisionRequirements(decisionRequirementSearchClient),
+        null);
   }
 
   @Bean
@@ -190,12 +200,13 @@ public class CamundaServicesConfiguration {
       final UserTaskSearchClient userTaskSearchClient,
       final FormSearchClient formSearchClient,
       final FlowNodeInstanceSearchClient flowNodeInstanceSearchClient,
-      final VariableSearchClient variableSearchClient) {
+      final VariableSearchClient variableSearchClient,
+      final SearchClientCaches searchClientCaches) {
     return new UserTaskServices(
         brokerClient,
         securityContextProvider,
         userTaskSearchClient,
-        formSearchClient,
+        searchClientCaches.forms(formSearchClient),
         flowNodeInstanceSearchClient,
         variableSearchClient,
         null);
@@ -262,8 +273,10 @@ public class CamundaServicesConfiguration {
   public FormServices formServices(
       final BrokerClient brokerClient,
       final SecurityContextProvider securityContextProvider,
-      final FormSearchClient formSearchClient) {
-    return new FormServices(brokerClient, securityContextProvider, formSearchClient, null);
+      final FormSearchClient formSearchClient,
+      final SearchClientCaches searchClientCaches) {
+    return new FormServices(
+        brokerClient, securityContextProvider, searchClientCaches.forms(formSearchClient), null);
   }
 
   @Bean
@@ -33,10 +33,12 @@ import io.camunda.optimize.service.export.CsvExportService;
 import io.camunda.optimize.service.identity.AbstractIdentityService;
 import io.camunda.optimize.service.security.SessionService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.ZoneId;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.springframework.http.HttpStatus;
@@ -103,20 +105,22 @@ public class ExportRestService {
       path = "csv/{reportId}/{fileName}",
       produces = {MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
   // Produces octet stream on success, json on potential error
-  public ResponseEntity<byte[]> getCsvReport(
+  public void getCsvReport(
       @PathVariable("reportId") final String reportId,
       @PathVariable("fileName") final String fileName,
-      final HttpServletRequest request) {
+      final HttpServletRequest request,
+      final HttpServletResponse response)
+      throws IOException {
     final String userId = sessionService.getRequestUserOrFailNotAuthorized(request);
     validateAuthorization();
     final ZoneId timezone = extractTimezone(request);
 
-    final Optional<byte[]> csvForReport =
-        csvExportService.getCsvBytesForEvaluatedReportResult(userId, reportId, timezone);
-
-    return csvForReport
-        .map(csvBytes -> createOctetStreamResponse(fileName, csvBytes))
-        .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
+    final boolean reportExists =
+        csvExportService.writeCsvForEvaluatedReportResult(
+            userId, reportId, timezone, () -> openOctetStreamResponse(fileName, response));
+    if (!reportExists) {
+      response.setStatus(HttpStatus.NOT_FOUND.value());
+    }
   }
 
   /**
@@ -128,10 +132,12 @@ public class ExportRestService {
   @PostMapping(
       path = "csv/process/rawData/{fileName}",
       produces = {MediaType.APPLICATION_OCTET_STREAM_VALUE, MediaType.APPLICATION_JSON_VALUE})
-  public ResponseEntity<byte[]> getRawDataCsv(
+  public void getRawDataCsv(
       @PathVariable("fileName") final String fileName,
       @Valid @RequestBody final ProcessRawDataCsvExportRequestDto request,
-      final HttpServletRequest servletRequest) {
+      final HttpServletRequest servletRequest,
+      final HttpServletResponse servletResponse)
+      throws IOException {
     final String userId = sessionService.getRequestUserOrFailNotAuthorized(servletRequest);
     validateAuthorization();
     final ZoneId timezone = extractTimezone(servletRequest);
@@ -164,10 +170,11 @@ public class ExportRestService {
                     .build())
             .build();
 
-    return createOctetStreamResponse(
-        fileName,
-        csvExportService.getCsvBytesForEvaluatedReportResult(
-            userId, reportDefinitionDto, timezone));
+    csvExportService.writeCsvForEvaluatedReportResult(
+        userId,
+        reportDefinitionDto,
+        timezone,
+        () -> openOctetStreamResponse(fileName, servletResponse));
   }
 
   private void validateAuthorization() {
@@ -186,12 +193,18 @@ public class ExportRestService {
     return excludedFields;
   }
 
-  private ResponseEntity<byte[]> createOctetStreamResponse(
-      final String fileName, final byte[] csvBytesForEvaluatedReportResult) {
-    return ResponseEntity.ok()
-        .contentType(MediaType.APPLICATION_OCTET_STREAM)
-        .header("Content-Disposition", "attachment; filename=" + createFileName(fileName, ".csv"))
-        .body(csvBytesForEvaluatedReportResult);
+  /**
+   * Sets the headers of the CSV file response and returns its output stream, which the CSV is
+   * written to directly. It's only opened once the first lines are written, so that errors before
+   * are still mapped to an error response.
+   */
+  private OutputStream openOctetStreamResponse(
+      final String fileName, final HttpServletResponse response) throws IOException {
+    response.setStatus(HttpStatus.OK.value());
+    response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+    response.setHeader(
+        "Content-Disposition", "attachment; filename=" + createFileName(fileName, ".csv"));
+    return response.getOutputStream();
   }
 
   private <A extends OptimizeEntityExportDto> ResponseEntity<List<A>> createJsonResponse(
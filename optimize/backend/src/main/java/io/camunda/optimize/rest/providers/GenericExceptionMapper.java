@@ -47,7 +47,15 @@ public class GenericExceptionMapper {
 
   @ExceptionHandler(Throwable.class)
   public ResponseEntity<ErrorResponseDto> handleThrowable(
-      final Throwable throwable, HttpServletResponse response) {
+      final Throwable throwable, HttpServletResponse response) throws Throwable {
+    if (response.isCommitted()) {
+      // e.g. a streamed download failed after it was started; the error can't be mapped to a
+      // response anymore, and rethrowing it makes the servlet container abort the connection, so
+      // that the client doesn't take the partial response for a complete one
+      LOG.error("Failed to complete the already committed response", throwable);
+      throw throwable;
+    }
+
     LOG.error("Mapping generic REST error", throwable);
     HttpStatus status = HttpStatus.INTERNAL_SERVER_ERROR;
     if (throwable instanceof final ResponseStatusException responseStatusException) {
@@ -24,6 +24,7 @@ import io.camunda.optimize.service.exceptions.OptimizeRuntimeException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import org.slf4j.Logger;
 
@@ -92,22 +93,46 @@ public final class ElasticsearchReaderUtil {
     return retrieveScrollResultsTillLimit(
         initialScrollResponse,
         itemClass,
-        h -> {
-          if (agg) {
-            try {
-              return objectMapper.readValue(h.source().toString(), itemClass);
-            } catch (final JsonProcessingException e) {
-              throw new RuntimeException(e);
-            }
-          } else {
-            return objectMapper.convertValue(h.source(), itemClass);
-          }
-        },
+        sourceMappingFunction(itemClass, objectMapper, agg),
         esClient,
         scrollingTimeoutInSeconds,
         limit);
   }
 
+  public static <T> void scrollResultsTillLimit(
+      final ResponseBody<?> initialScrollResponse,
+      final Class<T> itemClass,
+      final ObjectMapper objectMapper,
+      final OptimizeElasticsearchClient esClient,
+      final Integer scrollingTimeoutInSeconds,
+      final Integer limit,
+      final boolean agg,
+      final Consumer<List<T>> pageConsumer) {
+    scrollResultsTillLimit(
+        initialScrollResponse,
+        itemClass,
+        sourceMappingFunction(itemClass, objectMapper, agg),
+        esClient,
+        scrollingTimeoutInSeconds,
+        limit,
+        pageConsumer);
+  }
+
+  private static <T> Function<Hit<?>, T> sourceMappingFunction(
+      final Class<T> itemClass, final ObjectMapper objectMapper, final boolean agg) {
+    return h -> {
+      if (agg) {
+        try {
+          return objectMapper.readValue(h.source().toString(), itemClass);
+        } catch (final JsonProcessingException e) {
+          throw new RuntimeException(e);
+        }
+      } else {
+        return objectMapper.convertValue(h.source(), itemClass);
+      }
+    };
+  }
+
   public static <T> PageResultDto<T> retrieveNextScrollResultsPage(
       final String scrollId,
       final Class<T> itemClass,
@@ -175,14 +200,41 @@ public final class ElasticsearchReaderUtil {
       final Integer scrollingTimeoutInSeconds,
       final Integer limit) {
     final List<T> results = new ArrayList<>();
+    scrollResultsTillLimit(
+        initialScrollResponse,
+        itemClass,
+        mappingFunction,
+        esClient,
+        scrollingTimeoutInSeconds,
+        limit,
+        results::addAll);
+    return results;
+  }
+
+  /**
+   * Like {@link #retrieveScrollResultsTillLimit(ResponseBody, Class, Function,
+   * OptimizeElasticsearchClient, Integer, Integer)}, but hands each scroll page to the given
+   * consumer as soon as it is retrieved, instead of collecting all results.
+   */
+  public static <T> void scrollResultsTillLimit(
+      final ResponseBody<?> initialScrollResponse,
+      final Class<T> itemClass,
+      final Function<Hit<?>, T> mappingFunction,
+      final OptimizeElasticsearchClient esClient,
+      final Integer scrollingTimeoutInSeconds,
+      final Integer limit,
+      final Consumer<List<T>> pageConsumer) {
+    int resultCount = 0;
 
     ResponseBody<?> currentScrollResp = initialScrollResponse;
     HitsMetadata<?> hits = currentScrollResp.hits();
 
     while (hits != null && !hits.hits().isEmpty()) {
-      results.addAll(mapHits(hits, limit - results.size(), itemClass, mappingFunction));
+      final List<T> page = mapHits(hits, limit - resultCount, itemClass, mappingFunction);
+      resultCount += page.size();
+      pageConsumer.accept(page);
 
-      if (results.size() < limit) {
+      if (resultCount < limit) {
         try {
           final ResponseBody<?> finalCurrentScrollResp = currentScrollResp;
           currentScrollResp =
@@ -205,8 +257,6 @@ public final class ElasticsearchReaderUtil {
       }
     }
     clearScroll(itemClass, esClient, currentScrollResp.scrollId());
-
-    return results;
   }
 
   private static <T> void clearScroll(
@@ -34,6 +34,7 @@ import io.camunda.optimize.service.db.es.OptimizeElasticsearchClient;
 import io.camunda.optimize.service.db.es.reader.ElasticsearchReaderUtil;
 import io.camunda.optimize.service.db.reader.DecisionVariableReader;
 import io.camunda.optimize.service.db.report.ExecutionContext;
+import io.camunda.optimize.service.db.report.RawDataPageConsumer;
 import io.camunda.optimize.service.db.report.interpreter.view.decision.AbstractDecisionViewRawDataInterpreter;
 import io.camunda.optimize.service.db.report.plan.decision.DecisionExecutionPlan;
 import io.camunda.optimize.service.db.report.result.CompositeCommandResult;
@@ -115,6 +116,23 @@ public class DecisionViewRawDataInterpreterES extends AbstractDecisionViewRawDat
       final ResponseBody<?> response,
       final Map<String, Aggregate> aggs,
       final ExecutionContext<DecisionReportDataDto, DecisionExecutionPlan> context) {
+    final Optional<RawDataPageConsumer> rawDataPageConsumer = context.getRawDataPageConsumer();
+    if (context.isCsvExport() && rawDataPageConsumer.isPresent()) {
+      ElasticsearchReaderUtil.scrollResultsTillLimit(
+          response,
+          DecisionInstanceDto.class,
+          objectMapper,
+          esClient,
+          configurationService.getElasticSearchConfiguration().getScrollTimeoutInSeconds(),
+          context.getPagination().orElse(new PaginationDto()).getLimit(),
+          true,
+          page ->
+              rawDataPageConsumer
+                  .get()
+                  .accept(context.getReportData(), mapToRawData(page, context)));
+      return createEmptyResult(context);
+    }
+
     final List<DecisionInstanceDto> rawDataDecisionInstanceDtos;
     if (context.isCsvExport()) {
       rawDataDecisionInstanceDtos =
@@ -132,11 +150,7 @@ public class DecisionViewRawDataInterpreterES extends AbstractDecisionViewRawDat
               response.hits(), DecisionInstanceDto.class, objectMapper, true);
     }
     final List<RawDataDecisionInstanceDto> rawData =
-        rawDataSingleReportResultDtoMapper.mapFrom(
-            rawDataDecisionInstanceDtos,
-            getInputVariableEntries(context.getReportData()),
-            getOutputVars(context.getReportData()));
-    addNewVariablesAndDtoFieldsToTableColumnConfig(context, rawData);
+        mapToRawData(rawDataDecisionInstanceDtos, context);
     return CompositeCommandResult.ViewResult.builder().rawData(rawData).build();
   }
 
@@ -146,6 +160,18 @@ public class DecisionViewRawDataInterpreterES extends AbstractDecisionViewRawDat
     return CompositeCommandResult.ViewResult.builder().rawData(new ArrayList<>()).build();
   }
 
+  private List<RawDataDecisionInstanceDto> mapToRawData(
+      final List<DecisionInstanceDto> rawDataDecisionInstanceDtos,
+      final ExecutionContext<DecisionReportDataDto, DecisionExecutionPlan> context) {
+    final List<RawDataDecisionInstanceDto> rawData =
+        rawDataSingleReportResultDtoMapper.mapFrom(
+            rawDataDecisionInstanceDtos,
+            getInputVariableEntries(context.getReportData()),
+            getOutputVars(context.getReportData()));
+    addNewVariablesAndDtoFieldsToTableColumnConfig(context, rawData);
+    return rawData;
+  }
+
   private void addSortingToQuery(
       final DecisionReportDataDto decisionReportData,
       final SearchRequest.Builder searchRequestBuilder) {
@@ -44,6 +44,7 @@ import io.camunda.optimize.service.DefinitionService;
 import io.camunda.optimize.service.db.es.OptimizeElasticsearchClient;
 import io.camunda.optimize.service.db.es.reader.ElasticsearchReaderUtil;
 import io.camunda.optimize.service.db.report.ExecutionContext;
+import io.camunda.optimize.service.db.report.RawDataPageConsumer;
 import io.camunda.optimize.service.db.report.interpreter.util.RawProcessDataResultDtoMapper;
 import io.camunda.optimize.service.db.report.interpreter.view.process.AbstractProcessViewRawDataInterpreter;
 import io.camunda.optimize.service.db.report.plan.process.ProcessExecutionPlan;
@@ -267,6 +268,32 @@ public class ProcessViewRawDataInterpreterES extends AbstractProcessViewRawDataI
           }
         };
 
+    final Optional<RawDataPageConsumer> rawDataPageConsumer = context.getRawDataPageConsumer();
+    if (context.isCsvExport() && rawDataPageConsumer.isPresent()) {
+      ElasticsearchReaderUtil.scrollResultsTillLimit(
+          response,
+          ProcessInstanceDto.class,
+          mappingFunction,
+          esClient,
+          configurationService.getElasticSearchConfiguration().getScrollTimeoutInSeconds(),
+          context.getPagination().orElse(new PaginationDto()).getLimit(),
+          page -> {
+            rawDataPageConsumer
+                .get()
+                .accept(
+                    context.getReportData(),
+                    mapToRawData(
+                        page,
+                        instanceIdsToUserTaskCount,
+                        processInstanceIdsToFlowNodeIdsAndDurations,
+                        context));
+            // only the instances of the current page are needed for the mapping
+            processInstanceIdsToFlowNodeIdsAndDurations.clear();
+            instanceIdsToUserTaskCount.clear();
+          });
+      return createEmptyResult(context);
+    }
+
     final List<ProcessInstanceDto> rawDataProcessInstanceDtos;
     if (context.isCsvExport()) {
       rawDataProcessInstanceDtos =
@@ -283,6 +310,20 @@ public class ProcessViewRawDataInterpreterES extends AbstractProcessViewRawDataI
               response.hits(), Integer.MAX_VALUE, ProcessInstanceDto.class, mappingFunction);
     }
 
+    final List<RawDataProcessInstanceDto> rawData =
+        mapToRawData(
+            rawDataProcessInstanceDtos,
+            instanceIdsToUserTaskCount,
+            processInstanceIdsToFlowNodeIdsAndDurations,
+            context);
+    return CompositeCommandResult.ViewResult.builder().rawData(rawData).build();
+  }
+
+  private List<RawDataProcessInstanceDto> mapToRawData(
+      final List<ProcessInstanceDto> rawDataProcessInstanceDtos,
+      final Map<String, Long> instanceIdsToUserTaskCount,
+      final Map<String, Map<String, Long>> processInstanceIdsToFlowNodeIdsAndDurations,
+      final ExecutionContext<ProcessReportDataDto, ProcessExecutionPlan> context) {
     final RawProcessDataResultDtoMapper rawDataSingleReportResultDtoMapper =
         new RawProcessDataResultDtoMapper();
     final Map<String, String> flowNodeIdsToFlowNodeNames =
@@ -298,7 +339,7 @@ public class ProcessViewRawDataInterpreterES extends AbstractProcessViewRawDataI
             flowNodeIdsToFlowNodeNames);
 
     addNewVariablesAndDtoFieldsToTableColumnConfig(context, rawData);
-    return CompositeCommandResult.ViewResult.builder().rawData(rawData).build();
+    return rawData;
   }
 
   private void addSorting(
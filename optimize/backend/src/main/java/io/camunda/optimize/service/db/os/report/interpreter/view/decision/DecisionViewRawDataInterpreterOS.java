@@ -31,6 +31,7 @@ import io.camunda.optimize.service.db.os.OptimizeOpenSearchClient;
 import io.camunda.optimize.service.db.os.report.interpreter.RawResult;
 import io.camunda.optimize.service.db.reader.DecisionVariableReader;
 import io.camunda.optimize.service.db.report.ExecutionContext;
+import io.camunda.optimize.service.db.report.RawDataPageConsumer;
 import io.camunda.optimize.service.db.report.interpreter.view.decision.AbstractDecisionViewRawDataInterpreter;
 import io.camunda.optimize.service.db.report.plan.decision.DecisionExecutionPlan;
 import io.camunda.optimize.service.db.report.result.CompositeCommandResult.ViewResult;
@@ -120,6 +121,20 @@ public class DecisionViewRawDataInterpreterOS extends AbstractDecisionViewRawDat
       final SearchResponse<RawResult> response,
       final Map<String, Aggregate> aggs,
       final ExecutionContext<DecisionReportDataDto, DecisionExecutionPlan> context) {
+    final Optional<RawDataPageConsumer> rawDataPageConsumer = context.getRawDataPageConsumer();
+    if (context.isCsvExport() && rawDataPageConsumer.isPresent()) {
+      final int limit = context.getPagination().orElse(new PaginationDto()).getLimit();
+      osClient.scrollWith(
+          response,
+          page ->
+              rawDataPageConsumer
+                  .get()
+                  .accept(context.getReportData(), mapToRawData(transformHits(page), context)),
+          RawResult.class,
+          limit);
+      return createEmptyResult(context);
+    }
+
     List<Hit<RawResult>> hits = response.hits().hits();
     if (context.isCsvExport()) {
       final int limit = context.getPagination().orElse(new PaginationDto()).getLimit();
@@ -128,13 +143,21 @@ public class DecisionViewRawDataInterpreterOS extends AbstractDecisionViewRawDat
       hits = rawResult.subList(0, min(limit, rawResult.size()));
     }
     final List<DecisionInstanceDto> rawDataDecisionInstanceDtos = transformHits(hits);
+    final List<RawDataDecisionInstanceDto> rawData =
+        mapToRawData(rawDataDecisionInstanceDtos, context);
+    return ViewResult.builder().rawData(rawData).build();
+  }
+
+  private List<RawDataDecisionInstanceDto> mapToRawData(
+      final List<DecisionInstanceDto> rawDataDecisionInstanceDtos,
+      final ExecutionContext<DecisionReportDataDto, DecisionExecutionPlan> context) {
     final List<RawDataDecisionInstanceDto> rawData =
         rawDataSingleReportResultDtoMapper.mapFrom(
             rawDataDecisionInstanceDtos,
             getInputVariableEntries(context.getReportData()),
             getOutputVars(context.getReportData()));
     addNewVariablesAndDtoFieldsToTableColumnConfig(context, rawData);
-    return ViewResult.builder().rawData(rawData).build();
+    return rawData;
   }
 
   @Override
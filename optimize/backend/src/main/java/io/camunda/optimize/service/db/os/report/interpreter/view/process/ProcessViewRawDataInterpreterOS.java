@@ -36,6 +36,7 @@ import io.camunda.optimize.service.db.os.OptimizeOpenSearchClient;
 import io.camunda.optimize.service.db.os.client.dsl.QueryDSL;
 import io.camunda.optimize.service.db.os.report.interpreter.RawResult;
 import io.camunda.optimize.service.db.report.ExecutionContext;
+import io.camunda.optimize.service.db.report.RawDataPageConsumer;
 import io.camunda.optimize.service.db.report.interpreter.util.RawProcessDataResultDtoMapper;
 import io.camunda.optimize.service.db.report.interpreter.view.process.AbstractProcessViewRawDataInterpreter;
 import io.camunda.optimize.service.db.report.plan.process.ProcessExecutionPlan;
@@ -160,6 +161,33 @@ public class ProcessViewRawDataInterpreterOS extends AbstractProcessViewRawDataI
     final Map<String, Map<String, Long>> processInstanceIdsToFlowNodeIdsAndDurations =
         new HashMap<>();
     final Map<String, Long> instanceIdsToUserTaskCount = new HashMap<>();
+    final Optional<RawDataPageConsumer> rawDataPageConsumer = context.getRawDataPageConsumer();
+    if (context.isCsvExport() && rawDataPageConsumer.isPresent()) {
+      final int limit = context.getPagination().orElse(new PaginationDto()).getLimit();
+      final Function<Hit<RawResult>, ProcessInstanceDto> mappingFunction =
+          mappingFunction(
+              processInstanceIdsToFlowNodeIdsAndDurations, instanceIdsToUserTaskCount, context);
+      osClient.scrollWith(
+          response,
+          page -> {
+            rawDataPageConsumer
+                .get()
+                .accept(
+                    context.getReportData(),
+                    mapToRawData(
+                        page.stream().map(mappingFunction).toList(),
+                        instanceIdsToUserTaskCount,
+                        processInstanceIdsToFlowNodeIdsAndDurations,
+                        context));
+            // only the instances of the current page are needed for the mapping
+            processInstanceIdsToFlowNodeIdsAndDurations.clear();
+            instanceIdsToUserTaskCount.clear();
+          },
+          RawResult.class,
+          limit);
+      return createEmptyResult(context);
+    }
+
     final List<ProcessInstanceDto> rawDataProcessInstanceDtos;
     final List<Hit<RawResult>> hits = new ArrayList<>();
     if (context.isCsvExport()) {
@@ -176,6 +204,20 @@ public class ProcessViewRawDataInterpreterOS extends AbstractProcessViewRawDataI
                     instanceIdsToUserTaskCount,
                     context))
             .toList();
+    final List<RawDataProcessInstanceDto> rawData =
+        mapToRawData(
+            rawDataProcessInstanceDtos,
+            instanceIdsToUserTaskCount,
+            processInstanceIdsToFlowNodeIdsAndDurations,
+            context);
+    return ViewResult.builder().rawData(rawData).build();
+  }
+
+  private List<RawDataProcessInstanceDto> mapToRawData(
+      final List<ProcessInstanceDto> rawDataProcessInstanceDtos,
+      final Map<String, Long> instanceIdsToUserTaskCount,
+      final Map<String, Map<String, Long>> processInstanceIdsToFlowNodeIdsAndDurations,
+      final ExecutionContext<ProcessReportDataDto, ProcessExecutionPlan> context) {
     final RawProcessDataResultDtoMapper rawDataSingleReportResultDtoMapper =
         new RawProcessDataResultDtoMapper();
     final Map<String, String> flowNodeIdsToFlowNodeNames =
@@ -191,7 +233,7 @@ public class ProcessViewRawDataInterpreterOS extends AbstractProcessViewRawDataI
             flowNodeIdsToFlowNodeNames);
 
     addNewVariablesAndDtoFieldsToTableColumnConfig(context, rawData);
-    return ViewResult.builder().rawData(rawData).build();
+    return rawData;
   }
 
   private <R> R getField(final Hit<RawResult> hit, final String field) {
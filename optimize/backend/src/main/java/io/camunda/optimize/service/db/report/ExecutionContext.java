@@ -33,6 +33,7 @@ public class ExecutionContext<D extends SingleReportDataDto, P extends Execution
   private Optional<PaginationDto> pagination;
   private boolean isCsvExport;
   private boolean isJsonExport;
+  private Optional<RawDataPageConsumer> rawDataPageConsumer;
 
   // used in the context of combined reports to establish identical bucket sizes/ranges across all
   // single reports
@@ -76,6 +77,7 @@ public class ExecutionContext<D extends SingleReportDataDto, P extends Execution
     filterContext = createFilterContext(reportEvaluationContext);
     isJsonExport = reportEvaluationContext.isJsonExport();
     hiddenFlowNodeIds = reportEvaluationContext.getHiddenFlowNodeIds();
+    rawDataPageConsumer = reportEvaluationContext.getRawDataPageConsumer();
   }
 
   public SingleReportConfigurationDto getReportConfiguration() {
@@ -132,6 +134,10 @@ public class ExecutionContext<D extends SingleReportDataDto, P extends Execution
     return this.isJsonExport;
   }
 
+  public Optional<RawDataPageConsumer> getRawDataPageConsumer() {
+    return this.rawDataPageConsumer;
+  }
+
   public Map<String, String> getAllDistributedByKeysAndLabels() {
     return this.allDistributedByKeysAndLabels;
   }
@@ -180,6 +186,10 @@ public class ExecutionContext<D extends SingleReportDataDto, P extends Execution
     this.isJsonExport = isJsonExport;
   }
 
+  public void setRawDataPageConsumer(final Optional<RawDataPageConsumer> rawDataPageConsumer) {
+    this.rawDataPageConsumer = rawDataPageConsumer;
+  }
+
   public void setCombinedRangeMinMaxStats(final MinMaxStatDto combinedRangeMinMaxStats) {
     this.combinedRangeMinMaxStats = combinedRangeMinMaxStats;
   }
@@ -0,0 +1,22 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.db.report;
+
+import io.camunda.optimize.dto.optimize.query.report.single.RawDataInstanceDto;
+import io.camunda.optimize.dto.optimize.query.report.single.SingleReportDataDto;
+import java.util.List;
+
+/**
+ * Consumes the instances of a raw data CSV export page by page, while they are scrolled through in
+ * the database. If a consumer is set, the instances are not part of the evaluation result.
+ */
+@FunctionalInterface
+public interface RawDataPageConsumer {
+
+  void accept(SingleReportDataDto reportData, List<? extends RawDataInstanceDto> page);
+}
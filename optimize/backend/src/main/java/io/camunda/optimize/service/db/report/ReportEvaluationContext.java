@@ -22,6 +22,7 @@ public class ReportEvaluationContext<R extends ReportDefinitionDto<?>> {
   private boolean isCsvExport;
   private boolean isJsonExport;
   private Set<String> hiddenFlowNodeIds;
+  private RawDataPageConsumer rawDataPageConsumer;
 
   // used in the context of combined reports to establish identical bucket sizes/ranges across all
   // single reports
@@ -46,6 +47,7 @@ public class ReportEvaluationContext<R extends ReportDefinitionDto<?>> {
     context.setCsvExport(evaluationInfo.isCsvExport());
     context.setJsonExport(evaluationInfo.isJsonExport());
     context.setHiddenFlowNodeIds(evaluationInfo.getHiddenFlowNodeIds());
+    context.setRawDataPageConsumer(evaluationInfo.getRawDataPageConsumer().orElse(null));
     return context;
   }
 
@@ -65,6 +67,10 @@ public class ReportEvaluationContext<R extends ReportDefinitionDto<?>> {
     return this.hiddenFlowNodeIds;
   }
 
+  public Optional<RawDataPageConsumer> getRawDataPageConsumer() {
+    return Optional.ofNullable(rawDataPageConsumer);
+  }
+
   public MinMaxStatDto getCombinedRangeMinMaxStats() {
     return this.combinedRangeMinMaxStats;
   }
@@ -93,6 +99,10 @@ public class ReportEvaluationContext<R extends ReportDefinitionDto<?>> {
     this.hiddenFlowNodeIds = hiddenFlowNodeIds;
   }
 
+  public void setRawDataPageConsumer(final RawDataPageConsumer rawDataPageConsumer) {
+    this.rawDataPageConsumer = rawDataPageConsumer;
+  }
+
   public void setCombinedRangeMinMaxStats(final MinMaxStatDto combinedRangeMinMaxStats) {
     this.combinedRangeMinMaxStats = combinedRangeMinMaxStats;
   }
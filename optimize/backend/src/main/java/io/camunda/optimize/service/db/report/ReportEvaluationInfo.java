@@ -30,6 +30,7 @@ public final class ReportEvaluationInfo {
   private boolean isJsonExport;
   private boolean isSharedReport;
   private Set<String> hiddenFlowNodeIds;
+  private RawDataPageConsumer rawDataPageConsumer;
 
   private ReportEvaluationInfo() {}
 
@@ -138,6 +139,14 @@ public final class ReportEvaluationInfo {
     this.hiddenFlowNodeIds = hiddenFlowNodeIds;
   }
 
+  public Optional<RawDataPageConsumer> getRawDataPageConsumer() {
+    return Optional.ofNullable(rawDataPageConsumer);
+  }
+
+  protected void setRawDataPageConsumer(final RawDataPageConsumer rawDataPageConsumer) {
+    this.rawDataPageConsumer = rawDataPageConsumer;
+  }
+
   public static class ReportEvaluationInfoBuilder {
 
     private final ReportEvaluationInfo reportEvaluationInfo;
@@ -182,6 +191,12 @@ public final class ReportEvaluationInfo {
       return this;
     }
 
+    public ReportEvaluationInfoBuilder rawDataPageConsumer(
+        final RawDataPageConsumer rawDataPageConsumer) {
+      reportEvaluationInfo.setRawDataPageConsumer(rawDataPageConsumer);
+      return this;
+    }
+
     public ReportEvaluationInfo build() {
       return reportEvaluationInfo;
     }
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.db.report;
+
+import static java.util.stream.Collectors.toMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.optimize.dto.optimize.index.PositionBasedImportIndexDto;
+import io.camunda.optimize.dto.optimize.query.report.CommandEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.ReportDefinitionDto;
+import io.camunda.optimize.dto.optimize.rest.pagination.PaginationDto;
+import io.camunda.optimize.dto.optimize.rest.pagination.PaginationScrollableDto;
+import io.camunda.optimize.service.db.repository.ImportRepository;
+import io.camunda.optimize.service.security.util.LocalDateUtil;
+import io.camunda.optimize.service.util.DatabaseHelper;
+import io.camunda.optimize.service.util.configuration.CacheConfiguration;
+import io.camunda.optimize.service.util.configuration.ConfigurationReloadable;
+import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the results of single report evaluations, so that a report which is evaluated again with
+ * the same data, filters and timezone, e.g. the same dashboard tile viewed by several users, does
+ * not query the database again.
+ *
+ * <p>A result is only reused as long as the import positions of all position based import indices
+ * are the same as when the result was evaluated, i.e. as long as no further data was imported. The
+ * import positions are read at most once per {@link #IMPORT_POSITIONS_REFRESH_INTERVAL}. As results
+ * can also depend on the current time, e.g. with rolling date filters or the duration of running
+ * instances, a result is additionally only cached for the configured time to live.
+ *
+ * <p>Results of paginated evaluations are cached per limit and offset, whereas results of scrolled
+ * evaluations are never cached, as they continue the scroll of the previous page. If the maximum
+ * size of the cache is 0, reports are always evaluated directly.
+ */
+@Component
+public class ReportEvaluationResultCache implements ConfigurationReloadable {
+
+  private static final String CACHE_NAME = "optimize.report.evaluation.results";
+  private static final Duration IMPORT_POSITIONS_REFRESH_INTERVAL = Duration.ofSeconds(1);
+  private static final Logger LOG =
+      org.slf4j.LoggerFactory.getLogger(ReportEvaluationResultCache.class);
+
+  private final ImportRepository importRepository;
+  private final ObjectMapper objectMapper;
+  private final boolean enabled;
+  private final Cache<Key, List<CommandEvaluationResult<Object>>> resultCache;
+  private Map<String, Long> importPositions;
+  private OffsetDateTime importPositionsReadAt;
+
+  public ReportEvaluationResultCache(
+      final ConfigurationService configurationService,
+      final ImportRepository importRepository,
+      final ObjectMapper objectMapper) {
+    this.importRepository = importRepository;
+    this.objectMapper = objectMapper;
+    final CacheConfiguration cacheConfiguration =
+        configurationService.getCaches().getReportEvaluationResults();
+    enabled = cacheConfiguration.getMaxSize() > 0;
+    resultCache =
+        Caffeine.newBuilder()
+            .maximumSize(cacheConfiguration.getMaxSize())
+            .expireAfterWrite(Duration.ofMillis(cacheConfiguration.getDefaultTtlMillis()))
+            .recordStats()
+            .build();
+    CaffeineCacheMetrics.monitor(Metrics.globalRegistry, resultCache, CACHE_NAME);
+  }
+
+  /**
+   * Returns the cached results of the given evaluation, or evaluates and caches them if they are
+   * not cached yet. If the cache is disabled, the evaluation is scrolled or its key can't be
+   * determined, the results are evaluated without the cache.
+   */
+  public List<CommandEvaluationResult<Object>> get(
+      final ReportEvaluationContext<?> context,
+      final Supplier<List<CommandEvaluationResult<Object>>> evaluation) {
+    if (!enabled
+        || context.getPagination().filter(PaginationScrollableDto.class::isInstance).isPresent()) {
+      return evaluation.get();
+    }
+
+    final Optional<Key> key = createKey(context);
+    if (key.isEmpty()) {
+      return evaluation.get();
+    }
+
+    final List<CommandEvaluationResult<Object>> cachedResults = resultCache.getIfPresent(key.get());
+    if (cachedResults != null) {
+      return cachedResults;
+    }
+
+    final List<CommandEvaluationResult<Object>> results = evaluation.get();
+    resultCache.put(key.get(), results);
+    return results;
+  }
+
+  @Override
+  public synchronized void reloadConfiguration(final ApplicationContext context) {
+    resultCache.invalidateAll();
+    importPositions = null;
+  }
+
+  private Optional<Key> createKey(final ReportEvaluationContext<?> context) {
+    final ReportDefinitionDto<?> reportDefinition = context.getReportDefinition();
+    try {
+      return Optional.of(
+          new Key(
+              objectMapper.writeValueAsString(reportDefinition.getData()),
+              context.getTimezone(),
+              context.getHiddenFlowNodeIds(),
+              context.getPagination().map(PaginationDto::getLimit).orElse(null),
+              context.getPagination().map(PaginationDto::getOffset).orElse(null),
+              getImportPositions()));
+    } catch (final JsonProcessingException | RuntimeException e) {
+      LOG.warn(
+          "Could not determine the cache key of report [{}], evaluating it without the cache.",
+          reportDefinition.getId(),
+          e);
+      return Optional.empty();
+    }
+  }
+
+  private synchronized Map<String, Long> getImportPositions() {
+    final OffsetDateTime now = LocalDateUtil.getCurrentDateTime();
+    if (importPositions == null
+        || !now.isBefore(importPositionsReadAt.plus(IMPORT_POSITIONS_REFRESH_INTERVAL))) {
+      importPositions =
+          importRepository.getAllPositionBasedImportIndices().stream()
+              .collect(
+                  toMap(
+                      importIndex ->
+                          DatabaseHelper.constructKey(
+                              importIndex.getDbTypeIndexRefersTo(), importIndex.getDataSource()),
+                      PositionBasedImportIndexDto::getPositionOfLastEntity,
+                      Math::max));
+      importPositionsReadAt = now;
+    }
+    return importPositions;
+  }
+
+  private record Key(
+      String reportData,
+      ZoneId timezone,
+      Set<String> hiddenFlowNodeIds,
+      Integer paginationLimit,
+      Integer paginationOffset,
+      Map<String, Long> importPositions) {}
+}
@@ -37,31 +37,58 @@ public class SingleReportEvaluator {
   private final ConfigurationService configurationService;
   private final ExecutionPlanExtractor executionPlanExtractor;
   private final ExecutionPlanInterpreterFacade interpreter;
+  private final ReportEvaluationResultCache resultCache;
 
   public SingleReportEvaluator(
       final ConfigurationService configurationService,
       final ExecutionPlanExtractor executionPlanExtractor,
-      final ExecutionPlanInterpreterFacade interpreter) {
+      final ExecutionPlanInterpreterFacade interpreter,
+      final ReportEvaluationResultCache resultCache) {
     this.configurationService = configurationService;
     this.executionPlanExtractor = executionPlanExtractor;
     this.interpreter = interpreter;
+    this.resultCache = resultCache;
   }
 
   @SuppressWarnings(UNCHECKED_CAST)
   public <D extends SingleReportDataDto> SingleReportEvaluationResult<Object> evaluate(
       final ReportEvaluationContext<? extends SingleReportDefinitionDto<D>> reportEvaluationContext)
       throws OptimizeException {
-    final List<CommandEvaluationResult<Object>> results =
-        extractExecutionPlansWithValidation(reportEvaluationContext)
-            .map(
-                plan ->
-                    ExecutionContextFactory.buildExecutionContext(plan, reportEvaluationContext))
-            .map(interpreter::interpret)
-            .toList();
+    final List<ExecutionPlan> plans =
+        extractExecutionPlansWithValidation(reportEvaluationContext).toList();
+    final List<CommandEvaluationResult<Object>> results;
+    if (isCacheable(reportEvaluationContext, plans)) {
+      results =
+          resultCache.get(reportEvaluationContext, () -> interpret(reportEvaluationContext, plans));
+    } else {
+      results = interpret(reportEvaluationContext, plans);
+    }
     return new SingleReportEvaluationResult<>(
         reportEvaluationContext.getReportDefinition(), results);
   }
 
+  private <D extends SingleReportDataDto> List<CommandEvaluationResult<Object>> interpret(
+      final ReportEvaluationContext<? extends SingleReportDefinitionDto<D>> reportEvaluationContext,
+      final List<ExecutionPlan> plans) {
+    return plans.stream()
+        .map(plan -> ExecutionContextFactory.buildExecutionContext(plan, reportEvaluationContext))
+        .map(interpreter::interpret)
+        .toList();
+  }
+
+  /**
+   * Raw data results are paginated and exports are evaluated once, so only the results of other
+   * reports are cached. The results of single reports of a combined report depend on the other
+   * reports as well, so these aren't cached either.
+   */
+  private boolean isCacheable(
+      final ReportEvaluationContext<?> reportEvaluationContext, final List<ExecutionPlan> plans) {
+    return !reportEvaluationContext.isCsvExport()
+        && !reportEvaluationContext.isJsonExport()
+        && reportEvaluationContext.getCombinedRangeMinMaxStats() == null
+        && plans.stream().noneMatch(ExecutionPlan::isRawDataReport);
+  }
+
   private <R extends ReportDefinitionDto<?>>
       Stream<ExecutionPlan> extractExecutionPlansWithValidation(
           final ReportEvaluationContext<R> reportEvaluationContext) {
@@ -18,6 +18,8 @@ public interface ImportRepository {
   List<TimestampBasedImportIndexDto> getAllTimestampBasedImportIndicesForTypes(
       List<String> indexTypes);
 
+  List<PositionBasedImportIndexDto> getAllPositionBasedImportIndices();
+
   <T extends ImportIndexDto<D>, D extends DataSourceDto> Optional<T> getImportIndex(
       String indexName,
       String indexType,
@@ -97,6 +97,28 @@ public class ImportRepositoryES implements ImportRepository {
         searchResponse.hits(), TimestampBasedImportIndexDto.class, objectMapper);
   }
 
+  @Override
+  public List<PositionBasedImportIndexDto> getAllPositionBasedImportIndices() {
+    LOG.debug("Fetching all position based import indices");
+
+    final SearchRequest searchRequest =
+        OptimizeSearchRequestBuilderES.of(
+            b ->
+                b.optimizeIndex(esClient, POSITION_BASED_IMPORT_INDEX_NAME)
+                    .query(q -> q.matchAll(m -> m))
+                    .size(LIST_FETCH_LIMIT));
+
+    final SearchResponse<PositionBasedImportIndexDto> searchResponse;
+    try {
+      searchResponse = esClient.search(searchRequest, PositionBasedImportIndexDto.class);
+    } catch (final IOException e) {
+      LOG.error("Was not able to get position based import indices!", e);
+      throw new OptimizeRuntimeException("Was not able to get position based import indices!", e);
+    }
+    return ElasticsearchReaderUtil.mapHits(
+        searchResponse.hits(), PositionBasedImportIndexDto.class, objectMapper);
+  }
+
   @Override
   public <T extends ImportIndexDto<D>, D extends DataSourceDto> Optional<T> getImportIndex(
       final String indexName,
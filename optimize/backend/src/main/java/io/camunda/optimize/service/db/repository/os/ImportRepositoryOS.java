@@ -10,6 +10,7 @@ package io.camunda.optimize.service.db.repository.os;
 import static io.camunda.optimize.service.db.DatabaseConstants.LIST_FETCH_LIMIT;
 import static io.camunda.optimize.service.db.DatabaseConstants.POSITION_BASED_IMPORT_INDEX_NAME;
 import static io.camunda.optimize.service.db.DatabaseConstants.TIMESTAMP_BASED_IMPORT_INDEX_NAME;
+import static io.camunda.optimize.service.db.os.client.dsl.QueryDSL.matchAll;
 import static io.camunda.optimize.service.db.os.client.dsl.QueryDSL.stringTerms;
 import static io.camunda.optimize.service.db.schema.index.index.TimestampBasedImportIndex.DB_TYPE_INDEX_REFERS_TO;
 import static java.lang.String.format;
@@ -73,6 +74,19 @@ public class ImportRepositoryOS implements ImportRepository {
     return osClient.searchValues(requestBuilder, TimestampBasedImportIndexDto.class);
   }
 
+  @Override
+  public List<PositionBasedImportIndexDto> getAllPositionBasedImportIndices() {
+    LOG.debug("Fetching all position based import indices");
+
+    final SearchRequest.Builder requestBuilder =
+        new SearchRequest.Builder()
+            .index(indexNameService.getOptimizeIndexAliasForIndex(POSITION_BASED_IMPORT_INDEX_NAME))
+            .query(matchAll())
+            .size(LIST_FETCH_LIMIT);
+
+    return osClient.searchValues(requestBuilder, PositionBasedImportIndexDto.class);
+  }
+
   @Override
   public <T extends ImportIndexDto<D>, D extends DataSourceDto> Optional<T> getImportIndex(
       final String indexName,
@@ -34,6 +34,8 @@ import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
 import java.io.BufferedWriter;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,22 +57,29 @@ public final class CSVUtils {
   public static byte[] mapCsvLinesToCsvBytes(
       final List<String[]> csvStrings, final char csvDelimiter) {
     final ByteArrayOutputStream arrayOutputStream = new ByteArrayOutputStream();
-    final BufferedWriter bufferedWriter =
-        new BufferedWriter(new OutputStreamWriter(arrayOutputStream));
-    final CSVWriter csvWriter = new CSVWriter(bufferedWriter, csvDelimiter, '"', '"', "\r\n");
-
-    byte[] bytes = null;
     try {
-      csvWriter.writeAll(csvStrings);
-      bufferedWriter.flush();
-      bufferedWriter.close();
-      arrayOutputStream.flush();
-      bytes = arrayOutputStream.toByteArray();
-      arrayOutputStream.close();
+      writeCsvLines(csvStrings, csvDelimiter, arrayOutputStream);
     } catch (final Exception e) {
       LOG.error("can't write CSV to buffer", e);
+      return null;
     }
-    return bytes;
+    return arrayOutputStream.toByteArray();
+  }
+
+  /**
+   * Writes the CSV lines line by line to the given output stream, e.g. the one of an HTTP response,
+   * so that the lines don't need to be held in memory as a whole a second time. The output stream
+   * is flushed, but not closed.
+   */
+  public static void writeCsvLines(
+      final Iterable<String[]> csvLines, final char csvDelimiter, final OutputStream outputStream)
+      throws IOException {
+    final BufferedWriter bufferedWriter = new BufferedWriter(new OutputStreamWriter(outputStream));
+    final CSVWriter csvWriter = new CSVWriter(bufferedWriter, csvDelimiter, '"', '"', "\r\n");
+    for (final String[] csvLine : csvLines) {
+      csvWriter.writeNext(csvLine);
+    }
+    csvWriter.flush();
   }
 
   public static <T extends IdResponseDto> List<String[]> mapIdList(final List<T> ids) {
@@ -93,13 +102,9 @@ public final class CSVUtils {
     final List<String> allCountKeys = extractAllPrefixedCountKeys();
     final List<String> allFlowNodeDurationKeys = extractAllPrefixedFlowNodeKeys(rawData);
     final List<String> allVariableKeys = extractAllPrefixedVariableKeys(rawData);
-    // Ensure all fields are taken into account by tableColumns
-    tableColumns.setIncludeNewVariables(includeNewVariables);
-    tableColumns.addDtoColumns(extractAllProcessInstanceDtoFieldKeys());
-    tableColumns.addCountColumns(allCountKeys);
-    tableColumns.addNewAndRemoveUnexpectedFlowNodeDurationColumns(allFlowNodeDurationKeys);
-    tableColumns.addNewAndRemoveUnexpectedVariableColumns(allVariableKeys);
-    final List<String> allIncludedKeysInOrder = tableColumns.getIncludedColumns();
+    final List<String> allIncludedKeysInOrder =
+        determineProcessColumns(
+            tableColumns, allFlowNodeDurationKeys, allVariableKeys, includeNewVariables);
 
     // header line
     result.add(allIncludedKeysInOrder.toArray(new String[0]));
@@ -143,13 +148,8 @@ public final class CSVUtils {
     final List<String> allOutputVariableKeys = extractAllPrefixedDecisionOutputKeys(rawData);
     allVariableKeys.addAll(allInputVariableKeys);
     allVariableKeys.addAll(allOutputVariableKeys);
-
-    // Ensure all dto fields are taken into account by tableColumns
-    tableColumns.addDtoColumns(extractAllDecisionInstanceDtoFieldKeys());
-
-    // Ensure all variables are taken into account by tableColumns
-    tableColumns.addNewAndRemoveUnexpectedVariableColumns(allVariableKeys);
-    final List<String> allIncludedKeysInOrder = tableColumns.getIncludedColumns();
+    final List<String> allIncludedKeysInOrder =
+        determineDecisionColumns(tableColumns, allVariableKeys);
 
     // header line
     result.add(allIncludedKeysInOrder.toArray(new String[0]));
@@ -216,6 +216,40 @@ public final class CSVUtils {
     }
   }
 
+  /**
+   * Determines the columns of a raw process data CSV, in their order, from the table column
+   * configuration of the report and the flow node duration and variable columns of its instances.
+   * The table column configuration is updated with the new columns.
+   */
+  public static List<String> determineProcessColumns(
+      final TableColumnDto tableColumns,
+      final List<String> flowNodeDurationKeys,
+      final List<String> variableKeys,
+      final boolean includeNewVariables) {
+    // Ensure all fields are taken into account by tableColumns
+    tableColumns.setIncludeNewVariables(includeNewVariables);
+    tableColumns.addDtoColumns(extractAllProcessInstanceDtoFieldKeys());
+    tableColumns.addCountColumns(extractAllPrefixedCountKeys());
+    tableColumns.addNewAndRemoveUnexpectedFlowNodeDurationColumns(flowNodeDurationKeys);
+    tableColumns.addNewAndRemoveUnexpectedVariableColumns(variableKeys);
+    return tableColumns.getIncludedColumns();
+  }
+
+  /**
+   * Determines the columns of a raw decision data CSV, in their order, from the table column
+   * configuration of the report and the input and output variable columns of its instances. The
+   * table column configuration is updated with the new columns.
+   */
+  public static List<String> determineDecisionColumns(
+      final TableColumnDto tableColumns, final List<String> variableKeys) {
+    // Ensure all dto fields are taken into account by tableColumns
+    tableColumns.addDtoColumns(extractAllDecisionInstanceDtoFieldKeys());
+
+    // Ensure all variables are taken into account by tableColumns
+    tableColumns.addNewAndRemoveUnexpectedVariableColumns(variableKeys);
+    return tableColumns.getIncludedColumns();
+  }
+
   public static List<String> extractAllDecisionInstanceDtoFieldKeys() {
     return Arrays.stream(RawDataDecisionInstanceDto.Fields.values())
         .map(RawDataDecisionInstanceDto.Fields::name)
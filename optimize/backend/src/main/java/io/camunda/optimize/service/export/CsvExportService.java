@@ -13,8 +13,10 @@ import io.camunda.optimize.rest.exceptions.NotFoundException;
 import io.camunda.optimize.service.db.report.AuthorizationCheckReportEvaluationHandler;
 import io.camunda.optimize.service.db.report.ReportEvaluationInfo;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.ZoneId;
-import java.util.List;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
@@ -35,65 +37,88 @@ public class CsvExportService {
     this.configurationService = configurationService;
   }
 
-  public Optional<byte[]> getCsvBytesForEvaluatedReportResult(
-      final String userId, final String reportId, final ZoneId timezone) {
+  /**
+   * Evaluates the report and writes its result as CSV. The instances of raw data reports are
+   * spilled to a temporary file page by page while they are scrolled through in the database, so
+   * neither the instances nor the CSV are held in memory as a whole. The output stream is only
+   * opened once all instances were read, so that errors before are still mapped to an error
+   * response.
+   *
+   * @return false if the report doesn't exist, in which case nothing is written
+   */
+  public boolean writeCsvForEvaluatedReportResult(
+      final String userId,
+      final String reportId,
+      final ZoneId timezone,
+      final OutputStreamSupplier outputStreamSupplier)
+      throws IOException {
     LOG.debug("Exporting report with id [{}] as csv.", reportId);
     try {
-      final ReportEvaluationInfo evaluationInfo =
-          ReportEvaluationInfo.builder(reportId)
-              .userId(userId)
-              .timezone(timezone)
-              .isCsvExport(true)
-              .build();
-      final AuthorizedReportEvaluationResult reportResult =
-          reportEvaluationHandler.evaluateReport(evaluationInfo);
-      final List<String[]> resultAsCsv =
-          reportResult
-              .getEvaluationResult()
-              .getResultAsCsv(
-                  Optional.ofNullable(
-                          configurationService.getCsvConfiguration().getExportCsvLimit())
-                      .orElse(DEFAULT_RECORD_LIMIT),
-                  0,
-                  timezone);
-      return Optional.ofNullable(
-          CSVUtils.mapCsvLinesToCsvBytes(
-              resultAsCsv, configurationService.getCsvConfiguration().getExportCsvDelimiter()));
+      writeCsvForEvaluatedReportResult(
+          ReportEvaluationInfo.builder(reportId).userId(userId).timezone(timezone),
+          timezone,
+          outputStreamSupplier);
+      return true;
     } catch (final NotFoundException e) {
       LOG.debug("Could not find report with id {} to export the result to csv!", reportId, e);
-      return Optional.empty();
+      return false;
     } catch (final Exception e) {
       LOG.error("Could not evaluate report with id {} to export the result to csv!", reportId, e);
       throw e;
     }
   }
 
-  public byte[] getCsvBytesForEvaluatedReportResult(
-      final String userId, final ReportDefinitionDto<?> reportDefinition, final ZoneId timezone) {
+  public void writeCsvForEvaluatedReportResult(
+      final String userId,
+      final ReportDefinitionDto<?> reportDefinition,
+      final ZoneId timezone,
+      final OutputStreamSupplier outputStreamSupplier)
+      throws IOException {
     LOG.debug("Exporting provided report definition as csv.");
     try {
-      final ReportEvaluationInfo evaluationInfo =
-          ReportEvaluationInfo.builder(reportDefinition)
-              .userId(userId)
-              .timezone(timezone)
-              .isCsvExport(true)
-              .build();
-      final AuthorizedReportEvaluationResult reportResult =
-          reportEvaluationHandler.evaluateReport(evaluationInfo);
-      final List<String[]> resultAsCsv =
-          reportResult
-              .getEvaluationResult()
-              .getResultAsCsv(
-                  Optional.ofNullable(
-                          configurationService.getCsvConfiguration().getExportCsvLimit())
-                      .orElse(DEFAULT_RECORD_LIMIT),
-                  0,
-                  timezone);
-      return CSVUtils.mapCsvLinesToCsvBytes(
-          resultAsCsv, configurationService.getCsvConfiguration().getExportCsvDelimiter());
+      writeCsvForEvaluatedReportResult(
+          ReportEvaluationInfo.builder(reportDefinition).userId(userId).timezone(timezone),
+          timezone,
+          outputStreamSupplier);
     } catch (final Exception e) {
       LOG.error("Could not evaluate report to export the result to csv!", e);
       throw e;
     }
   }
+
+  private void writeCsvForEvaluatedReportResult(
+      final ReportEvaluationInfo.ReportEvaluationInfoBuilder evaluationInfoBuilder,
+      final ZoneId timezone,
+      final OutputStreamSupplier outputStreamSupplier)
+      throws IOException {
+    final int limit =
+        Optional.ofNullable(configurationService.getCsvConfiguration().getExportCsvLimit())
+            .orElse(DEFAULT_RECORD_LIMIT);
+    try (final ReportCsvWriter csvWriter =
+        new ReportCsvWriter(
+            outputStreamSupplier,
+            configurationService.getCsvConfiguration().getExportCsvDelimiter(),
+            limit,
+            timezone)) {
+      final AuthorizedReportEvaluationResult reportResult;
+      try {
+        reportResult =
+            reportEvaluationHandler.evaluateReport(
+                evaluationInfoBuilder.isCsvExport(true).rawDataPageConsumer(csvWriter).build());
+      } catch (final UncheckedIOException e) {
+        throw e.getCause();
+      }
+      // results which are not raw data, or raw data without any instances, are written as a whole
+      if (!csvWriter.writeRawDataPages()) {
+        csvWriter.writeLines(reportResult.getEvaluationResult().getResultAsCsv(limit, 0, timezone));
+      }
+    }
+  }
+
+  /** Opens the output stream which the CSV is written to. */
+  @FunctionalInterface
+  public interface OutputStreamSupplier {
+
+    OutputStream get() throws IOException;
+  }
 }
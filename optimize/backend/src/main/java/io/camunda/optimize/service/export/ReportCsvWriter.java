@@ -0,0 +1,233 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.export;
+
+import static io.camunda.optimize.dto.optimize.query.report.single.configuration.TableColumnDto.FLOWNODE_DURATION_PREFIX;
+import static io.camunda.optimize.dto.optimize.query.report.single.configuration.TableColumnDto.INPUT_PREFIX;
+import static io.camunda.optimize.dto.optimize.query.report.single.configuration.TableColumnDto.OUTPUT_PREFIX;
+import static io.camunda.optimize.dto.optimize.query.report.single.configuration.TableColumnDto.VARIABLE_PREFIX;
+
+import io.camunda.optimize.dto.optimize.query.report.single.RawDataInstanceDto;
+import io.camunda.optimize.dto.optimize.query.report.single.SingleReportDataDto;
+import io.camunda.optimize.dto.optimize.query.report.single.configuration.TableColumnDto;
+import io.camunda.optimize.dto.optimize.query.report.single.process.result.raw.RawDataProcessInstanceDto;
+import io.camunda.optimize.service.db.report.RawDataPageConsumer;
+import io.camunda.optimize.service.db.report.result.RawDataCommandResult;
+import io.camunda.optimize.service.export.CsvExportService.OutputStreamSupplier;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the CSV of a report evaluation, either as a whole or from the pages of raw data instances
+ * which are scrolled through.
+ *
+ * <p>The variable and flow node duration columns of a raw data export are the union of the columns
+ * of all its instances, so they are only known once all pages were read. Each page is therefore
+ * mapped to all of its columns and spilled to a temporary file, such that only a single page is
+ * held in memory. Once all pages were read, the columns are determined from the table column
+ * configuration of the report, as if all instances were mapped at once, and the spilled lines are
+ * written in these columns. As nothing is written before, errors while reading the instances are
+ * still mapped to an error response.
+ */
+final class ReportCsvWriter implements RawDataPageConsumer, Closeable {
+
+  private static final int NULL_VALUE_LENGTH = -1;
+
+  private final OutputStreamSupplier outputStreamSupplier;
+  private final char csvDelimiter;
+  private final int limit;
+  private final ZoneId timezone;
+
+  private Path spillFile;
+  private DataOutputStream spillOutput;
+  // the columns of each spilled page, and the number of its lines
+  private final List<String[]> pageColumns = new ArrayList<>();
+  private final List<Integer> pageSizes = new ArrayList<>();
+  private final Set<String> instanceColumns = new LinkedHashSet<>();
+  private TableColumnDto tableColumns;
+  private boolean isProcessReport;
+  private int spilledInstances;
+
+  ReportCsvWriter(
+      final OutputStreamSupplier outputStreamSupplier,
+      final char csvDelimiter,
+      final int limit,
+      final ZoneId timezone) {
+    this.outputStreamSupplier = outputStreamSupplier;
+    this.csvDelimiter = csvDelimiter;
+    this.limit = limit;
+    this.timezone = timezone;
+  }
+
+  @Override
+  public void accept(
+      final SingleReportDataDto reportData, final List<? extends RawDataInstanceDto> page) {
+    final int remainingInstances = limit - spilledInstances;
+    if (page.isEmpty() || remainingInstances <= 0) {
+      return;
+    }
+
+    final List<RawDataInstanceDto> instances =
+        new ArrayList<>(page.subList(0, Math.min(page.size(), remainingInstances)));
+    final var configuration = reportData.getConfiguration();
+    if (tableColumns == null) {
+      tableColumns = configuration.getTableColumns();
+      isProcessReport = instances.get(0) instanceof RawDataProcessInstanceDto;
+    }
+
+    // map the page to all of its columns, they're narrowed down to the configured ones at the end
+    final List<String[]> csvLines;
+    configuration.setTableColumns(allColumns());
+    try {
+      csvLines =
+          new RawDataCommandResult<>(instances, reportData)
+              .getResultAsCsv(instances.size(), 0, timezone);
+    } finally {
+      configuration.setTableColumns(tableColumns);
+    }
+
+    try {
+      spill(csvLines);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    spilledInstances += instances.size();
+  }
+
+  /**
+   * Writes the spilled lines of the raw data pages in the columns of all their instances.
+   *
+   * @return false if no raw data pages were consumed, in which case nothing is written
+   */
+  boolean writeRawDataPages() throws IOException {
+    if (spillOutput == null) {
+      return false;
+    }
+    spillOutput.close();
+
+    final List<String> columns = determineColumns();
+    final var outputStream = outputStreamSupplier.get();
+    CSVUtils.writeCsvLines(
+        Collections.singletonList(columns.toArray(new String[0])), csvDelimiter, outputStream);
+
+    try (final var spillInput =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(spillFile)))) {
+      for (int page = 0; page < pageColumns.size(); page++) {
+        final List<String> columnsOfPage = Arrays.asList(pageColumns.get(page));
+        final int[] pageColumnIndices = columns.stream().mapToInt(columnsOfPage::indexOf).toArray();
+        final List<String[]> lines = new ArrayList<>(pageSizes.get(page));
+        for (int line = 0; line < pageSizes.get(page); line++) {
+          final String[] pageLine = readLine(spillInput, columnsOfPage.size());
+          final String[] mappedLine = new String[pageColumnIndices.length];
+          for (int i = 0; i < pageColumnIndices.length; i++) {
+            mappedLine[i] = pageColumnIndices[i] < 0 ? null : pageLine[pageColumnIndices[i]];
+          }
+          lines.add(mappedLine);
+        }
+        CSVUtils.writeCsvLines(lines, csvDelimiter, outputStream);
+      }
+    }
+    return true;
+  }
+
+  /** Writes the lines of a result which is not paged, e.g. of a report which is not raw data. */
+  void writeLines(final List<String[]> csvLines) throws IOException {
+    CSVUtils.writeCsvLines(csvLines, csvDelimiter, outputStreamSupplier.get());
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (spillOutput != null) {
+      spillOutput.close();
+    }
+    if (spillFile != null) {
+      Files.deleteIfExists(spillFile);
+    }
+  }
+
+  private void spill(final List<String[]> csvLines) throws IOException {
+    if (spillOutput == null) {
+      spillFile = Files.createTempFile("optimize-csv-export-", ".tmp");
+      spillOutput =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spillFile)));
+    }
+
+    final String[] columns = csvLines.get(0);
+    pageColumns.add(columns);
+    pageSizes.add(csvLines.size() - 1);
+    instanceColumns.addAll(Arrays.asList(columns));
+    for (final String[] line : csvLines.subList(1, csvLines.size())) {
+      for (final String value : line) {
+        if (value == null) {
+          spillOutput.writeInt(NULL_VALUE_LENGTH);
+        } else {
+          final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+          spillOutput.writeInt(bytes.length);
+          spillOutput.write(bytes);
+        }
+      }
+    }
+  }
+
+  private String[] readLine(final DataInputStream spillInput, final int columnCount)
+      throws IOException {
+    final String[] line = new String[columnCount];
+    for (int i = 0; i < columnCount; i++) {
+      final int length = spillInput.readInt();
+      if (length != NULL_VALUE_LENGTH) {
+        line[i] = new String(spillInput.readNBytes(length), StandardCharsets.UTF_8);
+      }
+    }
+    return line;
+  }
+
+  /**
+   * Determines the columns from the table column configuration of the report and the variable and
+   * flow node duration columns of all instances, in the same way as if they were mapped at once.
+   */
+  private List<String> determineColumns() {
+    if (isProcessReport) {
+      return CSVUtils.determineProcessColumns(
+          tableColumns,
+          instanceColumnsWithPrefix(FLOWNODE_DURATION_PREFIX),
+          instanceColumnsWithPrefix(VARIABLE_PREFIX),
+          true);
+    }
+    return CSVUtils.determineDecisionColumns(
+        tableColumns, instanceColumnsWithPrefix(INPUT_PREFIX, OUTPUT_PREFIX));
+  }
+
+  private List<String> instanceColumnsWithPrefix(final String... prefixes) {
+    return instanceColumns.stream()
+        .filter(column -> Arrays.stream(prefixes).anyMatch(column::startsWith))
+        .toList();
+  }
+
+  /** Includes all columns of the mapped instances, including the count columns. */
+  private static TableColumnDto allColumns() {
+    return TableColumnDto.builder()
+        .includeNewVariables(true)
+        .includedColumns(new ArrayList<>(CSVUtils.extractAllPrefixedCountKeys()))
+        .build();
+  }
+}
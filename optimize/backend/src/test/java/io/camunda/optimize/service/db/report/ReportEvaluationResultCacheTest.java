@@ -0,0 +1,192 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.optimize.service.db.report;
+
+import static io.camunda.optimize.util.SuppressionConstants.UNCHECKED_CAST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.camunda.optimize.dto.optimize.datasource.ZeebeDataSourceDto;
+import io.camunda.optimize.dto.optimize.index.PositionBasedImportIndexDto;
+import io.camunda.optimize.dto.optimize.query.report.CommandEvaluationResult;
+import io.camunda.optimize.dto.optimize.query.report.single.process.ProcessReportDataDto;
+import io.camunda.optimize.dto.optimize.query.report.single.process.SingleProcessReportDefinitionRequestDto;
+import io.camunda.optimize.dto.optimize.rest.pagination.PaginationDto;
+import io.camunda.optimize.dto.optimize.rest.pagination.PaginationScrollableDto;
+import io.camunda.optimize.service.db.repository.ImportRepository;
+import io.camunda.optimize.service.security.util.LocalDateUtil;
+import io.camunda.optimize.service.util.ProcessReportDataType;
+import io.camunda.optimize.service.util.TemplatedProcessReportDataBuilder;
+import io.camunda.optimize.service.util.configuration.ConfigurationService;
+import io.camunda.optimize.service.util.configuration.ConfigurationServiceBuilder;
+import io.camunda.optimize.service.util.mapper.ObjectMapperFactory;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class ReportEvaluationResultCacheTest {
+
+  private final ImportRepository importRepository = mock(ImportRepository.class);
+  private final AtomicInteger evaluations = new AtomicInteger();
+  private ReportEvaluationResultCache resultCache;
+
+  @BeforeEach
+  public void init() {
+    LocalDateUtil.setCurrentTime(OffsetDateTime.now());
+    final ConfigurationService configurationService =
+        ConfigurationServiceBuilder.createConfiguration()
+            .loadConfigurationFrom("service-config.yaml")
+            .build();
+    when(importRepository.getAllPositionBasedImportIndices())
+        .thenReturn(List.of(createImportIndex(10L)));
+    resultCache =
+        new ReportEvaluationResultCache(
+            configurationService, importRepository, ObjectMapperFactory.OPTIMIZE_MAPPER);
+  }
+
+  @AfterEach
+  public void cleanUp() {
+    LocalDateUtil.reset();
+  }
+
+  @Test
+  public void shouldReuseResultsOfSameReport() {
+    // given
+    final List<CommandEvaluationResult<Object>> results =
+        resultCache.get(createContext("processDefinition"), this::evaluate);
+
+    // when
+    final List<CommandEvaluationResult<Object>> cachedResults =
+        resultCache.get(createContext("processDefinition"), this::evaluate);
+
+    // then
+    assertThat(cachedResults).isSameAs(results);
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  public void shouldEvaluateReportWithOtherData() {
+    // given
+    resultCache.get(createContext("processDefinition"), this::evaluate);
+
+    // when
+    resultCache.get(createContext("otherProcessDefinition"), this::evaluate);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldEvaluateReportAgainAfterDataWasImported() {
+    // given
+    resultCache.get(createContext("processDefinition"), this::evaluate);
+    when(importRepository.getAllPositionBasedImportIndices())
+        .thenReturn(List.of(createImportIndex(20L)));
+
+    // when
+    LocalDateUtil.setCurrentTime(LocalDateUtil.getCurrentDateTime().plusSeconds(1));
+    resultCache.get(createContext("processDefinition"), this::evaluate);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldEvaluateReportWithOtherPagination() {
+    // given
+    final ReportEvaluationContext<SingleProcessReportDefinitionRequestDto> firstPage =
+        createContext("processDefinition");
+    firstPage.setPagination(new PaginationDto(20, 0));
+    resultCache.get(firstPage, this::evaluate);
+
+    // when
+    final ReportEvaluationContext<SingleProcessReportDefinitionRequestDto> secondPage =
+        createContext("processDefinition");
+    secondPage.setPagination(new PaginationDto(20, 20));
+    resultCache.get(secondPage, this::evaluate);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+  }
+
+  @Test
+  public void shouldNotCacheScrolledReport() {
+    // given
+    final ReportEvaluationContext<SingleProcessReportDefinitionRequestDto> context =
+        createContext("processDefinition");
+    context.setPagination(new PaginationScrollableDto(null, 60));
+    resultCache.get(context, this::evaluate);
+
+    // when
+    resultCache.get(context, this::evaluate);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+    verifyNoInteractions(importRepository);
+  }
+
+  @Test
+  public void shouldEvaluateReportDirectlyIfCacheIsDisabled() {
+    // given
+    final ConfigurationService configurationService =
+        ConfigurationServiceBuilder.createConfiguration()
+            .loadConfigurationFrom("service-config.yaml")
+            .build();
+    configurationService.getCaches().getReportEvaluationResults().setMaxSize(0);
+    resultCache =
+        new ReportEvaluationResultCache(
+            configurationService, importRepository, ObjectMapperFactory.OPTIMIZE_MAPPER);
+
+    // when
+    resultCache.get(createContext("processDefinition"), this::evaluate);
+    resultCache.get(createContext("processDefinition"), this::evaluate);
+
+    // then
+    assertThat(evaluations).hasValue(2);
+    verifyNoInteractions(importRepository);
+  }
+
+  @SuppressWarnings(UNCHECKED_CAST)
+  private List<CommandEvaluationResult<Object>> evaluate() {
+    evaluations.incrementAndGet();
+    return List.of(mock(CommandEvaluationResult.class));
+  }
+
+  private ReportEvaluationContext<SingleProcessReportDefinitionRequestDto> createContext(
+      final String processDefinitionKey) {
+    final ReportEvaluationContext<SingleProcessReportDefinitionRequestDto> context =
+        new ReportEvaluationContext<>();
+    final ProcessReportDataDto reportData =
+        TemplatedProcessReportDataBuilder.createReportData()
+            .setReportDataType(ProcessReportDataType.PROC_INST_DUR_GROUP_BY_NONE)
+            .setProcessDefinitionKey(processDefinitionKey)
+            .setProcessDefinitionVersion("1")
+            .build();
+    // the identifier is random, but is the same whenever a stored report is evaluated
+    reportData
+        .getDefinitions()
+        .forEach(definition -> definition.setIdentifier(processDefinitionKey));
+    context.setReportDefinition(new SingleProcessReportDefinitionRequestDto(reportData));
+    context.setTimezone(ZoneId.of("UTC"));
+    return context;
+  }
+
+  private static PositionBasedImportIndexDto createImportIndex(final long position) {
+    final PositionBasedImportIndexDto importIndex = new PositionBasedImportIndexDto();
+    importIndex.setDbTypeIndexRefersTo("processInstance");
+    importIndex.setDataSource(new ZeebeDataSourceDto("zeebe-record", 1));
+    importIndex.setPositionOfLastEntity(position);
+    return importIndex;
+  }
+}
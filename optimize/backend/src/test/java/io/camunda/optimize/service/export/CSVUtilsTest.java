@@ -13,6 +13,7 @@ import static io.camunda.optimize.dto.optimize.query.report.single.configuration
 import static io.camunda.optimize.service.export.CSVUtils.extractAllDecisionInstanceDtoFieldKeys;
 import static io.camunda.optimize.service.export.CSVUtils.extractAllProcessInstanceDtoFieldKeys;
 import static io.camunda.optimize.service.export.CSVUtils.mapCsvLinesToCsvBytes;
+import static io.camunda.optimize.service.export.CSVUtils.writeCsvLines;
 import static io.camunda.optimize.service.export.RawDataHelper.NUMBER_OF_RAW_DECISION_REPORT_COLUMNS;
 import static io.camunda.optimize.service.export.RawDataHelper.NUMBER_OF_RAW_PROCESS_REPORT_COLUMNS;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +26,8 @@ import io.camunda.optimize.dto.optimize.query.report.single.process.SingleProces
 import io.camunda.optimize.dto.optimize.query.report.single.process.result.raw.RawDataCountDto;
 import io.camunda.optimize.dto.optimize.query.report.single.process.result.raw.RawDataProcessInstanceDto;
 import io.camunda.optimize.service.db.report.result.RawDataCommandResult;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.HashMap;
@@ -105,6 +108,20 @@ public class CSVUtilsTest {
     assertThat(resultString).isEqualTo(expectedString);
   }
 
+  @Test
+  public void testWriteCsvLinesWritesSameContentAsMappingToBytes() throws IOException {
+    // given
+    final List<String[]> csvLines =
+        mapRawProcessReportInstances(RawDataHelper.getRawDataProcessInstanceDtos(), true);
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // when
+    writeCsvLines(csvLines, ';', outputStream);
+
+    // then
+    assertThat(outputStream.toByteArray()).isEqualTo(mapCsvLinesToCsvBytes(csvLines, ';'));
+  }
+
   @ParameterizedTest
   @MethodSource("getExpectedStringAndCsvDelimiter")
   public void testRawProcessResultMappingCsvWorksWithSeveralDelimiters(
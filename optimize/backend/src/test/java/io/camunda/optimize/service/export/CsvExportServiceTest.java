@@ -8,6 +8,8 @@
 package io.camunda.optimize.service.export;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
@@ -16,12 +18,19 @@ import io.camunda.optimize.dto.optimize.query.report.AuthorizedReportEvaluationR
 import io.camunda.optimize.dto.optimize.query.report.SingleReportEvaluationResult;
 import io.camunda.optimize.dto.optimize.query.report.single.process.ProcessReportDataDto;
 import io.camunda.optimize.dto.optimize.query.report.single.process.SingleProcessReportDefinitionRequestDto;
-import io.camunda.optimize.exception.OptimizeIntegrationTestException;
+import io.camunda.optimize.dto.optimize.query.report.single.process.result.raw.RawDataProcessInstanceDto;
+import io.camunda.optimize.rest.exceptions.NotFoundException;
 import io.camunda.optimize.service.db.report.AuthorizationCheckReportEvaluationHandler;
+import io.camunda.optimize.service.db.report.RawDataPageConsumer;
+import io.camunda.optimize.service.db.report.ReportEvaluationInfo;
 import io.camunda.optimize.service.db.report.result.RawDataCommandResult;
+import io.camunda.optimize.service.exceptions.OptimizeRuntimeException;
 import io.camunda.optimize.service.util.configuration.ConfigurationService;
 import io.camunda.optimize.util.FileReaderUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.time.ZoneId;
+import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,7 +58,7 @@ public class CsvExportServiceTest {
   }
 
   @Test
-  public void rawProcessReportCsvExport() {
+  public void rawProcessReportCsvExport() throws IOException {
     // given
     final RawDataCommandResult rawDataReportResult =
         new RawDataCommandResult(
@@ -62,20 +71,21 @@ public class CsvExportServiceTest {
                 RoleType.VIEWER));
 
     // when
-    final byte[] csvContent =
-        CSVExportService.getCsvBytesForEvaluatedReportResult("", "", ZoneId.of("+1"))
-            .orElseThrow(() -> new OptimizeIntegrationTestException("Got no csv response"));
-    final String actualContent = new String(csvContent);
+    final ByteArrayOutputStream csvContent = new ByteArrayOutputStream();
+    final boolean reportExists =
+        CSVExportService.writeCsvForEvaluatedReportResult(
+            "", "", ZoneId.of("+1"), () -> csvContent);
+    final String actualContent = csvContent.toString();
     final String expectedContent =
         FileReaderUtil.readFileWithWindowsLineSeparator("/csv/process/single/raw_process_data.csv");
-
+    assertThat(reportExists).isTrue();
     // Added "\\s+" for fix failing on windows laptops
     assertThat(actualContent.replaceAll("\\s+", ""))
         .isEqualTo(expectedContent.replaceAll("\\s+", ""));
   }
 
   @Test
-  public void rawDecisionReportCsvExport() {
+  public void rawDecisionReportCsvExport() throws IOException {
     // given
     final RawDataCommandResult rawDataReportResult =
         new RawDataCommandResult(
@@ -88,14 +98,89 @@ public class CsvExportServiceTest {
                 RoleType.VIEWER));
 
     // when
-    final byte[] csvContent =
-        CSVExportService.getCsvBytesForEvaluatedReportResult("", "", ZoneId.of("+1"))
-            .orElseThrow(() -> new OptimizeIntegrationTestException("Got no csv response"));
-    final String actualContent = new String(csvContent);
+    final ByteArrayOutputStream csvContent = new ByteArrayOutputStream();
+    final boolean reportExists =
+        CSVExportService.writeCsvForEvaluatedReportResult(
+            "", "", ZoneId.of("+1"), () -> csvContent);
+    final String actualContent = csvContent.toString();
     final String expectedContent =
         FileReaderUtil.readFileWithWindowsLineSeparator("/csv/decision/raw_decision_data.csv");
+    assertThat(reportExists).isTrue();
     // Added "\\s+" for fix failing on windows laptops
     assertThat(actualContent.replaceAll("\\s+", ""))
         .isEqualTo(expectedContent.replaceAll("\\s+", ""));
   }
+
+  @Test
+  public void rawProcessReportCsvExportWritesColumnsOfAllPages() throws IOException {
+    // given - the variable "2" only occurs in the second page
+    final List<RawDataProcessInstanceDto> instances = RawDataHelper.getRawDataProcessInstanceDtos();
+    final ProcessReportDataDto reportData = new ProcessReportDataDto();
+    when(reportService.evaluateReport(any()))
+        .thenAnswer(
+            invocation -> {
+              final RawDataPageConsumer pageConsumer =
+                  invocation
+                      .getArgument(0, ReportEvaluationInfo.class)
+                      .getRawDataPageConsumer()
+                      .orElseThrow();
+              pageConsumer.accept(reportData, instances.subList(0, 1));
+              pageConsumer.accept(reportData, instances.subList(1, instances.size()));
+              return new AuthorizedReportEvaluationResult(
+                  new SingleReportEvaluationResult(
+                      new SingleProcessReportDefinitionRequestDto(),
+                      new RawDataCommandResult(List.of(), reportData)),
+                  RoleType.VIEWER);
+            });
+
+    // when
+    final ByteArrayOutputStream csvContent = new ByteArrayOutputStream();
+    CSVExportService.writeCsvForEvaluatedReportResult("", "", ZoneId.of("+1"), () -> csvContent);
+
+    // then
+    final String expectedContent =
+        FileReaderUtil.readFileWithWindowsLineSeparator("/csv/process/single/raw_process_data.csv");
+    // Added "\\s+" for fix failing on windows laptops
+    assertThat(csvContent.toString().replaceAll("\\s+", ""))
+        .isEqualTo(expectedContent.replaceAll("\\s+", ""));
+  }
+
+  @Test
+  public void rawProcessReportCsvExportIsNotWrittenIfReadingPagesFails() {
+    // given
+    final List<RawDataProcessInstanceDto> instances = RawDataHelper.getRawDataProcessInstanceDtos();
+    final ProcessReportDataDto reportData = new ProcessReportDataDto();
+    when(reportService.evaluateReport(any()))
+        .thenAnswer(
+            invocation -> {
+              invocation
+                  .getArgument(0, ReportEvaluationInfo.class)
+                  .getRawDataPageConsumer()
+                  .orElseThrow()
+                  .accept(reportData, instances.subList(0, 1));
+              throw new OptimizeRuntimeException("Failed to scroll");
+            });
+
+    // when
+    assertThatThrownBy(
+            () ->
+                CSVExportService.writeCsvForEvaluatedReportResult(
+                    "", "", ZoneId.of("+1"), () -> fail("The output stream should not be opened")))
+        // then
+        .isInstanceOf(OptimizeRuntimeException.class);
+  }
+
+  @Test
+  public void missingReportIsNotWritten() throws IOException {
+    // given
+    when(reportService.evaluateReport(any())).thenThrow(new NotFoundException("not found"));
+
+    // when
+    final boolean reportExists =
+        CSVExportService.writeCsvForEvaluatedReportResult(
+            "", "", ZoneId.of("+1"), () -> fail("The output stream should not be opened"));
+
+    // then
+    assertThat(reportExists).isFalse();
+  }
 }
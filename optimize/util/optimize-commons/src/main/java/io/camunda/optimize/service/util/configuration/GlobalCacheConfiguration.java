@@ -14,6 +14,7 @@ public class GlobalCacheConfiguration {
   private CloudUserCacheConfiguration cloudUsers;
   private CacheConfiguration cloudTenantAuthorizations;
   private CacheConfiguration users;
+  private CacheConfiguration reportEvaluationResults;
 
   public GlobalCacheConfiguration() {}
 
@@ -57,6 +58,14 @@ public class GlobalCacheConfiguration {
     this.users = users;
   }
 
+  public CacheConfiguration getReportEvaluationResults() {
+    return reportEvaluationResults;
+  }
+
+  public void setReportEvaluationResults(final CacheConfiguration reportEvaluationResults) {
+    this.reportEvaluationResults = reportEvaluationResults;
+  }
+
   protected boolean canEqual(final Object other) {
     return other instanceof GlobalCacheConfiguration;
   }
@@ -83,6 +92,8 @@ public class GlobalCacheConfiguration {
         + getCloudTenantAuthorizations()
         + ", users="
         + getUsers()
+        + ", reportEvaluationResults="
+        + getReportEvaluationResults()
         + ")";
   }
 }
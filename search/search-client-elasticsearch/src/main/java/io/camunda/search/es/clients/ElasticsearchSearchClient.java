@@ -9,6 +9,8 @@ package io.camunda.search.es.clients;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SlicedScroll;
 import co.elastic.clients.elasticsearch._types.WriteResponseBase;
 import co.elastic.clients.elasticsearch.core.DeleteRequest;
 import co.elastic.clients.elasticsearch.core.GetRequest;
@@ -46,8 +48,16 @@ import io.camunda.search.exception.CamundaSearchException;
 import io.camunda.search.exception.SearchQueryExecutionException;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,6 +66,10 @@ public class ElasticsearchSearchClient
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ElasticsearchSearchClient.class);
   private static final String SCROLL_KEEP_ALIVE_TIME = "1m";
+  private static final String POINT_IN_TIME_KEEP_ALIVE_TIME = "1m";
+  private static final int POINT_IN_TIME_PAGE_SIZE = 1000;
+  // the implicit tiebreaker of point in time searches, the most efficient sort to page through
+  private static final String SHARD_DOC_FIELD = "_shard_doc";
 
   private final ElasticsearchClient client;
   private final ElasticsearchTransformers transformers;
@@ -113,6 +127,25 @@ public class ElasticsearchSearchClient
     return result;
   }
 
+  @Override
+  public <T> Stream<T> streamAll(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass, final int slices) {
+    // the id of the point in time may change with every search, so each slice continues with the
+    // id of its last search, and the latest one is closed
+    final var pointInTimeId = new AtomicReference<>(openPointInTime(searchRequest.index()));
+    final Stream<T> documents;
+    if (slices > 1) {
+      documents =
+          IntStream.range(0, slices)
+              .parallel()
+              .mapToObj(id -> SlicedScroll.of(s -> s.id(String.valueOf(id)).max(slices)))
+              .flatMap(slice -> streamSlice(searchRequest, documentClass, pointInTimeId, slice));
+    } else {
+      documents = streamSlice(searchRequest, documentClass, pointInTimeId, null);
+    }
+    return documents.onClose(() -> closePointInTime(pointInTimeId.get()));
+  }
+
   @Override
   public <T> SearchGetResponse<T> get(
       final SearchGetRequest getRequest, final Class<T> documentClass) {
@@ -186,6 +219,103 @@ public class ElasticsearchSearchClient
     }
   }
 
+  private String openPointInTime(final List<String> indices) {
+    try {
+      return client
+          .openPointInTime(
+              r -> r.index(indices).keepAlive(t -> t.time(POINT_IN_TIME_KEEP_ALIVE_TIME)))
+          .id();
+    } catch (final IOException | ElasticsearchException e) {
+      throw new SearchQueryExecutionException("Failed to open point in time", e);
+    }
+  }
+
+  private void closePointInTime(final String pointInTimeId) {
+    try {
+      client.closePointInTime(r -> r.id(pointInTimeId));
+    } catch (final IOException | ElasticsearchException e) {
+      LOGGER.error("Failed to close point in time.", e);
+    }
+  }
+
+  /** Pages lazily through the documents of the given slice, or of all slices if it's null. */
+  private <T> Stream<T> streamSlice(
+      final SearchQueryRequest searchRequest,
+      final Class<T> documentClass,
+      final AtomicReference<String> pointInTimeId,
+      final SlicedScroll slice) {
+    final int pageSize = Optional.ofNullable(searchRequest.size()).orElse(POINT_IN_TIME_PAGE_SIZE);
+    final Iterator<List<Hit<T>>> pages =
+        new Iterator<>() {
+          private String slicePointInTimeId = pointInTimeId.get();
+          private List<Hit<T>> page;
+
+          @Override
+          public boolean hasNext() {
+            return page == null || (!page.isEmpty() && page.size() == pageSize);
+          }
+
+          @Override
+          public List<Hit<T>> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final List<FieldValue> searchAfter = page == null ? null : page.getLast().sort();
+            final SearchResponse<T> response =
+                searchPage(
+                    searchRequest, documentClass, slicePointInTimeId, slice, pageSize, searchAfter);
+            if (response.pitId() != null) {
+              slicePointInTimeId = response.pitId();
+              pointInTimeId.set(slicePointInTimeId);
+            }
+            page = response.hits().hits();
+            return page;
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+        .flatMap(List::stream)
+        .map(Hit::source);
+  }
+
+  private <T> SearchResponse<T> searchPage(
+      final SearchQueryRequest searchRequest,
+      final Class<T> documentClass,
+      final String pointInTimeId,
+      final SlicedScroll slice,
+      final int pageSize,
+      final List<FieldValue> searchAfter) {
+    // the point in time determines the indices, and from can't be combined with search_after
+    final var pointInTimeRequest =
+        new SearchQueryRequest(
+            null,
+            searchRequest.query(),
+            searchRequest.sort(),
+            null,
+            null,
+            pageSize,
+            searchRequest.source());
+    final var requestBuilder =
+        getSearchRequestTransformer()
+            .toSearchRequestBuilder(pointInTimeRequest)
+            .pit(p -> p.id(pointInTimeId).keepAlive(t -> t.time(POINT_IN_TIME_KEEP_ALIVE_TIME)));
+    if (searchRequest.sort() == null || searchRequest.sort().isEmpty()) {
+      requestBuilder.sort(s -> s.field(f -> f.field(SHARD_DOC_FIELD)));
+    }
+    if (slice != null) {
+      requestBuilder.slice(slice);
+    }
+    if (searchAfter != null) {
+      requestBuilder.searchAfter(searchAfter);
+    }
+
+    try {
+      return client.search(requestBuilder.build(), documentClass);
+    } catch (final IOException | ElasticsearchException e) {
+      throw new SearchQueryExecutionException("Failed to execute streamAll query", e);
+    }
+  }
+
   private SearchRequestTransformer getSearchRequestTransformer() {
     final SearchTransfomer<SearchQueryRequest, SearchRequest> transformer =
         transformers.getTransformer(SearchQueryRequest.class);
@@ -38,8 +38,12 @@ public final class SearchRequestTransformer
     final var searchAfter = value.searchAfter();
     final var searchQuery = value.query();
 
-    final var builder =
-        new SearchRequest.Builder().index(value.index()).from(value.from()).size(value.size());
+    final var builder = new SearchRequest.Builder().from(value.from()).size(value.size());
+
+    // a request with a point in time must not define indices
+    if (value.index() != null) {
+      builder.index(value.index());
+    }
 
     if (searchQuery != null) {
       final var queryTransformer = getQueryTransformer();
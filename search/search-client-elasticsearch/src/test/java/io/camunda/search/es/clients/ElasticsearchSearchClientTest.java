@@ -16,6 +16,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch.core.ClosePointInTimeRequest;
+import co.elastic.clients.elasticsearch.core.OpenPointInTimeResponse;
 import co.elastic.clients.elasticsearch.core.ScrollResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
 import co.elastic.clients.elasticsearch.core.SearchResponse;
@@ -33,6 +36,7 @@ import org.mockito.ArgumentCaptor;
 class ElasticsearchSearchClientTest {
 
   private static final String SCROLL_ID = "scrollId123";
+  private static final String POINT_IN_TIME_ID = "pointInTimeId123";
   private ElasticsearchClient client;
   private ElasticsearchSearchClient searchClient;
   private SearchQueryRequest searchRequest;
@@ -117,4 +121,106 @@ class ElasticsearchSearchClientTest {
         () -> searchClient.findAll(searchRequest, Object.class));
     verify(client).clearScroll(any(Function.class));
   }
+
+  @Test
+  void streamAllShouldPageThroughResultsWithPointInTime() throws IOException {
+    // given
+    final var pointInTimeResponse = mock(OpenPointInTimeResponse.class);
+    when(pointInTimeResponse.id()).thenReturn(POINT_IN_TIME_ID);
+    when(client.openPointInTime(any(Function.class))).thenReturn(pointInTimeResponse);
+    final var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    when(client.search(searchRequestCaptor.capture(), any()))
+        .thenReturn(
+            pageResponse(
+                Hit.of(
+                    hit -> hit.id("id").index("idx").source(new Object()).sort(FieldValue.of(1L)))))
+        .thenReturn(pageResponse());
+    when(searchRequest.size()).thenReturn(1);
+
+    // when
+    final List<Object> result;
+    try (final var documents = searchClient.streamAll(searchRequest, Object.class)) {
+      result = documents.toList();
+    }
+
+    // then
+    assertThat(result).hasSize(1);
+    assertThat(searchRequestCaptor.getAllValues())
+        .allSatisfy(request -> assertThat(request.pit().id()).isEqualTo(POINT_IN_TIME_ID))
+        .allSatisfy(request -> assertThat(request.index()).isEmpty());
+    assertThat(searchRequestCaptor.getAllValues().getLast().searchAfter())
+        .extracting(FieldValue::longValue)
+        .containsExactly(1L);
+    verify(client, never()).scroll(any(Function.class), any());
+    verify(client).closePointInTime(any(Function.class));
+  }
+
+  @Test
+  void streamAllShouldSearchSlicesOfPointInTime() throws IOException {
+    // given
+    final var pointInTimeResponse = mock(OpenPointInTimeResponse.class);
+    when(pointInTimeResponse.id()).thenReturn(POINT_IN_TIME_ID);
+    when(client.openPointInTime(any(Function.class))).thenReturn(pointInTimeResponse);
+    final var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    when(client.search(searchRequestCaptor.capture(), any())).thenReturn(pageResponse());
+
+    // when
+    try (final var documents = searchClient.streamAll(searchRequest, Object.class, 2)) {
+      assertThat(documents.toList()).isEmpty();
+    }
+
+    // then
+    assertThat(searchRequestCaptor.getAllValues())
+        .extracting(request -> request.slice().id())
+        .containsExactlyInAnyOrder("0", "1");
+    verify(client).closePointInTime(any(Function.class));
+  }
+
+  @Test
+  void streamAllShouldContinueWithLatestPointInTimeId() throws IOException {
+    // given
+    final var pointInTimeResponse = mock(OpenPointInTimeResponse.class);
+    when(pointInTimeResponse.id()).thenReturn(POINT_IN_TIME_ID);
+    when(client.openPointInTime(any(Function.class))).thenReturn(pointInTimeResponse);
+    final var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    when(client.search(searchRequestCaptor.capture(), any()))
+        .thenReturn(
+            pageResponse(
+                "pointInTimeId456",
+                Hit.of(
+                    hit -> hit.id("id").index("idx").source(new Object()).sort(FieldValue.of(1L)))))
+        .thenReturn(pageResponse("pointInTimeId789"));
+    when(searchRequest.size()).thenReturn(1);
+    final ArgumentCaptor<Function> closeRequestCaptor = ArgumentCaptor.forClass(Function.class);
+
+    // when
+    try (final var documents = searchClient.streamAll(searchRequest, Object.class)) {
+      assertThat(documents.toList()).hasSize(1);
+    }
+
+    // then
+    assertThat(searchRequestCaptor.getAllValues())
+        .extracting(request -> request.pit().id())
+        .containsExactly(POINT_IN_TIME_ID, "pointInTimeId456");
+    verify(client).closePointInTime(closeRequestCaptor.capture());
+    assertThat(ClosePointInTimeRequest.of(closeRequestCaptor.getValue()).id())
+        .isEqualTo("pointInTimeId789");
+  }
+
+  @SafeVarargs
+  private static SearchResponse<Object> pageResponse(final Hit<Object>... hits) {
+    return pageResponse(null, hits);
+  }
+
+  @SafeVarargs
+  private static SearchResponse<Object> pageResponse(
+      final String pointInTimeId, final Hit<Object>... hits) {
+    return SearchResponse.of(
+        f ->
+            f.pitId(pointInTimeId)
+                .hits(h -> h.hits(List.of(hits)))
+                .shards((s) -> s.failed(0).successful(1).total(1))
+                .took(1L)
+                .timedOut(false));
+  }
 }
@@ -33,10 +33,19 @@ import io.camunda.search.os.transformers.search.SearchResponseTransformer;
 import io.camunda.search.os.transformers.search.SearchWriteResponseTransformer;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch._types.SlicedScroll;
 import org.opensearch.client.opensearch._types.WriteResponseBase;
 import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.GetRequest;
@@ -46,6 +55,7 @@ import org.opensearch.client.opensearch.core.ScrollResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
 import org.opensearch.client.opensearch.core.search.Hit;
+import org.opensearch.client.opensearch.core.search.Pit;
 import org.opensearch.client.opensearch.indices.GetAliasRequest;
 import org.opensearch.client.opensearch.indices.GetAliasResponse;
 import org.slf4j.Logger;
@@ -55,6 +65,11 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
 
   private static final Logger LOGGER = LoggerFactory.getLogger(OpensearchSearchClient.class);
   private static final String SCROLL_KEEP_ALIVE_TIME = "1m";
+  private static final String POINT_IN_TIME_KEEP_ALIVE_TIME = "1m";
+  private static final int POINT_IN_TIME_PAGE_SIZE = 1000;
+  // OpenSearch has no implicit tiebreaker for point in time searches, and sorting by _id would need
+  // fielddata, so the unique id keyword field of the documents is used instead
+  private static final String TIEBREAKER_FIELD = "id";
 
   private final OpenSearchClient client;
   private final OpensearchTransformers transformers;
@@ -112,6 +127,25 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
     return result;
   }
 
+  @Override
+  public <T> Stream<T> streamAll(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass, final int slices) {
+    // the id of the point in time may change with every search, so each slice continues with the
+    // id of its last search, and the latest one is deleted
+    final var pointInTimeId = new AtomicReference<>(createPointInTime(searchRequest.index()));
+    final Stream<T> documents;
+    if (slices > 1) {
+      documents =
+          IntStream.range(0, slices)
+              .parallel()
+              .mapToObj(id -> SlicedScroll.of(s -> s.id(id).max(slices)))
+              .flatMap(slice -> streamSlice(searchRequest, documentClass, pointInTimeId, slice));
+    } else {
+      documents = streamSlice(searchRequest, documentClass, pointInTimeId, null);
+    }
+    return documents.onClose(() -> deletePointInTime(pointInTimeId.get()));
+  }
+
   @Override
   public <T> SearchGetResponse<T> get(
       final SearchGetRequest getRequest, final Class<T> documentClass) {
@@ -185,6 +219,103 @@ public class OpensearchSearchClient implements DocumentBasedSearchClient, Docume
     }
   }
 
+  private String createPointInTime(final List<String> indices) {
+    try {
+      return client
+          .createPit(
+              r -> r.targetIndexes(indices).keepAlive(t -> t.time(POINT_IN_TIME_KEEP_ALIVE_TIME)))
+          .pitId();
+    } catch (final IOException | OpenSearchException e) {
+      throw new SearchQueryExecutionException("Failed to create point in time", e);
+    }
+  }
+
+  private void deletePointInTime(final String pointInTimeId) {
+    try {
+      client.deletePit(r -> r.pitId(List.of(pointInTimeId)));
+    } catch (final IOException | OpenSearchException e) {
+      LOGGER.error("Failed to delete point in time.", e);
+    }
+  }
+
+  /** Pages lazily through the documents of the given slice, or of all slices if it's null. */
+  private <T> Stream<T> streamSlice(
+      final SearchQueryRequest searchRequest,
+      final Class<T> documentClass,
+      final AtomicReference<String> pointInTimeId,
+      final SlicedScroll slice) {
+    final int pageSize = Optional.ofNullable(searchRequest.size()).orElse(POINT_IN_TIME_PAGE_SIZE);
+    final Iterator<List<Hit<T>>> pages =
+        new Iterator<>() {
+          private String slicePointInTimeId = pointInTimeId.get();
+          private List<Hit<T>> page;
+
+          @Override
+          public boolean hasNext() {
+            return page == null || (!page.isEmpty() && page.size() == pageSize);
+          }
+
+          @Override
+          public List<Hit<T>> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            final List<String> searchAfter = page == null ? null : page.getLast().sort();
+            final SearchResponse<T> response =
+                searchPage(
+                    searchRequest, documentClass, slicePointInTimeId, slice, pageSize, searchAfter);
+            if (response.pitId() != null) {
+              slicePointInTimeId = response.pitId();
+              pointInTimeId.set(slicePointInTimeId);
+            }
+            page = response.hits().hits();
+            return page;
+          }
+        };
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(pages, Spliterator.ORDERED), false)
+        .flatMap(List::stream)
+        .map(Hit::source);
+  }
+
+  private <T> SearchResponse<T> searchPage(
+      final SearchQueryRequest searchRequest,
+      final Class<T> documentClass,
+      final String pointInTimeId,
+      final SlicedScroll slice,
+      final int pageSize,
+      final List<String> searchAfter) {
+    // the point in time determines the indices, and from can't be combined with search_after
+    final var pointInTimeRequest =
+        new SearchQueryRequest(
+            null,
+            searchRequest.query(),
+            searchRequest.sort(),
+            null,
+            null,
+            pageSize,
+            searchRequest.source());
+    final var requestBuilder =
+        getSearchRequestTransformer()
+            .toSearchRequestBuilder(pointInTimeRequest)
+            .pit(Pit.of(p -> p.id(pointInTimeId).keepAlive(POINT_IN_TIME_KEEP_ALIVE_TIME)));
+    if (searchRequest.sort() == null || searchRequest.sort().isEmpty()) {
+      requestBuilder.sort(s -> s.field(f -> f.field(TIEBREAKER_FIELD)));
+    }
+    if (slice != null) {
+      requestBuilder.slice(slice);
+    }
+    if (searchAfter != null) {
+      requestBuilder.searchAfter(searchAfter);
+    }
+
+    try {
+      return client.search(requestBuilder.build(), documentClass);
+    } catch (final IOException | OpenSearchException e) {
+      throw new SearchQueryExecutionException("Failed to execute streamAll query", e);
+    }
+  }
+
   private SearchRequestTransformer getSearchRequestTransformer() {
     final SearchTransfomer<SearchQueryRequest, SearchRequest> transformer =
         transformers.getTransformer(SearchQueryRequest.class);
@@ -28,11 +28,14 @@ import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch.core.ScrollResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
 import org.opensearch.client.opensearch.core.SearchResponse;
+import org.opensearch.client.opensearch.core.pit.CreatePitResponse;
+import org.opensearch.client.opensearch.core.pit.DeletePitRequest;
 import org.opensearch.client.opensearch.core.search.Hit;
 
 public class OpensearchSearchClientTest {
 
   private static final String SCROLL_ID = "scrollId123";
+  private static final String POINT_IN_TIME_ID = "pointInTimeId123";
   private OpenSearchClient client;
   private OpensearchSearchClient searchClient;
   private SearchQueryRequest searchRequest;
@@ -117,4 +120,101 @@ public class OpensearchSearchClientTest {
         () -> searchClient.findAll(searchRequest, Object.class));
     verify(client).clearScroll(any(Function.class));
   }
+
+  @Test
+  void streamAllShouldPageThroughResultsWithPointInTime() throws IOException {
+    // given
+    final var pointInTimeResponse = mock(CreatePitResponse.class);
+    when(pointInTimeResponse.pitId()).thenReturn(POINT_IN_TIME_ID);
+    when(client.createPit(any(Function.class))).thenReturn(pointInTimeResponse);
+    final var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    when(client.search(searchRequestCaptor.capture(), any()))
+        .thenReturn(
+            pageResponse(Hit.of(hit -> hit.id("id").index("idx").source(new Object()).sort("1"))))
+        .thenReturn(pageResponse());
+    when(searchRequest.size()).thenReturn(1);
+
+    // when
+    final List<Object> result;
+    try (final var documents = searchClient.streamAll(searchRequest, Object.class)) {
+      result = documents.toList();
+    }
+
+    // then
+    assertThat(result).hasSize(1);
+    assertThat(searchRequestCaptor.getAllValues())
+        .allSatisfy(request -> assertThat(request.pit().id()).isEqualTo(POINT_IN_TIME_ID))
+        .allSatisfy(request -> assertThat(request.index()).isEmpty());
+    assertThat(searchRequestCaptor.getAllValues().getLast().searchAfter()).containsExactly("1");
+    verify(client, never()).scroll(any(Function.class), any());
+    verify(client).deletePit(any(Function.class));
+  }
+
+  @Test
+  void streamAllShouldSearchSlicesOfPointInTime() throws IOException {
+    // given
+    final var pointInTimeResponse = mock(CreatePitResponse.class);
+    when(pointInTimeResponse.pitId()).thenReturn(POINT_IN_TIME_ID);
+    when(client.createPit(any(Function.class))).thenReturn(pointInTimeResponse);
+    final var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    when(client.search(searchRequestCaptor.capture(), any())).thenReturn(pageResponse());
+
+    // when
+    try (final var documents = searchClient.streamAll(searchRequest, Object.class, 2)) {
+      assertThat(documents.toList()).isEmpty();
+    }
+
+    // then
+    assertThat(searchRequestCaptor.getAllValues())
+        .extracting(request -> request.slice().id())
+        .containsExactlyInAnyOrder(0, 1);
+    verify(client).deletePit(any(Function.class));
+  }
+
+  @Test
+  void streamAllShouldContinueWithLatestPointInTimeId() throws IOException {
+    // given
+    final var pointInTimeResponse = mock(CreatePitResponse.class);
+    when(pointInTimeResponse.pitId()).thenReturn(POINT_IN_TIME_ID);
+    when(client.createPit(any(Function.class))).thenReturn(pointInTimeResponse);
+    final var searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+    when(client.search(searchRequestCaptor.capture(), any()))
+        .thenReturn(
+            pageResponse(
+                "pointInTimeId456",
+                Hit.of(hit -> hit.id("id").index("idx").source(new Object()).sort("1"))))
+        .thenReturn(pageResponse("pointInTimeId789"));
+    when(searchRequest.size()).thenReturn(1);
+    final ArgumentCaptor<Function> deleteRequestCaptor = ArgumentCaptor.forClass(Function.class);
+
+    // when
+    try (final var documents = searchClient.streamAll(searchRequest, Object.class)) {
+      assertThat(documents.toList()).hasSize(1);
+    }
+
+    // then
+    assertThat(searchRequestCaptor.getAllValues())
+        .extracting(request -> request.pit().id())
+        .containsExactly(POINT_IN_TIME_ID, "pointInTimeId456");
+    verify(client).deletePit(deleteRequestCaptor.capture());
+    assertThat(DeletePitRequest.of(deleteRequestCaptor.getValue()).pitId())
+        .containsExactly("pointInTimeId789");
+  }
+
+  @SafeVarargs
+  private static SearchResponse<Object> pageResponse(final Hit<Object>... hits) {
+    return pageResponse(null, hits);
+  }
+
+  @SafeVarargs
+  private static SearchResponse<Object> pageResponse(
+      final String pointInTimeId, final Hit<Object>... hits) {
+    return SearchResponse.searchResponseOf(
+        f ->
+            f.pitId(pointInTimeId)
+                .hits(h -> h.hits(List.of(hits)))
+                .shards((s) -> s.failed(0).successful(1).total(1))
+                .took(1L)
+                .timedOut(false));
+  }
 }
@@ -20,6 +20,7 @@ import io.camunda.util.ObjectBuilder;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 public interface DocumentBasedSearchClient extends CloseableSilently {
 
@@ -33,6 +34,24 @@ public interface DocumentBasedSearchClient extends CloseableSilently {
 
   <T> List<T> findAll(final SearchQueryRequest searchRequest, final Class<T> documentClass);
 
+  /**
+   * Returns all documents matching the request as a lazily consumed stream. Unlike {@link
+   * #findAll(SearchQueryRequest, Class)}, the documents are not collected in memory, and they are
+   * paged through with a point in time and {@code search_after} instead of a scroll. The stream
+   * must be closed after use, e.g. with try-with-resources, to release the point in time.
+   *
+   * @param slices the number of slices to split the documents into, which are paged through
+   *     independently of each other; with more than one slice, the returned stream is parallel and
+   *     the documents are no longer sorted
+   */
+  <T> Stream<T> streamAll(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass, final int slices);
+
+  default <T> Stream<T> streamAll(
+      final SearchQueryRequest searchRequest, final Class<T> documentClass) {
+    return streamAll(searchRequest, documentClass, 1);
+  }
+
   <T> SearchGetResponse<T> get(final SearchGetRequest getRequest, final Class<T> documentClass);
 
   IndexAliasResponse getAlias(IndexAliasRequest request);
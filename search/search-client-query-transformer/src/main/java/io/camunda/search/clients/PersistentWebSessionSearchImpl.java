@@ -14,6 +14,7 @@ import io.camunda.search.clients.core.SearchQueryRequest;
 import io.camunda.search.entities.PersistentWebSessionEntity;
 import io.camunda.webapps.schema.descriptors.usermanagement.index.PersistentWebSessionIndexDescriptor;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class PersistentWebSessionSearchImpl implements PersistentWebSessionClient {
 
@@ -59,8 +60,11 @@ public class PersistentWebSessionSearchImpl implements PersistentWebSessionClien
 
   @Override
   public List<PersistentWebSessionEntity> getAllPersistentWebSessions() {
-    return readClient.findAll(
-        SearchQueryRequest.of(b -> b.index(persistentWebSessionIndex.getFullQualifiedName())),
-        PersistentWebSessionEntity.class);
+    try (final Stream<PersistentWebSessionEntity> sessions =
+        readClient.streamAll(
+            SearchQueryRequest.of(b -> b.index(persistentWebSessionIndex.getFullQualifiedName())),
+            PersistentWebSessionEntity.class)) {
+      return sessions.toList();
+    }
   }
 }
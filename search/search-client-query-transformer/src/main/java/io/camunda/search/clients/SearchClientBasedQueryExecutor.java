@@ -27,6 +27,7 @@ import io.camunda.webapps.schema.descriptors.IndexDescriptor;
 import io.camunda.zeebe.util.VisibleForTesting;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 public final class SearchClientBasedQueryExecutor {
 
@@ -57,16 +58,31 @@ public final class SearchClientBasedQueryExecutor {
                 searchClient.search(q, documentClass), !query.page().isNextPage()));
   }
 
+  /**
+   * Returns all documents matching the query. They are paged through with {@link
+   * #streamAll(TypedSearchQuery, Class, int)}, such that no scroll context is held open while they
+   * are collected.
+   */
   public <F extends FilterBase, S extends SortOption, T, R> List<R> findAll(
       final TypedSearchQuery<F, S> query, final Class<T> documentClass) {
+    try (final Stream<R> documents = streamAll(query, documentClass, 1)) {
+      return documents.toList();
+    }
+  }
+
+  /**
+   * Like {@link #findAll(TypedSearchQuery, Class)}, but returns the documents as a lazily consumed
+   * stream, which must be closed after use.
+   *
+   * @see DocumentBasedSearchClient#streamAll(SearchQueryRequest, Class, int)
+   */
+  public <F extends FilterBase, S extends SortOption, T, R> Stream<R> streamAll(
+      final TypedSearchQuery<F, S> query, final Class<T> documentClass, final int slices) {
     final ServiceTransformer<T, R> documentTransformer =
         (ServiceTransformer<T, R>) getDocumentTransformer(documentClass);
     return executeSearch(
         query,
-        q ->
-            searchClient.findAll(q, documentClass).stream()
-                .map(documentTransformer::apply)
-                .toList());
+        q -> searchClient.streamAll(q, documentClass, slices).map(documentTransformer::apply));
   }
 
   @VisibleForTesting
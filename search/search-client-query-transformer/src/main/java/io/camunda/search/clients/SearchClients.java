@@ -52,7 +52,9 @@ import io.camunda.security.auth.SecurityContext;
 import io.camunda.webapps.schema.descriptors.IndexDescriptors;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class SearchClients
     implements AuthorizationSearchClient,
@@ -287,26 +289,31 @@ public class SearchClients
                     .events(event)
                     .build())
             .build();
-    final List<UsageMetricsEntity> metrics =
+    // the metrics are only counted, so they are streamed instead of being collected first
+    try (final Stream<UsageMetricsEntity> metrics =
         new SearchClientBasedQueryExecutor(
                 searchClient,
                 transformers,
                 new DocumentAuthorizationQueryStrategy(this),
                 securityContext)
-            .findAll(filter, io.camunda.webapps.schema.entities.operate.UsageMetricsEntity.class);
-    return metrics.stream().map(UsageMetricsEntity::value).distinct().count();
+            .streamAll(
+                filter, io.camunda.webapps.schema.entities.operate.UsageMetricsEntity.class, 1)) {
+      return metrics.map(UsageMetricsEntity::value).distinct().count();
+    }
   }
 
   private UserQuery expandTenantFilter(final UserQuery userQuery) {
-    final List<TenantMemberEntity> tenantMembers =
+    final Set<String> usernames;
+    try (final Stream<TenantMemberEntity> tenantMembers =
         getSearchExecutor()
-            .findAll(
+            .streamAll(
                 new TenantQuery.Builder()
                     .filter(f -> f.joinParentId(userQuery.filter().tenantId()).memberType(USER))
                     .build(),
-                io.camunda.webapps.schema.entities.usermanagement.TenantMemberEntity.class);
-    final var usernames =
-        tenantMembers.stream().map(TenantMemberEntity::id).collect(Collectors.toSet());
+                io.camunda.webapps.schema.entities.usermanagement.TenantMemberEntity.class,
+                1)) {
+      usernames = tenantMembers.map(TenantMemberEntity::id).collect(Collectors.toSet());
+    }
 
     return userQuery.toBuilder()
         .filter(userQuery.filter().toBuilder().usernames(usernames).build())
@@ -129,10 +129,11 @@ class DecisionInstanceSearchClientBasedQueryExecutorTest {
     // And our search client returns stuff
     final var decisionInstanceEntityResponse = List.of(documentEntity);
 
-    when(searchClient.findAll(
+    when(searchClient.streamAll(
             any(SearchQueryRequest.class),
-            eq(io.camunda.webapps.schema.entities.operate.dmn.DecisionInstanceEntity.class)))
-        .thenReturn(decisionInstanceEntityResponse);
+            eq(io.camunda.webapps.schema.entities.operate.dmn.DecisionInstanceEntity.class),
+            eq(1)))
+        .thenReturn(decisionInstanceEntityResponse.stream());
     when(authorizationQueryStrategy.applyAuthorizationToQuery(
             any(SearchQueryRequest.class), any(SecurityContext.class), any()))
         .thenAnswer(i -> i.getArgument(0));
@@ -112,9 +112,9 @@ class SearchClientBasedQueryExecutorTest {
     // And our search client returns stuff
     final var processInstanceEntityResponse = List.of(demoProcessInstance);
 
-    when(searchClient.findAll(
-            any(SearchQueryRequest.class), eq(ProcessInstanceForListViewEntity.class)))
-        .thenReturn(processInstanceEntityResponse);
+    when(searchClient.streamAll(
+            any(SearchQueryRequest.class), eq(ProcessInstanceForListViewEntity.class), eq(1)))
+        .thenReturn(processInstanceEntityResponse.stream());
     when(authorizationQueryStrategy.applyAuthorizationToQuery(
             any(SearchQueryRequest.class), any(SecurityContext.class), any()))
         .thenAnswer(i -> i.getArgument(0));
@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import static io.camunda.search.query.SearchQueryBuilders.decisionDefinitionSearchQuery;
+
+import io.camunda.search.clients.DecisionDefinitionSearchClient;
+import io.camunda.search.entities.DecisionDefinitionEntity;
+import io.camunda.search.query.DecisionDefinitionQuery;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.security.auth.SecurityContext;
+
+/** Serves lookups of decision definitions by key from an {@link EntityCache}. */
+public final class CachingDecisionDefinitionSearchClient implements DecisionDefinitionSearchClient {
+
+  private final DecisionDefinitionSearchClient searchClient;
+  private final EntityCache<DecisionDefinitionQuery, DecisionDefinitionEntity> cache;
+  private final SecurityContext securityContext;
+
+  public CachingDecisionDefinitionSearchClient(
+      final DecisionDefinitionSearchClient searchClient,
+      final EntityCache<DecisionDefinitionQuery, DecisionDefinitionEntity> cache) {
+    this(searchClient, cache, SecurityContext.withoutAuthentication());
+  }
+
+  private CachingDecisionDefinitionSearchClient(
+      final DecisionDefinitionSearchClient searchClient,
+      final EntityCache<DecisionDefinitionQuery, DecisionDefinitionEntity> cache,
+      final SecurityContext securityContext) {
+    this.searchClient = searchClient;
+    this.cache = cache;
+    this.securityContext = securityContext;
+  }
+
+  @Override
+  public SearchQueryResult<DecisionDefinitionEntity> searchDecisionDefinitions(
+      final DecisionDefinitionQuery filter) {
+    if (!isLookupByKey(filter)) {
+      return searchClient.withSecurityContext(securityContext).searchDecisionDefinitions(filter);
+    }
+    return cache.search(
+        filter,
+        securityContext,
+        context -> searchClient.withSecurityContext(context).searchDecisionDefinitions(filter));
+  }
+
+  @Override
+  public CachingDecisionDefinitionSearchClient withSecurityContext(
+      final SecurityContext securityContext) {
+    return new CachingDecisionDefinitionSearchClient(searchClient, cache, securityContext);
+  }
+
+  private static boolean isLookupByKey(final DecisionDefinitionQuery query) {
+    final var keys = query.filter().decisionDefinitionKeys();
+    return keys != null
+        && keys.size() == 1
+        && query.equals(
+            decisionDefinitionSearchQuery(
+                q -> q.filter(f -> f.decisionDefinitionKeys(keys.getFirst()))));
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import static io.camunda.search.query.SearchQueryBuilders.decisionRequirementsSearchQuery;
+
+import io.camunda.search.clients.DecisionRequirementSearchClient;
+import io.camunda.search.entities.DecisionRequirementsEntity;
+import io.camunda.search.query.DecisionRequirementsQuery;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.security.auth.SecurityContext;
+
+/** Serves lookups of decision requirements by key from an {@link EntityCache}. */
+public final class CachingDecisionRequirementSearchClient
+    implements DecisionRequirementSearchClient {
+
+  private final DecisionRequirementSearchClient searchClient;
+  private final EntityCache<DecisionRequirementsQuery, DecisionRequirementsEntity> cache;
+  private final SecurityContext securityContext;
+
+  public CachingDecisionRequirementSearchClient(
+      final DecisionRequirementSearchClient searchClient,
+      final EntityCache<DecisionRequirementsQuery, DecisionRequirementsEntity> cache) {
+    this(searchClient, cache, SecurityContext.withoutAuthentication());
+  }
+
+  private CachingDecisionRequirementSearchClient(
+      final DecisionRequirementSearchClient searchClient,
+      final EntityCache<DecisionRequirementsQuery, DecisionRequirementsEntity> cache,
+      final SecurityContext securityContext) {
+    this.searchClient = searchClient;
+    this.cache = cache;
+    this.securityContext = securityContext;
+  }
+
+  @Override
+  public SearchQueryResult<DecisionRequirementsEntity> searchDecisionRequirements(
+      final DecisionRequirementsQuery filter) {
+    if (!isLookupByKey(filter)) {
+      return searchClient.withSecurityContext(securityContext).searchDecisionRequirements(filter);
+    }
+    return cache.search(
+        filter,
+        securityContext,
+        context -> searchClient.withSecurityContext(context).searchDecisionRequirements(filter));
+  }
+
+  @Override
+  public CachingDecisionRequirementSearchClient withSecurityContext(
+      final SecurityContext securityContext) {
+    return new CachingDecisionRequirementSearchClient(searchClient, cache, securityContext);
+  }
+
+  private static boolean isLookupByKey(final DecisionRequirementsQuery query) {
+    final var keys = query.filter().decisionRequirementsKeys();
+    return keys != null
+        && keys.size() == 1
+        && query.equals(
+            decisionRequirementsSearchQuery(
+                q ->
+                    q.filter(f -> f.decisionRequirementsKeys(keys.getFirst()))
+                        .resultConfig(query.resultConfig())));
+  }
+}
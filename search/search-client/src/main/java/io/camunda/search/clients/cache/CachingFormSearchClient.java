@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import static io.camunda.search.query.SearchQueryBuilders.formSearchQuery;
+
+import io.camunda.search.clients.FormSearchClient;
+import io.camunda.search.entities.FormEntity;
+import io.camunda.search.query.FormQuery;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.security.auth.SecurityContext;
+
+/** Serves lookups of forms by key from an {@link EntityCache}. */
+public final class CachingFormSearchClient implements FormSearchClient {
+
+  private final FormSearchClient searchClient;
+  private final EntityCache<FormQuery, FormEntity> cache;
+  private final SecurityContext securityContext;
+
+  public CachingFormSearchClient(
+      final FormSearchClient searchClient, final EntityCache<FormQuery, FormEntity> cache) {
+    this(searchClient, cache, SecurityContext.withoutAuthentication());
+  }
+
+  private CachingFormSearchClient(
+      final FormSearchClient searchClient,
+      final EntityCache<FormQuery, FormEntity> cache,
+      final SecurityContext securityContext) {
+    this.searchClient = searchClient;
+    this.cache = cache;
+    this.securityContext = securityContext;
+  }
+
+  @Override
+  public SearchQueryResult<FormEntity> searchForms(final FormQuery filter) {
+    if (!isLookupByKey(filter)) {
+      return searchClient.withSecurityContext(securityContext).searchForms(filter);
+    }
+    return cache.search(
+        filter,
+        securityContext,
+        context -> searchClient.withSecurityContext(context).searchForms(filter));
+  }
+
+  @Override
+  public CachingFormSearchClient withSecurityContext(final SecurityContext securityContext) {
+    return new CachingFormSearchClient(searchClient, cache, securityContext);
+  }
+
+  private static boolean isLookupByKey(final FormQuery query) {
+    final var keys = query.filter().formKeys();
+    return keys != null
+        && keys.size() == 1
+        && query.equals(formSearchQuery(q -> q.filter(f -> f.formKeys(keys.getFirst()))));
+  }
+}
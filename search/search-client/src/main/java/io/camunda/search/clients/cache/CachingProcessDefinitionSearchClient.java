@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import static io.camunda.search.query.SearchQueryBuilders.processDefinitionSearchQuery;
+
+import io.camunda.search.clients.ProcessDefinitionSearchClient;
+import io.camunda.search.entities.ProcessDefinitionEntity;
+import io.camunda.search.query.ProcessDefinitionQuery;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.security.auth.SecurityContext;
+
+/** Serves lookups of process definitions by key from an {@link EntityCache}. */
+public final class CachingProcessDefinitionSearchClient implements ProcessDefinitionSearchClient {
+
+  private final ProcessDefinitionSearchClient searchClient;
+  private final EntityCache<ProcessDefinitionQuery, ProcessDefinitionEntity> cache;
+  private final SecurityContext securityContext;
+
+  public CachingProcessDefinitionSearchClient(
+      final ProcessDefinitionSearchClient searchClient,
+      final EntityCache<ProcessDefinitionQuery, ProcessDefinitionEntity> cache) {
+    this(searchClient, cache, SecurityContext.withoutAuthentication());
+  }
+
+  private CachingProcessDefinitionSearchClient(
+      final ProcessDefinitionSearchClient searchClient,
+      final EntityCache<ProcessDefinitionQuery, ProcessDefinitionEntity> cache,
+      final SecurityContext securityContext) {
+    this.searchClient = searchClient;
+    this.cache = cache;
+    this.securityContext = securityContext;
+  }
+
+  @Override
+  public SearchQueryResult<ProcessDefinitionEntity> searchProcessDefinitions(
+      final ProcessDefinitionQuery filter) {
+    if (!isLookupByKey(filter)) {
+      return searchClient.withSecurityContext(securityContext).searchProcessDefinitions(filter);
+    }
+    return cache.search(
+        filter,
+        securityContext,
+        context -> searchClient.withSecurityContext(context).searchProcessDefinitions(filter));
+  }
+
+  @Override
+  public CachingProcessDefinitionSearchClient withSecurityContext(
+      final SecurityContext securityContext) {
+    return new CachingProcessDefinitionSearchClient(searchClient, cache, securityContext);
+  }
+
+  private static boolean isLookupByKey(final ProcessDefinitionQuery query) {
+    final var keys = query.filter().processDefinitionKeys();
+    return keys != null
+        && keys.size() == 1
+        && query.equals(
+            processDefinitionSearchQuery(
+                q -> q.filter(f -> f.processDefinitionKeys(keys.getFirst()))));
+  }
+}
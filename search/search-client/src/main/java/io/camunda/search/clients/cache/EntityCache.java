@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.search.clients.cache.SearchClientCacheConfiguration.EntityCacheConfiguration;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.security.auth.SecurityContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of entities which don't change once they are written to the secondary storage,
+ * e.g. deployed definitions and forms, by the query which looks them up by their key.
+ *
+ * <p>The entities are loaded without authentication, and the tenant filter of the caller's security
+ * context is applied to the cached entity instead, such that the same entity can be served to all
+ * callers. Queries which require authorization checks are not cached, as the authorization is part
+ * of the query then.
+ *
+ * @param <Q> the type of the query which looks up a single entity by its key
+ * @param <E> the type of the entity
+ */
+public final class EntityCache<Q, E> {
+
+  private final Cache<Q, E> cache;
+  private final Function<E, String> tenantIdProvider;
+
+  public EntityCache(
+      final String name,
+      final EntityCacheConfiguration configuration,
+      final Function<E, String> tenantIdProvider,
+      final MeterRegistry meterRegistry) {
+    this.tenantIdProvider = tenantIdProvider;
+    final var cacheBuilder =
+        Caffeine.newBuilder().maximumSize(configuration.getMaxSize()).recordStats();
+    final var expiration = configuration.getExpirationMillis();
+    if (expiration != null && expiration > 0) {
+      cacheBuilder.expireAfterWrite(expiration, TimeUnit.MILLISECONDS);
+    }
+    cache = cacheBuilder.build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, name);
+  }
+
+  /**
+   * Returns the cached entity of the given query, or searches and caches it if it isn't cached yet.
+   * Nothing is cached if the search doesn't return exactly one entity, e.g. because the entity is
+   * not exported yet.
+   *
+   * @param query the query which looks up a single entity by its key
+   * @param securityContext the security context of the caller
+   * @param search executes the query with the given security context
+   * @return the entity, if it exists and belongs to one of the caller's tenants
+   */
+  public SearchQueryResult<E> search(
+      final Q query,
+      final SecurityContext securityContext,
+      final Function<SecurityContext, SearchQueryResult<E>> search) {
+    if (securityContext.requiresAuthorizationChecks()) {
+      return search.apply(securityContext);
+    }
+
+    final var cachedEntity = cache.getIfPresent(query);
+    if (cachedEntity != null) {
+      return filterByTenant(List.of(cachedEntity), securityContext);
+    }
+
+    final var result = search.apply(SecurityContext.withoutAuthentication());
+    if (result.items().size() == 1) {
+      cache.put(query, result.items().getFirst());
+    }
+    return filterByTenant(result.items(), securityContext);
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  private SearchQueryResult<E> filterByTenant(
+      final List<E> entities, final SecurityContext securityContext) {
+    final var items =
+        entities.stream().filter(entity -> isTenantAccessible(entity, securityContext)).toList();
+    return new SearchQueryResult.Builder<E>().total(items.size()).items(items).build();
+  }
+
+  /**
+   * Mirrors the tenant filter of the search clients, which doesn't restrict the results if the
+   * authentication has no tenants.
+   */
+  private boolean isTenantAccessible(final E entity, final SecurityContext securityContext) {
+    final var authentication = securityContext.authentication();
+    if (authentication == null) {
+      return true;
+    }
+    final var tenantIds = authentication.authenticatedTenantIds();
+    if (tenantIds == null || tenantIds.stream().allMatch(Objects::isNull)) {
+      return true;
+    }
+    final var tenantId = tenantIdProvider.apply(entity);
+    return tenantId != null && tenantIds.contains(tenantId);
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+public class SearchClientCacheConfiguration {
+
+  private static final int DEFAULT_DEFINITION_CACHE_SIZE = 1000;
+  private static final int DEFAULT_XML_CACHE_SIZE = 100;
+
+  private final EntityCacheConfiguration processDefinitions =
+      new EntityCacheConfiguration(DEFAULT_XML_CACHE_SIZE);
+  private final EntityCacheConfiguration decisionDefinitions =
+      new EntityCacheConfiguration(DEFAULT_DEFINITION_CACHE_SIZE);
+  private final EntityCacheConfiguration decisionRequirements =
+      new EntityCacheConfiguration(DEFAULT_XML_CACHE_SIZE);
+  private final EntityCacheConfiguration forms =
+      new EntityCacheConfiguration(DEFAULT_DEFINITION_CACHE_SIZE);
+
+  /** Cache of process definitions, including their BPMN XML. */
+  public EntityCacheConfiguration getProcessDefinitions() {
+    return processDefinitions;
+  }
+
+  /** Cache of decision definitions. */
+  public EntityCacheConfiguration getDecisionDefinitions() {
+    return decisionDefinitions;
+  }
+
+  /** Cache of decision requirements (DRGs), including their DMN XML if it was requested. */
+  public EntityCacheConfiguration getDecisionRequirements() {
+    return decisionRequirements;
+  }
+
+  /** Cache of forms, including their schema. */
+  public EntityCacheConfiguration getForms() {
+    return forms;
+  }
+
+  public static class EntityCacheConfiguration {
+    private static final long DEFAULT_EXPIRATION_MILLIS = 600_000L;
+
+    /** Max number of cached entities, a value of 0 disables the cache. */
+    private long maxSize;
+
+    /**
+     * Milliseconds after which a cached entity is loaded again, e.g. to drop entities of deleted
+     * resources. Default value: {@link EntityCacheConfiguration#DEFAULT_EXPIRATION_MILLIS}. A value
+     * of {@code null} or 0 keeps the entities until they are evicted.
+     */
+    private Long expirationMillis = DEFAULT_EXPIRATION_MILLIS;
+
+    public EntityCacheConfiguration(final long maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public long getMaxSize() {
+      return maxSize;
+    }
+
+    public void setMaxSize(final long maxSize) {
+      this.maxSize = maxSize;
+    }
+
+    public Long getExpirationMillis() {
+      return expirationMillis;
+    }
+
+    public void setExpirationMillis(final Long expirationMillis) {
+      this.expirationMillis = expirationMillis;
+    }
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import io.camunda.search.clients.DecisionDefinitionSearchClient;
+import io.camunda.search.clients.DecisionRequirementSearchClient;
+import io.camunda.search.clients.FormSearchClient;
+import io.camunda.search.clients.ProcessDefinitionSearchClient;
+import io.camunda.search.entities.DecisionDefinitionEntity;
+import io.camunda.search.entities.DecisionRequirementsEntity;
+import io.camunda.search.entities.FormEntity;
+import io.camunda.search.entities.ProcessDefinitionEntity;
+import io.camunda.search.query.DecisionDefinitionQuery;
+import io.camunda.search.query.DecisionRequirementsQuery;
+import io.camunda.search.query.FormQuery;
+import io.camunda.search.query.ProcessDefinitionQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Holds the caches of the entities which don't change once they are written to the secondary
+ * storage, and wraps the search clients of these entities to look them up by key in the caches.
+ *
+ * <p>The caches are shared by all wrapped search clients, such that e.g. a form loaded by the user
+ * task services is also served to the form services.
+ */
+public final class SearchClientCaches {
+
+  private static final String CACHE_NAME_PREFIX = "camunda.search.cache.";
+
+  private final EntityCache<ProcessDefinitionQuery, ProcessDefinitionEntity> processDefinitions;
+  private final EntityCache<DecisionDefinitionQuery, DecisionDefinitionEntity> decisionDefinitions;
+  private final EntityCache<DecisionRequirementsQuery, DecisionRequirementsEntity>
+      decisionRequirements;
+  private final EntityCache<FormQuery, FormEntity> forms;
+
+  public SearchClientCaches(
+      final SearchClientCacheConfiguration configuration, final MeterRegistry meterRegistry) {
+    processDefinitions =
+        new EntityCache<>(
+            CACHE_NAME_PREFIX + "processDefinitions",
+            configuration.getProcessDefinitions(),
+            ProcessDefinitionEntity::tenantId,
+            meterRegistry);
+    decisionDefinitions =
+        new EntityCache<>(
+            CACHE_NAME_PREFIX + "decisionDefinitions",
+            configuration.getDecisionDefinitions(),
+            DecisionDefinitionEntity::tenantId,
+            meterRegistry);
+    decisionRequirements =
+        new EntityCache<>(
+            CACHE_NAME_PREFIX + "decisionRequirements",
+            configuration.getDecisionRequirements(),
+            DecisionRequirementsEntity::tenantId,
+            meterRegistry);
+    forms =
+        new EntityCache<>(
+            CACHE_NAME_PREFIX + "forms",
+            configuration.getForms(),
+            FormEntity::tenantId,
+            meterRegistry);
+  }
+
+  public ProcessDefinitionSearchClient processDefinitions(
+      final ProcessDefinitionSearchClient searchClient) {
+    return new CachingProcessDefinitionSearchClient(searchClient, processDefinitions);
+  }
+
+  public DecisionDefinitionSearchClient decisionDefinitions(
+      final DecisionDefinitionSearchClient searchClient) {
+    return new CachingDecisionDefinitionSearchClient(searchClient, decisionDefinitions);
+  }
+
+  public DecisionRequirementSearchClient decisionRequirements(
+      final DecisionRequirementSearchClient searchClient) {
+    return new CachingDecisionRequirementSearchClient(searchClient, decisionRequirements);
+  }
+
+  public FormSearchClient forms(final FormSearchClient searchClient) {
+    return new CachingFormSearchClient(searchClient, forms);
+  }
+
+  public void invalidateAll() {
+    processDefinitions.invalidateAll();
+    decisionDefinitions.invalidateAll();
+    decisionRequirements.invalidateAll();
+    forms.invalidateAll();
+  }
+}
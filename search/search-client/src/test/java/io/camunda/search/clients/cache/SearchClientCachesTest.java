@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.search.clients.cache;
+
+import static io.camunda.search.query.SearchQueryBuilders.formSearchQuery;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.search.clients.FormSearchClient;
+import io.camunda.search.entities.FormEntity;
+import io.camunda.search.query.SearchQueryResult;
+import io.camunda.security.auth.Authentication;
+import io.camunda.security.auth.Authorization;
+import io.camunda.security.auth.SecurityContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public final class SearchClientCachesTest {
+
+  private static final FormEntity FORM = new FormEntity(1L, "tenant", "formId", "{}", 1L);
+
+  private final FormSearchClient client = mock(FormSearchClient.class);
+  private FormSearchClient cachingClient;
+
+  @BeforeEach
+  public void before() {
+    when(client.withSecurityContext(any())).thenReturn(client);
+    when(client.searchForms(any())).thenReturn(result(FORM));
+    cachingClient =
+        new SearchClientCaches(new SearchClientCacheConfiguration(), new SimpleMeterRegistry())
+            .forms(client);
+  }
+
+  @Test
+  public void shouldServeLookupByKeyFromCache() {
+    // given
+    final var query = formSearchQuery(q -> q.filter(f -> f.formKeys(1L)));
+    cachingClient.searchForms(query);
+
+    // when
+    final var result = cachingClient.searchForms(query);
+
+    // then
+    assertThat(result.items()).containsExactly(FORM);
+    verify(client, times(1)).searchForms(query);
+  }
+
+  @Test
+  public void shouldNotCacheOtherSearches() {
+    // given
+    final var query = formSearchQuery(q -> q.filter(f -> f.formIds("formId")));
+    cachingClient.searchForms(query);
+
+    // when
+    cachingClient.searchForms(query);
+
+    // then
+    verify(client, times(2)).searchForms(query);
+  }
+
+  @Test
+  public void shouldNotCacheMissingEntity() {
+    // given
+    final var query = formSearchQuery(q -> q.filter(f -> f.formKeys(1L)));
+    when(client.searchForms(any())).thenReturn(result()).thenReturn(result(FORM));
+    cachingClient.searchForms(query);
+
+    // when
+    final var result = cachingClient.searchForms(query);
+
+    // then
+    assertThat(result.items()).containsExactly(FORM);
+    verify(client, times(2)).searchForms(query);
+  }
+
+  @Test
+  public void shouldFilterCachedEntityByTenant() {
+    // given
+    final var query = formSearchQuery(q -> q.filter(f -> f.formKeys(1L)));
+    cachingClient
+        .withSecurityContext(securityContext(Authentication.of(a -> a.tenant("tenant"))))
+        .searchForms(query);
+
+    // when
+    final var result =
+        cachingClient
+            .withSecurityContext(securityContext(Authentication.of(a -> a.tenant("other"))))
+            .searchForms(query);
+
+    // then
+    assertThat(result.items()).isEmpty();
+    assertThat(result.total()).isZero();
+    verify(client, times(1)).searchForms(query);
+  }
+
+  @Test
+  public void shouldNotCacheLookupWithAuthorizationChecks() {
+    // given
+    final var query = formSearchQuery(q -> q.filter(f -> f.formKeys(1L)));
+    final var securityContext =
+        SecurityContext.of(
+            s ->
+                s.withAuthentication(Authentication.of(a -> a.user("foo")))
+                    .withAuthorization(
+                        Authorization.of(a -> a.processDefinition().readProcessDefinition())));
+    cachingClient.withSecurityContext(securityContext).searchForms(query);
+
+    // when
+    cachingClient.withSecurityContext(securityContext).searchForms(query);
+
+    // then
+    verify(client, times(2)).searchForms(query);
+    verify(client, times(2)).withSecurityContext(securityContext);
+  }
+
+  private static SecurityContext securityContext(final Authentication authentication) {
+    return SecurityContext.of(s -> s.withAuthentication(authentication));
+  }
+
+  private static SearchQueryResult<FormEntity> result(final FormEntity... forms) {
+    return new SearchQueryResult.Builder<FormEntity>()
+        .total(forms.length)
+        .items(List.of(forms))
+        .build();
+  }
+}
@@ -20,6 +20,7 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -35,6 +36,7 @@ public final class RaftMemberContext {
   private final DefaultRaftMember member;
   private final DescriptiveStatistics timeStats = new DescriptiveStatistics(APPEND_WINDOW_SIZE);
   private final int maxAppendsPerMember;
+  private final int maxInstallsPerMember;
   private boolean open = true;
   private long term;
   private long configIndex;
@@ -48,7 +50,9 @@ public final class RaftMemberContext {
   private boolean appendSucceeded;
   private long appendTime;
   private boolean configuring;
-  private boolean installing;
+  private int inFlightInstallCount;
+  private boolean snapshotChunkRetryPending;
+  private SnapshotChunkCompression snapshotChunkCompression = SnapshotChunkCompression.NONE;
   private int failures;
   private long failureTime;
   private volatile RaftLogReader reader;
@@ -58,9 +62,11 @@ public final class RaftMemberContext {
   RaftMemberContext(
       final DefaultRaftMember member,
       final RaftClusterContext cluster,
-      final int maxAppendsPerMember) {
+      final int maxAppendsPerMember,
+      final int maxInstallsPerMember) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
     this.maxAppendsPerMember = maxAppendsPerMember;
+    this.maxInstallsPerMember = maxInstallsPerMember;
   }
 
   /** Resets the member state. */
@@ -74,7 +80,9 @@ public final class RaftMemberContext {
     inFlightAppendCount = 0;
     timeStats.clear();
     configuring = false;
-    installing = false;
+    inFlightInstallCount = 0;
+    snapshotChunkRetryPending = false;
+    snapshotChunkCompression = SnapshotChunkCompression.NONE;
     appendSucceeded = false;
     failures = 0;
     failureTime = 0;
@@ -231,17 +239,45 @@ public final class RaftMemberContext {
    * @return Indicates whether an install request can be sent to the member.
    */
   public boolean canInstall() {
-    return open && !installing;
+    return open && inFlightInstallCount < maxInstallsPerMember;
+  }
+
+  /**
+   * Returns a boolean indicating whether install requests to the member are in flight.
+   *
+   * @return Indicates whether install requests to the member are in flight.
+   */
+  public boolean isInstalling() {
+    return inFlightInstallCount > 0;
   }
 
   /** Starts an install request to the member. */
   public void startInstall() {
-    installing = true;
+    inFlightInstallCount++;
   }
 
   /** Completes an install request to the member. */
   public void completeInstall() {
-    installing = false;
+    inFlightInstallCount--;
+  }
+
+  /**
+   * Returns a boolean indicating whether the chunk after the last acknowledged one has to be sent
+   * again, e.g. because its request timed out.
+   *
+   * @return Indicates whether the chunk after the last acknowledged one has to be sent again.
+   */
+  public boolean isSnapshotChunkRetryPending() {
+    return snapshotChunkRetryPending;
+  }
+
+  /**
+   * Sets whether the chunk after the last acknowledged one has to be sent again.
+   *
+   * @param snapshotChunkRetryPending Whether the chunk has to be sent again.
+   */
+  public void setSnapshotChunkRetryPending(final boolean snapshotChunkRetryPending) {
+    this.snapshotChunkRetryPending = snapshotChunkRetryPending;
   }
 
   /**
@@ -277,7 +313,8 @@ public final class RaftMemberContext {
         .add("appendSucceeded", appendSucceeded)
         .add("appendTime", appendTime)
         .add("configuring", configuring)
-        .add("installing", installing)
+        .add("installing", inFlightInstallCount)
+        .add("snapshotChunkRetryPending", snapshotChunkRetryPending)
         .add("failures", failures)
         .toString();
   }
@@ -462,6 +499,20 @@ public final class RaftMemberContext {
     this.snapshotChunkReader = snapshotChunkReader;
   }
 
+  /**
+   * Returns the compression of the snapshot chunks sent to the member, as agreed on with the
+   * member.
+   *
+   * @return The compression of the snapshot chunks sent to the member.
+   */
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression compression) {
+    snapshotChunkCompression = compression;
+  }
+
   public boolean hasNextEntry() {
     return reader.hasNext();
   }
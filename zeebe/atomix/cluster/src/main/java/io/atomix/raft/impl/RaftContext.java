@@ -65,6 +65,7 @@ import io.atomix.raft.roles.LeaderRole;
 import io.atomix.raft.roles.PassiveRole;
 import io.atomix.raft.roles.PromotableRole;
 import io.atomix.raft.roles.RaftRole;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.storage.RaftStorage;
 import io.atomix.raft.storage.StorageException;
 import io.atomix.raft.storage.log.RaftLog;
@@ -1285,6 +1286,14 @@ public class RaftContext implements AutoCloseable, HealthMonitorable {
     return snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return partitionConfig.getMaxInFlightSnapshotChunks();
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return partitionConfig.getSnapshotChunkCompression();
+  }
+
   public CompletableFuture<Collection<Path>> getTailSegments(final long index) {
     final var fut = new CompletableFuture<Collection<Path>>();
     threadContext.execute(
@@ -17,6 +17,7 @@ package io.atomix.raft.metrics;
 
 import static io.atomix.raft.metrics.SnapshotReplicationMetricsDoc.*;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Objects;
@@ -26,6 +27,8 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
 
   private final AtomicLong count;
   private final AtomicLong duration;
+  private final Counter receivedBytes;
+  private final Counter receivedUncompressedBytes;
 
   public SnapshotReplicationMetrics(final String partitionName, final MeterRegistry meterRegistry) {
     super(partitionName);
@@ -42,6 +45,20 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
         .description(DURATION.getDescription())
         .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
         .register(meterRegistry);
+
+    receivedBytes =
+        Counter.builder(RECEIVED_BYTES.getName())
+            .description(RECEIVED_BYTES.getDescription())
+            .baseUnit(RECEIVED_BYTES.getBaseUnit())
+            .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
+            .register(meterRegistry);
+
+    receivedUncompressedBytes =
+        Counter.builder(RECEIVED_UNCOMPRESSED_BYTES.getName())
+            .description(RECEIVED_UNCOMPRESSED_BYTES.getDescription())
+            .baseUnit(RECEIVED_UNCOMPRESSED_BYTES.getBaseUnit())
+            .tags(PARTITION_GROUP_NAME_LABEL, partitionGroupName)
+            .register(meterRegistry);
   }
 
   public void incrementCount() {
@@ -59,4 +76,9 @@ public class SnapshotReplicationMetrics extends RaftMetrics {
   public void observeDuration(final long durationMillis) {
     duration.set(durationMillis);
   }
+
+  public void observeReceivedChunk(final int transferredBytes, final int uncompressedBytes) {
+    receivedBytes.increment(transferredBytes);
+    receivedUncompressedBytes.increment(uncompressedBytes);
+  }
 }
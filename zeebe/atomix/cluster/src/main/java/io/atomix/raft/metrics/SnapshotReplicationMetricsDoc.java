@@ -58,6 +58,60 @@ public enum SnapshotReplicationMetricsDoc implements ExtendedMeterDocumentation
       return "ms";
     }
 
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Size of the received snapshot chunks as transferred, i.e. compressed if enabled */
+  RECEIVED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.received";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Size of the received snapshot chunks as transferred, i.e. compressed if enabled";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
+    }
+  },
+  /** Size of the received snapshot chunks after decompressing them */
+  RECEIVED_UNCOMPRESSED_BYTES {
+    @Override
+    public String getName() {
+      return "atomix.snapshot.replication.received.uncompressed";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public String getDescription() {
+      return "Size of the received snapshot chunks after decompressing them";
+    }
+
+    @Override
+    public String getBaseUnit() {
+      return "bytes";
+    }
+
     @Override
     public KeyName[] getKeyNames() {
       return new KeyName[] {PartitionKeyNames.PARTITION, RaftKeyNames.PARTITION_GROUP};
@@ -16,6 +16,7 @@
  */
 package io.atomix.raft.partition;
 
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.zeebe.EntryValidator;
 import java.time.Duration;
 
@@ -45,6 +46,8 @@ public class RaftPartitionConfig {
   private EntryValidator entryValidator;
   private Duration configurationChangeTimeout;
   private int snapshotChunkSize;
+  private int maxInFlightSnapshotChunks = 1;
+  private SnapshotChunkCompression snapshotChunkCompression = SnapshotChunkCompression.NONE;
 
   /**
    * Returns the Raft leader election timeout.
@@ -144,6 +147,35 @@ public class RaftPartitionConfig {
     this.snapshotChunkSize = snapshotChunkSize;
   }
 
+  public int getMaxInFlightSnapshotChunks() {
+    return maxInFlightSnapshotChunks;
+  }
+
+  /**
+   * Sets how many snapshot chunks a leader sends to a follower without waiting for their responses.
+   * With 1, the next chunk is only sent once the previous one was acknowledged.
+   *
+   * @param maxInFlightSnapshotChunks the maximum number of unacknowledged chunks per follower
+   */
+  public void setMaxInFlightSnapshotChunks(final int maxInFlightSnapshotChunks) {
+    this.maxInFlightSnapshotChunks = maxInFlightSnapshotChunks;
+  }
+
+  public SnapshotChunkCompression getSnapshotChunkCompression() {
+    return snapshotChunkCompression;
+  }
+
+  /**
+   * Sets the compression of replicated snapshot chunks. A leader only compresses the chunks it
+   * sends to a follower if that follower is configured with the same compression, which it
+   * announces in its install responses.
+   *
+   * @param snapshotChunkCompression the compression of replicated snapshot chunks
+   */
+  public void setSnapshotChunkCompression(final SnapshotChunkCompression snapshotChunkCompression) {
+    this.snapshotChunkCompression = snapshotChunkCompression;
+  }
+
   public Duration getConfigurationChangeTimeout() {
     return configurationChangeTimeout;
   }
@@ -228,6 +260,10 @@ public class RaftPartitionConfig {
         + snapshotRequestTimeout
         + ", snapshotChunkSize="
         + snapshotChunkSize
+        + ", maxInFlightSnapshotChunks="
+        + maxInFlightSnapshotChunks
+        + ", snapshotChunkCompression="
+        + snapshotChunkCompression
         + ", configurationChangeTimeout="
         + configurationChangeTimeout
         + ", minStepDownFailureCount="
@@ -45,6 +45,7 @@ import io.atomix.raft.protocol.TransferResponse;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespace.Builder;
 import io.atomix.utils.serializer.Namespaces;
@@ -98,6 +99,7 @@ public final class RaftNamespaces {
           .register(LeaveResponse.class)
           .register(ForceConfigureRequest.class)
           .register(ForceConfigureResponse.class)
+          .register(SnapshotChunkCompression.class)
           .name("RaftProtocol")
           .build();
 
@@ -21,6 +21,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.atomix.cluster.MemberId;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.utils.misc.StringUtils;
 import io.camunda.zeebe.snapshots.impl.SnapshotChunkId;
 import java.nio.ByteBuffer;
@@ -58,6 +59,8 @@ public class InstallRequest extends AbstractRaftRequest {
   private final boolean initial;
   // true if this is the last chunk
   private final boolean complete;
+  // the compression of the data; null if sent by a member which doesn't compress chunks
+  private final SnapshotChunkCompression compression;
 
   public InstallRequest(
       final long currentTerm,
@@ -69,7 +72,8 @@ public class InstallRequest extends AbstractRaftRequest {
       final ByteBuffer nextChunkId,
       final ByteBuffer data,
       final boolean initial,
-      final boolean complete) {
+      final boolean complete,
+      final SnapshotChunkCompression compression) {
     this.currentTerm = currentTerm;
     this.leader = leader;
     this.index = index;
@@ -80,6 +84,7 @@ public class InstallRequest extends AbstractRaftRequest {
     this.initial = initial;
     this.complete = complete;
     this.term = term;
+    this.compression = compression;
   }
 
   /**
@@ -170,10 +175,29 @@ public class InstallRequest extends AbstractRaftRequest {
     return complete;
   }
 
+  /**
+   * Returns the compression of the snapshot data.
+   *
+   * @return The compression of the snapshot data.
+   */
+  public SnapshotChunkCompression compression() {
+    return compression == null ? SnapshotChunkCompression.NONE : compression;
+  }
+
   @Override
   public int hashCode() {
     return Objects.hash(
-        currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+        currentTerm,
+        leader,
+        index,
+        term,
+        version,
+        chunkId,
+        nextChunkId,
+        data,
+        initial,
+        complete,
+        compression());
   }
 
   @Override
@@ -194,7 +218,8 @@ public class InstallRequest extends AbstractRaftRequest {
         && Objects.equals(leader, that.leader)
         && Objects.equals(chunkId, that.chunkId)
         && Objects.equals(nextChunkId, that.nextChunkId)
-        && Objects.equals(data, that.data);
+        && Objects.equals(data, that.data)
+        && compression() == that.compression();
   }
 
   @Override
@@ -212,6 +237,7 @@ public class InstallRequest extends AbstractRaftRequest {
         .add("data", StringUtils.printShortBuffer(data))
         .add("initial", initial)
         .add("complete", complete)
+        .add("compression", compression())
         .toString();
   }
 
@@ -233,6 +259,7 @@ public class InstallRequest extends AbstractRaftRequest {
     private boolean complete;
     private boolean initial;
     private long term;
+    private SnapshotChunkCompression compression = SnapshotChunkCompression.NONE;
 
     /**
      * Sets the request current term.
@@ -346,6 +373,17 @@ public class InstallRequest extends AbstractRaftRequest {
       return this;
     }
 
+    /**
+     * Sets the compression of the snapshot bytes.
+     *
+     * @param compression the compression of the snapshot bytes
+     * @return the request builder
+     */
+    public Builder withCompression(final SnapshotChunkCompression compression) {
+      this.compression = checkNotNull(compression, "compression cannot be null");
+      return this;
+    }
+
     /**
      * @throws IllegalStateException if member is null
      */
@@ -353,7 +391,17 @@ public class InstallRequest extends AbstractRaftRequest {
     public InstallRequest build() {
       validate();
       return new InstallRequest(
-          currentTerm, leader, index, term, version, chunkId, nextChunkId, data, initial, complete);
+          currentTerm,
+          leader,
+          index,
+          term,
+          version,
+          chunkId,
+          nextChunkId,
+          data,
+          initial,
+          complete,
+          compression);
     }
 
     @Override
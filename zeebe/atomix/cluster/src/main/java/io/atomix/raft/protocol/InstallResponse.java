@@ -20,33 +20,63 @@ import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkArgument;
 
 import io.atomix.raft.RaftError;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response tells
+ * the leader how the follower would like to receive the next chunks, i.e. their preferred size and
+ * compression. The response to the initial chunk also lists the files of the follower's latest
+ * snapshot, so the leader doesn't send the files which the follower already has.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
   protected int preferredChunkSize;
+  // null if sent by a member which doesn't support compressed chunks
+  protected SnapshotChunkCompression preferredCompression;
+  // maps the file names of the follower's latest snapshot to their checksums; null if not sent
+  protected HashMap<String, Long> snapshotFileChecksums;
 
-  public InstallResponse(final Status status, final RaftError error, final int preferredChunkSize) {
+  public InstallResponse(
+      final Status status,
+      final RaftError error,
+      final int preferredChunkSize,
+      final SnapshotChunkCompression preferredCompression,
+      final HashMap<String, Long> snapshotFileChecksums) {
     super(status, error);
     this.preferredChunkSize = preferredChunkSize;
+    this.preferredCompression = preferredCompression;
+    this.snapshotFileChecksums = snapshotFileChecksums;
   }
 
   public int preferredChunkSize() {
     return preferredChunkSize;
   }
 
+  public SnapshotChunkCompression preferredCompression() {
+    return preferredCompression == null ? SnapshotChunkCompression.NONE : preferredCompression;
+  }
+
+  /**
+   * @return the checksums of the files of the follower's latest snapshot, by file name; empty if
+   *     the follower has no snapshot or didn't send them
+   */
+  public Map<String, Long> snapshotFileChecksums() {
+    return snapshotFileChecksums == null ? Map.of() : snapshotFileChecksums;
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
         .add("status", status)
         .add("error", error)
         .add("preferredChunkSize", preferredChunkSize)
+        .add("preferredCompression", preferredCompression())
+        .add("snapshotFileCount", snapshotFileChecksums().size())
         .toString();
   }
 
@@ -62,17 +92,31 @@ public class InstallResponse extends AbstractRaftResponse {
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
     protected int preferredChunkSize;
+    protected SnapshotChunkCompression preferredCompression = SnapshotChunkCompression.NONE;
+    protected HashMap<String, Long> snapshotFileChecksums;
 
     @Override
     public InstallResponse build() {
       validate();
       checkArgument(preferredChunkSize >= 0, "preferred chunk size must be positive");
-      return new InstallResponse(status, error, preferredChunkSize);
+      return new InstallResponse(
+          status, error, preferredChunkSize, preferredCompression, snapshotFileChecksums);
     }
 
     public Builder withPreferredChunkSize(final int preferredChunkSize) {
       this.preferredChunkSize = preferredChunkSize;
       return this;
     }
+
+    public Builder withPreferredCompression(final SnapshotChunkCompression preferredCompression) {
+      this.preferredCompression = preferredCompression;
+      return this;
+    }
+
+    public Builder withSnapshotFileChecksums(final Map<String, Long> snapshotFileChecksums) {
+      this.snapshotFileChecksums =
+          snapshotFileChecksums.isEmpty() ? null : new HashMap<>(snapshotFileChecksums);
+      return this;
+    }
   }
 }
@@ -37,6 +37,7 @@ import io.atomix.raft.protocol.RaftRequest;
 import io.atomix.raft.protocol.RaftResponse;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.utils.logging.ContextualLoggerFactory;
@@ -379,10 +380,20 @@ final class LeaderAppender {
     appendEntries(member);
   }
 
-  /** Builds an install request for the given member. */
+  /**
+   * Builds an install request for the given member. If no install requests are in flight, the
+   * request contains the chunk after the last acknowledged one. Otherwise, it contains the chunk
+   * after the last one sent, so that multiple chunks can be in flight.
+   */
   private Optional<InstallRequest> buildInstallRequest(
       final RaftMemberContext member, final PersistedSnapshot persistedSnapshot) {
     if (member.getNextSnapshotIndex() != persistedSnapshot.getIndex()) {
+      if (member.isInstalling()) {
+        // wait for the responses to the chunks of the previous attempt before starting over, so
+        // they don't move the acknowledged chunk of the new attempt
+        return Optional.empty();
+      }
+
       try {
         final SnapshotChunkReader snapshotChunkReader = persistedSnapshot.newChunkReader();
         member.setSnapshotChunkReader(snapshotChunkReader);
@@ -396,19 +407,32 @@ final class LeaderAppender {
       }
       member.setNextSnapshotIndex(persistedSnapshot.getIndex());
       member.setNextSnapshotChunkId(null);
+      member.setSnapshotChunkRetryPending(false);
+    }
+
+    if (member.isSnapshotChunkRetryPending()) {
+      if (member.isInstalling()) {
+        // the chunks in flight after the missing one are rejected by the member, so wait for them
+        // before sending the missing chunk again
+        return Optional.empty();
+      }
+      member.setSnapshotChunkRetryPending(false);
     }
 
     final SnapshotChunkReader reader = member.getSnapshotChunkReader();
+    final boolean isInitial = !member.isInstalling() && member.getNextSnapshotChunk() == null;
 
     try {
       // Reader might have advanced to the next chunk already. But if we want to retry a chunk the
       // reader should seek to the chunk. To handle retries and not-retries the same, we seek
-      // always.
-      if (member.getNextSnapshotChunk() != null) {
-        reader.seek(member.getNextSnapshotChunk());
-      } else {
-        // member.getNextSnapshotChunk is null when it is the first chunk.
-        reader.reset();
+      // always, unless chunks are in flight; then the reader is already after the last one sent.
+      if (!member.isInstalling()) {
+        if (member.getNextSnapshotChunk() != null) {
+          reader.seek(member.getNextSnapshotChunk());
+        } else {
+          // member.getNextSnapshotChunk is null when it is the first chunk.
+          reader.reset();
+        }
       }
 
       if (!reader.hasNext()) {
@@ -420,6 +444,7 @@ final class LeaderAppender {
       // Create the install request, indicating whether this is the last chunk of data based on
       // the number of bytes remaining in the buffer.
       final DefaultRaftMember leader = raft.getLeader();
+      final SnapshotChunkCompression compression = member.getSnapshotChunkCompression();
 
       final InstallRequest request =
           InstallRequest.builder()
@@ -428,9 +453,10 @@ final class LeaderAppender {
               .withIndex(persistedSnapshot.getIndex())
               .withTerm(persistedSnapshot.getTerm())
               .withVersion(persistedSnapshot.version())
-              .withData(new SnapshotChunkImpl(chunk).toByteBuffer())
+              .withData(compression.compress(new SnapshotChunkImpl(chunk).toByteBuffer()))
+              .withCompression(compression)
               .withChunkId(currentChunkId)
-              .withInitial(member.getNextSnapshotChunk() == null)
+              .withInitial(isInitial)
               .withComplete(!reader.hasNext())
               .withNextChunkId(reader.nextId())
               .build();
@@ -474,6 +500,12 @@ final class LeaderAppender {
               }
             },
             raft.getThreadContext());
+
+    // the response to the initial chunk tells which files the member already has, so only send
+    // the next chunks right away after it, up to the maximum number of chunks in flight
+    if (!request.complete() && !request.isInitial() && member.canInstall()) {
+      appendEntries(member);
+    }
   }
 
   /** Handles an install response failure. */
@@ -485,7 +517,11 @@ final class LeaderAppender {
         error instanceof TimeoutException
             || (error != null && error.getCause() instanceof TimeoutException);
 
-    if (!isTimeout) {
+    if (isTimeout) {
+      // only the timed out chunk and the ones after it are sent again, from the last acknowledged
+      // chunk on
+      member.setSnapshotChunkRetryPending(true);
+    } else {
       member.setNextSnapshotIndex(0);
       member.setNextSnapshotChunkId(null);
     }
@@ -506,6 +542,15 @@ final class LeaderAppender {
     if (response.preferredChunkSize() > 0) {
       member.getSnapshotChunkReader().setMaximumChunkSize(response.preferredChunkSize());
     }
+    if (request.isInitial()) {
+      member.getSnapshotChunkReader().setReusableFiles(response.snapshotFileChecksums());
+    }
+    // only compress the next chunks if the follower is configured with the same compression, as
+    // followers which don't support it (yet) always prefer uncompressed chunks
+    member.setSnapshotChunkCompression(
+        response.preferredCompression() == raft.getSnapshotChunkCompression()
+            ? response.preferredCompression()
+            : SnapshotChunkCompression.NONE);
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -529,6 +574,22 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final InstallRequest request,
       final InstallResponse response) {
+    if (!request.isInitial()
+        && member.getNextSnapshotChunk() != null
+        && !member.getNextSnapshotChunk().equals(request.chunkId())) {
+      // a chunk before this one is still in flight or got lost, so the member rejected this chunk
+      // as out of order; send the chunks again from the last acknowledged one instead of starting
+      // over with the whole snapshot
+      log.debug(
+          "Member {} rejected {} with {}. Resend chunks from the last acknowledged one.",
+          member.getMember().memberId(),
+          request,
+          response.error());
+      member.setSnapshotChunkRetryPending(true);
+      appendEntries(member);
+      return;
+    }
+
     log.warn(
         "Failed to send {} to member {}, with {}. Restart sending snapshot.",
         request,
@@ -42,6 +42,7 @@ import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.ReplicatableRaftRecord;
 import io.atomix.raft.protocol.VoteRequest;
 import io.atomix.raft.protocol.VoteResponse;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.atomix.raft.snapshot.impl.SnapshotChunkImpl;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLogReader;
@@ -60,7 +61,9 @@ import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.logging.ThrottledLogger;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -76,11 +79,13 @@ public class PassiveRole extends InactiveRole {
   private ByteBuffer nextPendingSnapshotChunkId;
   private ByteBuffer previouslyReceivedSnapshotChunkId;
   private final int snapshotChunkSize;
+  private final SnapshotChunkCompression snapshotChunkCompression;
 
   public PassiveRole(final RaftContext context) {
     super(context);
 
     snapshotChunkSize = context.getSnapshotChunkSize();
+    snapshotChunkCompression = context.getSnapshotChunkCompression();
     snapshotReplicationMetrics =
         new SnapshotReplicationMetrics(context.getName(), context.getMeterRegistry());
     snapshotReplicationMetrics.setCount(0);
@@ -126,8 +131,8 @@ public class PassiveRole extends InactiveRole {
     updateTermAndLeader(request.currentTerm(), request.leader());
 
     final var snapshotChunk = new SnapshotChunkImpl();
-    final var snapshotChunkBuffer = new UnsafeBuffer(request.data());
-    if (!snapshotChunk.tryWrap(snapshotChunkBuffer)) {
+    final var snapshotChunkData = decompressSnapshotChunk(request);
+    if (snapshotChunkData == null || !snapshotChunk.tryWrap(new UnsafeBuffer(snapshotChunkData))) {
       abortPendingSnapshots();
       return CompletableFuture.completedFuture(
           logResponse(
@@ -266,11 +271,21 @@ public class PassiveRole extends InactiveRole {
       previouslyReceivedSnapshotChunkId = request.chunkId();
     }
 
+    // let the leader know which files we already have, so it doesn't send them again
+    final Map<String, Long> snapshotFileChecksums =
+        request.isInitial() && !request.complete()
+            ? raft.getPersistedSnapshotStore()
+                .getLatestSnapshot()
+                .map(snapshot -> snapshot.getChecksums().getChecksums())
+                .orElse(Collections.emptySortedMap())
+            : Map.of();
     return CompletableFuture.completedFuture(
         logResponse(
             InstallResponse.builder()
                 .withStatus(RaftResponse.Status.OK)
                 .withPreferredChunkSize(snapshotChunkSize)
+                .withPreferredCompression(snapshotChunkCompression)
+                .withSnapshotFileChecksums(snapshotFileChecksums)
                 .build()));
   }
 
@@ -425,6 +440,22 @@ public class PassiveRole extends InactiveRole {
                 .build()));
   }
 
+  /**
+   * @return the uncompressed data of the request, or null if it can't be decompressed
+   */
+  private ByteBuffer decompressSnapshotChunk(final InstallRequest request) {
+    final ByteBuffer data;
+    try {
+      data = request.compression().decompress(request.data());
+    } catch (final RuntimeException e) {
+      log.warn("Failed to decompress snapshot chunk with {}", request.compression(), e);
+      return null;
+    }
+
+    snapshotReplicationMetrics.observeReceivedChunk(request.data().remaining(), data.remaining());
+    return data;
+  }
+
   // validates install request and returns a response if the request should not be processed
   // further.
   private Either<InstallResponse, Void> preProcessInstallRequest(final InstallRequest request) {
@@ -435,6 +466,7 @@ public class PassiveRole extends InactiveRole {
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withPreferredCompression(snapshotChunkCompression)
                   .build()));
     }
 
@@ -447,7 +479,11 @@ public class PassiveRole extends InactiveRole {
               + "] got ["
               + new SnapshotChunkId(request.chunkId())
               + "].";
-      abortPendingSnapshots();
+      // keep the pending snapshot if a later chunk arrives out of order, e.g. because an earlier
+      // chunk got lost while multiple chunks were in flight; the leader sends it again
+      if (request.isInitial()) {
+        abortPendingSnapshots();
+      }
       return Either.left(
           logResponse(
               InstallResponse.builder()
@@ -477,6 +513,7 @@ public class PassiveRole extends InactiveRole {
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withPreferredCompression(snapshotChunkCompression)
                   .build()));
     }
 
@@ -491,6 +528,7 @@ public class PassiveRole extends InactiveRole {
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withPreferredCompression(snapshotChunkCompression)
                   .build()));
     }
 
@@ -520,6 +558,7 @@ public class PassiveRole extends InactiveRole {
               InstallResponse.builder()
                   .withStatus(Status.OK)
                   .withPreferredChunkSize(snapshotChunkSize)
+                  .withPreferredCompression(snapshotChunkCompression)
                   .build()));
     } else {
       log.warn(
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.snapshot;
+
+import com.github.luben.zstd.Zstd;
+import java.nio.ByteBuffer;
+
+/**
+ * Compression of the snapshot chunks sent with install requests. Only the serialized chunk is
+ * compressed for the transfer, so the checksums of the chunk and of the snapshot are still computed
+ * and validated over the uncompressed content.
+ */
+public enum SnapshotChunkCompression {
+  NONE,
+  ZSTD;
+
+  /**
+   * @return the compressed data; the given buffer is not modified
+   */
+  public ByteBuffer compress(final ByteBuffer data) {
+    return switch (this) {
+      case NONE -> data;
+      case ZSTD -> ByteBuffer.wrap(Zstd.compress(toBytes(data)));
+    };
+  }
+
+  /**
+   * @return the decompressed data; the given buffer is not modified
+   * @throws RuntimeException if the data can't be decompressed
+   */
+  public ByteBuffer decompress(final ByteBuffer data) {
+    return switch (this) {
+      case NONE -> data;
+      case ZSTD -> decompressZstd(toBytes(data));
+    };
+  }
+
+  private static ByteBuffer decompressZstd(final byte[] compressed) {
+    final long size = Zstd.getFrameContentSize(compressed);
+    if (size < 0 || size > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(
+          "Expected to decompress a zstd frame of a known size, but got frame content size "
+              + size);
+    }
+
+    return ByteBuffer.wrap(Zstd.decompress(compressed, (int) size));
+  }
+
+  private static byte[] toBytes(final ByteBuffer data) {
+    final byte[] bytes = new byte[data.remaining()];
+    data.duplicate().get(bytes);
+    return bytes;
+  }
+}
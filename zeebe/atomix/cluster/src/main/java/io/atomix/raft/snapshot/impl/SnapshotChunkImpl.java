@@ -36,6 +36,7 @@ public final class SnapshotChunkImpl
   private long checksum;
   private long fileBlockPosition;
   private long totalFileSize;
+  private boolean reusedFile;
 
   public SnapshotChunkImpl() {}
 
@@ -47,6 +48,7 @@ public final class SnapshotChunkImpl
     content.wrap(chunk.getContent());
     fileBlockPosition = chunk.getFileBlockPosition();
     totalFileSize = chunk.getTotalFileSize();
+    reusedFile = chunk.isReusedFile();
   }
 
   @Override
@@ -67,6 +69,7 @@ public final class SnapshotChunkImpl
     checksum = SnapshotChunkDecoder.checksumNullValue();
     fileBlockPosition = SnapshotChunkDecoder.fileBlockPositionNullValue();
     totalFileSize = SnapshotChunkDecoder.totalFileSizeNullValue();
+    reusedFile = false;
 
     snapshotId = "";
     chunkName = "";
@@ -94,6 +97,7 @@ public final class SnapshotChunkImpl
         .totalCount(totalCount)
         .fileBlockPosition(fileBlockPosition)
         .totalFileSize(totalFileSize)
+        .reusedFile(reusedFile ? BooleanType.TRUE : BooleanType.FALSE)
         .snapshotId(snapshotId)
         .chunkName(chunkName)
         .checksum(checksum)
@@ -108,6 +112,7 @@ public final class SnapshotChunkImpl
     totalCount = decoder.totalCount();
     fileBlockPosition = decoder.fileBlockPosition();
     totalFileSize = decoder.totalFileSize();
+    reusedFile = BooleanType.TRUE.equals(decoder.reusedFile());
     snapshotId = decoder.snapshotId();
     chunkName = decoder.chunkName();
     checksum = decoder.checksum();
@@ -162,6 +167,11 @@ public final class SnapshotChunkImpl
     return totalFileSize;
   }
 
+  @Override
+  public boolean isReusedFile() {
+    return reusedFile;
+  }
+
   @Override
   public String toString() {
     return "SnapshotChunkImpl{"
@@ -178,6 +188,8 @@ public final class SnapshotChunkImpl
         + fileBlockPosition
         + ", totalFileSize="
         + totalFileSize
+        + ", reusedFile="
+        + reusedFile
         + "} "
         + super.toString();
   }
@@ -0,0 +1,214 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.raft;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.RaftRule.Configurator;
+import io.atomix.raft.partition.RaftPartitionConfig;
+import io.atomix.raft.protocol.InstallRequest;
+import io.atomix.raft.protocol.InstallResponse;
+import io.atomix.raft.protocol.RaftResponse.Status;
+import io.atomix.raft.protocol.TestRaftServerProtocol;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class RaftSnapshotReplicationTest {
+
+  private static final int MAX_IN_FLIGHT_CHUNKS = 4;
+  private static final int NUMBER_OF_CHUNKS = 10;
+
+  @Rule
+  public RaftRule raftRule =
+      RaftRule.withBootstrappedNodes(
+          3,
+          new Configurator() {
+            @Override
+            public void configure(final MemberId id, final RaftServer.Builder builder) {
+              final var partitionConfig =
+                  new RaftPartitionConfig()
+                      .setElectionTimeout(Duration.ofSeconds(1))
+                      .setHeartbeatInterval(Duration.ofMillis(100));
+              partitionConfig.setMaxInFlightSnapshotChunks(MAX_IN_FLIGHT_CHUNKS);
+              partitionConfig.setSnapshotChunkCompression(SnapshotChunkCompression.ZSTD);
+              builder.withPartitionConfig(partitionConfig);
+            }
+          });
+
+  private final List<InstallRequest> installRequests = new CopyOnWriteArrayList<>();
+  private RaftServer follower;
+  private TestRaftServerProtocol leaderProtocol;
+  private RaftServer leader;
+
+  @Before
+  public void setup() {
+    leader = raftRule.getLeader().orElseThrow();
+    leaderProtocol = (TestRaftServerProtocol) leader.getContext().getProtocol();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class, (Consumer<InstallRequest>) installRequests::add);
+  }
+
+  @Test
+  public void shouldSendChunksWithoutWaitingForResponses() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // the leader waits for the response to the initial chunk, which tells it which files the
+    // follower already has; hold back all other responses until the leader sent as many chunks as
+    // it may without them
+    final var sentRequests = new AtomicInteger();
+    final var receivedResponses = new AtomicInteger();
+    final var inFlightLimitReached = new CompletableFuture<Void>();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Consumer<InstallRequest>)
+            request -> {
+              installRequests.add(request);
+              if (sentRequests.incrementAndGet() == MAX_IN_FLIGHT_CHUNKS + 1) {
+                inFlightLimitReached.complete(null);
+              }
+            });
+    leaderProtocol.interceptResponse(
+        InstallResponse.class,
+        response ->
+            receivedResponses.incrementAndGet() == 1
+                ? CompletableFuture.completedFuture(response)
+                : inFlightLimitReached.thenApply(ignored -> response));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(installRequests)
+        .describedAs("Should send every chunk once")
+        .hasSize(NUMBER_OF_CHUNKS);
+    assertThat(installRequests.getFirst().isInitial()).isTrue();
+    assertThat(installRequests.subList(1, NUMBER_OF_CHUNKS)).noneMatch(InstallRequest::isInitial);
+  }
+
+  @Test
+  public void shouldOnlyResendChunksFromMissingChunk() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // the request of the third chunk is lost once, so it times out while later chunks are in flight
+    final var sentRequests = new AtomicInteger();
+    leaderProtocol.interceptRequest(
+        InstallRequest.class,
+        (Function<InstallRequest, CompletableFuture<Void>>)
+            request -> {
+              installRequests.add(request);
+              return sentRequests.incrementAndGet() == 3
+                  ? new CompletableFuture<>()
+                  : CompletableFuture.completedFuture(null);
+            });
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    final var lostChunkId = installRequests.get(2).chunkId();
+    assertThat(installRequests)
+        .describedAs("Should not start over with the whole snapshot")
+        .filteredOn(InstallRequest::isInitial)
+        .hasSize(1);
+    assertThat(installRequests)
+        .describedAs("Should send the lost chunk again")
+        .filteredOn(request -> request.chunkId().equals(lostChunkId))
+        .hasSize(2);
+    assertThat(installRequests.subList(0, 2))
+        .describedAs("Should not send the acknowledged chunks again")
+        .allSatisfy(
+            acknowledged ->
+                assertThat(installRequests)
+                    .filteredOn(request -> request.chunkId().equals(acknowledged.chunkId()))
+                    .hasSize(1));
+  }
+
+  @Test
+  public void shouldCompressChunksOnceFollowerAcceptsCompression() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(installRequests.getFirst().compression())
+        .describedAs("Should not compress chunks before the follower accepted compression")
+        .isEqualTo(SnapshotChunkCompression.NONE);
+    assertThat(installRequests.getLast().compression()).isEqualTo(SnapshotChunkCompression.ZSTD);
+  }
+
+  @Test
+  public void shouldNotCompressChunksIfFollowerDoesNotAcceptCompression() throws Throwable {
+    // given
+    disconnectFollowerAndTakeSnapshot();
+
+    // a follower which doesn't support compression doesn't send a preferred compression
+    leaderProtocol.interceptResponse(
+        InstallResponse.class,
+        response ->
+            CompletableFuture.completedFuture(
+                response.status() != Status.OK
+                    ? response
+                    : InstallResponse.builder()
+                        .withStatus(Status.OK)
+                        .withPreferredChunkSize(response.preferredChunkSize())
+                        .build()));
+
+    // when
+    reconnectFollowerAndAwaitSnapshot();
+
+    // then
+    assertThat(installRequests)
+        .extracting(InstallRequest::compression)
+        .containsOnly(SnapshotChunkCompression.NONE);
+  }
+
+  private void reconnectFollowerAndAwaitSnapshot() throws InterruptedException {
+    final var snapshotReceived = new CountDownLatch(1);
+    raftRule
+        .getPersistedSnapshotStore(follower.name())
+        .addSnapshotListener(s -> snapshotReceived.countDown());
+    raftRule.reconnect(follower);
+
+    assertThat(snapshotReceived.await(30, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void disconnectFollowerAndTakeSnapshot() throws Exception {
+    follower = raftRule.getFollower().orElseThrow();
+    raftRule.partition(follower);
+
+    leader.getContext().setPreferSnapshotReplicationThreshold(1);
+    final var commitIndex = raftRule.appendEntries(2); // awaits commit
+
+    raftRule.takeSnapshot(leader, commitIndex, NUMBER_OF_CHUNKS);
+    raftRule.appendEntry();
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.atomix.raft.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+final class SnapshotChunkCompressionTest {
+
+  private static final ByteBuffer DATA =
+      ByteBuffer.wrap("snapshot chunk ".repeat(100).getBytes(StandardCharsets.UTF_8));
+
+  @ParameterizedTest
+  @EnumSource(SnapshotChunkCompression.class)
+  void shouldDecompressCompressedData(final SnapshotChunkCompression compression) {
+    // given
+    final var compressed = compression.compress(DATA);
+
+    // when
+    final var decompressed = compression.decompress(compressed);
+
+    // then
+    assertThat(decompressed).isEqualTo(DATA);
+    assertThat(DATA.position()).isZero();
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = SnapshotChunkCompression.class,
+      names = "NONE",
+      mode = EnumSource.Mode.EXCLUDE)
+  void shouldReduceSizeOfRepetitiveData(final SnapshotChunkCompression compression) {
+    // when
+    final var compressed = compression.compress(DATA);
+
+    // then
+    assertThat(compressed.remaining()).isLessThan(DATA.remaining());
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = SnapshotChunkCompression.class,
+      names = "NONE",
+      mode = EnumSource.Mode.EXCLUDE)
+  void shouldRejectDataWhichIsNotCompressed(final SnapshotChunkCompression compression) {
+    // when - then
+    assertThatThrownBy(() -> compression.decompress(DATA)).isInstanceOf(RuntimeException.class);
+  }
+}
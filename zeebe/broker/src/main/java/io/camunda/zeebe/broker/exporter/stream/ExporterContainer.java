@@ -11,10 +11,12 @@ import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
 import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.ExporterInitializationInfo;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.scheduler.ActorControl;
@@ -47,6 +49,11 @@ final class ExporterContainer implements Controller {
   private ExporterMetrics metrics;
   private ActorControl actor;
   private final ExporterInitializationInfo initializationInfo;
+  // only set if the exporter is a BatchExporter, after it was configured
+  private ExporterRecordBatch batch;
+  private int maxBatchSize;
+  // only set if the exporter's filter implements any of the content predicates
+  private RecordContentFilter contentFilter;
 
   ExporterContainer(
       final ExporterDescriptor descriptor,
@@ -203,25 +210,56 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  /**
+   * @param rawEvent the event the record is read from, or null if its content can't be filtered
+   * @return true if the exporter's filter accepts the record, false otherwise
+   */
+  boolean acceptRecord(final RecordMetadata metadata, final LoggedEvent rawEvent) {
     final Context.RecordFilter filter = context.getFilter();
     return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+        && filter.acceptValue(metadata.getValueType())
+        && (contentFilter == null
+            || rawEvent == null
+            || contentFilter.applies(rawEvent, metadata.getValueType()));
+  }
+
+  boolean hasContentFilter() {
+    return contentFilter != null;
   }
 
   void configureExporter() throws Exception {
     LOG.debug("Configure exporter with id '{}'", getId());
     ThreadContextUtil.runCheckedWithClassLoader(
         () -> exporter.configure(context), exporter.getClass().getClassLoader());
+    contentFilter = RecordContentFilter.of(context.getFilter());
+
+    if (exporter instanceof final BatchExporter batchExporter) {
+      maxBatchSize = Math.max(1, batchExporter.getMaxBatchSize());
+      batch = new ExporterRecordBatch(context.getPartitionId());
+    }
   }
 
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
+    return exportRecord(null, rawMetadata, typedEvent);
+  }
+
+  /**
+   * Exports the given record, or appends it to the current batch if the exporter is a {@link
+   * BatchExporter}. The batch is exported once it's full, or when {@link #exportBatch()} is called.
+   *
+   * @param rawEvent the event the record is read from, or null if it can't be batched
+   * @return true if the record was exported or appended, false if it must be passed again
+   */
+  boolean exportRecord(
+      final LoggedEvent rawEvent, final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
     try {
       if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
-          export(typedEvent);
-        } else {
+        if (!acceptRecord(rawMetadata, rawEvent)) {
           updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
+        } else if (batch != null && rawEvent != null) {
+          return appendToBatch(rawEvent);
+        } else {
+          export(typedEvent);
         }
       }
       return true;
@@ -231,6 +269,52 @@ final class ExporterContainer implements Controller {
     }
   }
 
+  /**
+   * Exports the records which were appended to the current batch, if there are any.
+   *
+   * @return true if there are no pending records anymore, false if the batch must be exported again
+   */
+  boolean exportBatch() {
+    if (batch == null || batch.isEmpty()) {
+      return true;
+    }
+
+    try {
+      ThreadContextUtil.runCheckedWithClassLoader(
+          () -> ((BatchExporter) exporter).exportBatch(batch),
+          exporter.getClass().getClassLoader());
+      metrics.setLastExportedPosition(getId(), batch.getLastPosition());
+      batch.clear();
+      return true;
+    } catch (final Exception ex) {
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of {} records up to position {}",
+              batch.size(),
+              batch.getLastPosition(),
+              ex);
+      return false;
+    }
+  }
+
+  /**
+   * @return true if the exporter receives its records in batches, see {@link BatchExporter}
+   */
+  boolean isBatchExporter() {
+    return batch != null;
+  }
+
+  private boolean appendToBatch(final LoggedEvent rawEvent) {
+    if (batch.size() >= maxBatchSize && !exportBatch()) {
+      return false;
+    }
+
+    batch.append(rawEvent);
+    lastUnacknowledgedPosition = rawEvent.getPosition();
+    return true;
+  }
+
   void softPauseExporter() {
     exporterIsSoftPaused = true;
   }
@@ -247,6 +331,8 @@ final class ExporterContainer implements Controller {
   }
 
   public void close() {
+    // the records of the batch were not acknowledged yet, so they are exported again if this fails
+    exportBatch();
     try {
       ThreadContextUtil.runCheckedWithClassLoader(
           exporter::close, exporter.getClass().getClassLoader());
@@ -0,0 +1,352 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ScheduledTimer;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.time.InstantSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+
+/**
+ * Exports the records of the log stream to a single exporter, on its own actor and with its own
+ * reader, so that the exporters of a partition progress independently of each other. It is started
+ * by the {@link ExporterDirector} if parallel exporting is enabled, which remains responsible for
+ * enabling and disabling exporters, for pausing and resuming, and for distributing the exporter
+ * state to the followers.
+ *
+ * <p>The position and metadata of the exporter are written to the exporter state through a
+ * transaction context of its own, such that the director can read the positions of all exporters at
+ * any time.
+ */
+final class ExporterContainerActor extends Actor implements LogRecordAwaiter {
+
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the exporter position %s in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private static final Duration BATCH_EXPORT_RETRY_DELAY = Duration.ofSeconds(1);
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+
+  private final String name;
+  private final int partitionId;
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final EventFilter eventFilter;
+  private final Listener listener;
+  private final RecordExporter recordExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private LogStreamReader logStreamReader;
+  private ExporterPhase exporterPhase;
+  private boolean inExportingPhase;
+  private ScheduledTimer batchExportRetryTimer;
+
+  // the position of the last record which was exported or skipped, read by the director
+  private volatile long processedPosition = -1L;
+
+  ExporterContainerActor(
+      final String name,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final InstantSource clock,
+      final EventFilter eventFilter,
+      final ExporterPhase exporterPhase,
+      final Listener listener) {
+    this.name = name;
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.eventFilter = eventFilter;
+    this.exporterPhase = exporterPhase;
+    this.listener = listener;
+    partitionId = logStream.getPartitionId();
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId, clock);
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  long getProcessedPosition() {
+    return processedPosition;
+  }
+
+  ActorFuture<Void> pauseExporting() {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return actor.call(
+        () -> {
+          exporterPhase = ExporterPhase.PAUSED;
+        });
+  }
+
+  ActorFuture<Void> softPauseExporting() {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return actor.call(
+        () -> {
+          container.softPauseExporter();
+          exporterPhase = ExporterPhase.SOFT_PAUSED;
+        });
+  }
+
+  ActorFuture<Void> resumeExporting() {
+    if (actor.isClosed()) {
+      return CompletableActorFuture.completed(null);
+    }
+    return actor.call(
+        () -> {
+          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+            container.undoSoftPauseExporter();
+          }
+          exporterPhase = ExporterPhase.EXPORTING;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    logStreamReader = logStream.newLogStreamReader();
+    // the exporter state is not thread-safe, so the exporter needs its own, on its own transaction
+    // context; it is backed by the same column family as the one of the director
+    final var state = new ExportersState(zeebeDb, zeebeDb.createContext());
+    container.initContainer(actor, metrics, state, exporterPhase);
+  }
+
+  @Override
+  protected void onActorStarted() {
+    isOpened.set(true);
+    final var openFuture =
+        new BackOffRetryStrategy(actor, Duration.ofSeconds(10))
+            .runWithRetry(
+                () -> {
+                  try {
+                    container.openExporter();
+                    return true;
+                  } catch (final Exception e) {
+                    LOG.error("Failed to open exporter '{}'. Retrying...", container.getId(), e);
+                    return false;
+                  }
+                },
+                this::isClosed);
+
+    // Don't need to handle error as any are caught within the runWithRetry try catch
+    actor.runOnCompletion(
+        openFuture,
+        (opened, error) -> {
+          if (!isClosed()) {
+            startExporting();
+          }
+        });
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    actor.fail(failure);
+    listener.onFailure(failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  private void startExporting() {
+    // unlike the director, which starts from the lowest position of all exporters, each exporter
+    // continues from its own position
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(
+          String.format(ERROR_MESSAGE_RECOVER_FAILED, position, getName()));
+    }
+
+    logStream.registerRecordAvailableListener(this);
+    if (exporterPhase != ExporterPhase.PAUSED) {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter == null || eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    } else if (shouldExportBatches()) {
+      exportBatches();
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened.get()
+        && logStreamReader.hasNext()
+        && !inExportingPhase
+        && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private boolean shouldExportBatches() {
+    // the records which a batch exporter received are exported as soon as there are no further
+    // records to add to its batch
+    return isOpened.get()
+        && !logStreamReader.hasNext()
+        && !inExportingPhase
+        && exporterPhase != ExporterPhase.PAUSED;
+  }
+
+  private void exportBatches() {
+    if (!recordExporter.exportBatches() && batchExportRetryTimer == null) {
+      batchExportRetryTimer =
+          actor.schedule(
+              BATCH_EXPORT_RETRY_DELAY,
+              () -> {
+                batchExportRetryTimer = null;
+                readNextEvent();
+              });
+    }
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    final long eventPosition = currentEvent.getPosition();
+
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+    container.updatePositionOnSkipIfUpToDate(eventPosition);
+    onProcessed(eventPosition);
+
+    actor.submit(this::readNextEvent);
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  isOpened.set(false);
+                  listener.onExportingAborted();
+                } else {
+                  final var typedEvent = recordExporter.getTypedEvent();
+                  metrics.eventExported(typedEvent.getValueType());
+                  onProcessed(typedEvent.getPosition());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private void onProcessed(final long position) {
+    final long previousPosition = processedPosition;
+    processedPosition = position;
+    listener.onProcessed(previousPosition);
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+
+  /**
+   * Notified by the actor of an exporter, from that actor. Implementations must hand over to their
+   * own actor before doing any work which is not thread-safe.
+   */
+  interface Listener {
+
+    /**
+     * The exporter exported or skipped a record, see {@link #getProcessedPosition()}.
+     *
+     * @param previousPosition the processed position of the exporter before this record
+     */
+    void onProcessed(long previousPosition);
+
+    /** The exporter failed to export a record and gave up retrying. */
+    void onExportingAborted();
+
+    void onFailure(Throwable failure);
+  }
+}
@@ -40,6 +40,7 @@ import java.time.InstantSource;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -58,6 +59,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
   private static final String EXPORTER_STATE_TOPIC_FORMAT = "exporterState-%d";
 
+  private static final Duration BATCH_EXPORT_RETRY_DELAY = Duration.ofSeconds(1);
+
   private static final Logger LOG = Loggers.EXPORTER_LOGGER;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
 
@@ -79,6 +82,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private volatile HealthReport healthReport;
 
   private boolean inExportingPhase;
+  private ScheduledTimer batchExportRetryTimer;
   private ExporterPhase exporterPhase;
   private final PartitionMessagingService partitionMessagingService;
   private final String exporterPositionsTopic;
@@ -93,6 +97,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   // The actor is still running, but it is not actively doing any work.
   private boolean idle;
   private final InstantSource clock;
+  // if true, each exporter exports on its own actor, see ExporterContainerActor
+  private final boolean parallelExporting;
+  private final Map<String, ExporterContainerActor> containerActors = new LinkedHashMap<>();
+  private ActorSchedulingService actorSchedulingService;
+  // read by the actors of the exporters, to only request an update if they may advance it
+  private volatile long lastExportedPosition = -1L;
+  private final AtomicBoolean exportedPositionUpdateScheduled = new AtomicBoolean(false);
 
   public ExporterDirector(
       final ExporterDirectorContext context, final ExporterPhase exporterPhase) {
@@ -124,12 +135,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
     positionsToSkipFilter = context.getPositionsToSkipFilter();
+    parallelExporting = context.isParallelExporting();
 
     // needs name to be initialized
     healthReport = HealthReport.healthy(this);
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -151,11 +164,14 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          metrics.setExporterPaused();
-          exporterPhase = ExporterPhase.PAUSED;
-        });
+    return actor
+        .call(
+            () -> {
+              metrics.setExporterPaused();
+              exporterPhase = ExporterPhase.PAUSED;
+              return forEachContainerActor(ExporterContainerActor::pauseExporting);
+            })
+        .andThen(Function.identity(), actor);
   }
 
   /**
@@ -173,12 +189,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       // are added.
       return CompletableActorFuture.completed(null);
     }
-    return actor.call(
-        () -> {
-          containers.stream().forEach(ExporterContainer::softPauseExporter);
-          exporterPhase = ExporterPhase.SOFT_PAUSED;
-          metrics.setExporterSoftPaused();
-        });
+    return actor
+        .call(
+            () -> {
+              containers.stream()
+                  .filter(container -> !containerActors.containsKey(container.getId()))
+                  .forEach(ExporterContainer::softPauseExporter);
+              exporterPhase = ExporterPhase.SOFT_PAUSED;
+              metrics.setExporterSoftPaused();
+              return forEachContainerActor(ExporterContainerActor::softPauseExporting);
+            })
+        .andThen(Function.identity(), actor);
   }
 
   /**
@@ -194,17 +215,22 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(
-        () -> {
-          if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
-            containers.stream().forEach(ExporterContainer::undoSoftPauseExporter);
-          }
-          exporterPhase = ExporterPhase.EXPORTING;
-          metrics.setExporterActive();
-          if (exporterMode == ExporterMode.ACTIVE) {
-            actor.submit(this::readNextEvent);
-          }
-        });
+    return actor
+        .call(
+            () -> {
+              if (exporterPhase == ExporterPhase.SOFT_PAUSED) {
+                containers.stream()
+                    .filter(container -> !containerActors.containsKey(container.getId()))
+                    .forEach(ExporterContainer::undoSoftPauseExporter);
+              }
+              exporterPhase = ExporterPhase.EXPORTING;
+              metrics.setExporterActive();
+              if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
+                actor.submit(this::readNextEvent);
+              }
+              return forEachContainerActor(ExporterContainerActor::resumeExporting);
+            })
+        .andThen(Function.identity(), actor);
   }
 
   /**
@@ -219,20 +245,38 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       return CompletableActorFuture.completed(null);
     }
 
-    return actor.call(() -> removeExporter(exporterId));
+    return actor.call(() -> removeExporter(exporterId)).andThen(Function.identity(), actor);
   }
 
-  private void removeExporter(final String exporterId) {
-    containers.stream()
-        .filter(c -> c.getId().equals(exporterId))
-        .findFirst()
-        .ifPresentOrElse(
-            container -> removeExporter(exporterId, container),
-            () -> LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId));
+  private ActorFuture<Void> removeExporter(final String exporterId) {
+    final var container = containers.stream().filter(c -> c.getId().equals(exporterId)).findFirst();
+    if (container.isEmpty()) {
+      LOG.debug("Exporter '{}' is not found. It may be already removed.", exporterId);
+      return CompletableActorFuture.completed(null);
+    }
+
+    final var containerActor = containerActors.remove(exporterId);
+    if (containerActor == null) {
+      container.get().close();
+      removeExporter(exporterId, container.get());
+      return CompletableActorFuture.completed(null);
+    }
+
+    // the exporter's actor closes the exporter; remove its state only afterwards, so that it is not
+    // written again by a pending position update
+    final var removed = new CompletableActorFuture<Void>();
+    actor.runOnCompletion(
+        containerActor.closeAsync(),
+        (closed, error) -> {
+          removeExporter(exporterId, container.get());
+          // the removed exporter may have held back the lowest exported position
+          updateExportedPosition();
+          removed.complete(null);
+        });
+    return removed;
   }
 
   private void removeExporter(final String exporterId, final ExporterContainer container) {
-    container.close();
     containers.remove(container);
     state.removeExporterState(exporterId);
     // After removing this exporter, the exporter index has changed. Reset it so that we don't
@@ -323,7 +367,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
     // initializes metadata and position in the runtime state
     container.initMetadata();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && parallelExporting) {
+      startContainerActor(container);
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       container.openExporter();
     }
     containers.add(container);
@@ -355,7 +401,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (exporterMode == ExporterMode.ACTIVE && !parallelExporting) {
       logStreamReader = logStream.newLogStreamReader();
     }
   }
@@ -396,6 +442,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
     }
     logStream.removeRecordAvailableListener(this);
+    for (final var containerActor : containerActors.values()) {
+      actor.runOnCompletionBlockingCurrentPhase(containerActor.closeAsync(), (closed, error) -> {});
+    }
   }
 
   @Override
@@ -407,7 +456,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    containers.forEach(ExporterContainer::close);
+    // the exporters with an actor of their own are closed by that actor
+    containers.stream()
+        .filter(container -> !containerActors.containsKey(container.getId()))
+        .forEach(ExporterContainer::close);
     exporterDistributionService.close();
   }
 
@@ -450,8 +502,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       container.configureExporter();
     }
 
-    eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
-    LOG.debug("Set event filter for exporters: {}", eventFilter);
+    // with parallel exporting, the actor of each exporter filters the records for its exporter
+    if (!parallelExporting) {
+      eventFilter = positionsToSkipFilter.and(createEventFilter(containers));
+      LOG.debug("Set event filter for exporters: {}", eventFilter);
+    }
   }
 
   private void recoverFromSnapshot() {
@@ -482,7 +537,13 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                     Function.identity(),
                     type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
 
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+    // the content of a record is only read if any exporter filters by it
+    final List<ExporterContainer> contentFilteringContainers =
+        containers.stream().anyMatch(ExporterContainer::hasContentFilter)
+            ? List.copyOf(containers)
+            : List.of();
+
+    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes, contentFilteringContainers);
   }
 
   private void onFailure() {
@@ -518,6 +579,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void startActiveExportingMode() {
+    if (parallelExporting) {
+      startParallelExportingMode();
+      return;
+    }
+
     final var containerOpenFutures = new ArrayList<ActorFuture<Boolean>>();
     for (final ExporterContainer container : containers) {
       container.initMetadata();
@@ -553,10 +619,88 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void restartActiveExportingMode() {
+    if (parallelExporting) {
+      // the actors of the added exporters are already started
+      startExporterStateDistribution();
+      return;
+    }
+
     logStreamReader = logStream.newLogStreamReader();
     startActiveExportingFrom(-1);
   }
 
+  /**
+   * Starts an actor with its own reader for each exporter, which exports independently of the
+   * others. The director only distributes the exporter state, and reports the position up to which
+   * all exporters have exported to the flow control.
+   */
+  private void startParallelExportingMode() {
+    for (final ExporterContainer container : containers) {
+      container.initMetadata();
+    }
+
+    if (state.hasExporters()) {
+      containers.forEach(this::startContainerActor);
+      startExporterStateDistribution();
+    } else {
+      becomeIdle();
+    }
+  }
+
+  private void startContainerActor(final ExporterContainer container) {
+    final var containerActor =
+        new ExporterContainerActor(
+            name + "-" + container.getId(),
+            container,
+            logStream,
+            zeebeDb,
+            metrics,
+            clock,
+            positionsToSkipFilter.and(createEventFilter(List.of(container))),
+            exporterPhase,
+            new ContainerActorListener());
+    containerActors.put(container.getId(), containerActor);
+
+    actor.runOnCompletion(
+        actorSchedulingService.submitActor(containerActor, SchedulingHints.ioBound()),
+        (started, error) -> {
+          if (error != null) {
+            LOG.error("Failed to start exporter '{}'", container.getId(), error);
+            onFailure();
+          }
+        });
+  }
+
+  private void updateExportedPosition() {
+    exportedPositionUpdateScheduled.set(false);
+    final long exportedPosition =
+        containerActors.values().stream()
+            .mapToLong(ExporterContainerActor::getProcessedPosition)
+            .min()
+            .orElse(-1L);
+    if (exportedPosition > lastExportedPosition) {
+      lastExportedPosition = exportedPosition;
+      logStream.getFlowControl().onExported(exportedPosition);
+    }
+  }
+
+  private ActorFuture<Void> forEachContainerActor(
+      final Function<ExporterContainerActor, ActorFuture<Void>> operation) {
+    final var completed = new CompletableActorFuture<Void>();
+    final List<ActorFuture<Void>> futures =
+        containerActors.values().stream().map(operation).toList();
+    actor.runOnCompletion(
+        futures,
+        error -> {
+          if (error != null) {
+            completed.completeExceptionally(error);
+          } else {
+            completed.complete(null);
+          }
+        });
+    return completed;
+  }
+
   private void startActiveExportingFrom(final long snapshotPosition) {
     final boolean failedToRecoverReader = !logStreamReader.seekToNextEvent(snapshotPosition);
     if (failedToRecoverReader) {
@@ -568,6 +712,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       actor.submit(this::readNextEvent);
     }
 
+    startExporterStateDistribution();
+  }
+
+  private void startExporterStateDistribution() {
     exporterDistributionTimer =
         actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
   }
@@ -623,6 +771,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       } else {
         skipRecord(currentEvent);
       }
+    } else if (shouldExportBatches()) {
+      exportBatches();
     }
   }
 
@@ -634,6 +784,28 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         && !exporterPhase.equals(ExporterPhase.PAUSED);
   }
 
+  private boolean shouldExportBatches() {
+    // the records which batch exporters received are exported as soon as there are no further
+    // records to add to their batches
+    return isOpened.get()
+        && !idle
+        && !logStreamReader.hasNext()
+        && !inExportingPhase
+        && !exporterPhase.equals(ExporterPhase.PAUSED);
+  }
+
+  private void exportBatches() {
+    if (!recordExporter.exportBatches() && batchExportRetryTimer == null) {
+      batchExportRetryTimer =
+          actor.schedule(
+              BATCH_EXPORT_RETRY_DELAY,
+              () -> {
+                batchExportRetryTimer = null;
+                readNextEvent();
+              });
+    }
+  }
+
   private void exportEvent(final LoggedEvent event) {
     final ActorFuture<Boolean> wrapRetryFuture =
         recordWrapStrategy.runWithRetry(
@@ -726,17 +898,43 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
    */
   public record ExporterInitializationInfo(long metadataVersion, String initializeFrom) {}
 
+  private final class ContainerActorListener implements ExporterContainerActor.Listener {
+
+    @Override
+    public void onProcessed(final long previousPosition) {
+      // only an exporter at the lowest exported position can advance it, and at most one update is
+      // pending at any time, so that exporting a record doesn't have to hand over to the director
+      if (previousPosition <= lastExportedPosition
+          && exportedPositionUpdateScheduled.compareAndSet(false, true)) {
+        actor.run(ExporterDirector.this::updateExportedPosition);
+      }
+    }
+
+    @Override
+    public void onExportingAborted() {
+      actor.run(ExporterDirector.this::onFailure);
+    }
+
+    @Override
+    public void onFailure(final Throwable failure) {
+      actor.run(() -> handleFailure(failure));
+    }
+  }
+
   private static class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
     private final Map<RecordType, Boolean> acceptRecordTypes;
     private final Map<ValueType, Boolean> acceptValueTypes;
+    private final List<ExporterContainer> contentFilteringContainers;
 
     ExporterEventFilter(
         final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
+        final Map<ValueType, Boolean> acceptValueTypes,
+        final List<ExporterContainer> contentFilteringContainers) {
       this.acceptRecordTypes = acceptRecordTypes;
       this.acceptValueTypes = acceptValueTypes;
+      this.contentFilteringContainers = contentFilteringContainers;
     }
 
     @Override
@@ -746,7 +944,21 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       final RecordType recordType = metadata.getRecordType();
       final ValueType valueType = metadata.getValueType();
 
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+      if (!acceptRecordTypes.get(recordType) || !acceptValueTypes.get(valueType)) {
+        return false;
+      }
+
+      if (contentFilteringContainers.isEmpty()) {
+        return true;
+      }
+
+      // the value is only deserialized if at least one exporter accepts the record as a whole
+      for (final ExporterContainer container : contentFilteringContainers) {
+        if (container.acceptRecord(metadata, event)) {
+          return true;
+        }
+      }
+      return false;
     }
 
     @Override
@@ -756,6 +968,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           + acceptRecordTypes
           + ", acceptValueTypes="
           + acceptValueTypes
+          + ", contentFilteringContainers="
+          + contentFilteringContainers.stream().map(ExporterContainer::getId).toList()
           + '}';
     }
   }
@@ -33,6 +33,7 @@ public final class ExporterDirectorContext {
   private EventFilter positionsToSkipFilter;
   private MeterRegistry meterRegistry;
   private InstantSource clock;
+  private boolean parallelExporting = false;
 
   public int getId() {
     return id;
@@ -78,6 +79,10 @@ public final class ExporterDirectorContext {
     return clock;
   }
 
+  public boolean isParallelExporting() {
+    return parallelExporting;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -135,6 +140,15 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * @param parallelExporting if true, each exporter exports on its own actor with its own log
+   *     stream reader, instead of all exporters sharing the actor and reader of the director
+   */
+  public ExporterDirectorContext parallelExporting(final boolean parallelExporting) {
+    this.parallelExporting = parallelExporting;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.RecordBatch;
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.stream.impl.records.RecordValues;
+import io.camunda.zeebe.stream.impl.records.TypedRecordImpl;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.collections.IntArrayList;
+
+/**
+ * Collects the raw events for a {@link io.camunda.zeebe.exporter.api.BatchExporter}. The events are
+ * copied one after another into a single buffer, which is reused for the next batch, and are only
+ * decoded while the batch is iterated. The iteration reuses a single record, like the {@link
+ * RecordExporter} does when exporting record by record.
+ */
+final class ExporterRecordBatch implements RecordBatch {
+
+  private final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private final IntArrayList eventOffsets = new IntArrayList();
+  private final LoggedEventImpl event = new LoggedEventImpl();
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final RecordValues recordValues = new RecordValues();
+  private final TypedRecordImpl typedRecord;
+  private int length;
+  private long lastPosition = -1L;
+
+  ExporterRecordBatch(final int partitionId) {
+    typedRecord = new TypedRecordImpl(partitionId);
+  }
+
+  void append(final LoggedEvent rawEvent) {
+    eventOffsets.addInt(length);
+    rawEvent.write(buffer, length);
+    length += rawEvent.getLength();
+    lastPosition = rawEvent.getPosition();
+  }
+
+  void clear() {
+    eventOffsets.clear();
+    length = 0;
+  }
+
+  boolean isEmpty() {
+    return eventOffsets.isEmpty();
+  }
+
+  @Override
+  public int size() {
+    return eventOffsets.size();
+  }
+
+  @Override
+  public long getLastPosition() {
+    return lastPosition;
+  }
+
+  @Override
+  public Iterator<Record<?>> iterator() {
+    return new Iterator<>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < eventOffsets.size();
+      }
+
+      @Override
+      public Record<?> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return wrap(eventOffsets.getInt(index++));
+      }
+    };
+  }
+
+  private Record<?> wrap(final int offset) {
+    event.wrap(buffer, offset);
+    event.readMetadata(metadata);
+    // only events with a known value type are appended, see RecordExporter
+    typedRecord.wrap(
+        event, metadata, recordValues.readRecordValueLazily(event, metadata.getValueType()));
+    return typedRecord;
+  }
+}
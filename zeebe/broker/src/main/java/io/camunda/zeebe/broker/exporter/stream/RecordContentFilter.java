@@ -0,0 +1,121 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+
+/**
+ * Evaluates the content predicates of a {@link RecordFilter} on the MessagePack encoded value of a
+ * logged event, without deserializing the value. Only the top-level properties of the value are
+ * read, and only the ones for which the filter implements a predicate.
+ */
+final class RecordContentFilter {
+
+  private static final DirectBuffer TENANT_ID = BufferUtil.wrapString("tenantId");
+  private static final DirectBuffer BPMN_PROCESS_ID = BufferUtil.wrapString("bpmnProcessId");
+  private static final DirectBuffer VARIABLE_NAME = BufferUtil.wrapString("name");
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final RecordFilter filter;
+  private final boolean filtersTenant;
+  private final boolean filtersBpmnProcessId;
+  private final boolean filtersVariableName;
+
+  private RecordContentFilter(
+      final RecordFilter filter,
+      final boolean filtersTenant,
+      final boolean filtersBpmnProcessId,
+      final boolean filtersVariableName) {
+    this.filter = filter;
+    this.filtersTenant = filtersTenant;
+    this.filtersBpmnProcessId = filtersBpmnProcessId;
+    this.filtersVariableName = filtersVariableName;
+  }
+
+  /**
+   * @return a content filter for the given record filter, or null if the record filter doesn't
+   *     implement any of the content predicates
+   */
+  static RecordContentFilter of(final RecordFilter filter) {
+    final boolean filtersTenant = overrides(filter, "acceptTenant");
+    final boolean filtersBpmnProcessId = overrides(filter, "acceptBpmnProcessId");
+    final boolean filtersVariableName = overrides(filter, "acceptVariableName");
+
+    if (!filtersTenant && !filtersBpmnProcessId && !filtersVariableName) {
+      return null;
+    }
+    return new RecordContentFilter(
+        filter, filtersTenant, filtersBpmnProcessId, filtersVariableName);
+  }
+
+  boolean applies(final LoggedEvent event, final ValueType valueType) {
+    final boolean isVariable = valueType == ValueType.VARIABLE;
+    if (!filtersTenant && !filtersBpmnProcessId && !(filtersVariableName && isVariable)) {
+      return true;
+    }
+
+    reader.wrap(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    final int size = reader.readMapHeader();
+    for (int i = 0; i < size; i++) {
+      final DirectBuffer key = reader.readToken().getValueBuffer();
+
+      if (filtersTenant && BufferUtil.equals(key, TENANT_ID)) {
+        final String tenantId = readStringValue();
+        if (tenantId != null && !filter.acceptTenant(tenantId)) {
+          return false;
+        }
+      } else if (filtersBpmnProcessId && BufferUtil.equals(key, BPMN_PROCESS_ID)) {
+        final String bpmnProcessId = readStringValue();
+        if (bpmnProcessId != null && !filter.acceptBpmnProcessId(bpmnProcessId)) {
+          return false;
+        }
+      } else if (filtersVariableName && isVariable && BufferUtil.equals(key, VARIABLE_NAME)) {
+        final String name = readStringValue();
+        if (name != null && !filter.acceptVariableName(name)) {
+          return false;
+        }
+      } else {
+        reader.skipValue();
+      }
+    }
+
+    return true;
+  }
+
+  /** Reads the next value, and returns it if it's a string, or null otherwise. */
+  private String readStringValue() {
+    final MsgPackToken value = reader.readToken();
+    return switch (value.getType()) {
+      case STRING -> BufferUtil.bufferAsString(value.getValueBuffer());
+      case MAP -> {
+        reader.skipValues(2L * value.getSize());
+        yield null;
+      }
+      case ARRAY -> {
+        reader.skipValues(value.getSize());
+        yield null;
+      }
+      default -> null;
+    };
+  }
+
+  private static boolean overrides(final RecordFilter filter, final String predicate) {
+    try {
+      return filter.getClass().getMethod(predicate, String.class).getDeclaringClass()
+          != RecordFilter.class;
+    } catch (final NoSuchMethodException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -24,6 +24,7 @@ final class RecordExporter {
   private final TypedRecordImpl typedEvent;
   private final ExporterMetrics exporterMetrics;
 
+  private LoggedEvent rawEvent;
   private boolean shouldExport;
   private int exporterIndex;
   private final InstantSource clock;
@@ -42,11 +43,14 @@ final class RecordExporter {
   void wrap(final LoggedEvent rawEvent) {
     rawEvent.readMetadata(rawMetadata);
 
+    // exporters usually only look at a few properties of a record, and the record is only valid
+    // until the next one is wrapped, so there is no need to decode all properties up front
     final UnifiedRecordValue recordValue =
-        recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
+        recordValues.readRecordValueLazily(rawEvent, rawMetadata.getValueType());
 
     shouldExport = recordValue != null;
     if (shouldExport) {
+      this.rawEvent = rawEvent;
       typedEvent.wrap(rawEvent, rawMetadata, recordValue);
       exporterIndex = 0;
     }
@@ -75,9 +79,12 @@ final class RecordExporter {
 
       try (final var timer =
           exporterMetrics.startExporterExportingTimer(valueType, container.getId())) {
-        if (container.exportRecord(rawMetadata, typedEvent)) {
+        if (container.exportRecord(rawEvent, rawMetadata, typedEvent)) {
           exporterIndex++;
-          exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+          // the records of batch exporters count as exported once their batch is exported
+          if (!container.isBatchExporter()) {
+            exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+          }
         } else {
           return false;
         }
@@ -87,6 +94,20 @@ final class RecordExporter {
     return true;
   }
 
+  /**
+   * Exports the records which batch exporters received since their last batch, e.g. because there
+   * are no further records to export at the moment.
+   *
+   * @return true if all batches were exported, false if it must be tried again
+   */
+  boolean exportBatches() {
+    boolean exported = true;
+    for (final ExporterContainer container : containers) {
+      exported &= container.exportBatch();
+    }
+    return exported;
+  }
+
   TypedRecordImpl getTypedEvent() {
     return typedEvent;
   }
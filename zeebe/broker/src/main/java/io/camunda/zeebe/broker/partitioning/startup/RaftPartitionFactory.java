@@ -99,6 +99,10 @@ public final class RaftPartitionFactory {
         brokerCfg.getExperimental().getRaft().getSnapshotRequestTimeout());
     partitionConfig.setSnapshotChunkSize(
         (int) brokerCfg.getExperimental().getRaft().getSnapshotChunkSize().toBytes());
+    partitionConfig.setMaxInFlightSnapshotChunks(
+        brokerCfg.getExperimental().getRaft().getMaxInFlightSnapshotChunks());
+    partitionConfig.setSnapshotChunkCompression(
+        brokerCfg.getExperimental().getRaft().getSnapshotChunkCompression());
     partitionConfig.setConfigurationChangeTimeout(
         brokerCfg.getExperimental().getRaft().getConfigurationChangeTimeout());
     partitionConfig.setMaxQuorumResponseTimeout(
@@ -7,9 +7,15 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private boolean virtualIoThreads = false;
+  private List<String> cpuSets = new ArrayList<>();
+  private boolean partitionAffinity = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +33,30 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public boolean isVirtualIoThreads() {
+    return virtualIoThreads;
+  }
+
+  public void setVirtualIoThreads(final boolean virtualIoThreads) {
+    this.virtualIoThreads = virtualIoThreads;
+  }
+
+  public List<String> getCpuSets() {
+    return cpuSets;
+  }
+
+  public void setCpuSets(final List<String> cpuSets) {
+    this.cpuSets = cpuSets;
+  }
+
+  public boolean isPartitionAffinity() {
+    return partitionAffinity;
+  }
+
+  public void setPartitionAffinity(final boolean partitionAffinity) {
+    this.partitionAffinity = partitionAffinity;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +64,12 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", virtualIoThreads="
+        + virtualIoThreads
+        + ", cpuSets="
+        + cpuSets
+        + ", partitionAffinity="
+        + partitionAffinity
         + '}';
   }
 }
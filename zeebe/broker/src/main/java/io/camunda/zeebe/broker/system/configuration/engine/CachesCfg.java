@@ -15,6 +15,11 @@ public final class CachesCfg implements ConfigurationEntry {
   private int formCacheCapacity = EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
   private int resourceCacheCapacity = EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY;
+  private int activatableJobsCacheCapacity =
+      EngineConfiguration.DEFAULT_ACTIVATABLE_JOBS_CACHE_CAPACITY;
+  private int authorizationsCacheCapacity =
+      EngineConfiguration.DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY;
+  private int expressionCacheCapacity = EngineConfiguration.DEFAULT_EXPRESSION_CACHE_CAPACITY;
 
   public int getDrgCacheCapacity() {
     return drgCacheCapacity;
@@ -48,6 +53,30 @@ public final class CachesCfg implements ConfigurationEntry {
     this.resourceCacheCapacity = resourceCacheCapacity;
   }
 
+  public int getActivatableJobsCacheCapacity() {
+    return activatableJobsCacheCapacity;
+  }
+
+  public void setActivatableJobsCacheCapacity(final int activatableJobsCacheCapacity) {
+    this.activatableJobsCacheCapacity = activatableJobsCacheCapacity;
+  }
+
+  public int getAuthorizationsCacheCapacity() {
+    return authorizationsCacheCapacity;
+  }
+
+  public void setAuthorizationsCacheCapacity(final int authorizationsCacheCapacity) {
+    this.authorizationsCacheCapacity = authorizationsCacheCapacity;
+  }
+
+  public int getExpressionCacheCapacity() {
+    return expressionCacheCapacity;
+  }
+
+  public void setExpressionCacheCapacity(final int expressionCacheCapacity) {
+    this.expressionCacheCapacity = expressionCacheCapacity;
+  }
+
   @Override
   public String toString() {
     return "CachesCfg{"
@@ -59,6 +88,12 @@ public final class CachesCfg implements ConfigurationEntry {
         + processCacheCapacity
         + ", resourceCacheCapacity="
         + resourceCacheCapacity
+        + ", activatableJobsCacheCapacity="
+        + activatableJobsCacheCapacity
+        + ", authorizationsCacheCapacity="
+        + authorizationsCacheCapacity
+        + ", expressionCacheCapacity="
+        + expressionCacheCapacity
         + '}';
   }
 }
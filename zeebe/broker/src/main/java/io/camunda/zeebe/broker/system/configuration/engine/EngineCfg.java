@@ -80,8 +80,12 @@ public final class EngineCfg implements ConfigurationEntry {
         .setFormCacheCapacity(caches.getFormCacheCapacity())
         .setResourceCacheCapacity(caches.getResourceCacheCapacity())
         .setProcessCacheCapacity(caches.getProcessCacheCapacity())
+        .setActivatableJobsCacheCapacity(caches.getActivatableJobsCacheCapacity())
+        .setAuthorizationsCacheCapacity(caches.getAuthorizationsCacheCapacity())
+        .setExpressionCacheCapacity(caches.getExpressionCacheCapacity())
         .setJobsTimeoutCheckerPollingInterval(jobs.getTimeoutCheckerPollingInterval())
         .setJobsTimeoutCheckerBatchLimit(jobs.getTimeoutCheckerBatchLimit())
+        .setJobsTimeoutCheckerBatchSize(jobs.getTimeoutCheckerBatchSize())
         .setValidatorsResultsOutputMaxSize(validators.getResultsOutputMaxSize());
   }
 }
@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.broker.system.configuration.engine;
 
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.configuration.ConfigurationEntry;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import java.time.Duration;
@@ -16,6 +17,15 @@ public class JobsCfg implements ConfigurationEntry {
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int timeoutCheckerBatchLimit =
       EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private int timeoutCheckerBatchSize = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_SIZE;
+
+  @Override
+  public void init(final BrokerCfg globalConfig, final String brokerBase) {
+    if (timeoutCheckerBatchSize < 1) {
+      throw new IllegalArgumentException(
+          "timeoutCheckerBatchSize must be >= 1 but was %s".formatted(timeoutCheckerBatchSize));
+    }
+  }
 
   public Duration getTimeoutCheckerPollingInterval() {
     return timeoutCheckerPollingInterval;
@@ -33,6 +43,14 @@ public class JobsCfg implements ConfigurationEntry {
     this.timeoutCheckerBatchLimit = timeoutCheckerBatchLimit;
   }
 
+  public int getTimeoutCheckerBatchSize() {
+    return timeoutCheckerBatchSize;
+  }
+
+  public void setTimeoutCheckerBatchSize(final int timeoutCheckerBatchSize) {
+    this.timeoutCheckerBatchSize = timeoutCheckerBatchSize;
+  }
+
   @Override
   public String toString() {
     return "JobsCfg{"
@@ -40,6 +58,8 @@ public class JobsCfg implements ConfigurationEntry {
         + timeoutCheckerPollingInterval
         + ", timeoutCheckerBatchLimit="
         + timeoutCheckerBatchLimit
+        + ", timeoutCheckerBatchSize="
+        + timeoutCheckerBatchSize
         + '}';
   }
 }
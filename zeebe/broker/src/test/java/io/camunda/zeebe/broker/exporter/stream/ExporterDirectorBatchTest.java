@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.RecordBatch;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorBatchTest {
+  private static final String EXPORTER_ID = "batch-exporter";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter();
+  private final TestBatchExporter exporter = new TestBatchExporter();
+
+  @After
+  public void tearDown() throws Exception {
+    rule.closeExporterDirector();
+  }
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    startExporterDirector();
+
+    // when
+    final List<Long> positions = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      positions.add(rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord()));
+    }
+
+    // then
+    final long lastPosition = positions.getLast();
+    Awaitility.await("until the last batch is acknowledged")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID))
+                    .isEqualTo(lastPosition));
+    assertThat(exporter.exportedRecords).extracting(Record::getPosition).isEqualTo(positions);
+    assertThat(exporter.batchSizes)
+        .allSatisfy(size -> assertThat(size).isBetween(1, TestBatchExporter.MAX_BATCH_SIZE));
+    assertThat(exporter.singleExports).hasValue(0);
+  }
+
+  @Test
+  public void shouldRetryToExportBatch() {
+    // given
+    exporter.failures.set(2);
+    startExporterDirector();
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("until the batch is exported after it failed")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID))
+                    .isEqualTo(lastPosition));
+    assertThat(exporter.exportedRecords).hasSize(2);
+  }
+
+  @Test
+  public void shouldUpdateLastExportedPositionMetricOnceBatchIsExported() {
+    // given
+    exporter.failures.set(Integer.MAX_VALUE);
+    startExporterDirector();
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    Awaitility.await("until the batch failed to export")
+        .until(() -> exporter.failures.get() < Integer.MAX_VALUE - 1);
+    assertThat(lastExportedPositionMetric()).isNull();
+
+    // when
+    exporter.failures.set(0);
+
+    // then
+    Awaitility.await("until the batch is exported")
+        .untilAsserted(
+            () -> assertThat(lastExportedPositionMetric()).isNotNull().isEqualTo(lastPosition));
+  }
+
+  private Long lastExportedPositionMetric() {
+    final var gauge =
+        rule.getMeterRegistry()
+            .find("zeebe.exporter.last.exported.position")
+            .tag("exporter", EXPORTER_ID)
+            .gauge();
+    return gauge == null ? null : (long) gauge.value();
+  }
+
+  private void startExporterDirector() {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(EXPORTER_ID, TestBatchExporter.class, Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    rule.startExporterDirector(List.of(descriptor));
+  }
+
+  public static final class TestBatchExporter implements BatchExporter {
+    private static final int MAX_BATCH_SIZE = 2;
+
+    private final List<Record<?>> exportedRecords = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final AtomicInteger singleExports = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+    private Controller controller;
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void export(final Record<?> record) {
+      singleExports.incrementAndGet();
+    }
+
+    @Override
+    public void exportBatch(final RecordBatch batch) {
+      if (failures.getAndDecrement() > 0) {
+        throw new IllegalStateException("expected");
+      }
+
+      batchSizes.add(batch.size());
+      batch.forEach(record -> exportedRecords.add(record.copyOf()));
+      controller.updateLastExportedRecordPosition(batch.getLastPosition());
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+      return MAX_BATCH_SIZE;
+    }
+  }
+}
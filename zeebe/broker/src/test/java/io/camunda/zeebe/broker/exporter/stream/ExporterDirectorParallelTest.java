@@ -0,0 +1,162 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorParallelTest {
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withParallelExporting();
+  private final Map<String, ControlledTestExporter> exporters = new HashMap<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+
+  @Before
+  public void init() {
+    exporters.clear();
+    exporterDescriptors.clear();
+
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    rule.closeExporterDirector();
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter = spy(new ControlledTestExporter());
+    exporter.shouldAutoUpdatePosition(true);
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.put(exporterId, exporter);
+    exporterDescriptors.add(descriptor);
+  }
+
+  @Test
+  public void shouldExportToAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("until all exporters updated their position")
+        .untilAsserted(
+            () -> {
+              assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1))
+                  .isEqualTo(lastPosition);
+              assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                  .isEqualTo(lastPosition);
+            });
+    assertThat(exporters.get(EXPORTER_ID_1).getExportedRecords()).hasSize(2);
+    assertThat(exporters.get(EXPORTER_ID_2).getExportedRecords()).hasSize(2);
+    assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(lastPosition);
+  }
+
+  @Test
+  public void shouldExportToOtherExportersIfOneExporterFails() {
+    // given
+    exporters
+        .get(EXPORTER_ID_1)
+        .onExport(
+            record -> {
+              throw new IllegalStateException("expected");
+            });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("until the exporter which doesn't fail exported all records")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(lastPosition));
+    assertThat(exporters.get(EXPORTER_ID_1).getExportedRecords()).isEmpty();
+    assertThat(rule.getDirector().getLowestPosition().join())
+        .describedAs("The failing exporter holds back the lowest position")
+        .isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldDisableExporter() {
+    // given
+    exporters
+        .get(EXPORTER_ID_1)
+        .onExport(
+            record -> {
+              throw new IllegalStateException("expected");
+            });
+    rule.startExporterDirector(exporterDescriptors);
+    final long lastPosition = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // when
+    rule.getDirector().disableExporter(EXPORTER_ID_1).join();
+
+    // then
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1))
+        .isEqualTo(ExportersState.VALUE_NOT_FOUND);
+    Awaitility.await("until the lowest position is the one of the remaining exporter")
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(lastPosition));
+  }
+
+  @Test
+  public void shouldNotUpdatePositionsWhenSoftPaused() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+    rule.getDirector().softPauseExporting().join();
+
+    // when
+    final long position = rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+    Awaitility.await("until all exporters exported the record")
+        .untilAsserted(
+            () ->
+                assertThat(exporters.values())
+                    .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(1)));
+
+    // then
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_1)).isEqualTo(-1L);
+    assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2)).isEqualTo(-1L);
+
+    // when
+    rule.getDirector().resumeExporting().join();
+
+    // then
+    Awaitility.await("until the positions are updated after resuming")
+        .untilAsserted(
+            () -> assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(position));
+  }
+}
@@ -25,16 +25,20 @@ import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter;
 import io.camunda.zeebe.broker.exporter.util.PojoConfigurationExporter.PojoExporterConfiguration;
 import io.camunda.zeebe.engine.Loggers;
 import io.camunda.zeebe.exporter.api.context.Context;
+import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.incident.IncidentRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.record.value.variable.VariableRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.VariableIntent;
 import io.camunda.zeebe.stream.impl.SkipPositionsFilter;
+import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -421,6 +425,54 @@ public final class ExporterDirectorTest {
         .contains(deploymentEvent, jobEvent);
   }
 
+  @Test
+  public void shouldApplyRecordContentFilter() {
+    // given
+    exporters
+        .get(0)
+        .onConfigure(
+            context ->
+                context.setFilter(
+                    new Context.RecordFilter() {
+                      @Override
+                      public boolean acceptType(final RecordType recordType) {
+                        return true;
+                      }
+
+                      @Override
+                      public boolean acceptValue(final ValueType valueType) {
+                        return true;
+                      }
+
+                      @Override
+                      public boolean acceptTenant(final String tenantId) {
+                        return "tenant-a".equals(tenantId);
+                      }
+
+                      @Override
+                      public boolean acceptVariableName(final String name) {
+                        return name.startsWith("a");
+                      }
+                    }));
+
+    startExporterDirector(exporterDescriptors);
+
+    // when
+    final long acceptedVariable =
+        rule.writeEvent(VariableIntent.CREATED, newVariable("a1", "tenant-a"));
+    rule.writeEvent(VariableIntent.CREATED, newVariable("b1", "tenant-a"));
+    rule.writeEvent(JobIntent.CREATED, new JobRecord().setTenantId("tenant-b"));
+    final long acceptedJob =
+        rule.writeEvent(JobIntent.CREATED, new JobRecord().setTenantId("tenant-a"));
+
+    // then
+    waitUntil(() -> exporters.get(1).getExportedRecords().size() == 4);
+
+    assertThat(exporters.get(0).getExportedRecords())
+        .extracting(Record::getPosition)
+        .containsExactly(acceptedVariable, acceptedJob);
+  }
+
   @Test
   public void shouldNotExportSkipRecordsFilter() {
     // given
@@ -779,6 +831,16 @@ public final class ExporterDirectorTest {
     return rule.writeEvent(DeploymentIntent.CREATED, event);
   }
 
+  private VariableRecord newVariable(final String name, final String tenantId) {
+    return new VariableRecord()
+        .setName(BufferUtil.wrapString(name))
+        .setValue(BufferUtil.wrapArray(MsgPackHelper.NIL))
+        .setScopeKey(1)
+        .setProcessInstanceKey(1)
+        .setProcessDefinitionKey(1)
+        .setTenantId(tenantId);
+  }
+
   private Consumer<Context> withFilter(
       final List<RecordType> acceptedTypes, final List<ValueType> valueTypes) {
     return context ->
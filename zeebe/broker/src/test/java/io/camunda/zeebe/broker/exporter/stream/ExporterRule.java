@@ -51,6 +51,7 @@ public final class ExporterRule implements TestRule {
   private final AutoCloseableRule closeables = new AutoCloseableRule();
   private final ControlledActorClock clock = new ControlledActorClock();
   private final ActorSchedulerRule actorSchedulerRule = new ActorSchedulerRule(clock);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
   private final RuleChain chain;
 
   private final ZeebeDbFactory zeebeDbFactory;
@@ -62,6 +63,7 @@ public final class ExporterRule implements TestRule {
   private ExporterDirector director;
   private Duration distributionInterval = Duration.ofSeconds(15);
   private EventFilter positionsToSkipFilter = SkipPositionsFilter.of(Set.of());
+  private boolean parallelExporting = false;
 
   private ExporterRule(final ExporterMode exporterMode) {
     this.exporterMode = exporterMode;
@@ -96,6 +98,11 @@ public final class ExporterRule implements TestRule {
     return this;
   }
 
+  public ExporterRule withParallelExporting() {
+    parallelExporting = true;
+    return this;
+  }
+
   @Override
   public Statement apply(final Statement base, final Description description) {
     return chain.apply(base, description);
@@ -129,8 +136,9 @@ public final class ExporterRule implements TestRule {
             .distributionInterval(distributionInterval)
             .partitionMessagingService(partitionMessagingService)
             .descriptors(descriptorsWithInitializationInfo)
-            .meterRegistry(new SimpleMeterRegistry())
-            .positionsToSkipFilter(positionsToSkipFilter);
+            .meterRegistry(meterRegistry)
+            .positionsToSkipFilter(positionsToSkipFilter)
+            .parallelExporting(parallelExporting);
 
     director = new ExporterDirector(context, phase);
     director.startAsync(actorSchedulerRule.get()).join();
@@ -140,6 +148,10 @@ public final class ExporterRule implements TestRule {
     return director;
   }
 
+  public SimpleMeterRegistry getMeterRegistry() {
+    return meterRegistry;
+  }
+
   public ControlledActorClock getClock() {
     return clock;
   }
@@ -13,6 +13,7 @@ import io.atomix.cluster.MemberId;
 import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.partition.PartitionMetadata;
 import io.atomix.raft.partition.RaftPartition;
+import io.atomix.raft.snapshot.SnapshotChunkCompression;
 import io.camunda.zeebe.broker.partitioning.startup.RaftPartitionFactory;
 import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -100,6 +101,36 @@ public final class RaftPartitionFactoryTest {
         .isEqualTo(chunkSize.toBytes());
   }
 
+  @Test
+  void shouldSetRaftMaxInFlightSnapshotChunks() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg.getExperimental().getRaft().setMaxInFlightSnapshotChunks(4);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getMaxInFlightSnapshotChunks()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldSetRaftSnapshotChunkCompression() {
+    // given
+    final var brokerCfg = new BrokerCfg();
+    brokerCfg
+        .getExperimental()
+        .getRaft()
+        .setSnapshotChunkCompression(SnapshotChunkCompression.ZSTD);
+
+    // when
+    final var partition = buildRaftPartition(brokerCfg);
+
+    // then
+    assertThat(partition.getPartitionConfig().getSnapshotChunkCompression())
+        .isEqualTo(SnapshotChunkCompression.ZSTD);
+  }
+
   @Test
   void shouldSetRaftConfigurationChangeTimeout() {
     // given
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
 import java.time.Duration;
@@ -34,10 +35,17 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(1));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(Integer.MAX_VALUE);
+    assertThat(configuration.getJobsTimeoutCheckerBatchSize()).isOne();
     assertThat(configuration.getFormCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_FORM_CACHE_CAPACITY);
     assertThat(configuration.getProcessCacheCapacity())
         .isEqualTo(EngineConfiguration.DEFAULT_PROCESS_CACHE_CAPACITY);
+    assertThat(configuration.getActivatableJobsCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_ACTIVATABLE_JOBS_CACHE_CAPACITY);
+    assertThat(configuration.getAuthorizationsCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY);
+    assertThat(configuration.getExpressionCacheCapacity())
+        .isEqualTo(EngineConfiguration.DEFAULT_EXPRESSION_CACHE_CAPACITY);
     assertThat(configuration.getValidatorsResultsOutputMaxSize())
         .isEqualTo(EngineConfiguration.DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE);
   }
@@ -57,8 +65,23 @@ final class EngineCfgTest {
     assertThat(configuration.getJobsTimeoutCheckerPollingInterval())
         .isEqualTo(Duration.ofSeconds(15));
     assertThat(configuration.getJobsTimeoutCheckerBatchLimit()).isEqualTo(1000);
+    assertThat(configuration.getJobsTimeoutCheckerBatchSize()).isEqualTo(100);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
     assertThat(configuration.getDrgCacheCapacity()).isEqualTo(2000L);
+    assertThat(configuration.getActivatableJobsCacheCapacity()).isEqualTo(2000);
+    assertThat(configuration.getAuthorizationsCacheCapacity()).isEqualTo(2000);
+    assertThat(configuration.getExpressionCacheCapacity()).isEqualTo(2000);
     assertThat(configuration.getValidatorsResultsOutputMaxSize()).isEqualTo(2000);
   }
+
+  @Test
+  void shouldRejectInvalidJobsTimeoutCheckerBatchSize() {
+    // given
+    environment.put("zeebe.broker.experimental.engine.jobs.timeoutCheckerBatchSize", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("empty", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("timeoutCheckerBatchSize must be >= 1");
+  }
 }
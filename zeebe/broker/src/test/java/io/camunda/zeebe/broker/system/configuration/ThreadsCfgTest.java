@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Collections;
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -115,4 +116,84 @@ final class ThreadsCfgTest {
     // then
     assertThat(cpuThreadCount).isEqualTo(6);
   }
+
+  @Test
+  void shouldNotPinThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var cpuSets = cfg.getCpuSets();
+
+    // then
+    assertThat(cpuSets).isEmpty();
+    assertThat(cfg.isPartitionAffinity()).isFalse();
+  }
+
+  @Test
+  void shouldSetCpuSetsFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var cpuSets = cfg.getCpuSets();
+
+    // then
+    assertThat(cpuSets).containsExactly("0-3,8", "4-7");
+    assertThat(cfg.isPartitionAffinity()).isTrue();
+  }
+
+  @Test
+  void shouldSetCpuSetsFromEnv() {
+    // given
+    final var environment =
+        Map.of(
+            "zeebe.broker.threads.cpuSets[0]", "0-1",
+            "zeebe.broker.threads.partitionAffinity", "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var cpuSets = cfg.getCpuSets();
+
+    // then
+    assertThat(cpuSets).containsExactly("0-1");
+    assertThat(cfg.isPartitionAffinity()).isFalse();
+  }
+
+  @Test
+  void shouldUsePlatformIoThreadsByDefault() {
+    // given
+    final ThreadsCfg cfg = new ThreadsCfg();
+
+    // when
+    final var virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isFalse();
+  }
+
+  @Test
+  void shouldSetVirtualIoThreadsFromConfig() {
+    // given
+    final var cfg = TestConfigReader.readConfig("threads-cfg", Collections.emptyMap()).getThreads();
+
+    // when
+    final var virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isTrue();
+  }
+
+  @Test
+  void shouldSetVirtualIoThreadsFromEnv() {
+    // given
+    final var environment = Map.of("zeebe.broker.threads.virtualIoThreads", "false");
+    final var cfg = TestConfigReader.readConfig("threads-cfg", environment).getThreads();
+
+    // when
+    final var virtualIoThreads = cfg.isVirtualIoThreads();
+
+    // then
+    assertThat(virtualIoThreads).isFalse();
+  }
 }
@@ -93,14 +93,24 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
           decisionId);
     }
 
-    final var parsedDmn = ((ParsedDmnScalaDrg) decisionRequirementsGraph).getParsedDmn();
+    final var drg = (ParsedDmnScalaDrg) decisionRequirementsGraph;
+    final var variables = evalContext.toMap();
+    // evaluate only the rules of an indexed decision table which can match
+    final var parsedDmn =
+        drg.getIndexedDecisionTable(decisionId)
+            .flatMap(
+                indexedDecisionTable ->
+                    indexedDecisionTable.narrow(
+                        drg.getParsedDmn(), dmnEngine.feelEngine(), variables))
+            .orElse(drg.getParsedDmn());
     // todo(#8092): pass in context that allows fetching variable by name (lazy)
-    final Either<EvalFailure, EvalResult> result =
-        dmnEngine.eval(parsedDmn, decisionId, evalContext.toMap());
+    final Either<EvalFailure, EvalResult> result = dmnEngine.eval(parsedDmn, decisionId, variables);
     final AuditLog auditLog =
         result.map(EvalResult::auditLog).getOrElse(() -> result.left().get().auditLog());
     final var evaluatedDecisions =
-        Optional.ofNullable(auditLog).map(this::getEvaluatedDecisions).orElse(List.of());
+        Optional.ofNullable(auditLog)
+            .map(log -> getEvaluatedDecisions(log, drg))
+            .orElse(List.<EvaluatedDecision>of());
 
     if (result.isLeft()) {
       final var reason = result.left().get().failure().message();
@@ -135,14 +145,16 @@ public final class DmnScalaDecisionEngine implements DecisionEngine {
             Val.class, output.getClass()));
   }
 
-  private List<EvaluatedDecision> getEvaluatedDecisions(final AuditLog auditLog) {
+  private List<EvaluatedDecision> getEvaluatedDecisions(
+      final AuditLog auditLog, final ParsedDmnScalaDrg drg) {
     final var evaluatedDecisions = new ArrayList<EvaluatedDecision>();
     auditLog
         .entries()
         .foreach(
             auditLogEntry -> {
               final var evaluatedDecision =
-                  EvaluatedDmnScalaDecision.of(auditLogEntry, this::toMessagePack);
+                  EvaluatedDmnScalaDecision.of(
+                      auditLogEntry, this::toMessagePack, drg::getRuleIndex);
               return evaluatedDecisions.add(evaluatedDecision);
             });
 
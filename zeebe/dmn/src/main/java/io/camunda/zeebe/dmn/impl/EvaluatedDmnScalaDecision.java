@@ -16,6 +16,7 @@ import io.camunda.zeebe.dmn.MatchedRule;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
 import org.camunda.dmn.Audit.AuditLogEntry;
@@ -49,8 +50,14 @@ public record EvaluatedDmnScalaDecision(
               entry(ParsedRelation.class, DecisionType.RELATION),
               entry(ParsedInvocation.class, DecisionType.INVOCATION));
 
+  /**
+   * @param knownRuleIndices returns the 1-based index of a rule in its decision table, or null if
+   *     it's unknown and must be looked up in the evaluated decision table
+   */
   public static EvaluatedDmnScalaDecision of(
-      final AuditLogEntry auditLogEntry, final Function<Val, DirectBuffer> converter) {
+      final AuditLogEntry auditLogEntry,
+      final Function<Val, DirectBuffer> converter,
+      final Function<ParsedRule, Integer> knownRuleIndices) {
     final DecisionType decisionType = getDecisionType(auditLogEntry.decisionLogic());
     final var evaluationResult = auditLogEntry.result();
     final var decisionOutput = converter.apply(evaluationResult.result());
@@ -74,7 +81,10 @@ public record EvaluatedDmnScalaDecision(
                 final var matchedRule =
                     MatchedDmnScalaRule.of(
                         evaluatedRule,
-                        getRuleIndex(auditLogEntry.decisionLogic(), evaluatedRule.rule()),
+                        Objects.requireNonNullElseGet(
+                            knownRuleIndices.apply(evaluatedRule.rule()),
+                            () ->
+                                getRuleIndex(auditLogEntry.decisionLogic(), evaluatedRule.rule())),
                         converter);
                 return matchedRules.add(matchedRule);
               });
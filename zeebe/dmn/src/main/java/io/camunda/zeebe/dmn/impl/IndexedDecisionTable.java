@@ -0,0 +1,300 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.camunda.dmn.parser.EmptyExpression$;
+import org.camunda.dmn.parser.FeelExpression;
+import org.camunda.dmn.parser.ParsedDecision;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedDmn;
+import org.camunda.dmn.parser.ParsedExpression;
+import org.camunda.dmn.parser.ParsedRule;
+import org.camunda.feel.api.FeelEngineApi;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.UnaryTestExpression;
+import org.camunda.feel.syntaxtree.ValNumber;
+import org.camunda.feel.syntaxtree.ValString;
+import scala.jdk.javaapi.CollectionConverters;
+
+/**
+ * An index over the rules of a decision table whose input entries are all either a single string or
+ * number literal, like {@code "gold"} or {@code 10}, or match any value, like {@code -}. Instead of
+ * evaluating every rule, the rules are looked up by the value of one input, and only these rules
+ * and the ones matching any value of that input are passed to the DMN engine.
+ *
+ * <p>The lookup is only used if the value of every input has the same type as the literals of its
+ * column. Otherwise, e.g. if a value is {@code null} or the literal of a rule which is left out
+ * would fail to compare with the value, the whole decision table is evaluated as before. As the
+ * lookup keeps the order of the rules, the hit policy yields the same result either way.
+ *
+ * <p>Only decisions without required decisions or knowledge models are indexed, as their inputs can
+ * be evaluated upfront with the variables alone.
+ */
+final class IndexedDecisionTable {
+
+  /** Below this number of rules, scanning the rules is cheap enough. */
+  static final int MIN_RULE_COUNT = 16;
+
+  private final ParsedDecision decision;
+  private final ParsedDecisionTable decisionTable;
+  private final List<ParsedRule> rules;
+  private final List<FeelExpression> inputExpressions;
+  private final List<Class<?>> inputTypes;
+  private final int indexedInput;
+  private final Map<Object, int[]> rulesByValue;
+  private final int[] rulesMatchingAnyValue;
+
+  private IndexedDecisionTable(
+      final ParsedDecision decision,
+      final List<ParsedRule> rules,
+      final List<FeelExpression> inputExpressions,
+      final List<Class<?>> inputTypes,
+      final int indexedInput,
+      final Map<Object, int[]> rulesByValue,
+      final int[] rulesMatchingAnyValue) {
+    this.decision = decision;
+    decisionTable = (ParsedDecisionTable) decision.logic();
+    this.rules = rules;
+    this.inputExpressions = inputExpressions;
+    this.inputTypes = inputTypes;
+    this.indexedInput = indexedInput;
+    this.rulesByValue = rulesByValue;
+    this.rulesMatchingAnyValue = rulesMatchingAnyValue;
+  }
+
+  /**
+   * @return the index of the given decision, or empty if it's not a decision table which can be
+   *     indexed
+   */
+  static Optional<IndexedDecisionTable> of(final ParsedDecision decision) {
+    if (!(decision.logic() instanceof final ParsedDecisionTable decisionTable)
+        || !decision.requiredDecisions().isEmpty()
+        || !decision.requiredBkms().isEmpty()
+        || decisionTable.rules().size() < MIN_RULE_COUNT) {
+      return Optional.empty();
+    }
+
+    final var inputExpressions = new ArrayList<FeelExpression>();
+    for (final var input : CollectionConverters.asJava(decisionTable.inputs())) {
+      if (!(input.expression() instanceof final FeelExpression inputExpression)) {
+        return Optional.empty();
+      }
+      inputExpressions.add(inputExpression);
+    }
+
+    // the literal of each input entry, or null if the entry matches any value
+    final var rules = CollectionConverters.asJava(decisionTable.rules().toList());
+    final var literals = new Object[rules.size()][inputExpressions.size()];
+    for (int rule = 0; rule < rules.size(); rule++) {
+      final var inputEntries = CollectionConverters.asJava(rules.get(rule).inputEntries().toList());
+      if (inputEntries.size() != inputExpressions.size()) {
+        return Optional.empty();
+      }
+
+      int input = 0;
+      for (final var inputEntry : inputEntries) {
+        if (!matchesAnyValue(inputEntry)) {
+          final var literal = literalOf(inputEntry);
+          if (literal == null) {
+            return Optional.empty();
+          }
+          literals[rule][input] = literal;
+        }
+        input++;
+      }
+    }
+
+    // all literals of an input must have the same type
+    final var inputTypes = new ArrayList<Class<?>>();
+    for (int input = 0; input < inputExpressions.size(); input++) {
+      Class<?> inputType = null;
+      for (final var ruleLiterals : literals) {
+        final var literal = ruleLiterals[input];
+        if (literal != null && inputType != null && literal.getClass() != inputType) {
+          return Optional.empty();
+        } else if (literal != null) {
+          inputType = literal.getClass();
+        }
+      }
+      inputTypes.add(inputType);
+    }
+
+    return indexedInput(literals, inputExpressions.size())
+        .map(
+            indexedInput ->
+                index(decision, rules, inputExpressions, inputTypes, literals, indexedInput));
+  }
+
+  /**
+   * Narrows the decision table down to the rules which can match the given variables.
+   *
+   * @return a copy of the given DMN, in which the indexed decision table only contains the rules
+   *     which can match, or empty if the whole decision table must be evaluated
+   */
+  Optional<ParsedDmn> narrow(
+      final ParsedDmn parsedDmn,
+      final FeelEngineApi feelEngine,
+      final Map<String, Object> variables) {
+    Object indexedValue = null;
+    for (int input = 0; input < inputExpressions.size(); input++) {
+      final var inputType = inputTypes.get(input);
+      if (inputType == null) {
+        continue;
+      }
+
+      final var result = feelEngine.evaluate(inputExpressions.get(input).expression(), variables);
+      if (result.isFailure()) {
+        return Optional.empty();
+      }
+
+      final var value = valueOf(result.result());
+      if (value == null || value.getClass() != inputType) {
+        return Optional.empty();
+      }
+      if (input == indexedInput) {
+        indexedValue = value;
+      }
+    }
+
+    final var matchingRules = rulesByValue.getOrDefault(indexedValue, new int[0]);
+    final var candidates = new ArrayList<ParsedRule>();
+    int matching = 0;
+    int matchingAny = 0;
+    // merge both lists of rule positions, to keep the order of the rules
+    while (matching < matchingRules.length || matchingAny < rulesMatchingAnyValue.length) {
+      if (matchingAny == rulesMatchingAnyValue.length
+          || (matching < matchingRules.length
+              && matchingRules[matching] < rulesMatchingAnyValue[matchingAny])) {
+        candidates.add(rules.get(matchingRules[matching++]));
+      } else {
+        candidates.add(rules.get(rulesMatchingAnyValue[matchingAny++]));
+      }
+    }
+
+    final var narrowedTable =
+        decisionTable.copy(
+            decisionTable.inputs(),
+            decisionTable.outputs(),
+            CollectionConverters.asScala(candidates).toList(),
+            decisionTable.hitPolicy(),
+            decisionTable.aggregation());
+    final var narrowedDecision =
+        decision.copy(
+            decision.id(),
+            decision.name(),
+            narrowedTable,
+            decision.resultName(),
+            decision.resultType(),
+            decision.requiredDecisions(),
+            decision.requiredBkms());
+    final var decisions =
+        CollectionConverters.asJava(parsedDmn.decisions().toList()).stream()
+            .map(other -> other == decision ? narrowedDecision : other)
+            .toList();
+    return Optional.of(
+        parsedDmn.copy(parsedDmn.model(), CollectionConverters.asScala(decisions).toList()));
+  }
+
+  /** Picks the input with the fewest entries which match any value, if there's any literal. */
+  private static Optional<Integer> indexedInput(final Object[][] literals, final int inputCount) {
+    Integer indexedInput = null;
+    int fewestAnyValueEntries = Integer.MAX_VALUE;
+    for (int input = 0; input < inputCount; input++) {
+      int anyValueEntries = 0;
+      for (final var ruleLiterals : literals) {
+        if (ruleLiterals[input] == null) {
+          anyValueEntries++;
+        }
+      }
+
+      if (anyValueEntries < literals.length && anyValueEntries < fewestAnyValueEntries) {
+        indexedInput = input;
+        fewestAnyValueEntries = anyValueEntries;
+      }
+    }
+    return Optional.ofNullable(indexedInput);
+  }
+
+  private static IndexedDecisionTable index(
+      final ParsedDecision decision,
+      final List<ParsedRule> rules,
+      final List<FeelExpression> inputExpressions,
+      final List<Class<?>> inputTypes,
+      final Object[][] literals,
+      final int indexedInput) {
+    final var rulesByValue = new HashMap<Object, List<Integer>>();
+    final var rulesMatchingAnyValue = new ArrayList<Integer>();
+    for (int rule = 0; rule < literals.length; rule++) {
+      final var literal = literals[rule][indexedInput];
+      if (literal == null) {
+        rulesMatchingAnyValue.add(rule);
+      } else {
+        rulesByValue.computeIfAbsent(literal, value -> new ArrayList<>()).add(rule);
+      }
+    }
+
+    final var rulePositionsByValue = new HashMap<Object, int[]>();
+    rulesByValue.forEach((value, positions) -> rulePositionsByValue.put(value, toArray(positions)));
+    return new IndexedDecisionTable(
+        decision,
+        rules,
+        List.copyOf(inputExpressions),
+        inputTypes,
+        indexedInput,
+        rulePositionsByValue,
+        toArray(rulesMatchingAnyValue));
+  }
+
+  private static boolean matchesAnyValue(final ParsedExpression inputEntry) {
+    return inputEntry == EmptyExpression$.MODULE$
+        || (inputEntry instanceof final FeelExpression feelExpression
+            && feelExpression.expression().expression() instanceof final ConstBool constBool
+            && constBool.value());
+  }
+
+  /**
+   * @return the string or number literal which the input entry compares the input value with, or
+   *     null if it's a different kind of input entry
+   */
+  private static Object literalOf(final ParsedExpression inputEntry) {
+    if (inputEntry instanceof final FeelExpression feelExpression
+        && feelExpression.expression().expression() instanceof final UnaryTestExpression test) {
+      return switch (test.exp()) {
+        case final ConstString string -> string.value();
+        case final ConstNumber number -> normalize(number.value().bigDecimal());
+        default -> null;
+      };
+    }
+    return null;
+  }
+
+  private static Object valueOf(final Object value) {
+    return switch (value) {
+      case final ValString string -> string.value();
+      case final ValNumber number -> normalize(number.value().bigDecimal());
+      case null, default -> null;
+    };
+  }
+
+  /** Numbers are equal if they have the same value, like {@code 1.5} and {@code 1.50}. */
+  private static BigDecimal normalize(final BigDecimal number) {
+    return number.stripTrailingZeros();
+  }
+
+  private static int[] toArray(final List<Integer> positions) {
+    return positions.stream().mapToInt(Integer::intValue).toArray();
+  }
+}
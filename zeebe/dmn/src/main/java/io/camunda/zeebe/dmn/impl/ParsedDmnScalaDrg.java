@@ -11,10 +11,17 @@ import io.camunda.zeebe.dmn.ParsedDecision;
 import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.camunda.bpm.model.dmn.DmnModelInstance;
 import org.camunda.bpm.model.dmn.instance.Definitions;
+import org.camunda.dmn.parser.ParsedDecisionTable;
 import org.camunda.dmn.parser.ParsedDmn;
+import org.camunda.dmn.parser.ParsedRule;
+import scala.jdk.javaapi.CollectionConverters;
 
 public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph {
 
@@ -23,18 +30,24 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
   private final String decisionRequirementsName;
   private final String decisionRequirementsNamespace;
   private final List<ParsedDecision> decisions;
+  private final Map<String, IndexedDecisionTable> indexedDecisionTables;
+  private final Map<ParsedRule, Integer> ruleIndices;
 
   private ParsedDmnScalaDrg(
       final ParsedDmn parsedDmn,
       final String decisionRequirementsId,
       final String decisionRequirementsName,
       final String decisionRequirementsNamespace,
-      final List<ParsedDecision> decisions) {
+      final List<ParsedDecision> decisions,
+      final Map<String, IndexedDecisionTable> indexedDecisionTables,
+      final Map<ParsedRule, Integer> ruleIndices) {
     this.parsedDmn = parsedDmn;
     this.decisionRequirementsId = decisionRequirementsId;
     this.decisionRequirementsName = decisionRequirementsName;
     this.decisionRequirementsNamespace = decisionRequirementsNamespace;
     this.decisions = decisions;
+    this.indexedDecisionTables = indexedDecisionTables;
+    this.ruleIndices = ruleIndices;
   }
 
   @Override
@@ -71,6 +84,21 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     return parsedDmn;
   }
 
+  /**
+   * @return the index over the rules of the given decision, or empty if it's not indexed
+   */
+  Optional<IndexedDecisionTable> getIndexedDecisionTable(final String decisionId) {
+    return Optional.ofNullable(indexedDecisionTables.get(decisionId));
+  }
+
+  /**
+   * @return the 1-based index of the given rule in its decision table, or null if the rule doesn't
+   *     belong to a decision table of a decision in this DRG
+   */
+  Integer getRuleIndex(final ParsedRule rule) {
+    return ruleIndices.get(rule);
+  }
+
   public static ParsedDmnScalaDrg of(final ParsedDmn parsedDmn) {
 
     final DmnModelInstance modelInstance = parsedDmn.model();
@@ -80,7 +108,27 @@ public final class ParsedDmnScalaDrg implements ParsedDecisionRequirementsGraph
     final String namespace = definitions.getNamespace();
     final List<ParsedDecision> parsedDecisions = getParsedDecisions(parsedDmn);
 
-    return new ParsedDmnScalaDrg(parsedDmn, id, name, namespace, parsedDecisions);
+    final var indexedDecisionTables = new HashMap<String, IndexedDecisionTable>();
+    // rules are compared by identity, as the rules of a decision table may be equal
+    final var ruleIndices = new IdentityHashMap<ParsedRule, Integer>();
+    parsedDmn
+        .decisions()
+        .foreach(
+            decision -> {
+              if (decision.logic() instanceof final ParsedDecisionTable decisionTable) {
+                final var rules = CollectionConverters.asJava(decisionTable.rules());
+                int ruleIndex = 1;
+                for (final var rule : rules) {
+                  ruleIndices.put(rule, ruleIndex++);
+                }
+                IndexedDecisionTable.of(decision)
+                    .ifPresent(index -> indexedDecisionTables.put(decision.id(), index));
+              }
+              return null;
+            });
+
+    return new ParsedDmnScalaDrg(
+        parsedDmn, id, name, namespace, parsedDecisions, indexedDecisionTables, ruleIndices);
   }
 
   private static List<ParsedDecision> getParsedDecisions(final ParsedDmn parsedDmn) {
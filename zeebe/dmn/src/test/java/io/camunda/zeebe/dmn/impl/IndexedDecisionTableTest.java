@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.dmn.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.camunda.zeebe.dmn.EvaluatedDecision;
+import io.camunda.zeebe.dmn.MatchedRule;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.camunda.dmn.Audit.DecisionTableEvaluationResult;
+import org.camunda.dmn.Audit.EvaluationResult;
+import org.camunda.dmn.DmnEngine;
+import org.camunda.dmn.parser.ParsedDecisionTable;
+import org.camunda.dmn.parser.ParsedRule;
+import org.camunda.feel.syntaxtree.Val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import scala.jdk.javaapi.CollectionConverters;
+
+final class IndexedDecisionTableTest {
+
+  private static final String DRG = "/decision-table-with-many-rules.dmn";
+  private static final String DECISION_ID = "discounts";
+
+  private final DmnScalaDecisionEngine decisionEngine = new DmnScalaDecisionEngine();
+  private final DmnEngine dmnEngine = new DmnEngine.Builder().build();
+  private final FeelToMessagePackTransformer outputConverter = new FeelToMessagePackTransformer();
+  private final ParsedDmnScalaDrg drg =
+      (ParsedDmnScalaDrg) decisionEngine.parse(getClass().getResourceAsStream(DRG));
+
+  @Test
+  void shouldIndexDecisionTableWithEqualityOnlyInputEntries() {
+    // when
+    final var indexedDecisionTable = drg.getIndexedDecisionTable(DECISION_ID);
+
+    // then
+    assertThat(indexedDecisionTable).isPresent();
+  }
+
+  @Test
+  void shouldNotIndexDecisionTableWithFewRules() {
+    // given
+    final var smallDrg =
+        (ParsedDmnScalaDrg)
+            decisionEngine.parse(getClass().getResourceAsStream("/decision-table.dmn"));
+
+    // when
+    final var indexedDecisionTable = smallDrg.getIndexedDecisionTable("jedi_or_sith");
+
+    // then
+    assertThat(indexedDecisionTable).isEmpty();
+  }
+
+  @Test
+  void shouldNarrowDecisionTableToMatchingRules() {
+    // given
+    final var indexedDecisionTable = drg.getIndexedDecisionTable(DECISION_ID).orElseThrow();
+
+    // when
+    final var narrowedDmn =
+        indexedDecisionTable.narrow(
+            drg.getParsedDmn(), dmnEngine.feelEngine(), variables("gold", "eu", 10));
+
+    // then
+    assertThat(narrowedDmn).isPresent();
+    final var decisionTable =
+        (ParsedDecisionTable) narrowedDmn.get().decisionsById().apply(DECISION_ID).logic();
+    assertThat(CollectionConverters.asJava(decisionTable.rules().toList()))
+        .extracting(rule -> rule.id())
+        .describedAs("Expect the rules for the quantity 10, or any quantity")
+        .containsExactly(
+            "rule_3", "rule_6", "rule_9", "rule_12", "rule_15", "rule_18", "rule_21", "rule_24");
+  }
+
+  @Test
+  void shouldNotNarrowDecisionTableIfInputHasDifferentType() {
+    // given
+    final var indexedDecisionTable = drg.getIndexedDecisionTable(DECISION_ID).orElseThrow();
+
+    // when
+    final var narrowedDmn =
+        indexedDecisionTable.narrow(
+            drg.getParsedDmn(), dmnEngine.feelEngine(), variables("gold", "eu", "10"));
+
+    // then
+    assertThat(narrowedDmn).isEmpty();
+  }
+
+  @ParameterizedTest
+  @MethodSource("variables")
+  void shouldEvaluateLikeWholeDecisionTable(final Map<String, Object> variables) {
+    // when
+    final var result =
+        decisionEngine.evaluateDecisionById(drg, DECISION_ID, new VariablesContext(variables));
+
+    // then
+    final var expectedResult = dmnEngine.eval(drg.getParsedDmn(), DECISION_ID, variables);
+    assertThat(result.isFailure()).isEqualTo(expectedResult.isLeft());
+    if (expectedResult.isRight()) {
+      final var evalResult = expectedResult.right().get();
+      final var expectedOutput =
+          evalResult.isNil()
+              ? BufferUtil.wrapArray(MsgPackHelper.NIL)
+              : outputConverter.toMessagePack((Val) evalResult.value());
+      assertThat(result.getOutput()).isEqualTo(expectedOutput);
+    }
+
+    final var expectedAuditLog =
+        expectedResult.isLeft()
+            ? expectedResult.left().get().auditLog()
+            : expectedResult.right().get().auditLog();
+    final var expectedMatchedRules =
+        CollectionConverters.asJava(expectedAuditLog.entries()).stream()
+            .flatMap(entry -> matchedRules(entry.result()))
+            .toList();
+    assertThat(result.getEvaluatedDecisions())
+        .flatExtracting(EvaluatedDecision::matchedRules)
+        .extracting(MatchedRule::ruleId, MatchedRule::ruleIndex)
+        .containsExactlyElementsOf(
+            expectedMatchedRules.stream()
+                .map(rule -> tuple(rule.id(), ruleIndex(rule.id())))
+                .toList());
+  }
+
+  private static Stream<ParsedRule> matchedRules(final EvaluationResult result) {
+    if (result instanceof final DecisionTableEvaluationResult tableResult) {
+      return CollectionConverters.asJava(tableResult.matchedRules().toList()).stream()
+          .map(rule -> rule.rule());
+    }
+    return Stream.empty();
+  }
+
+  private static int ruleIndex(final String ruleId) {
+    return Integer.parseInt(ruleId.substring("rule_".length()));
+  }
+
+  private static Stream<Arguments> variables() {
+    return Stream.of(
+            variables("gold", "eu", 10),
+            variables("gold", "us", 1),
+            variables("gold", "eu", 100),
+            variables("silver", "eu", 100),
+            variables("silver", "us", 100.0),
+            variables("bronze", "eu", 1),
+            variables("platinum", "eu", 10),
+            variables("gold", "asia", 7),
+            variables("gold", "eu", "10"),
+            variables("gold", null, 10),
+            variables(null, "eu", 10),
+            variables(3, "eu", 10))
+        .map(Arguments::of);
+  }
+
+  private static Map<String, Object> variables(
+      final Object tier, final Object region, final Object quantity) {
+    final var customer = new HashMap<String, Object>();
+    customer.put("tier", tier);
+
+    final var variables = new HashMap<String, Object>();
+    variables.put("customer", customer);
+    variables.put("region", region);
+    variables.put("quantity", quantity);
+    return variables;
+  }
+}
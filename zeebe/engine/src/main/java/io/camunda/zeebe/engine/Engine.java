@@ -8,6 +8,8 @@
 package io.camunda.zeebe.engine;
 
 import io.camunda.security.configuration.SecurityConfiguration;
+import io.camunda.zeebe.el.impl.ParsedExpressionCache;
+import io.camunda.zeebe.engine.metrics.ExpressionCacheMetrics;
 import io.camunda.zeebe.engine.processing.streamprocessor.RecordProcessorMap;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor.ProcessingError;
@@ -36,6 +38,7 @@ import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.RecordProcessorContext;
 import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.EnumSet;
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -75,6 +78,20 @@ public class Engine implements RecordProcessor {
     this.securityConfig = securityConfig;
   }
 
+  /**
+   * Configures the parsed expression cache, which is shared by all partitions, and registers its
+   * metrics. Call it once per broker, before the partitions are started.
+   *
+   * @param config the engine configuration which contains the capacity of the cache
+   * @param meterRegistry the broker-wide registry to register the cache metrics to
+   */
+  public static void configureSharedExpressionCache(
+      final EngineConfiguration config, final MeterRegistry meterRegistry) {
+    final var cache = ParsedExpressionCache.shared();
+    cache.setMaxSize(config.getExpressionCacheCapacity());
+    ExpressionCacheMetrics.register(meterRegistry, cache);
+  }
+
   @Override
   public void init(final RecordProcessorContext recordProcessorContext) {
     eventApplier = new EventAppliers();
@@ -143,6 +160,9 @@ public class Engine implements RecordProcessor {
       final TypedRecord record,
       final ProcessingResultBuilder processingResultBuilder) {
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
+      // the state changes of the failed command are rolled back, so the authorizations which were
+      // resolved from them must not be used anymore
+      processingState.getAuthorizedResourceIdentifiersCache().invalidateAll();
 
       final var typedCommand = (TypedRecord<?>) record;
       TypedRecordProcessor<?> processor = null;
@@ -23,8 +23,12 @@ public final class EngineConfiguration {
   public static final int DEFAULT_DRG_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_FORM_CACHE_CAPACITY = 1000;
   public static final int DEFAULT_PROCESS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_ACTIVATABLE_JOBS_CACHE_CAPACITY = 10_000;
+  public static final int DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY = 1000;
+  public static final int DEFAULT_EXPRESSION_CACHE_CAPACITY = 10_000;
   public static final Duration DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL = Duration.ofSeconds(1);
   public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT = Integer.MAX_VALUE;
+  public static final int DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_SIZE = 1;
   public static final int DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE = 12 * 1024;
   public static final boolean DEFAULT_ENABLE_AUTHORIZATION_CHECKS = false;
 
@@ -34,9 +38,13 @@ public final class EngineConfiguration {
   private int formCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int resourceCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
   private int processCacheCapacity = DEFAULT_FORM_CACHE_CAPACITY;
+  private int activatableJobsCacheCapacity = DEFAULT_ACTIVATABLE_JOBS_CACHE_CAPACITY;
+  private int authorizationsCacheCapacity = DEFAULT_AUTHORIZATIONS_CACHE_CAPACITY;
+  private int expressionCacheCapacity = DEFAULT_EXPRESSION_CACHE_CAPACITY;
 
   private Duration jobsTimeoutCheckerPollingInterval = DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
   private int jobsTimeoutCheckerBatchLimit = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_LIMIT;
+  private int jobsTimeoutCheckerBatchSize = DEFAULT_JOBS_TIMEOUT_CHECKER_BATCH_SIZE;
 
   private int validatorsResultsOutputMaxSize = DEFAULT_VALIDATORS_RESULTS_OUTPUT_MAX_SIZE;
 
@@ -98,6 +106,34 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getActivatableJobsCacheCapacity() {
+    return activatableJobsCacheCapacity;
+  }
+
+  public EngineConfiguration setActivatableJobsCacheCapacity(
+      final int activatableJobsCacheCapacity) {
+    this.activatableJobsCacheCapacity = activatableJobsCacheCapacity;
+    return this;
+  }
+
+  public int getAuthorizationsCacheCapacity() {
+    return authorizationsCacheCapacity;
+  }
+
+  public EngineConfiguration setAuthorizationsCacheCapacity(final int authorizationsCacheCapacity) {
+    this.authorizationsCacheCapacity = authorizationsCacheCapacity;
+    return this;
+  }
+
+  public int getExpressionCacheCapacity() {
+    return expressionCacheCapacity;
+  }
+
+  public EngineConfiguration setExpressionCacheCapacity(final int expressionCacheCapacity) {
+    this.expressionCacheCapacity = expressionCacheCapacity;
+    return this;
+  }
+
   public Duration getJobsTimeoutCheckerPollingInterval() {
     return jobsTimeoutCheckerPollingInterval;
   }
@@ -118,6 +154,15 @@ public final class EngineConfiguration {
     return this;
   }
 
+  public int getJobsTimeoutCheckerBatchSize() {
+    return jobsTimeoutCheckerBatchSize;
+  }
+
+  public EngineConfiguration setJobsTimeoutCheckerBatchSize(final int jobsTimeoutCheckerBatchSize) {
+    this.jobsTimeoutCheckerBatchSize = jobsTimeoutCheckerBatchSize;
+    return this;
+  }
+
   public int getValidatorsResultsOutputMaxSize() {
     return validatorsResultsOutputMaxSize;
   }
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.CacheResult;
+import io.camunda.zeebe.engine.metrics.EngineMetricsDoc.EngineKeyNames;
+import io.camunda.zeebe.engine.state.authorization.AuthorizedResourceIdentifiersCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.function.ToDoubleFunction;
+
+/** Exposes the hits and misses of the {@link AuthorizedResourceIdentifiersCache} of a partition. */
+public final class AuthorizationCacheMetrics {
+
+  private AuthorizationCacheMetrics() {}
+
+  public static void register(
+      final MeterRegistry registry, final AuthorizedResourceIdentifiersCache cache) {
+    registerResultCounter(
+        registry, cache, CacheResult.HIT, AuthorizedResourceIdentifiersCache::hitCount);
+    registerResultCounter(
+        registry, cache, CacheResult.MISS, AuthorizedResourceIdentifiersCache::missCount);
+  }
+
+  private static void registerResultCounter(
+      final MeterRegistry registry,
+      final AuthorizedResourceIdentifiersCache cache,
+      final CacheResult result,
+      final ToDoubleFunction<AuthorizedResourceIdentifiersCache> count) {
+    final var meterDoc = EngineMetricsDoc.AUTHORIZATION_CACHE_RESULTS;
+    FunctionCounter.builder(meterDoc.getName(), cache, count)
+        .description(meterDoc.getDescription())
+        .tag(EngineKeyNames.CACHE_RESULT.asString(), result.toString())
+        .register(registry);
+  }
+}
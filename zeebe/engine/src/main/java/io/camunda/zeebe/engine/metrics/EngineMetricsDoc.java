@@ -139,6 +139,84 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
     public KeyName[] getAdditionalKeyNames() {
       return PartitionKeyNames.values();
     }
+  },
+
+  /**
+   * Number of parsed expression cache lookups by result. The cache is shared by all partitions, so
+   * every partition reports the same values.
+   */
+  PARSED_EXPRESSION_CACHE_RESULTS {
+    private static final KeyName[] KEY_NAMES = new KeyName[] {EngineKeyNames.CACHE_RESULT};
+
+    @Override
+    public String getDescription() {
+      return "Number of parsed expression cache lookups by result; the cache is shared by all partitions";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.expression.cache.results.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEY_NAMES;
+    }
+  },
+
+  /** Number of lookups of the authorized resource identifiers cache, by result */
+  AUTHORIZATION_CACHE_RESULTS {
+    private static final KeyName[] KEY_NAMES = new KeyName[] {EngineKeyNames.CACHE_RESULT};
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups of the resolved authorized resource identifiers of an owner by result";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.authorization.cache.results.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEY_NAMES;
+    }
+  },
+
+  /** Number of activatable jobs cache lookups, by result */
+  ACTIVATABLE_JOBS_CACHE_RESULTS {
+    private static final KeyName[] KEY_NAMES = new KeyName[] {EngineKeyNames.CACHE_RESULT};
+
+    @Override
+    public String getDescription() {
+      return "Number of lookups of the cached activatable jobs of a job type by result";
+    }
+
+    @Override
+    public String getName() {
+      return "zeebe.job.activatable.cache.results.total";
+    }
+
+    @Override
+    public Type getType() {
+      return Type.COUNTER;
+    }
+
+    @Override
+    public KeyName[] getKeyNames() {
+      return KEY_NAMES;
+    }
   };
 
   /** Tags/label values possibly used by the engine metrics. */
@@ -205,6 +283,14 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       public String asString() {
         return "organizationId";
       }
+    },
+
+    /** Whether a cache lookup found the value or not; see {@link CacheResult} for values. */
+    CACHE_RESULT {
+      @Override
+      public String asString() {
+        return "result";
+      }
     }
   }
 
@@ -230,4 +316,14 @@ public enum EngineMetricsDoc implements ExtendedMeterDocumentation {
       return name().toLowerCase();
     }
   }
+
+  public enum CacheResult {
+    HIT,
+    MISS;
+
+    @Override
+    public String toString() {
+      return name().toLowerCase();
+    }
+  }
 }
@@ -11,6 +11,8 @@ import static io.camunda.zeebe.protocol.record.intent.DeploymentIntent.CREATE;
 
 import io.camunda.zeebe.dmn.DecisionEngineFactory;
 import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.metrics.ActivatableJobsCacheMetrics;
+import io.camunda.zeebe.engine.metrics.AuthorizationCacheMetrics;
 import io.camunda.zeebe.engine.metrics.JobMetrics;
 import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
 import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnBehaviors;
@@ -111,6 +113,11 @@ public final class EngineProcessors {
     final var jobMetrics = new JobMetrics(partitionId);
     final var processEngineMetrics =
         new ProcessEngineMetrics(typedRecordProcessorContext.getMeterRegistry());
+    AuthorizationCacheMetrics.register(
+        typedRecordProcessorContext.getMeterRegistry(),
+        processingState.getAuthorizedResourceIdentifiersCache());
+    ActivatableJobsCacheMetrics.register(
+        typedRecordProcessorContext.getMeterRegistry(), processingState.getActivatableJobsCache());
 
     subscriptionCommandSender.setWriters(writers);
 
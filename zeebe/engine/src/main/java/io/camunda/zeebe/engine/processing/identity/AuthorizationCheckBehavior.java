@@ -10,6 +10,8 @@ package io.camunda.zeebe.engine.processing.identity;
 import io.camunda.security.configuration.SecurityConfiguration;
 import io.camunda.zeebe.auth.Authorization;
 import io.camunda.zeebe.engine.processing.Rejection;
+import io.camunda.zeebe.engine.state.authorization.AuthorizedResourceIdentifiersCache;
+import io.camunda.zeebe.engine.state.authorization.AuthorizedResourceIdentifiersCache.Key;
 import io.camunda.zeebe.engine.state.authorization.PersistedMapping;
 import io.camunda.zeebe.engine.state.immutable.AuthorizationState;
 import io.camunda.zeebe.engine.state.immutable.GroupState;
@@ -48,6 +50,7 @@ public final class AuthorizationCheckBehavior {
   private final SecurityConfiguration securityConfig;
   private final MappingState mappingState;
   private final GroupState groupState;
+  private final AuthorizedResourceIdentifiersCache authorizedResourceIdentifiersCache;
 
   public AuthorizationCheckBehavior(
       final ProcessingState processingState, final SecurityConfiguration securityConfig) {
@@ -56,6 +59,7 @@ public final class AuthorizationCheckBehavior {
     mappingState = processingState.getMappingState();
     groupState = processingState.getGroupState();
     processingState.getTenantState();
+    authorizedResourceIdentifiersCache = processingState.getAuthorizedResourceIdentifiersCache();
     this.securityConfig = securityConfig;
   }
 
@@ -189,20 +193,38 @@ public final class AuthorizationCheckBehavior {
       return Set.of(WILDCARD_PERMISSION);
     }
 
-    return getUserKey(request)
-        .map(
-            userKey ->
-                userState
-                    .getUser(userKey)
-                    .map(
-                        persistedUser ->
-                            getUserAuthorizedResourceIdentifiers(
-                                persistedUser,
-                                request.getResourceType(),
-                                request.getPermissionType()))
-                    .orElseGet(Stream::empty))
-        .orElseGet(() -> getMappingsAuthorizedResourceIdentifiers(request))
-        .collect(Collectors.toSet());
+    final var userKey = getUserKey(request);
+    if (userKey.isPresent()) {
+      return authorizedResourceIdentifiersCache.get(
+          new Key(
+              AuthorizationOwnerType.USER + ":" + userKey.get(),
+              request.getResourceType(),
+              request.getPermissionType()),
+          () ->
+              userState
+                  .getUser(userKey.get())
+                  .map(
+                      persistedUser ->
+                          getUserAuthorizedResourceIdentifiers(
+                                  persistedUser,
+                                  request.getResourceType(),
+                                  request.getPermissionType())
+                              .collect(Collectors.toSet()))
+                  .orElseGet(Set::of));
+    }
+
+    // the mappings are resolved from the token claims, and filtered by the tenant of the request
+    final var claims =
+        extractUserTokenClaims(request.getCommand())
+            .map(claim -> claim.claimName() + "=" + claim.claimValue())
+            .sorted()
+            .toList();
+    return authorizedResourceIdentifiersCache.get(
+        new Key(
+            AuthorizationOwnerType.MAPPING + ":" + request.getTenantId() + ":" + claims,
+            request.getResourceType(),
+            request.getPermissionType()),
+        () -> getMappingsAuthorizedResourceIdentifiers(request).collect(Collectors.toSet()));
   }
 
   /**
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.ExcludeAuthorizationCheck;
+import io.camunda.zeebe.engine.processing.bpmn.behavior.BpmnJobActivationBehavior;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.records.ExceededBatchRecordSizeException;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.time.InstantSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Times out all jobs of a TIME_OUT job batch command at once, which is written by the {@link
+ * JobTimeoutChecker} instead of one TIME_OUT job command per job.
+ *
+ * <p>Unlike the {@link JobTimeOutProcessor}, jobs which can't be timed out (anymore) are skipped
+ * instead of rejected, as the command is never written by a client. If the follow-up events of all
+ * jobs don't fit into a single batch, the remaining jobs are skipped as well; they're still
+ * activated and past their deadline, so the checker picks them up again.
+ */
+@ExcludeAuthorizationCheck
+public final class JobBatchTimeOutProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobBatchTimeOutProcessor.class);
+
+  private final JobState jobState;
+  private final StateWriter stateWriter;
+  private final JobMetrics jobMetrics;
+  private final BpmnJobActivationBehavior jobActivationBehavior;
+  private final InstantSource clock;
+
+  public JobBatchTimeOutProcessor(
+      final ProcessingState state,
+      final Writers writers,
+      final JobMetrics jobMetrics,
+      final BpmnJobActivationBehavior jobActivationBehavior,
+      final InstantSource clock) {
+    jobState = state.getJobState();
+    stateWriter = writers.state();
+    this.jobMetrics = jobMetrics;
+    this.jobActivationBehavior = jobActivationBehavior;
+    this.clock = clock;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> record) {
+    final long now = clock.millis();
+    final var jobKeys = record.getValue().getJobKeys();
+
+    int timedOutJobsCount = 0;
+    for (final long jobKey : jobKeys) {
+      if (jobState.getState(jobKey) != State.ACTIVATED) {
+        continue;
+      }
+
+      final var job = jobState.getJob(jobKey);
+      if (job.getDeadline() >= now) {
+        continue;
+      }
+
+      try {
+        stateWriter.appendFollowUpEvent(jobKey, JobIntent.TIMED_OUT, job);
+      } catch (final ExceededBatchRecordSizeException exceededBatchRecordSizeException) {
+        LOG.warn(
+            "Expected to time out jobs in a batch, but exceeded the resulting batch size after timing out {} out of {} jobs. "
+                + "Try using a lower Job Timeout Checker's batch size.",
+            timedOutJobsCount,
+            jobKeys.size());
+        break;
+      }
+
+      jobMetrics.jobTimedOut(job.getType(), job.getJobKind());
+      jobActivationBehavior.publishWork(jobKey, job);
+      timedOutJobsCount++;
+    }
+  }
+}
@@ -110,11 +110,17 @@ public final class JobEventProcessors {
                 processingState.getKeyGenerator(),
                 jobMetrics,
                 authCheckBehavior))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.TIME_OUT,
+            new JobBatchTimeOutProcessor(
+                processingState, writers, jobMetrics, bpmnBehaviors.jobActivationBehavior(), clock))
         .withListener(
             new JobTimeoutCheckerScheduler(
                 scheduledTaskStateFactory.get().getJobState(),
                 config.getJobsTimeoutCheckerPollingInterval(),
                 config.getJobsTimeoutCheckerBatchLimit(),
+                config.getJobsTimeoutCheckerBatchSize(),
                 clock))
         .withListener(jobBackoffChecker);
   }
@@ -9,6 +9,8 @@ package io.camunda.zeebe.engine.processing.job;
 
 import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.immutable.JobState.DeadlineIndex;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.stream.api.scheduling.Task;
@@ -20,6 +22,16 @@ import org.agrona.collections.MutableInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Looks for activated jobs whose deadline has passed, and writes commands to time them out.
+ *
+ * <p>The {@code batchLimit} is the sweep budget, i.e. the maximum number of jobs that are timed out
+ * in a single run of {@link #execute(TaskResultBuilder)}; if it's reached, the checker reschedules
+ * itself immediately and continues where it left off. With a {@code batchSize} of 1, every job is
+ * timed out by its own TIME_OUT job command. Otherwise, up to {@code batchSize} jobs are timed out
+ * by a single TIME_OUT job batch command, which keeps the number of records low when many jobs time
+ * out at once, e.g. after an outage of the workers.
+ */
 final class JobTimeoutChecker implements Task {
   private static final Logger LOG = LoggerFactory.getLogger(JobTimeoutChecker.class);
 
@@ -35,6 +47,7 @@ final class JobTimeoutChecker implements Task {
   private ReadonlyStreamProcessorContext processingContext;
   private final Duration pollingInterval;
   private final int batchLimit;
+  private final int batchSize;
   private final InstantSource clock;
 
   public JobTimeoutChecker(
@@ -42,9 +55,19 @@ final class JobTimeoutChecker implements Task {
       final Duration pollingInterval,
       final int batchLimit,
       final InstantSource clock) {
+    this(state, pollingInterval, batchLimit, 1, clock);
+  }
+
+  public JobTimeoutChecker(
+      final JobState state,
+      final Duration pollingInterval,
+      final int batchLimit,
+      final int batchSize,
+      final InstantSource clock) {
     this.state = state;
     this.pollingInterval = pollingInterval;
     this.batchLimit = batchLimit;
+    this.batchSize = batchSize;
     this.clock = clock;
   }
 
@@ -63,17 +86,22 @@ final class JobTimeoutChecker implements Task {
 
     final var counter = new MutableInteger(0);
 
-    final DeadlineIndex lastVisitedIndex =
-        state.forEachTimedOutEntry(
-            executionTimestamp,
-            startAtIndex,
-            (key, record) -> {
-              if (counter.getAndIncrement() >= batchLimit) {
-                return false;
-              }
-
-              return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
-            });
+    final DeadlineIndex lastVisitedIndex;
+    if (batchSize > 1) {
+      lastVisitedIndex = appendBatchCommands(taskResultBuilder, counter);
+    } else {
+      lastVisitedIndex =
+          state.forEachTimedOutEntry(
+              executionTimestamp,
+              startAtIndex,
+              (key, record) -> {
+                if (counter.getAndIncrement() >= batchLimit) {
+                  return false;
+                }
+
+                return taskResultBuilder.appendCommandRecord(key, JobIntent.TIME_OUT, record);
+              });
+    }
 
     if (lastVisitedIndex != null) {
       LOG.trace(
@@ -92,6 +120,37 @@ final class JobTimeoutChecker implements Task {
     return taskResultBuilder.build();
   }
 
+  /**
+   * Appends TIME_OUT job batch commands of up to {@link #batchSize} jobs each. If a command can't
+   * be appended, the checker continues with its first job in the next run.
+   *
+   * @return the index to continue from, or null if all timed out jobs were visited
+   */
+  private DeadlineIndex appendBatchCommands(
+      final TaskResultBuilder taskResultBuilder, final MutableInteger counter) {
+    final var batch = new TimeOutBatch(taskResultBuilder);
+
+    final DeadlineIndex lastVisitedIndex =
+        state.forEachTimedOutEntry(
+            executionTimestamp,
+            startAtIndex,
+            (key, record) -> {
+              if (counter.get() >= batchLimit) {
+                return false;
+              }
+
+              counter.increment();
+              batch.add(key, record.getDeadline());
+              return batch.size < batchSize || batch.append();
+            });
+
+    if (batch.failedAt == null && batch.size > 0) {
+      batch.append();
+    }
+
+    return batch.failedAt != null ? batch.failedAt : lastVisitedIndex;
+  }
+
   public void setProcessingContext(final ReadonlyStreamProcessorContext processingContext) {
     this.processingContext = processingContext;
   }
@@ -99,4 +158,36 @@ final class JobTimeoutChecker implements Task {
   public void setShouldReschedule(final boolean shouldReschedule) {
     this.shouldReschedule = shouldReschedule;
   }
+
+  private static final class TimeOutBatch {
+    private final TaskResultBuilder taskResultBuilder;
+    private JobBatchRecord record;
+    private DeadlineIndex firstIndex;
+    private DeadlineIndex failedAt;
+    private int size;
+
+    private TimeOutBatch(final TaskResultBuilder taskResultBuilder) {
+      this.taskResultBuilder = taskResultBuilder;
+    }
+
+    private void add(final long jobKey, final long deadline) {
+      if (size == 0) {
+        record = new JobBatchRecord().setType("");
+        firstIndex = new DeadlineIndex(deadline, jobKey);
+      }
+
+      record.jobKeys().add().setValue(jobKey);
+      size++;
+    }
+
+    private boolean append() {
+      if (!taskResultBuilder.appendCommandRecord(JobBatchIntent.TIME_OUT, record)) {
+        failedAt = firstIndex;
+        return false;
+      }
+
+      size = 0;
+      return true;
+    }
+  }
 }
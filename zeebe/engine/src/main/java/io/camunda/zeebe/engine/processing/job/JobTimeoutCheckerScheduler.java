@@ -24,9 +24,10 @@ public final class JobTimeoutCheckerScheduler implements StreamProcessorLifecycl
       final JobState state,
       final Duration pollingInterval,
       final int batchLimit,
+      final int batchSize,
       final InstantSource clock) {
     this.pollingInterval = pollingInterval;
-    jobTimeoutChecker = new JobTimeoutChecker(state, pollingInterval, batchLimit, clock);
+    jobTimeoutChecker = new JobTimeoutChecker(state, pollingInterval, batchLimit, batchSize, clock);
   }
 
   @Override
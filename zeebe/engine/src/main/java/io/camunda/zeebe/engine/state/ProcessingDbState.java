@@ -14,6 +14,7 @@ import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.scaling.redistribution.DbRedistributionState;
 import io.camunda.zeebe.engine.scaling.redistribution.MutableRedistributionState;
+import io.camunda.zeebe.engine.state.authorization.AuthorizedResourceIdentifiersCache;
 import io.camunda.zeebe.engine.state.authorization.DbAuthorizationState;
 import io.camunda.zeebe.engine.state.authorization.DbMappingState;
 import io.camunda.zeebe.engine.state.authorization.DbRoleState;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.engine.state.distribution.DbDistributionState;
 import io.camunda.zeebe.engine.state.group.DbGroupState;
 import io.camunda.zeebe.engine.state.immutable.PendingMessageSubscriptionState;
 import io.camunda.zeebe.engine.state.immutable.PendingProcessMessageSubscriptionState;
+import io.camunda.zeebe.engine.state.instance.ActivatableJobsCache;
 import io.camunda.zeebe.engine.state.instance.DbElementInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbEventScopeInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbIncidentState;
@@ -119,6 +121,8 @@ public class ProcessingDbState implements MutableProcessingState {
   private final MutableRoleState roleState;
   private final MutableGroupState groupState;
   private final MutableMappingState mappingState;
+  private final AuthorizedResourceIdentifiersCache authorizedResourceIdentifiersCache;
+  private final ActivatableJobsCache activatableJobsCache;
   private final TransientPendingSubscriptionState transientProcessMessageSubscriptionState;
   private final int partitionId;
 
@@ -142,7 +146,8 @@ public class ProcessingDbState implements MutableProcessingState {
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
     deploymentState = new DbDeploymentState(zeebeDb, transactionContext);
-    jobState = new DbJobState(zeebeDb, transactionContext);
+    activatableJobsCache = new ActivatableJobsCache(config.getActivatableJobsCacheCapacity());
+    jobState = new DbJobState(zeebeDb, transactionContext, activatableJobsCache);
     messageState = new DbMessageState(zeebeDb, transactionContext, partitionId);
     messageSubscriptionState =
         new DbMessageSubscriptionState(
@@ -173,6 +178,8 @@ public class ProcessingDbState implements MutableProcessingState {
     groupState = new DbGroupState(zeebeDb, transactionContext);
     tenantState = new DbTenantState(zeebeDb, transactionContext);
     mappingState = new DbMappingState(zeebeDb, transactionContext);
+    authorizedResourceIdentifiersCache =
+        new AuthorizedResourceIdentifiersCache(config.getAuthorizationsCacheCapacity());
     this.transientProcessMessageSubscriptionState = transientProcessMessageSubscriptionState;
   }
 
@@ -182,6 +189,7 @@ public class ProcessingDbState implements MutableProcessingState {
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
     messageState.onRecovered(context);
+    jobState.onRecovered(context);
   }
 
   @Override
@@ -359,6 +367,16 @@ public class ProcessingDbState implements MutableProcessingState {
     return transientProcessMessageSubscriptionState;
   }
 
+  @Override
+  public AuthorizedResourceIdentifiersCache getAuthorizedResourceIdentifiersCache() {
+    return authorizedResourceIdentifiersCache;
+  }
+
+  @Override
+  public ActivatableJobsCache getActivatableJobsCache() {
+    return activatableJobsCache;
+  }
+
   @Override
   public int getPartitionId() {
     return partitionId;
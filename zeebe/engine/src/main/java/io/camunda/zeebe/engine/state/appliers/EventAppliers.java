@@ -273,9 +273,11 @@ public final class EventAppliers implements EventApplier {
   }
 
   private void registerUserAppliers(final MutableProcessingState state) {
-    register(UserIntent.CREATED, new UserCreatedApplier(state.getUserState()));
-    register(UserIntent.UPDATED, new UserUpdatedApplier(state.getUserState()));
-    register(UserIntent.DELETED, new UserDeletedApplier(state));
+    registerIdentityApplier(
+        state, UserIntent.CREATED, new UserCreatedApplier(state.getUserState()));
+    registerIdentityApplier(
+        state, UserIntent.UPDATED, new UserUpdatedApplier(state.getUserState()));
+    registerIdentityApplier(state, UserIntent.DELETED, new UserDeletedApplier(state));
   }
 
   private void registerMessageSubscriptionAppliers(final MutableProcessingState state) {
@@ -487,13 +489,16 @@ public final class EventAppliers implements EventApplier {
   }
 
   private void registerAuthorizationAppliers(final MutableProcessingState state) {
-    register(
+    registerIdentityApplier(
+        state,
         AuthorizationIntent.CREATED,
         new AuthorizationCreatedApplier(state.getAuthorizationState()));
-    register(
+    registerIdentityApplier(
+        state,
         AuthorizationIntent.DELETED,
         new AuthorizationDeletedApplier(state.getAuthorizationState()));
-    register(
+    registerIdentityApplier(
+        state,
         AuthorizationIntent.UPDATED,
         new AuthorizationUpdatedApplier(state.getAuthorizationState()));
   }
@@ -514,19 +519,25 @@ public final class EventAppliers implements EventApplier {
   }
 
   private void registerRoleAppliers(final MutableProcessingState state) {
-    register(RoleIntent.CREATED, new RoleCreatedApplier(state.getRoleState()));
-    register(RoleIntent.UPDATED, new RoleUpdatedApplier(state.getRoleState()));
-    register(RoleIntent.ENTITY_ADDED, new RoleEntityAddedApplier(state));
-    register(RoleIntent.ENTITY_REMOVED, new RoleEntityRemovedApplier(state));
-    register(RoleIntent.DELETED, new RoleDeletedApplier(state.getRoleState()));
+    registerIdentityApplier(
+        state, RoleIntent.CREATED, new RoleCreatedApplier(state.getRoleState()));
+    registerIdentityApplier(
+        state, RoleIntent.UPDATED, new RoleUpdatedApplier(state.getRoleState()));
+    registerIdentityApplier(state, RoleIntent.ENTITY_ADDED, new RoleEntityAddedApplier(state));
+    registerIdentityApplier(state, RoleIntent.ENTITY_REMOVED, new RoleEntityRemovedApplier(state));
+    registerIdentityApplier(
+        state, RoleIntent.DELETED, new RoleDeletedApplier(state.getRoleState()));
   }
 
   private void registerGroupAppliers(final MutableProcessingState state) {
-    register(GroupIntent.CREATED, new GroupCreatedApplier(state.getGroupState()));
-    register(GroupIntent.UPDATED, new GroupUpdatedApplier(state.getGroupState()));
-    register(GroupIntent.ENTITY_ADDED, new GroupEntityAddedApplier(state));
-    register(GroupIntent.ENTITY_REMOVED, new GroupEntityRemovedApplier(state));
-    register(GroupIntent.DELETED, new GroupDeletedApplier(state));
+    registerIdentityApplier(
+        state, GroupIntent.CREATED, new GroupCreatedApplier(state.getGroupState()));
+    registerIdentityApplier(
+        state, GroupIntent.UPDATED, new GroupUpdatedApplier(state.getGroupState()));
+    registerIdentityApplier(state, GroupIntent.ENTITY_ADDED, new GroupEntityAddedApplier(state));
+    registerIdentityApplier(
+        state, GroupIntent.ENTITY_REMOVED, new GroupEntityRemovedApplier(state));
+    registerIdentityApplier(state, GroupIntent.DELETED, new GroupDeletedApplier(state));
   }
 
   private void registerScalingAppliers(final MutableProcessingState state) {
@@ -538,22 +549,44 @@ public final class EventAppliers implements EventApplier {
   }
 
   private void registerTenantAppliers(final MutableProcessingState state) {
-    register(TenantIntent.CREATED, new TenantCreatedApplier(state.getTenantState()));
-    register(TenantIntent.UPDATED, new TenantUpdatedApplier(state.getTenantState()));
-    register(TenantIntent.ENTITY_ADDED, new TenantEntityAddedApplier(state));
-    register(TenantIntent.ENTITY_REMOVED, new TenantEntityRemovedApplier(state));
-    register(TenantIntent.DELETED, new TenantDeletedApplier(state.getTenantState()));
+    registerIdentityApplier(
+        state, TenantIntent.CREATED, new TenantCreatedApplier(state.getTenantState()));
+    registerIdentityApplier(
+        state, TenantIntent.UPDATED, new TenantUpdatedApplier(state.getTenantState()));
+    registerIdentityApplier(state, TenantIntent.ENTITY_ADDED, new TenantEntityAddedApplier(state));
+    registerIdentityApplier(
+        state, TenantIntent.ENTITY_REMOVED, new TenantEntityRemovedApplier(state));
+    registerIdentityApplier(
+        state, TenantIntent.DELETED, new TenantDeletedApplier(state.getTenantState()));
   }
 
   private void registerMappingAppliers(final MutableProcessingState state) {
-    register(MappingIntent.CREATED, new MappingCreatedApplier(state.getMappingState()));
-    register(MappingIntent.DELETED, new MappingDeletedApplier(state));
+    registerIdentityApplier(
+        state, MappingIntent.CREATED, new MappingCreatedApplier(state.getMappingState()));
+    registerIdentityApplier(state, MappingIntent.DELETED, new MappingDeletedApplier(state));
   }
 
   private void registerIdentitySetupAppliers() {
     register(IdentitySetupIntent.INITIALIZED, NOOP_EVENT_APPLIER);
   }
 
+  /**
+   * Registers the applier of an event which may change what an owner is authorized for, either
+   * directly or through its roles, groups, mappings or tenants. The resolved authorizations are
+   * cached, so the cache is invalidated whenever such an event is applied.
+   */
+  private <I extends Intent, V extends RecordValue> void registerIdentityApplier(
+      final MutableProcessingState state, final I intent, final TypedEventApplier<I, V> applier) {
+    final var cache = state.getAuthorizedResourceIdentifiersCache();
+    register(
+        intent,
+        (TypedEventApplier<I, V>)
+            (key, value) -> {
+              applier.applyState(key, value);
+              cache.invalidateAll();
+            });
+  }
+
   private <I extends Intent> void register(final I intent, final TypedEventApplier<I, ?> applier) {
     register(intent, RecordMetadata.DEFAULT_RECORD_VERSION, applier);
   }
@@ -0,0 +1,78 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.authorization;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.camunda.zeebe.protocol.record.value.AuthorizationResourceType;
+import io.camunda.zeebe.protocol.record.value.PermissionType;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * A bounded cache of the resource identifiers which an owner is authorized for, including the ones
+ * inherited from its roles and groups. Resolving them requires several lookups in the state, which
+ * would otherwise be repeated for every command of the same owner, e.g. for every job activation.
+ *
+ * <p>The cache is transient and belongs to a single partition. As the resolved identifiers depend
+ * on the authorizations, users, roles, groups, mappings and tenants, the cache is invalidated
+ * whenever an event of one of them is applied, as well as when the processing of a command fails,
+ * since the state changes of the command are rolled back in that case.
+ */
+public final class AuthorizedResourceIdentifiersCache {
+
+  private final Cache<Key, Set<String>> cache;
+
+  public AuthorizedResourceIdentifiersCache(final long capacity) {
+    cache = CacheBuilder.newBuilder().maximumSize(capacity).recordStats().build();
+  }
+
+  /**
+   * Returns the cached resource identifiers for the given key, or resolves and caches them if they
+   * are not cached yet.
+   *
+   * @param key the owner, resource type and permission type of the identifiers
+   * @param resolver resolves the identifiers from the state
+   * @return an immutable set of the authorized resource identifiers
+   */
+  public Set<String> get(final Key key, final Supplier<Set<String>> resolver) {
+    final var cachedIdentifiers = cache.getIfPresent(key);
+    if (cachedIdentifiers != null) {
+      return cachedIdentifiers;
+    }
+
+    final var identifiers = Set.copyOf(resolver.get());
+    cache.put(key, identifiers);
+    return identifiers;
+  }
+
+  public void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * @return the number of lookups for which the identifiers were found in the cache
+   */
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * @return the number of lookups for which the identifiers had to be resolved from the state
+   */
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+
+  /**
+   * @param owner identifies who the identifiers are resolved for, e.g. a username or the token
+   *     claims of a request, together with everything else the resolution depends on
+   */
+  public record Key(
+      String owner, AuthorizationResourceType resourceType, PermissionType permissionType) {}
+}
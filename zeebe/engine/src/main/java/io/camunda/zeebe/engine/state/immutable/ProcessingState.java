@@ -8,6 +8,8 @@
 package io.camunda.zeebe.engine.state.immutable;
 
 import io.camunda.zeebe.engine.scaling.redistribution.RedistributionState;
+import io.camunda.zeebe.engine.state.authorization.AuthorizedResourceIdentifiersCache;
+import io.camunda.zeebe.engine.state.instance.ActivatableJobsCache;
 import io.camunda.zeebe.engine.state.message.TransientPendingSubscriptionState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
@@ -58,6 +60,10 @@ public interface ProcessingState extends StreamProcessorLifecycleAware {
 
   TransientPendingSubscriptionState getTransientPendingSubscriptionState();
 
+  AuthorizedResourceIdentifiersCache getAuthorizedResourceIdentifiersCache();
+
+  ActivatableJobsCache getActivatableJobsCache();
+
   MigrationState getMigrationState();
 
   UserTaskState getUserTaskState();
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.agrona.DirectBuffer;
+
+/**
+ * In-memory index of the activatable jobs per job type, which spares the prefix scan of the
+ * activatable jobs column family when many workers poll for the same few job types.
+ *
+ * <p>The cache is filled from the column family once the state is recovered, and afterwards kept up
+ * to date by the job event appliers, which add and remove the jobs of the cached types as they
+ * become activatable or not. A type which is not cached, e.g. because its jobs didn't fit into the
+ * capacity, is cached again after a scan of the column family visited all of its activatable jobs.
+ *
+ * <p>The cache reflects the state changes of the current transaction. Therefore, it must be {@link
+ * #clear() cleared} if the transaction is rolled back.
+ *
+ * <p>The capacity limits the number of cached types and jobs together.
+ */
+public final class ActivatableJobsCache {
+
+  private final Map<DirectBuffer, TreeMap<Long, String>> jobsByType = new HashMap<>();
+  private final int capacity;
+  private int size;
+
+  // written by the stream processor, read by the metrics
+  private final AtomicLong hitCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * @param capacity the max number of cached types and jobs together; 0 disables the cache
+   */
+  public ActivatableJobsCache(final int capacity) {
+    this.capacity = capacity;
+  }
+
+  boolean isEnabled() {
+    return capacity > 0;
+  }
+
+  /**
+   * @return the maximum number of jobs which can be cached for a single type
+   */
+  int maxJobsPerType() {
+    return capacity - 1;
+  }
+
+  /**
+   * Returns an iterator over the cached jobs of the given type, ordered by their key, which maps
+   * each job key to the job's tenant.
+   *
+   * @return the iterator, or null if the type is not cached
+   */
+  Iterator<Entry<Long, String>> jobs(final DirectBuffer type) {
+    if (!isEnabled()) {
+      return null;
+    }
+
+    final var jobs = jobsByType.get(type);
+    if (jobs == null) {
+      missCount.incrementAndGet();
+      return null;
+    }
+    hitCount.incrementAndGet();
+    return Collections.unmodifiableMap(jobs).entrySet().iterator();
+  }
+
+  /**
+   * Caches all activatable jobs of the given type, if they fit into the remaining capacity.
+   *
+   * @param jobs all activatable jobs of the type, mapping each job key to the job's tenant
+   */
+  void put(final DirectBuffer type, final TreeMap<Long, String> jobs) {
+    final var previous = jobsByType.remove(type);
+    if (previous != null) {
+      size -= previous.size() + 1;
+    }
+
+    if (size + jobs.size() + 1 <= capacity) {
+      jobsByType.put(BufferUtil.cloneBuffer(type), jobs);
+      size += jobs.size() + 1;
+    }
+  }
+
+  /** Adds a job which became activatable, if its type is cached. */
+  void add(final DirectBuffer type, final long key, final String tenantId) {
+    final var jobs = jobsByType.get(type);
+    if (jobs == null || jobs.put(key, tenantId) != null) {
+      return;
+    }
+
+    size++;
+    if (size > capacity) {
+      // the type is not complete anymore, it's cached again after the next full scan
+      jobsByType.remove(type);
+      size -= jobs.size() + 1;
+    }
+  }
+
+  /** Removes a job which is not activatable anymore, if its type is cached. */
+  void remove(final DirectBuffer type, final long key) {
+    final var jobs = jobsByType.get(type);
+    if (jobs != null && jobs.remove(key) != null) {
+      size--;
+    }
+  }
+
+  /** Removes all cached types, e.g. because the state changes they reflect were rolled back. */
+  public void clear() {
+    jobsByType.clear();
+    size = 0;
+  }
+
+  /**
+   * @return the number of activation lookups for which the jobs of the type were cached
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * @return the number of activation lookups for which the column family had to be scanned
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+}
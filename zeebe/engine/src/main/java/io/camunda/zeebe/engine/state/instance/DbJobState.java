@@ -23,13 +23,20 @@ import io.camunda.zeebe.engine.state.immutable.JobState;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import io.camunda.zeebe.util.EnsureUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map.Entry;
+import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import org.agrona.DirectBuffer;
 import org.agrona.collections.LongHashSet;
+import org.agrona.collections.MutableBoolean;
+import org.agrona.collections.MutableReference;
 import org.slf4j.Logger;
 
 public final class DbJobState implements JobState, MutableJobState {
@@ -72,8 +79,21 @@ public final class DbJobState implements JobState, MutableJobState {
       backoffColumnFamily;
   private long nextBackOffDueDate;
 
+  private final ActivatableJobsCache activatableJobsCache;
+
   public DbJobState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new ActivatableJobsCache(0));
+  }
+
+  /**
+   * @param activatableJobsCache the in-memory index of activatable jobs, which is kept up to date
+   *     by this state, and cleared whenever a transaction of the given context is rolled back
+   */
+  public DbJobState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final ActivatableJobsCache activatableJobsCache) {
 
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
@@ -107,6 +127,18 @@ public final class DbJobState implements JobState, MutableJobState {
     backoffColumnFamily =
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.JOB_BACKOFF, transactionContext, backoffJobKey, DbNil.INSTANCE);
+
+    this.activatableJobsCache = activatableJobsCache;
+    if (activatableJobsCache.isEnabled()) {
+      // the cache reflects the changes of the rolled back transaction, which are discarded
+      transactionContext.addRollbackListener(activatableJobsCache::clear);
+    }
+  }
+
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    // the replayed events were applied before the cache was filled
+    fillActivatableJobsCache();
   }
 
   @Override
@@ -128,7 +160,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     updateJobState(State.ACTIVATED);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     addJobDeadline(key, deadline);
   }
@@ -163,13 +195,13 @@ public final class DbJobState implements JobState, MutableJobState {
   @Override
   public void disable(final long key, final JobRecord record) {
     updateJob(key, record, State.FAILED);
-    makeJobNotActivatable(record.getTypeBuffer(), record.getTenantId());
+    makeJobNotActivatable(record.getTypeBuffer(), key, record.getTenantId());
   }
 
   @Override
   public void throwError(final long key, final JobRecord updatedValue) {
     updateJob(key, updatedValue, State.ERROR_THROWN);
-    makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+    makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
   }
 
   @Override
@@ -182,7 +214,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
-    makeJobNotActivatable(type, tenantId);
+    makeJobNotActivatable(type, key, tenantId);
 
     removeJobDeadline(key, record.getDeadline());
     removeJobBackoff(key, record.getRecurringTime());
@@ -194,13 +226,13 @@ public final class DbJobState implements JobState, MutableJobState {
       if (updatedValue.getRetryBackoff() > 0) {
         addJobBackoff(key, updatedValue.getRecurringTime());
         updateJob(key, updatedValue, State.FAILED);
-        makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+        makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
       } else {
         updateJob(key, updatedValue, State.ACTIVATABLE);
       }
     } else {
       updateJob(key, updatedValue, State.FAILED);
-      makeJobNotActivatable(updatedValue.getTypeBuffer(), updatedValue.getTenantId());
+      makeJobNotActivatable(updatedValue.getTypeBuffer(), key, updatedValue.getTenantId());
     }
   }
 
@@ -406,20 +438,101 @@ public final class DbJobState implements JobState, MutableJobState {
       final DirectBuffer type,
       final List<String> tenantIds,
       final BiFunction<Long, JobRecord, Boolean> callback) {
-    jobTypeKey.wrapBuffer(type);
+    final var cachedJobs = activatableJobsCache.jobs(type);
+    if (cachedJobs != null) {
+      forEachCachedActivatableJob(cachedJobs, tenantIds, callback);
+      return;
+    }
 
+    // collect all jobs of the type, so that they can be cached if the scan visits all of them
+    final var visitedJobs = new MutableReference<TreeMap<Long, String>>();
+    if (activatableJobsCache.isEnabled()) {
+      visitedJobs.set(new TreeMap<>());
+    }
+    final var isCompleteScan = new MutableBoolean(true);
+
+    jobTypeKey.wrapBuffer(type);
     activatableColumnFamily.whileEqualPrefix(
         jobTypeKey,
         ((tenantAwareCompositeKey, zbNil) -> {
           final DbLong jobKey = tenantAwareCompositeKey.wrappedKey().second().inner();
           final String tenantId = tenantAwareCompositeKey.tenantKey().toString();
 
-          if (tenantIds.contains(tenantId)) {
-            return visitJob(jobKey.getValue(), callback::apply);
+          final var jobs = visitedJobs.get();
+          if (jobs != null) {
+            jobs.put(jobKey.getValue(), tenantId);
+            if (jobs.size() > activatableJobsCache.maxJobsPerType()) {
+              visitedJobs.set(null);
+            }
+          }
+
+          if (tenantIds.contains(tenantId) && !visitJob(jobKey.getValue(), callback::apply)) {
+            isCompleteScan.set(false);
+            return false;
           }
           // we want to continue with the iteration
           return true;
         }));
+
+    if (isCompleteScan.get() && visitedJobs.get() != null) {
+      activatableJobsCache.put(type, visitedJobs.get());
+    }
+  }
+
+  private void forEachCachedActivatableJob(
+      final Iterator<Entry<Long, String>> cachedJobs,
+      final List<String> tenantIds,
+      final BiFunction<Long, JobRecord, Boolean> callback) {
+    while (cachedJobs.hasNext()) {
+      final var cachedJob = cachedJobs.next();
+      // guards against activating a job twice, if the cache is ever out of step with the state
+      if (tenantIds.contains(cachedJob.getValue())
+          && getState(cachedJob.getKey()) == State.ACTIVATABLE
+          && !visitJob(cachedJob.getKey(), callback::apply)) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Caches the activatable jobs of all types which fit into the capacity of the cache, in a single
+   * scan of the column family, which is ordered by type and job key.
+   */
+  private void fillActivatableJobsCache() {
+    activatableJobsCache.clear();
+    if (!activatableJobsCache.isEnabled()) {
+      return;
+    }
+
+    final var currentType = new MutableReference<DirectBuffer>();
+    final var currentJobs = new MutableReference<TreeMap<Long, String>>();
+    activatableColumnFamily.forEach(
+        (tenantAwareCompositeKey, zbNil) -> {
+          final var typeAndKey = tenantAwareCompositeKey.wrappedKey();
+          final var type = typeAndKey.first().getBuffer();
+          if (!type.equals(currentType.get())) {
+            if (currentJobs.get() != null) {
+              activatableJobsCache.put(currentType.get(), currentJobs.get());
+            }
+            currentType.set(BufferUtil.cloneBuffer(type));
+            currentJobs.set(new TreeMap<>());
+          }
+
+          final var jobs = currentJobs.get();
+          if (jobs != null) {
+            jobs.put(
+                typeAndKey.second().inner().getValue(),
+                tenantAwareCompositeKey.tenantKey().toString());
+            if (jobs.size() > activatableJobsCache.maxJobsPerType()) {
+              // the type doesn't fit, it's cached after a scan once it fits
+              currentJobs.set(null);
+            }
+          }
+        });
+
+    if (currentJobs.get() != null) {
+      activatableJobsCache.put(currentType.get(), currentJobs.get());
+    }
   }
 
   @Override
@@ -508,15 +621,19 @@ public final class DbJobState implements JobState, MutableJobState {
     // Need to upsert here because jobs can be marked as failed (and thus made activatable)
     // without activating them first
     activatableColumnFamily.upsert(tenantAwareTypeJobKey, DbNil.INSTANCE);
+    activatableJobsCache.add(type, key, tenantId);
   }
 
-  private void makeJobNotActivatable(final DirectBuffer type, final String tenantId) {
+  private void makeJobNotActivatable(
+      final DirectBuffer type, final long key, final String tenantId) {
     EnsureUtil.ensureNotNullOrEmpty("type", type);
     EnsureUtil.ensureNotNullOrEmpty("tenantid", tenantId);
 
     jobTypeKey.wrapBuffer(type);
+    jobKey.wrapLong(key);
     tenantIdKey.wrapString(tenantId);
     activatableColumnFamily.deleteIfExists(tenantAwareTypeJobKey);
+    activatableJobsCache.remove(type, key);
   }
 
   private void addJobDeadline(final long job, final long deadline) {
@@ -10,6 +10,8 @@ package io.camunda.zeebe.engine.metrics;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import io.camunda.zeebe.engine.Engine;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.util.EngineRule;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
@@ -17,8 +19,11 @@ import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.protocol.record.value.BpmnElementType;
 import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.search.MeterNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Map;
+import java.util.UUID;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TestWatcher;
@@ -187,6 +192,48 @@ public class ProcessEngineMetricsTest {
     return executedProcessInstanceMetric("terminated");
   }
 
+  @Test
+  public void shouldCountParsedExpressionCacheResults() {
+    // given - the cache is shared, so use an expression which no other test parsed before
+    final var meterRegistry = new SimpleMeterRegistry();
+    Engine.configureSharedExpressionCache(new EngineConfiguration(), meterRegistry);
+    final var expression = "=type_" + UUID.randomUUID().toString().replace("-", "");
+    final var missesBefore = parsedExpressionCacheMetric(meterRegistry, "miss");
+    final var hitsBefore = parsedExpressionCacheMetric(meterRegistry, "hit");
+
+    // when
+    engine
+        .deployment()
+        .withXmlResource(
+            "process.bpmn",
+            Bpmn.createExecutableProcess(PROCESS_ID)
+                .startEvent()
+                .serviceTask(TASK_ID, t -> t.zeebeJobTypeExpression(expression))
+                .endEvent()
+                .done())
+        .withXmlResource(
+            "other-process.bpmn",
+            Bpmn.createExecutableProcess("other-" + PROCESS_ID)
+                .startEvent()
+                .serviceTask(TASK_ID, t -> t.zeebeJobTypeExpression(expression))
+                .endEvent()
+                .done())
+        .deploy();
+
+    // then
+    assertThat(parsedExpressionCacheMetric(meterRegistry, "miss")).isGreaterThan(missesBefore);
+    assertThat(parsedExpressionCacheMetric(meterRegistry, "hit")).isGreaterThan(hitsBefore);
+  }
+
+  private double parsedExpressionCacheMetric(
+      final MeterRegistry meterRegistry, final String result) {
+    return meterRegistry
+        .get("zeebe.expression.cache.results.total")
+        .tag("result", result)
+        .functionCounter()
+        .count();
+  }
+
   private Double executedProcessInstanceMetric(final String action) {
     return engine
         .getMeterRegistry()
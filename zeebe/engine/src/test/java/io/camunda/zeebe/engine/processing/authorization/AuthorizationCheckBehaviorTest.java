@@ -191,6 +191,70 @@ public class AuthorizationCheckBehaviorTest {
     assertThat(resourceIdentifiers).containsExactlyInAnyOrder(resourceId1, resourceId2);
   }
 
+  @Test
+  public void shouldGetCachedResourceIdentifiers() {
+    // given
+    final var user = createUser();
+    final var resourceType = AuthorizationResourceType.RESOURCE;
+    final var permissionType = PermissionType.CREATE;
+    final var resourceId = UUID.randomUUID().toString();
+    addPermission(
+        user.getUserKey(),
+        user.getUsername(),
+        AuthorizationOwnerType.USER,
+        resourceType,
+        permissionType,
+        resourceId);
+    final var command = mockCommand(user.getUsername());
+    final var request = new AuthorizationRequest(command, resourceType, permissionType);
+    final var cache = engine.getProcessingState().getAuthorizedResourceIdentifiersCache();
+    authorizationCheckBehavior.getAllAuthorizedResourceIdentifiers(request);
+    final var hitCount = cache.hitCount();
+
+    // when
+    final var resourceIdentifiers =
+        authorizationCheckBehavior.getAllAuthorizedResourceIdentifiers(request);
+
+    // then
+    assertThat(resourceIdentifiers).containsExactly(resourceId);
+    assertThat(cache.hitCount()).isEqualTo(hitCount + 1);
+  }
+
+  @Test
+  public void shouldGetResourceIdentifiersOfPermissionsAddedAfterCaching() {
+    // given
+    final var user = createUser();
+    final var resourceType = AuthorizationResourceType.RESOURCE;
+    final var permissionType = PermissionType.CREATE;
+    final var resourceId1 = UUID.randomUUID().toString();
+    final var resourceId2 = UUID.randomUUID().toString();
+    addPermission(
+        user.getUserKey(),
+        user.getUsername(),
+        AuthorizationOwnerType.USER,
+        resourceType,
+        permissionType,
+        resourceId1);
+    final var command = mockCommand(user.getUsername());
+    final var request = new AuthorizationRequest(command, resourceType, permissionType);
+    authorizationCheckBehavior.getAllAuthorizedResourceIdentifiers(request);
+
+    // when
+    final var roleKey = createRole(user.getUserKey());
+    addPermission(
+        roleKey,
+        String.valueOf(roleKey),
+        AuthorizationOwnerType.ROLE,
+        resourceType,
+        permissionType,
+        resourceId2);
+    final var resourceIdentifiers =
+        authorizationCheckBehavior.getAllAuthorizedResourceIdentifiers(request);
+
+    // then
+    assertThat(resourceIdentifiers).containsExactlyInAnyOrder(resourceId1, resourceId2);
+  }
+
   @Test
   public void shouldBeAuthorizedWhenGroupHasPermissions() {
     // given
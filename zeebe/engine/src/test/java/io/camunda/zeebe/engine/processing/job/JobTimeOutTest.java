@@ -12,18 +12,22 @@ import static io.camunda.zeebe.protocol.record.intent.JobIntent.TIME_OUT;
 import static io.camunda.zeebe.test.util.record.RecordingExporter.jobBatchRecords;
 import static io.camunda.zeebe.test.util.record.RecordingExporter.jobRecords;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.util.EngineRule;
 import io.camunda.zeebe.engine.util.RecordToWrite;
 import io.camunda.zeebe.model.bpmn.Bpmn;
 import io.camunda.zeebe.protocol.Protocol;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import io.camunda.zeebe.protocol.record.value.JobRecordValue;
 import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
 import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
 import java.time.Duration;
 import java.util.List;
@@ -238,6 +242,67 @@ public final class JobTimeOutTest {
     assertThat(jobEvents).isNotEmpty();
   }
 
+  @Test
+  public void shouldTimeOutJobsInBatch() {
+    // given
+    final long firstJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final long secondJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    final long timeout = 10L;
+    ENGINE.jobs().withType(jobType).withTimeout(timeout).withMaxJobsToActivate(2).activate();
+
+    final var partitionId = Protocol.decodePartitionId(firstJobKey);
+    final var batch = new JobBatchRecord().setType("");
+    batch.jobKeys().add().setValue(firstJobKey);
+    batch.jobKeys().add().setValue(secondJobKey);
+
+    // when
+    ENGINE.pauseProcessing(partitionId);
+    ENGINE.increaseTime(Duration.ofMillis(timeout * 2));
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.TIME_OUT, batch));
+    ENGINE.resumeProcessing(partitionId);
+
+    // then
+    final var batchCommand =
+        jobBatchRecords(JobBatchIntent.TIME_OUT).withRecordType(RecordType.COMMAND).getFirst();
+    assertThat(jobRecords(TIMED_OUT).withType(jobType).limit(2))
+        .extracting(Record::getKey, Record::getSourceRecordPosition)
+        .containsExactly(
+            tuple(firstJobKey, batchCommand.getPosition()),
+            tuple(secondJobKey, batchCommand.getPosition()));
+  }
+
+  @Test
+  public void shouldSkipJobsWhichCannotBeTimedOutInBatch() {
+    // given
+    final var completedJob = ENGINE.createJob(jobType, PROCESS_ID);
+    final long activatableJobKey = ENGINE.createJob(jobType, PROCESS_ID).getKey();
+    ENGINE.jobs().withType(jobType).withMaxJobsToActivate(1).activate();
+    ENGINE.job().withKey(completedJob.getKey()).complete();
+
+    final var batch = new JobBatchRecord().setType("");
+    batch.jobKeys().add().setValue(completedJob.getKey());
+    batch.jobKeys().add().setValue(activatableJobKey);
+
+    // when
+    ENGINE.writeRecords(RecordToWrite.command().jobBatch(JobBatchIntent.TIME_OUT, batch));
+    final long markerJobKey = ENGINE.createJob(Strings.newRandomValidBpmnId(), PROCESS_ID).getKey();
+
+    // then
+    assertThat(
+            RecordingExporter.records()
+                .limit(r -> r.getKey() == markerJobKey)
+                .withValueType(ValueType.JOB_BATCH)
+                .withIntent(JobBatchIntent.TIME_OUT))
+        .extracting(Record::getRecordType)
+        .containsExactly(RecordType.COMMAND);
+    assertThat(
+            jobRecords()
+                .limit(r -> r.getKey() == markerJobKey)
+                .withType(jobType)
+                .withIntent(TIMED_OUT))
+        .isEmpty();
+  }
+
   private long createInstance() {
     ENGINE
         .deployment()
@@ -22,7 +22,9 @@ import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.mutable.MutableJobState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
 import io.camunda.zeebe.protocol.record.value.TenantOwned;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
@@ -31,6 +33,7 @@ import io.camunda.zeebe.stream.api.scheduling.Task;
 import io.camunda.zeebe.stream.api.scheduling.TaskResultBuilder;
 import java.time.Duration;
 import java.time.InstantSource;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -183,4 +186,109 @@ public class JobTimeoutCheckerTest {
         .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
     assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
   }
+
+  @Test
+  public void shouldAppendBatchCommandsOfConfiguredSize() {
+    // Given
+    when(mockTaskResultBuilder.appendCommandRecord(any(), any())).thenReturn(true);
+
+    final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
+    final int batchLimit = Integer.MAX_VALUE;
+    final int batchSize = 4;
+
+    final var task =
+        new JobTimeoutChecker(
+            jobState, pollingInterval, batchLimit, batchSize, InstantSource.system());
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    final var batchCaptor = ArgumentCaptor.forClass(JobBatchRecord.class);
+    verify(mockTaskResultBuilder, times(3))
+        .appendCommandRecord(eq(JobBatchIntent.TIME_OUT), batchCaptor.capture());
+    assertThat(batchCaptor.getAllValues())
+        .extracting(JobBatchRecord::getJobKeys)
+        .containsExactly(List.of(1L, 2L, 3L, 4L), List.of(5L, 6L, 7L, 8L), List.of(9L, 10L));
+    verify(mockTaskResultBuilder, never()).appendCommandRecord(anyLong(), any(), any());
+
+    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
+    verify(mockScheduleService, times(1))
+        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
+    assertThat(timestampCaptor.getValue())
+        .isLessThanOrEqualTo(ActorClock.currentTimeMillis() + pollingInterval.toMillis());
+  }
+
+  @Test
+  public void shouldLimitBatchCommandsToBatchLimit() {
+    // Given
+    when(mockTaskResultBuilder.appendCommandRecord(any(), any())).thenReturn(true);
+
+    final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
+    final int batchLimit = 6;
+    final int batchSize = 4;
+
+    final var task =
+        new JobTimeoutChecker(
+            jobState, pollingInterval, batchLimit, batchSize, InstantSource.system());
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    final var batchCaptor = ArgumentCaptor.forClass(JobBatchRecord.class);
+    verify(mockTaskResultBuilder, times(3))
+        .appendCommandRecord(eq(JobBatchIntent.TIME_OUT), batchCaptor.capture());
+    assertThat(batchCaptor.getAllValues())
+        .extracting(JobBatchRecord::getJobKeys)
+        .containsExactly(List.of(1L, 2L, 3L, 4L), List.of(5L, 6L), List.of(7L, 8L, 9L, 10L));
+  }
+
+  @Test
+  public void shouldContinueWithFirstJobOfBatchCommandWhichFailedToAppend() {
+    // Given
+    when(mockTaskResultBuilder.appendCommandRecord(any(), any()))
+        .thenReturn(true)
+        .thenReturn(false)
+        .thenReturn(true);
+    final ArgumentCaptor<Long> timestampCaptor = ArgumentCaptor.forClass(Long.class);
+
+    final Duration pollingInterval = EngineConfiguration.DEFAULT_JOBS_TIMEOUT_POLLING_INTERVAL;
+    final int batchLimit = Integer.MAX_VALUE;
+    final int batchSize = 4;
+
+    final var task =
+        new JobTimeoutChecker(
+            jobState, pollingInterval, batchLimit, batchSize, InstantSource.system());
+    task.setProcessingContext(mockContext);
+    task.setShouldReschedule(true);
+
+    // When
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    verify(mockScheduleService, times(1))
+        .runAt(timestampCaptor.capture(), ArgumentMatchers.<Task>any());
+    assertThat(timestampCaptor.getValue()).isLessThanOrEqualTo(ActorClock.currentTimeMillis());
+
+    // When
+    task.execute(mockTaskResultBuilder);
+
+    // then
+    final var batchCaptor = ArgumentCaptor.forClass(JobBatchRecord.class);
+    verify(mockTaskResultBuilder, times(4))
+        .appendCommandRecord(eq(JobBatchIntent.TIME_OUT), batchCaptor.capture());
+    assertThat(batchCaptor.getAllValues())
+        .extracting(JobBatchRecord::getJobKeys)
+        .containsExactly(
+            List.of(1L, 2L, 3L, 4L),
+            List.of(5L, 6L, 7L, 8L),
+            List.of(5L, 6L, 7L, 8L),
+            List.of(9L, 10L));
+  }
 }
@@ -0,0 +1,231 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.value.TenantOwned;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ActivatableJobsCacheTest {
+
+  private static final DirectBuffer TYPE = wrapString("test");
+  private static final int CAPACITY = 4;
+
+  @Rule public final ProcessingStateRule stateRule = new ProcessingStateRule();
+
+  private ZeebeDb<ZbColumnFamilies> zeebeDb;
+  private TransactionContext transactionContext;
+  private ActivatableJobsCache cache;
+  private DbJobState jobState;
+
+  @Before
+  public void setUp() {
+    zeebeDb = stateRule.createNewDb();
+    transactionContext = zeebeDb.createContext();
+    cache = new ActivatableJobsCache(CAPACITY);
+    jobState = new DbJobState(zeebeDb, transactionContext, cache);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+  }
+
+  @Test
+  public void shouldListJobsWhichBecameActivatableAfterCachingInOrder() {
+    // given
+    jobState.create(1, newJobRecord());
+    jobState.activate(1, newJobRecord());
+    jobState.create(2, newJobRecord());
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+
+    // when
+    jobState.create(3, newJobRecord());
+    jobState.timeout(1, newJobRecord());
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldNotListJobsWhichAreNotActivatableAnymore() {
+    // given
+    jobState.create(1, newJobRecord());
+    jobState.create(2, newJobRecord());
+    jobState.create(3, newJobRecord());
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L);
+
+    // when
+    jobState.activate(1, newJobRecord());
+    jobState.complete(3, newJobRecord());
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+  }
+
+  @Test
+  public void shouldListJobsOfRequestedTenantsOnly() {
+    // given
+    jobState.create(1, newJobRecord().setTenantId("foo"));
+    jobState.create(2, newJobRecord().setTenantId("bar"));
+    getActivatableKeys("foo");
+
+    // when
+    jobState.create(3, newJobRecord().setTenantId("foo"));
+
+    // then
+    assertThat(getActivatableKeys("foo")).containsExactly(1L, 3L);
+    assertThat(getActivatableKeys("bar")).containsExactly(2L);
+    assertThat(getActivatableKeys("foo", "bar")).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldListJobWhoseActivationWasRolledBack() throws Exception {
+    // given
+    jobState.create(1, newJobRecord());
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+
+    // when
+    final var transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> jobState.activate(1, newJobRecord()));
+    transaction.rollback();
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotListCachedJobWhichIsNotActivatableInState() {
+    // given
+    jobState.create(1, newJobRecord());
+    jobState.create(2, newJobRecord());
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L, 2L);
+
+    // when - the job is activated without updating the cache
+    new DbJobState(zeebeDb, transactionContext).activate(1, newJobRecord());
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(2L);
+    assertThat(cache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldFillCacheOnRecovery() {
+    // given
+    jobState.create(1, newJobRecord());
+    jobState.create(2, newJobRecord().setType("other"));
+    final var recoveredCache = new ActivatableJobsCache(CAPACITY);
+    final var recoveredJobState = new DbJobState(zeebeDb, transactionContext, recoveredCache);
+
+    // when
+    recoveredJobState.onRecovered(mock(ReadonlyStreamProcessorContext.class));
+
+    // then
+    final List<Long> activatableKeys = new ArrayList<>();
+    recoveredJobState.forEachActivatableJobs(
+        TYPE,
+        List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER),
+        (key, job) -> activatableKeys.add(key));
+    assertThat(activatableKeys).containsExactly(1L);
+    assertThat(recoveredCache.hitCount()).isOne();
+    assertThat(recoveredCache.missCount()).isZero();
+  }
+
+  @Test
+  public void shouldCountHitsAndMisses() {
+    // given
+    jobState.create(1, newJobRecord());
+
+    // when
+    getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+    getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(cache.missCount()).isOne();
+    assertThat(cache.hitCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldListAllJobsIfTheyExceedCapacity() {
+    // given
+    for (long key = 1; key <= CAPACITY + 1; key++) {
+      jobState.create(key, newJobRecord());
+    }
+
+    // when
+    getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  public void shouldListAllJobsAfterCachedTypeExceededCapacity() {
+    // given
+    jobState.create(1, newJobRecord());
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER)).containsExactly(1L);
+
+    // when
+    for (long key = 2; key <= CAPACITY + 1; key++) {
+      jobState.create(key, newJobRecord());
+    }
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+
+  @Test
+  public void shouldListAllJobsIfIterationStoppedEarly() {
+    // given
+    jobState.create(1, newJobRecord());
+    jobState.create(2, newJobRecord());
+    jobState.forEachActivatableJobs(
+        TYPE, List.of(TenantOwned.DEFAULT_TENANT_IDENTIFIER), (key, job) -> false);
+
+    // when
+    jobState.create(3, newJobRecord());
+
+    // then
+    assertThat(getActivatableKeys(TenantOwned.DEFAULT_TENANT_IDENTIFIER))
+        .containsExactly(1L, 2L, 3L);
+  }
+
+  private JobRecord newJobRecord() {
+    return new JobRecord()
+        .setRetries(2)
+        .setDeadline(256L)
+        .setType(TYPE)
+        .setTenantId(TenantOwned.DEFAULT_TENANT_IDENTIFIER);
+  }
+
+  private List<Long> getActivatableKeys(final String... tenantIds) {
+    final List<Long> activatableKeys = new ArrayList<>();
+    jobState.forEachActivatableJobs(TYPE, List.of(tenantIds), (k, e) -> activatableKeys.add(k));
+    return activatableKeys;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.protocol.record.Record;
+
+/**
+ * An exporter which receives the records in batches instead of one by one. Implementing this
+ * interface is optional; the records are still exported one by one via {@link #export(Record)} if
+ * they can't be batched.
+ *
+ * <p>A batch contains up to {@link #getMaxBatchSize()} records. It is passed to the exporter once
+ * it's full, or when there are no further records to export at the moment, whichever comes first.
+ */
+public interface BatchExporter extends Exporter {
+
+  int DEFAULT_MAX_BATCH_SIZE = 500;
+
+  /**
+   * Called at least once for every batch of records to be exported. Once all records of the batch
+   * are guaranteed to have been exported, implementations should call {@link
+   * io.camunda.zeebe.exporter.api.context.Controller#updateLastExportedRecordPosition(long)} with
+   * {@link RecordBatch#getLastPosition()}, to signal that these records should not be received here
+   * ever again.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, the method will be called
+   * with the same batch until it terminates without any exception. Records which were handled
+   * before the exception was thrown are therefore received again, so handling a record must be
+   * idempotent.
+   *
+   * @param batch the records to export
+   */
+  void exportBatch(RecordBatch batch);
+
+  /**
+   * Called after the exporter is configured.
+   *
+   * @return the maximum number of records per batch
+   */
+  default int getMaxBatchSize() {
+    return DEFAULT_MAX_BATCH_SIZE;
+  }
+}
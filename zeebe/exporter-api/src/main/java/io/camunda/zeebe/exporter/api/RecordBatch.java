@@ -0,0 +1,43 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.protocol.record.Record;
+
+/**
+ * A batch of records which follow each other on the log, passed to {@link
+ * BatchExporter#exportBatch(RecordBatch)}. The records can be iterated multiple times, in order of
+ * their position.
+ *
+ * <p>Like the record passed to {@link Exporter#export(Record)}, each record of the iteration just
+ * wraps an underlying internal buffer, which is reused for the next record. If the implementation
+ * needs to keep a record beyond the current iteration step, it has to call {@link Record#toJson()}
+ * to get the serialized version of the record or {@link Record#copyOf()} to get a deep copy.
+ */
+public interface RecordBatch extends Iterable<Record<?>> {
+
+  /**
+   * @return the number of records in this batch
+   */
+  int size();
+
+  /**
+   * @return the position of the last record in this batch; once all records of the batch are
+   *     exported, it's the only position which needs to be passed to {@link
+   *     io.camunda.zeebe.exporter.api.context.Controller#updateLastExportedRecordPosition(long)}
+   */
+  long getLastPosition();
+}
@@ -62,7 +62,15 @@ public interface Context {
    */
   void setFilter(RecordFilter filter);
 
-  /** A filter to limit the records which are exported. */
+  /**
+   * A filter to limit the records which are exported.
+   *
+   * <p>Besides the record and value type, records can be filtered by their content, e.g. by their
+   * tenant. The content predicates are evaluated on the serialized record value, before it is
+   * deserialized, and only if they are implemented by the filter. They are only called for the
+   * top-level properties of a record value: a record whose value doesn't have the property, like a
+   * deployment which contains several processes, is not filtered by it.
+   */
   interface RecordFilter {
 
     /**
@@ -80,5 +88,36 @@ public interface Context {
      * @return {@code true} if records with this type of value should be exported.
      */
     boolean acceptValue(ValueType valueType);
+
+    /**
+     * Should export records with a value which belongs to the given tenant?
+     *
+     * @param tenantId the tenant id of the record value
+     * @return {@code true} if records of this tenant should be exported.
+     */
+    default boolean acceptTenant(final String tenantId) {
+      return true;
+    }
+
+    /**
+     * Should export records with a value which belongs to the process with the given id?
+     *
+     * @param bpmnProcessId the BPMN process id of the record value
+     * @return {@code true} if records of this process should be exported.
+     */
+    default boolean acceptBpmnProcessId(final String bpmnProcessId) {
+      return true;
+    }
+
+    /**
+     * Should export variable records of the variable with the given name? Only called for records
+     * with a value of type {@link ValueType#VARIABLE}.
+     *
+     * @param name the name of the variable
+     * @return {@code true} if records of this variable should be exported.
+     */
+    default boolean acceptVariableName(final String name) {
+      return true;
+    }
   }
 }
@@ -40,8 +40,9 @@ import io.camunda.exporter.tasks.BackgroundTaskManager;
 import io.camunda.exporter.tasks.BackgroundTaskManagerFactory;
 import io.camunda.webapps.schema.descriptors.operate.index.ImportPositionIndex;
 import io.camunda.webapps.schema.descriptors.tasklist.index.TasklistImportPositionIndex;
-import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.ExporterException;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Context.RecordFilter;
 import io.camunda.zeebe.exporter.api.context.Controller;
@@ -56,7 +57,7 @@ import org.agrona.CloseHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class CamundaExporter implements Exporter {
+public class CamundaExporter implements BatchExporter {
   private static final Logger LOG = LoggerFactory.getLogger(CamundaExporter.class);
 
   private Controller controller;
@@ -170,7 +171,35 @@ public class CamundaExporter implements Exporter {
 
   @Override
   public void export(final Record<?> record) {
+    if (addRecord(record)) {
+      flushIfFull();
+    }
+  }
+
+  @Override
+  public void exportBatch(final RecordBatch batch) {
+    boolean added = false;
+    for (final Record<?> record : batch) {
+      added |= addRecord(record);
+    }
+
+    // the records are flushed together, and retried together if the flush fails
+    if (added) {
+      flushIfFull();
+    }
+  }
+
+  @Override
+  public int getMaxBatchSize() {
+    return configuration.getBulk().getSize();
+  }
 
+  /**
+   * Adds the record to the writer, unless it is skipped.
+   *
+   * @return true if the record was added and may be flushed, false otherwise
+   */
+  private boolean addRecord(final Record<?> record) {
     final var recordVersion = getVersion(record.getBrokerVersion());
 
     if (recordVersion.major() == 8 && recordVersion.minor() < 8) {
@@ -179,7 +208,7 @@ public class CamundaExporter implements Exporter {
           record.getBrokerVersion(),
           record.getPosition());
       updateLastExportedPosition(record.getPosition());
-      return;
+      return false;
     }
 
     if (configuration.getIndex().shouldWaitForImporters() && !exporterCanFlush) {
@@ -190,7 +219,7 @@ public class CamundaExporter implements Exporter {
       LOG.info(
           "Waiting for importers to finish, cached record with key {} but did not flush",
           record.getKey());
-      return;
+      return false;
     }
 
     if (writer.getBatchSize() == 0) {
@@ -201,7 +230,10 @@ public class CamundaExporter implements Exporter {
     writer.addRecord(record);
 
     lastPosition = record.getPosition();
+    return true;
+  }
 
+  private void flushIfFull() {
     if (shouldFlush()) {
       try (final var ignored = metrics.measureFlushDuration()) {
         flush();
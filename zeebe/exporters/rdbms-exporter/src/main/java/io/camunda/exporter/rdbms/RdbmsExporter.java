@@ -9,6 +9,7 @@ package io.camunda.exporter.rdbms;
 
 import io.camunda.db.rdbms.write.RdbmsWriter;
 import io.camunda.db.rdbms.write.domain.ExporterPositionModel;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.record.Record;
@@ -40,6 +41,13 @@ public class RdbmsExporter {
   // volatile runtime properties
   private ExporterPositionModel exporterRdbmsPosition;
   private long lastPosition = -1;
+  // last position when the items of the batch in flight were taken, read by the flushing thread;
+  // the queue takes the next batch only once this one completed, so it belongs to a single batch
+  private volatile long flushedPosition = -1;
+  // the record which is passed to the handlers, and how many of them exported it already; if
+  // exporting a batch fails, its writes up to there are queued already and must not be repeated
+  private long exportingPosition = -1;
+  private int exportedHandlers;
   private ScheduledTask currentFlushTask = null;
   private ScheduledTask currentCleanupTask = null;
 
@@ -72,11 +80,13 @@ public class RdbmsExporter {
       // This is needed since the brokers last exported position is from its last snapshot and can
       // be different from ours.
       lastPosition = exporterRdbmsPosition.lastExportedPosition();
-      updatePositionInBroker();
+      updatePositionInBroker(lastPosition);
     }
 
     rdbmsWriter.getExecutionQueue().registerPreFlushListener(this::updatePositionInRdbms);
-    rdbmsWriter.getExecutionQueue().registerPostFlushListener(this::updatePositionInBroker);
+    rdbmsWriter
+        .getExecutionQueue()
+        .registerPostFlushListener(() -> updatePositionInBroker(flushedPosition));
 
     // schedule first cleanup in 1 second. Future intervals are given by the history cleanup service
     // itself
@@ -98,12 +108,53 @@ public class RdbmsExporter {
       rdbmsWriter.flush();
     } catch (final Exception e) {
       LOG.warn("[RDBMS Exporter] Failed to flush records before closing exporter.", e);
+    } finally {
+      rdbmsWriter.close();
     }
 
     LOG.info("[RDBMS Exporter] Exporter closed");
   }
 
   public void export(final Record<?> record) {
+    if (exportToHandlers(record, 0) && flushAfterEachRecord()) {
+      rdbmsWriter.flush();
+    }
+  }
+
+  /**
+   * Passes the records of the batch to their handlers. If a previous attempt to export the same
+   * batch failed, the records and handlers up to the failed one are skipped, as their writes are
+   * queued already.
+   */
+  public void exportBatch(final RecordBatch batch) {
+    boolean handled = false;
+    for (final Record<?> record : batch) {
+      final long position = record.getPosition();
+      if (position < exportingPosition) {
+        handled = true;
+        continue;
+      }
+
+      final int skippedHandlers = position == exportingPosition ? exportedHandlers : 0;
+      handled |= exportToHandlers(record, skippedHandlers);
+    }
+    // all writes of the batch are queued; if the flush fails, the batch is handled again, as a
+    // failed flush drops the queued writes
+    exportingPosition = -1;
+
+    // the records of a batch are flushed together, instead of after each record
+    if (handled && flushAfterEachRecord()) {
+      rdbmsWriter.flush();
+    }
+  }
+
+  /**
+   * Passes the record to the handlers which are registered for its value type.
+   *
+   * @param skippedHandlers the number of handlers which exported the record already
+   * @return true if there are handlers for the record, false otherwise
+   */
+  private boolean exportToHandlers(final Record<?> record, final int skippedHandlers) {
     LOG.trace(
         "[RDBMS Exporter] Process record {}-{} - {}:{}",
         record.getPartitionId(),
@@ -111,36 +162,41 @@ public class RdbmsExporter {
         record.getValueType(),
         record.getIntent());
 
-    boolean exported = false;
-    if (registeredHandlers.containsKey(record.getValueType())) {
-      for (final var handler : registeredHandlers.get(record.getValueType())) {
-        if (handler.canExport(record)) {
-          LOG.debug(
-              "[RDBMS Exporter] Exporting record {} with handler {}",
-              record.getValue(),
-              handler.getClass());
-          handler.export(record);
-          exported = true;
-        } else {
-          LOG.trace(
-              "[RDBMS Exporter] Handler {} can not export record {}",
-              handler.getClass(),
-              record.getValueType());
-        }
-
-        lastPosition = record.getPosition();
-
-        if (flushAfterEachRecord()) {
-          rdbmsWriter.flush();
-        }
-      }
-    } else {
+    if (!registeredHandlers.containsKey(record.getValueType())) {
       LOG.trace("[RDBMS Exporter] No registered handler found for {}", record.getValueType());
+      LOG.trace("[RDBMS Exporter] Record could not be exported {}", record);
+      return false;
     }
 
+    final var handlers = registeredHandlers.get(record.getValueType());
+    exportingPosition = record.getPosition();
+    exportedHandlers = skippedHandlers;
+
+    boolean exported = skippedHandlers > 0;
+    for (int i = skippedHandlers; i < handlers.size(); i++) {
+      final var handler = handlers.get(i);
+      if (handler.canExport(record)) {
+        LOG.debug(
+            "[RDBMS Exporter] Exporting record {} with handler {}",
+            record.getValue(),
+            handler.getClass());
+        handler.export(record);
+        exported = true;
+      } else {
+        LOG.trace(
+            "[RDBMS Exporter] Handler {} can not export record {}",
+            handler.getClass(),
+            record.getValueType());
+      }
+      exportedHandlers = i + 1;
+    }
+
+    lastPosition = record.getPosition();
+
     if (!exported) {
       LOG.trace("[RDBMS Exporter] Record could not be exported {}", record);
     }
+    return true;
   }
 
   public void purge() {
@@ -154,12 +210,22 @@ public class RdbmsExporter {
     rdbmsWriter.getRdbmsPurger().purgeRdbms();
   }
 
-  private void updatePositionInBroker() {
-    LOG.debug("[RDBMS Exporter] Updating position to {} in broker", lastPosition);
-    controller.updateLastExportedRecordPosition(lastPosition);
+  /**
+   * Called after a flush was committed. The controller can be called from any thread, so this is
+   * safe to use even if the flush is executed asynchronously.
+   */
+  private void updatePositionInBroker(final long position) {
+    LOG.debug("[RDBMS Exporter] Updating position to {} in broker", position);
+    controller.updateLastExportedRecordPosition(position);
   }
 
+  /**
+   * Called before the queued items are flushed, always on the exporter's thread. The position
+   * update is queued as part of the flushed items, and the position is remembered to update it in
+   * the broker once they're committed.
+   */
   private void updatePositionInRdbms() {
+    flushedPosition = lastPosition;
     if (lastPosition > exporterRdbmsPosition.lastExportedPosition()) {
       LOG.debug("[RDBMS Exporter] Updating position to {} in rdbms", lastPosition);
       exporterRdbmsPosition =
@@ -204,7 +270,16 @@ public class RdbmsExporter {
   }
 
   private void flushAndReschedule() {
-    flushExecutionQueue();
+    LOG.trace("[RDBMS Exporter] flushing queue");
+    // if the writer flushes asynchronously, this waits for the batch in flight, if there is one
+    rdbmsWriter
+        .flushAsync()
+        .exceptionally(
+            error -> {
+              LOG.warn(
+                  "[RDBMS Exporter] Failed to flush queue, retrying with the next flush", error);
+              return 0;
+            });
     currentFlushTask = controller.scheduleCancellableTask(flushInterval, this::flushAndReschedule);
   }
 
@@ -27,7 +27,8 @@ import io.camunda.exporter.rdbms.handlers.TenantExportHandler;
 import io.camunda.exporter.rdbms.handlers.UserExportHandler;
 import io.camunda.exporter.rdbms.handlers.UserTaskExportHandler;
 import io.camunda.exporter.rdbms.handlers.VariableExportHandler;
-import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.protocol.record.Record;
@@ -35,7 +36,7 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
 
 /** https://docs.camunda.io/docs/next/components/zeebe/technical-concepts/process-lifecycles/ */
-public class RdbmsExporterWrapper implements Exporter {
+public class RdbmsExporterWrapper implements BatchExporter {
 
   /** The partition on which all process deployments are published */
   public static final long PROCESS_DEFINITION_PARTITION = 1L;
@@ -43,6 +44,7 @@ public class RdbmsExporterWrapper implements Exporter {
   private static final int DEFAULT_FLUSH_INTERVAL = 500;
   private static final int DEFAULT_MAX_QUEUE_SIZE = 1000;
   private static final int DEFAULT_CLEANUP_BATCH_SIZE = 1000;
+  private static final boolean DEFAULT_ASYNC_FLUSH = false;
 
   private final RdbmsService rdbmsService;
 
@@ -61,6 +63,7 @@ public class RdbmsExporterWrapper implements Exporter {
             new RdbmsWriterConfig.Builder()
                 .partitionId(partitionId)
                 .maxQueueSize(maxQueueSize)
+                .asyncFlush(readAsyncFlush(context))
                 .historyCleanupBatchSize(readCleanupBatchSize(context))
                 .defaultHistoryTTL(readHistoryTTL(context))
                 .minHistoryCleanupInterval(readMinHistoryCleanupInterval(context))
@@ -93,6 +96,11 @@ public class RdbmsExporterWrapper implements Exporter {
     exporter.export(record);
   }
 
+  @Override
+  public void exportBatch(final RecordBatch batch) {
+    exporter.exportBatch(batch);
+  }
+
   @Override
   public void purge() throws Exception {
     exporter.purge();
@@ -128,6 +136,10 @@ public class RdbmsExporterWrapper implements Exporter {
     return readInt(context, "historyCleanupBatchSize", DEFAULT_CLEANUP_BATCH_SIZE);
   }
 
+  private boolean readAsyncFlush(final Context context) {
+    return readBoolean(context, "asyncFlush", DEFAULT_ASYNC_FLUSH);
+  }
+
   private Duration readDuration(
       final Context context, final String property, final Duration defaultValue) {
     final var arguments = context.getConfiguration().getArguments();
@@ -147,6 +159,16 @@ public class RdbmsExporterWrapper implements Exporter {
     }
   }
 
+  private boolean readBoolean(
+      final Context context, final String property, final boolean defaultValue) {
+    final var arguments = context.getConfiguration().getArguments();
+    if (arguments != null && arguments.containsKey(property)) {
+      return Boolean.parseBoolean(String.valueOf(arguments.get(property)));
+    } else {
+      return defaultValue;
+    }
+  }
+
   private static void createHandlers(
       final long partitionId,
       final RdbmsWriter rdbmsWriter,
@@ -8,10 +8,12 @@
 package io.camunda.exporter.rdbms;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -27,13 +29,16 @@ import io.camunda.db.rdbms.write.queue.QueueItemMerger;
 import io.camunda.db.rdbms.write.service.ExporterPositionService;
 import io.camunda.db.rdbms.write.service.HistoryCleanupService;
 import io.camunda.db.rdbms.write.service.RdbmsPurger;
+import io.camunda.zeebe.exporter.api.RecordBatch;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -149,6 +154,64 @@ class RdbmsExporterTest {
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
   }
 
+  @Test
+  void shouldUpdatePositionOnceAfterBatchWhenMaxQueueSizeIsZero() {
+    // given
+    createExporter(b -> b.maxQueueSize(0).withHandler(ValueType.JOB, mockHandler(ValueType.JOB)));
+
+    // when
+    exporter.exportBatch(
+        new TestRecordBatch(List.of(mockRecord(ValueType.JOB, 1), mockRecord(ValueType.JOB, 2))));
+
+    // then
+    verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
+    verify(positionService, never()).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
+  }
+
+  @Test
+  void shouldNotExportHandledRecordsAgainWhenBatchIsRetried() {
+    // given
+    final var jobHandler = mockHandler(ValueType.JOB);
+    final var otherJobHandler = mockHandler(ValueType.JOB);
+    createExporter(
+        b -> b.withHandler(ValueType.JOB, jobHandler).withHandler(ValueType.JOB, otherJobHandler));
+    final var firstRecord = mockRecord(ValueType.JOB, 1);
+    final var secondRecord = mockRecord(ValueType.JOB, 2);
+    final var batch = new TestRecordBatch(List.of(firstRecord, secondRecord));
+    doThrow(new IllegalStateException("expected"))
+        .doNothing()
+        .when(otherJobHandler)
+        .export(secondRecord);
+    assertThatThrownBy(() -> exporter.exportBatch(batch)).isInstanceOf(IllegalStateException.class);
+
+    // when
+    exporter.exportBatch(batch);
+
+    // then
+    verify(jobHandler).export(firstRecord);
+    verify(otherJobHandler).export(firstRecord);
+    verify(jobHandler).export(secondRecord);
+    verify(otherJobHandler, times(2)).export(secondRecord);
+  }
+
+  @Test
+  void shouldUpdatePositionInBrokerToFlushedPosition() {
+    // given
+    createExporter(b -> b.withHandler(ValueType.JOB, mockHandler(ValueType.JOB)));
+    exporter.export(mockRecord(ValueType.JOB, 1));
+    exporter.export(mockRecord(ValueType.JOB, 2));
+
+    // when - a record is exported while the flush is in progress
+    executionQueue.preFlushListeners.forEach(PreFlushListener::onPreFlush);
+    exporter.export(mockRecord(ValueType.JOB, 3));
+    executionQueue.postFlushListeners.forEach(PostFlushListener::onPostFlush);
+
+    // then
+    verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 2));
+    verify(controller).updateLastExportedRecordPosition(2);
+    verify(controller, never()).updateLastExportedRecordPosition(3);
+  }
+
   @Test
   void shouldFlushOnClose() {
     // given
@@ -160,6 +223,7 @@ class RdbmsExporterTest {
 
     // then
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
+    verify(rdbmsWriter).close();
   }
 
   @Test
@@ -206,6 +270,7 @@ class RdbmsExporterTest {
 
     // then
     // captures the initial and the rescheduled call
+    verify(rdbmsWriter).flushAsync();
     verify(controller, times(3)).scheduleCancellableTask(any(Duration.class), any());
     verify(positionService).update(Mockito.argThat(p -> p.lastExportedPosition() == 1));
   }
@@ -274,6 +339,9 @@ class RdbmsExporterTest {
     when(rdbmsWriter.getExecutionQueue()).thenReturn(executionQueue);
     when(rdbmsWriter.getRdbmsPurger()).thenReturn(rdbmsPurger);
     doAnswer((invocation) -> executionQueue.flush()).when(rdbmsWriter).flush();
+    doAnswer((invocation) -> CompletableFuture.completedFuture(executionQueue.flush()))
+        .when(rdbmsWriter)
+        .flushAsync();
 
     final var builder =
         new RdbmsExporterConfig.Builder()
@@ -318,4 +386,22 @@ class RdbmsExporterTest {
       return false;
     }
   }
+
+  private record TestRecordBatch(List<Record<?>> records) implements RecordBatch {
+
+    @Override
+    public int size() {
+      return records.size();
+    }
+
+    @Override
+    public long getLastPosition() {
+      return records.getLast().getPosition();
+    }
+
+    @Override
+    public Iterator<Record<?>> iterator() {
+      return records.iterator();
+    }
+  }
 }
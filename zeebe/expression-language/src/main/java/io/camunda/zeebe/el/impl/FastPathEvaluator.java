@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.impl.FastPathExpression.Comparison;
+import io.camunda.zeebe.el.impl.FastPathExpression.VariablePath;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValBoolean;
+import org.camunda.feel.syntaxtree.ValNull$;
+import org.camunda.feel.syntaxtree.ValNumber;
+
+/**
+ * Evaluates a {@link FastPathExpression} directly against the MessagePack encoded variables. The
+ * nested entries of a variable path are looked up in place, and only the value at the end of the
+ * path is transformed into a FEEL value, by the same value mapper as the FEEL engine uses.
+ *
+ * <p>The evaluation gives up whenever the result of the FEEL engine could differ from the plain
+ * value, e.g. if a variable or entry doesn't exist, if a value is {@code null}, or if the operands
+ * of a comparison have different types. The FEEL engine produces a warning or a failure in these
+ * cases, so the expression is evaluated by the engine instead.
+ *
+ * <p>Not thread-safe, like the FEEL engine's value mapper.
+ */
+final class FastPathEvaluator {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private final MessagePackValueMapper valueMapper = new MessagePackValueMapper();
+  private final DirectBuffer valueView = new UnsafeBuffer();
+  private int entryOffset;
+  private int entryLength;
+
+  /**
+   * @return the result of the expression, or null if it must be evaluated by the FEEL engine
+   */
+  Val evaluate(final FastPathExpression expression, final EvaluationContext context) {
+    return switch (expression) {
+      case final VariablePath path -> evaluatePath(path, context);
+      case final Comparison comparison -> evaluateComparison(comparison, context);
+    };
+  }
+
+  private Val evaluateComparison(final Comparison comparison, final EvaluationContext context) {
+    final var value = evaluatePath(comparison.path(), context);
+    final var literal = comparison.literal();
+    if (value == null || value.getClass() != literal.getClass()) {
+      return null;
+    }
+
+    final boolean result;
+    if (value instanceof final ValNumber number) {
+      final int compared = number.value().compare(((ValNumber) literal).value());
+      result = comparison.operator().test(compared);
+    } else {
+      final boolean equal = value.equals(literal);
+      result = comparison.operator().test(equal ? 0 : 1);
+    }
+    return new ValBoolean(result);
+  }
+
+  private Val evaluatePath(final VariablePath path, final EvaluationContext context) {
+    final var variable = context.getVariable(path.variableName());
+    if (variable == null || variable.capacity() == 0) {
+      return null;
+    }
+
+    int offset = 0;
+    int length = variable.capacity();
+    for (final var key : path.keys()) {
+      reader.wrap(variable, offset, length);
+      if (!findEntry(key)) {
+        return null;
+      }
+      offset += entryOffset;
+      length = entryLength;
+    }
+
+    valueView.wrap(variable, offset, length);
+    final var value = valueMapper.toVal(valueView, null).get();
+    return value == ValNull$.MODULE$ ? null : value;
+  }
+
+  /**
+   * Looks up the value of the given key in the map the reader is positioned at, and remembers where
+   * the value is, relative to the reader's buffer. If the key occurs multiple times, the last value
+   * wins, as in the FEEL engine.
+   *
+   * @return true if the key was found, otherwise false
+   */
+  private boolean findEntry(final DirectBuffer key) {
+    final var token = reader.readToken();
+    if (token.getType() != MsgPackType.MAP) {
+      return false;
+    }
+
+    boolean found = false;
+    final int size = token.getSize();
+    for (int i = 0; i < size; i++) {
+      final var keyToken = reader.readToken();
+      if (keyToken.getType() != MsgPackType.STRING) {
+        return false;
+      }
+      final boolean matches = BufferUtil.equals(keyToken.getValueBuffer(), key);
+
+      final int valueOffset = reader.getOffset();
+      reader.skipValue();
+      if (matches) {
+        entryOffset = valueOffset;
+        entryLength = reader.getOffset() - valueOffset;
+        found = true;
+      }
+    }
+    return found;
+  }
+}
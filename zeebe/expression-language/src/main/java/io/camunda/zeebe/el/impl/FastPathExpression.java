@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static scala.jdk.javaapi.CollectionConverters.asJava;
+
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.syntaxtree.ConstBool;
+import org.camunda.feel.syntaxtree.ConstNumber;
+import org.camunda.feel.syntaxtree.ConstString;
+import org.camunda.feel.syntaxtree.Equal;
+import org.camunda.feel.syntaxtree.Exp;
+import org.camunda.feel.syntaxtree.GreaterOrEqual;
+import org.camunda.feel.syntaxtree.GreaterThan;
+import org.camunda.feel.syntaxtree.LessOrEqual;
+import org.camunda.feel.syntaxtree.LessThan;
+import org.camunda.feel.syntaxtree.Not;
+import org.camunda.feel.syntaxtree.PathExpression;
+import org.camunda.feel.syntaxtree.Ref;
+import org.camunda.feel.syntaxtree.Val;
+import org.camunda.feel.syntaxtree.ValBoolean;
+import org.camunda.feel.syntaxtree.ValNumber;
+import org.camunda.feel.syntaxtree.ValString;
+
+/**
+ * A FEEL expression which is simple enough to be evaluated directly against the MessagePack encoded
+ * variables, without the FEEL engine: a variable path like {@code order.customer.id}, or the
+ * comparison of a variable path with a literal like {@code amount > 100} or {@code status =
+ * "open"}. Most expressions of a process, e.g. sequence flow conditions, job types or correlation
+ * keys, look like this.
+ *
+ * <p>Numbers can be compared with all comparison operators, strings and booleans only for
+ * (in)equality.
+ *
+ * @see FastPathEvaluator
+ */
+sealed interface FastPathExpression {
+
+  /**
+   * @return the fast path of the given parsed expression, or empty if it must be evaluated by the
+   *     FEEL engine
+   */
+  static Optional<FastPathExpression> of(final Exp expression) {
+    return switch (expression) {
+      case final Equal equal -> Comparison.of(equal.x(), Operator.EQUAL, equal.y());
+      case final Not not when not.x() instanceof final Equal equal ->
+          Comparison.of(equal.x(), Operator.NOT_EQUAL, equal.y());
+      case final LessThan lessThan -> Comparison.of(lessThan.x(), Operator.LESS_THAN, lessThan.y());
+      case final LessOrEqual lessOrEqual ->
+          Comparison.of(lessOrEqual.x(), Operator.LESS_OR_EQUAL, lessOrEqual.y());
+      case final GreaterThan greaterThan ->
+          Comparison.of(greaterThan.x(), Operator.GREATER_THAN, greaterThan.y());
+      case final GreaterOrEqual greaterOrEqual ->
+          Comparison.of(greaterOrEqual.x(), Operator.GREATER_OR_EQUAL, greaterOrEqual.y());
+      default -> VariablePath.of(expression).map(FastPathExpression.class::cast);
+    };
+  }
+
+  /**
+   * A variable, optionally followed by the keys of nested context entries.
+   *
+   * @param variableName the name of the variable
+   * @param keys the UTF-8 encoded keys of the nested entries, starting with the outermost one
+   */
+  record VariablePath(String variableName, List<DirectBuffer> keys) implements FastPathExpression {
+
+    static Optional<VariablePath> of(final Exp expression) {
+      return switch (expression) {
+        case final Ref ref -> {
+          final var names = asJava(ref.names());
+          final var keys = names.subList(1, names.size()).stream().map(BufferUtil::wrapString);
+          yield Optional.of(new VariablePath(names.getFirst(), keys.toList()));
+        }
+        case final PathExpression path ->
+            of(path.path()).map(variablePath -> variablePath.append(path.key()));
+        default -> Optional.empty();
+      };
+    }
+
+    private VariablePath append(final String key) {
+      final var appendedKeys = new ArrayList<>(keys);
+      appendedKeys.add(BufferUtil.wrapString(key));
+      return new VariablePath(variableName, List.copyOf(appendedKeys));
+    }
+  }
+
+  /**
+   * The comparison of a variable path with a literal.
+   *
+   * @param literal the literal, either a {@link ValNumber}, a {@link ValString} or a {@link
+   *     ValBoolean}
+   */
+  record Comparison(VariablePath path, Operator operator, Val literal)
+      implements FastPathExpression {
+
+    static Optional<FastPathExpression> of(
+        final Exp left, final Operator operator, final Exp right) {
+      final Val literal =
+          switch (right) {
+            case final ConstNumber number -> new ValNumber(number.value());
+            case final ConstString string when operator.isEquality() ->
+                new ValString(string.value());
+            case final ConstBool bool when operator.isEquality() -> new ValBoolean(bool.value());
+            default -> null;
+          };
+
+      if (literal == null) {
+        return Optional.empty();
+      }
+      return VariablePath.of(left).map(path -> new Comparison(path, operator, literal));
+    }
+  }
+
+  enum Operator {
+    EQUAL,
+    NOT_EQUAL,
+    LESS_THAN,
+    LESS_OR_EQUAL,
+    GREATER_THAN,
+    GREATER_OR_EQUAL;
+
+    boolean isEquality() {
+      return this == EQUAL || this == NOT_EQUAL;
+    }
+
+    /**
+     * @param comparison the result of comparing the left with the right operand, as returned by
+     *     {@link Comparable#compareTo(Object)}
+     */
+    boolean test(final int comparison) {
+      return switch (this) {
+        case EQUAL -> comparison == 0;
+        case NOT_EQUAL -> comparison != 0;
+        case LESS_THAN -> comparison < 0;
+        case LESS_OR_EQUAL -> comparison <= 0;
+        case GREATER_THAN -> comparison > 0;
+        case GREATER_OR_EQUAL -> comparison >= 0;
+      };
+    }
+  }
+}
@@ -17,9 +17,11 @@ import org.camunda.feel.syntaxtree.Ref;
 public final class FeelExpression implements Expression {
 
   private final ParsedExpression expression;
+  private final Optional<FastPathExpression> fastPath;
 
   public FeelExpression(final ParsedExpression expression) {
     this.expression = expression;
+    fastPath = FastPathExpression.of(expression.expression());
   }
 
   @Override
@@ -63,6 +65,10 @@ public final class FeelExpression implements Expression {
     return expression;
   }
 
+  Optional<FastPathExpression> getFastPath() {
+    return fastPath;
+  }
+
   @Override
   public String toString() {
     return "FeelExpression{" + "expression=" + expression + '}';
@@ -40,10 +40,18 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
+  private final FastPathEvaluator fastPathEvaluator = new FastPathEvaluator();
 
   private final FeelEngine feelEngine;
+  private final ParsedExpressionCache parsedExpressionCache;
 
   public FeelExpressionLanguage(final FeelEngineClock clock) {
+    this(clock, ParsedExpressionCache.shared());
+  }
+
+  public FeelExpressionLanguage(
+      final FeelEngineClock clock, final ParsedExpressionCache parsedExpressionCache) {
+    this.parsedExpressionCache = parsedExpressionCache;
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -60,7 +68,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return parsedExpressionCache.get(unpackedExpression, this::parseFeelExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -107,6 +115,13 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final EvaluationContext context,
       final FeelExpression feelExpression) {
 
+    final var fastPathResult =
+        feelExpression.getFastPath().map(fastPath -> fastPathEvaluator.evaluate(fastPath, context));
+    if (fastPathResult.isPresent()) {
+      return new FeelEvaluationResult(
+          expression, fastPathResult.get(), List.of(), messagePackTransformer::toMessagePack);
+    }
+
     final var parsedExpression = feelExpression.getParsedExpression();
     final var feelContext = new FeelVariableContext(context);
 
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.camunda.zeebe.el.Expression;
+import java.util.function.Function;
+
+/**
+ * A bounded, thread-safe cache of parsed FEEL expressions, keyed by the expression text (without
+ * the leading '='). Parsed expressions are immutable, so a single instance is shared by everyone
+ * who parses the same text, e.g. all process definitions which use the same expression.
+ *
+ * <p>Expressions which can't be parsed are not cached, such that they don't evict valid expressions
+ * from the cache.
+ */
+public final class ParsedExpressionCache {
+
+  /** The maximum number of cached expressions of the {@link #shared()} cache. */
+  public static final long DEFAULT_MAX_SIZE = 10_000;
+
+  private static final ParsedExpressionCache SHARED = new ParsedExpressionCache(DEFAULT_MAX_SIZE);
+
+  private final Cache<String, Expression> cache;
+
+  public ParsedExpressionCache(final long maxSize) {
+    cache = Caffeine.newBuilder().maximumSize(maxSize).recordStats().build();
+  }
+
+  /**
+   * @return the cache which is shared by all expression languages created by the {@link
+   *     io.camunda.zeebe.el.ExpressionLanguageFactory}
+   */
+  public static ParsedExpressionCache shared() {
+    return SHARED;
+  }
+
+  /**
+   * Changes the maximum number of cached expressions. If the cache holds more expressions than the
+   * new maximum, the least recently used ones are evicted.
+   *
+   * @param maxSize the new maximum number of cached expressions
+   */
+  public void setMaxSize(final long maxSize) {
+    cache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(maxSize));
+  }
+
+  Expression get(final String expression, final Function<String, Expression> parser) {
+    final var cachedExpression = cache.getIfPresent(expression);
+    if (cachedExpression != null) {
+      return cachedExpression;
+    }
+
+    final var parsedExpression = parser.apply(expression);
+    if (parsedExpression.isValid()) {
+      cache.put(expression, parsedExpression);
+    }
+    return parsedExpression;
+  }
+
+  /**
+   * @return the number of times a parsed expression was found in the cache
+   */
+  public long hitCount() {
+    return cache.stats().hitCount();
+  }
+
+  /**
+   * @return the number of times an expression had to be parsed, as it was not in the cache
+   */
+  public long missCount() {
+    return cache.stats().missCount();
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.EvaluationContext;
+import io.camunda.zeebe.el.EvaluationResult;
+import io.camunda.zeebe.el.ResultType;
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
+import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
+import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.camunda.feel.FeelEngine;
+import org.camunda.feel.syntaxtree.Val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class FastPathEvaluatorTest {
+
+  private static final Map<String, DirectBuffer> VARIABLES = variables();
+
+  private final TestFeelEngineClock clock = new TestFeelEngineClock();
+  private final FeelExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(clock, new ParsedExpressionCache(100));
+  private final FeelEngine feelEngine =
+      new FeelEngine.Builder()
+          .customValueMapper(new MessagePackValueMapper())
+          .functionProvider(new FeelFunctionProvider())
+          .clock(clock)
+          .build();
+  private final FeelToMessagePackTransformer messagePackTransformer =
+      new FeelToMessagePackTransformer();
+
+  @ParameterizedTest
+  @MethodSource("fastPathExpressions")
+  void shouldEvaluateLikeFeelEngine(final String expression) {
+    // given
+    final var parsedExpression = (FeelExpression) expressionLanguage.parseExpression(expression);
+    final EvaluationContext context = VARIABLES::get;
+
+    // when
+    final var result = expressionLanguage.evaluateExpression(parsedExpression, context);
+
+    // then
+    assertThat(parsedExpression.getFastPath()).isPresent();
+    final var feelEngineResult =
+        feelEngine.evaluate(
+            parsedExpression.getParsedExpression(), new FeelVariableContext(context));
+
+    assertThat(result.isFailure()).isEqualTo(feelEngineResult.isFailure());
+    if (!result.isFailure()) {
+      assertThat(result.toBuffer())
+          .isEqualTo(messagePackTransformer.toMessagePack((Val) feelEngineResult.result()));
+    }
+    assertThat(result.getWarnings()).hasSize(feelEngineResult.suppressedFailures().size());
+  }
+
+  @ParameterizedTest
+  @MethodSource("evaluatedExpressions")
+  void shouldEvaluateWithoutFeelEngine(final String expression) {
+    // given
+    final var parsedExpression = (FeelExpression) expressionLanguage.parseExpression(expression);
+
+    // when
+    final var result =
+        new FastPathEvaluator()
+            .evaluate(parsedExpression.getFastPath().orElseThrow(), VARIABLES::get);
+
+    // then
+    assertThat(result).isNotNull();
+  }
+
+  @ParameterizedTest
+  @MethodSource("fallbackExpressions")
+  void shouldLeaveEvaluationToFeelEngine(final String expression) {
+    // given
+    final var parsedExpression = (FeelExpression) expressionLanguage.parseExpression(expression);
+
+    // when
+    final var result =
+        new FastPathEvaluator()
+            .evaluate(parsedExpression.getFastPath().orElseThrow(), VARIABLES::get);
+
+    // then
+    assertThat(result).isNull();
+  }
+
+  @Test
+  void shouldNotUseFastPathForOtherExpressions() {
+    // when
+    final var expression = (FeelExpression) expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(expression.getFastPath()).isEmpty();
+  }
+
+  @Test
+  void shouldFallBackToFeelEngineIfVariableDoesNotExist() {
+    // when
+    final var result = evaluate("=missing = 1");
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.BOOLEAN);
+    assertThat(result.getBoolean()).isFalse();
+    assertThat(result.getWarnings())
+        .extracting(warning -> warning.getType())
+        .containsExactly("NO_VARIABLE_FOUND");
+  }
+
+  @Test
+  void shouldFallBackToFeelEngineIfEntryDoesNotExist() {
+    // when
+    final var result = evaluate("=order.missing");
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.NULL);
+    assertThat(result.getWarnings()).isNotEmpty();
+  }
+
+  @Test
+  void shouldFallBackToFeelEngineIfTypesDiffer() {
+    // when
+    final var result = evaluate("=name > 1");
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.NULL);
+    assertThat(result.getWarnings()).isNotEmpty();
+  }
+
+  private EvaluationResult evaluate(final String expression) {
+    return expressionLanguage.evaluateExpression(
+        expressionLanguage.parseExpression(expression), VARIABLES::get);
+  }
+
+  private static Stream<Arguments> fastPathExpressions() {
+    return Stream.concat(evaluatedExpressions(), fallbackExpressions());
+  }
+
+  private static Stream<Arguments> evaluatedExpressions() {
+    return Stream.of(
+            "=amount",
+            "=price",
+            "=name",
+            "=approved",
+            "=items",
+            "=order",
+            "=order.id",
+            "=order.customer.name",
+            "=order.customer",
+            "=order.lines",
+            "=amount = 100",
+            "=amount != 100",
+            "=amount < 100",
+            "=amount <= 100",
+            "=amount > 99.5",
+            "=amount >= 100.0",
+            "=price > 2",
+            "=price = 2.5",
+            "=name = \"foo\"",
+            "=name != \"foo\"",
+            "=approved = true",
+            "=approved != true",
+            "=order.id = 42",
+            "=order.customer.name = \"bar\"")
+        .map(Arguments::of);
+  }
+
+  private static Stream<Arguments> fallbackExpressions() {
+    return Stream.of(
+            "=missing",
+            "=missing > 1",
+            "=nothing",
+            "=nothing = 1",
+            "=order.missing",
+            "=name.missing",
+            "=name > 1",
+            "=amount = \"100\"",
+            "=approved = 1")
+        .map(Arguments::of);
+  }
+
+  private static Map<String, DirectBuffer> variables() {
+    final var order = new HashMap<String, Object>();
+    order.put("id", 42);
+    order.put("customer", Map.of("name", "bar"));
+    order.put("lines", List.of(1, 2.5, "x"));
+
+    final var variables = new HashMap<String, DirectBuffer>();
+    variables.put("amount", asMsgPack("100"));
+    variables.put("price", asMsgPack("2.5"));
+    variables.put("name", asMsgPack("\"foo\""));
+    variables.put("approved", asMsgPack("true"));
+    variables.put("items", asMsgPack("[1, 2.0, 3.5, \"x\", {\"y\": 1}]"));
+    variables.put("order", asMsgPack(order));
+    variables.put("nothing", asMsgPack("null"));
+    return variables;
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.el.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.el.util.TestFeelEngineClock;
+import org.junit.jupiter.api.Test;
+
+final class ParsedExpressionCacheTest {
+
+  private final ParsedExpressionCache cache = new ParsedExpressionCache(10);
+
+  @Test
+  void shouldShareParsedExpressionBetweenExpressionLanguages() {
+    // given
+    final var expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+    final var otherExpressionLanguage =
+        new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=amount > 100");
+    final var otherExpression = otherExpressionLanguage.parseExpression("=amount > 100");
+
+    // then
+    assertThat(otherExpression).isSameAs(expression);
+    assertThat(cache.missCount()).isOne();
+    assertThat(cache.hitCount()).isOne();
+  }
+
+  @Test
+  void shouldNotCacheInvalidExpression() {
+    // given
+    final var expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+
+    // when
+    final var expression = expressionLanguage.parseExpression("=x ?! 5");
+    final var otherExpression = expressionLanguage.parseExpression("=x ?! 5");
+
+    // then
+    assertThat(expression.isValid()).isFalse();
+    assertThat(otherExpression).isNotSameAs(expression);
+    assertThat(cache.missCount()).isEqualTo(2);
+    assertThat(cache.hitCount()).isZero();
+  }
+
+  @Test
+  void shouldEvictExpressionsWhenMaxSizeIsReduced() {
+    // given
+    final var expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+    final var expression = expressionLanguage.parseExpression("=a > 1");
+    expressionLanguage.parseExpression("=b > 1");
+
+    // when
+    cache.setMaxSize(0);
+    final var otherExpression = expressionLanguage.parseExpression("=a > 1");
+
+    // then
+    assertThat(otherExpression).isNotSameAs(expression);
+    assertThat(cache.missCount()).isEqualTo(3);
+  }
+
+  @Test
+  void shouldNotCacheStaticExpression() {
+    // given
+    final var expressionLanguage = new FeelExpressionLanguage(new TestFeelEngineClock(), cache);
+
+    // when
+    expressionLanguage.parseExpression("static");
+
+    // then
+    assertThat(cache.missCount()).isZero();
+    assertThat(cache.hitCount()).isZero();
+  }
+}
@@ -29,7 +29,30 @@ interface JournalIndex {
    * @param record the record that should be indexed
    * @param position the position of the given index
    */
-  void index(JournalRecord record, int position);
+  default void index(final JournalRecord record, final int position) {
+    index(record.index(), record.asqn(), position);
+  }
+
+  /**
+   * Indexes the given index, its asqn and its position with in a segment. Used when restoring
+   * entries which were previously visited via {@link #forEachIndexed(long, long,
+   * IndexedEntryVisitor)}.
+   *
+   * @param index the index of the record
+   * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE}
+   * @param position the position of the given index
+   */
+  void index(long index, long asqn, int position);
+
+  /**
+   * Visits all indexed entries between the given indexes (both inclusive), in ascending order of
+   * their index.
+   *
+   * @param fromIndex the lowest index to visit
+   * @param toIndex the highest index to visit
+   * @param visitor called for every indexed entry
+   */
+  void forEachIndexed(long fromIndex, long toIndex, IndexedEntryVisitor visitor);
 
   /**
    * Looks up the position of the given index.
@@ -89,4 +112,16 @@ interface JournalIndex {
    * @return true if this index likely have been already indexed. false if otherwise.
    */
   boolean hasIndexed(long index);
+
+  @FunctionalInterface
+  interface IndexedEntryVisitor {
+
+    /**
+     * @param index the index of the record
+     * @param asqn the asqn of the record, or {@link SegmentedJournal#ASQN_IGNORE} if none was
+     *     indexed
+     * @param position the position of the record with in its segment
+     */
+    void visit(long index, long asqn, int position);
+  }
 }
@@ -0,0 +1,314 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A sparse {@link JournalIndex} which keeps its mappings in sorted primitive arrays instead of
+ * boxed, node-based maps. It indexes the same entries as {@link SparseJournalIndex} (every {@code
+ * density}-th index), but indexing an entry does not allocate unless the arrays must grow, and
+ * lookups are a binary search over contiguous memory.
+ *
+ * <p>Entries are expected to be indexed in ascending order, which is the case for both the writer
+ * and the segment loader, so indexing is usually an append. Out of order entries (e.g. indexed by a
+ * reader seeking through a segment) are still supported, but require shifting the arrays.
+ *
+ * <p>The index is written by the journal writer and by readers seeking through unindexed parts of a
+ * segment, and is read concurrently by all readers. Writes are serialized via a {@link
+ * StampedLock}, while lookups are optimistic and only fall back to a read lock if a write happened
+ * concurrently.
+ */
+final class PackedJournalIndex implements JournalIndex {
+
+  private static final int INITIAL_CAPACITY = 64;
+
+  private final int density;
+  private final StampedLock lock = new StampedLock();
+
+  // index -> position, sorted by index
+  private long[] indexes = new long[INITIAL_CAPACITY];
+  private int[] positions = new int[INITIAL_CAPACITY];
+  private int size;
+
+  // asqn -> index, sorted by index; since the asqn grows with the index, it's also sorted by asqn
+  private long[] asqns = new long[INITIAL_CAPACITY];
+  private long[] asqnIndexes = new long[INITIAL_CAPACITY];
+  private int asqnSize;
+
+  PackedJournalIndex(final int density) {
+    this.density = density;
+  }
+
+  @Override
+  public void index(final long index, final long asqn, final int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    final long stamp = lock.writeLock();
+    try {
+      putPosition(index, position);
+      if (asqn != SegmentedJournal.ASQN_IGNORE) {
+        putAsqn(index, asqn);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void forEachIndexed(
+      final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    final long stamp = lock.readLock();
+    try {
+      int slot = floorSlot(indexes, size, fromIndex - 1) + 1;
+      int asqnSlot = floorSlot(asqnIndexes, asqnSize, fromIndex - 1) + 1;
+      for (; slot < size && indexes[slot] <= toIndex; slot++) {
+        final long index = indexes[slot];
+        while (asqnSlot < asqnSize && asqnIndexes[asqnSlot] < index) {
+          asqnSlot++;
+        }
+
+        final boolean hasAsqn = asqnSlot < asqnSize && asqnIndexes[asqnSlot] == index;
+        visitor.visit(
+            index, hasAsqn ? asqns[asqnSlot] : SegmentedJournal.ASQN_IGNORE, positions[slot]);
+      }
+    } finally {
+      lock.unlockRead(stamp);
+    }
+  }
+
+  @Override
+  public IndexInfo lookup(final long index) {
+    long stamp = lock.tryOptimisticRead();
+    long foundIndex = -1;
+    int foundPosition = 0;
+    boolean found = false;
+
+    if (stamp != 0) {
+      final long[] currentIndexes = indexes;
+      final int[] currentPositions = positions;
+      final int currentSize =
+          Math.min(size, Math.min(currentIndexes.length, currentPositions.length));
+      final int slot = floorSlot(currentIndexes, currentSize, index);
+      if (slot >= 0) {
+        found = true;
+        foundIndex = currentIndexes[slot];
+        foundPosition = currentPositions[slot];
+      }
+    }
+
+    if (stamp == 0 || !lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        final int slot = floorSlot(indexes, size, index);
+        found = slot >= 0;
+        if (found) {
+          foundIndex = indexes[slot];
+          foundPosition = positions[slot];
+        }
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return found ? new IndexInfo(foundIndex, foundPosition) : null;
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn) {
+    return lookupAsqn(asqn, Long.MAX_VALUE);
+  }
+
+  @Override
+  public Long lookupAsqn(final long asqn, final long indexUpperBound) {
+    long stamp = lock.tryOptimisticRead();
+    long result = -1;
+    boolean found = false;
+
+    if (stamp != 0) {
+      final long[] currentAsqns = asqns;
+      final long[] currentAsqnIndexes = asqnIndexes;
+      final int currentSize =
+          Math.min(asqnSize, Math.min(currentAsqns.length, currentAsqnIndexes.length));
+      final int slot =
+          findAsqnSlot(currentAsqns, currentAsqnIndexes, currentSize, asqn, indexUpperBound);
+      if (slot >= 0) {
+        found = true;
+        result = currentAsqnIndexes[slot];
+      }
+    }
+
+    if (stamp == 0 || !lock.validate(stamp)) {
+      stamp = lock.readLock();
+      try {
+        final int slot = findAsqnSlot(asqns, asqnIndexes, asqnSize, asqn, indexUpperBound);
+        found = slot >= 0;
+        if (found) {
+          result = asqnIndexes[slot];
+        }
+      } finally {
+        lock.unlockRead(stamp);
+      }
+    }
+
+    return found ? result : null;
+  }
+
+  @Override
+  public void deleteAfter(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      size = floorSlot(indexes, size, index) + 1;
+      asqnSize = floorSlot(asqnIndexes, asqnSize, index) + 1;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void deleteUntil(final long index) {
+    final long stamp = lock.writeLock();
+    try {
+      final int removedPositions = floorSlot(indexes, size, index - 1) + 1;
+      if (removedPositions > 0) {
+        size -= removedPositions;
+        System.arraycopy(indexes, removedPositions, indexes, 0, size);
+        System.arraycopy(positions, removedPositions, positions, 0, size);
+      }
+
+      // keep the asqn mapping preceding the given index, so asqn lookups still have a lower bound
+      final int removedAsqns = floorSlot(asqnIndexes, asqnSize, index);
+      if (removedAsqns > 0) {
+        asqnSize -= removedAsqns;
+        System.arraycopy(asqns, removedAsqns, asqns, 0, asqnSize);
+        System.arraycopy(asqnIndexes, removedAsqns, asqnIndexes, 0, asqnSize);
+      }
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public void clear() {
+    final long stamp = lock.writeLock();
+    try {
+      size = 0;
+      asqnSize = 0;
+    } finally {
+      lock.unlockWrite(stamp);
+    }
+  }
+
+  @Override
+  public boolean hasIndexed(final long index) {
+    final var indexInfo = lookup(index);
+    if (indexInfo == null) {
+      return false;
+    } else {
+      return indexInfo.index() > index - density;
+    }
+  }
+
+  private void putPosition(final long index, final int position) {
+    final int floor = floorSlot(indexes, size, index);
+    if (floor >= 0 && indexes[floor] == index) {
+      positions[floor] = position;
+      return;
+    }
+
+    final int slot = floor + 1;
+    if (size == indexes.length) {
+      final int capacity = growCapacity(size);
+      indexes = Arrays.copyOf(indexes, capacity);
+      positions = Arrays.copyOf(positions, capacity);
+    }
+
+    if (slot < size) {
+      System.arraycopy(indexes, slot, indexes, slot + 1, size - slot);
+      System.arraycopy(positions, slot, positions, slot + 1, size - slot);
+    }
+
+    indexes[slot] = index;
+    positions[slot] = position;
+    size++;
+  }
+
+  private void putAsqn(final long index, final long asqn) {
+    final int floor = floorSlot(asqnIndexes, asqnSize, index);
+    if (floor >= 0 && asqnIndexes[floor] == index) {
+      asqns[floor] = asqn;
+      return;
+    }
+
+    final int slot = floor + 1;
+    if (asqnSize == asqnIndexes.length) {
+      final int capacity = growCapacity(asqnSize);
+      asqns = Arrays.copyOf(asqns, capacity);
+      asqnIndexes = Arrays.copyOf(asqnIndexes, capacity);
+    }
+
+    if (slot < asqnSize) {
+      System.arraycopy(asqns, slot, asqns, slot + 1, asqnSize - slot);
+      System.arraycopy(asqnIndexes, slot, asqnIndexes, slot + 1, asqnSize - slot);
+    }
+
+    asqns[slot] = asqn;
+    asqnIndexes[slot] = index;
+    asqnSize++;
+  }
+
+  private static int growCapacity(final int currentCapacity) {
+    return Math.max(INITIAL_CAPACITY, currentCapacity + (currentCapacity >> 1));
+  }
+
+  /**
+   * Returns the slot of the mapping with the greatest asqn less than or equal to the given asqn,
+   * whose index is at most the given upper bound. If the floor asqn maps to an index beyond the
+   * upper bound, the greatest mapped index within the bound is returned instead, same as {@link
+   * SparseJournalIndex#lookupAsqn(long, long)}.
+   */
+  private static int findAsqnSlot(
+      final long[] asqns,
+      final long[] asqnIndexes,
+      final int size,
+      final long asqn,
+      final long indexUpperBound) {
+    final int slot = floorSlot(asqns, size, asqn);
+    if (slot < 0 || asqnIndexes[slot] <= indexUpperBound) {
+      return slot;
+    }
+
+    return floorSlot(asqnIndexes, size, indexUpperBound);
+  }
+
+  /**
+   * Returns the slot of the greatest value less than or equal to the given key in the sorted array,
+   * or -1 if there is none.
+   */
+  private static int floorSlot(final long[] sorted, final int size, final long key) {
+    int low = 0;
+    int high = size - 1;
+
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final long value = sorted[mid];
+      if (value < key) {
+        low = mid + 1;
+      } else if (value > key) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+
+    return high;
+  }
+}
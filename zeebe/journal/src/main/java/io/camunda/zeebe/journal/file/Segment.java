@@ -48,6 +48,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
   private SegmentDescriptor descriptor;
   private final SegmentDescriptorSerializer descriptorSerializer;
   private final JournalIndex index;
+  private final SegmentIndexFile indexFile;
   private final SegmentWriter writer;
   private final Set<SegmentReader> readers = Sets.newConcurrentHashSet();
   private final MappedByteBuffer buffer;
@@ -72,6 +73,7 @@ final class Segment implements AutoCloseable, FlushableSegment {
     this.buffer = buffer;
     this.index = index;
     this.metrics = metrics;
+    indexFile = new SegmentIndexFile(file.indexFile().toPath());
 
     writer = createWriter(lastWrittenAsqn, metrics);
   }
@@ -152,6 +154,24 @@ final class Segment implements AutoCloseable, FlushableSegment {
     return writer.getLastAsqn();
   }
 
+  /**
+   * Returns the position of the last entry in the segment.
+   *
+   * @return The position of the last entry in the segment.
+   */
+  int lastEntryPosition() {
+    return writer.getLastEntryPosition();
+  }
+
+  /**
+   * Returns the checksum of the last entry in the segment.
+   *
+   * @return The checksum of the last entry in the segment, or 0 if the segment is empty.
+   */
+  long lastEntryChecksum() {
+    return writer.getLastEntryChecksum();
+  }
+
   /**
    * Returns the segment file.
    *
@@ -272,6 +292,9 @@ final class Segment implements AutoCloseable, FlushableSegment {
       return;
     }
 
+    // the index file is not needed by readers, so it can be deleted right away
+    indexFile.delete();
+
     final var target = file.getFileMarkedForDeletion();
     try {
       FileUtil.moveDurably(file.file().toPath(), target);
@@ -281,6 +304,52 @@ final class Segment implements AutoCloseable, FlushableSegment {
     markedForDeletion = true;
   }
 
+  /**
+   * Persists the index entries of this segment into its index file, such that they can be restored
+   * when the segment is loaded again. Should only be called once the segment is sealed, i.e. no
+   * more entries are appended to it. Failing to persist the index is not critical, as the segment
+   * is then indexed lazily after loading it.
+   */
+  void persistIndex() {
+    if (lastIndex() < index()) {
+      return;
+    }
+
+    try {
+      indexFile.write(this, index);
+    } catch (final IOException e) {
+      LOG.warn("Failed to persist index of segment {} to {}", this, indexFile.path(), e);
+      indexFile.delete();
+    }
+  }
+
+  /**
+   * Restores the index entries of this segment from its index file, if it exists and matches this
+   * segment.
+   *
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean restoreIndex() {
+    if (lastIndex() < index()) {
+      return false;
+    }
+
+    final boolean restored = indexFile.read(this, index);
+    if (!restored) {
+      // remove stale or corrupted files, a valid one is written again once this segment is sealed
+      indexFile.delete();
+    }
+    return restored;
+  }
+
+  /**
+   * Deletes the index file of this segment, e.g. because it's about to be modified and the
+   * persisted entries would not match anymore.
+   */
+  void deletePersistedIndex() {
+    indexFile.delete();
+  }
+
   void updateDescriptor() {
     descriptor =
         descriptor.withUpdatedIndices(writer.getLastIndex(), writer.getLastEntryPosition());
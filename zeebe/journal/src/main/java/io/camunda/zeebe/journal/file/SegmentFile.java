@@ -32,6 +32,7 @@ public final class SegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "idx";
   private static final String DELETE_EXTENSION = "deleted";
   private static final char DELETE_EXTENSION_SEPARATOR = '_';
   private final File file;
@@ -125,6 +126,19 @@ public final class SegmentFile {
     return file.getName();
   }
 
+  /**
+   * Returns the companion file in which the journal index entries of this segment are persisted,
+   * e.g. {@code journal-1.idx} for the segment {@code journal-1.log}.
+   *
+   * @return The segment index file.
+   */
+  File indexFile() {
+    final var name = file.getName();
+    return new File(
+        file.getParentFile(),
+        name.substring(0, name.length() - EXTENSION.length()) + INDEX_EXTENSION);
+  }
+
   Path getFileMarkedForDeletion() {
     if (fileMarkedForDeletion == null) {
       final String renamedFileName =
@@ -0,0 +1,249 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.file.SegmentIndexDecoder.EntriesDecoder;
+import io.camunda.zeebe.journal.file.SegmentIndexEncoder.EntriesEncoder;
+import io.camunda.zeebe.journal.util.ChecksumGenerator;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.LongArrayList;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Companion file of a sealed segment, which contains the {@link JournalIndex} entries of that
+ * segment. When loading the segment, the entries can be restored from it instead of lazily
+ * rebuilding them by scanning the segment.
+ *
+ * <p>The file is laid out like the segment descriptor: a version byte, followed by the checksum of
+ * the index, followed by the index itself. Besides the entries, the index contains the id, first
+ * and last index of the segment, as well as the position and checksum of its last entry. An index
+ * is only restored if all of these match the loaded segment, so a stale file (e.g. left over from
+ * before a truncation) is never used.
+ *
+ * <p>At most {@link EntriesEncoder#countMaxValue()} entries are written. If the segment has more
+ * indexed entries, only every n-th of them is written, as if it was indexed with a lower density.
+ *
+ * <p>The file is not flushed: if it's missing or corrupted after a crash, the segment simply falls
+ * back to being indexed lazily.
+ */
+final class SegmentIndexFile {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SegmentIndexFile.class);
+
+  private static final byte VERSION = 1;
+  private static final int VERSION_LENGTH = Byte.BYTES;
+  private static final int INDEX_HEADER_OFFSET =
+      VERSION_LENGTH + MessageHeaderEncoder.ENCODED_LENGTH + DescriptorMetadataEncoder.BLOCK_LENGTH;
+
+  private final Path path;
+  private final ChecksumGenerator checksumGen = new ChecksumGenerator();
+  private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
+  private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
+  private final DescriptorMetadataEncoder metadataEncoder = new DescriptorMetadataEncoder();
+  private final DescriptorMetadataDecoder metadataDecoder = new DescriptorMetadataDecoder();
+  private final SegmentIndexEncoder indexEncoder = new SegmentIndexEncoder();
+  private final SegmentIndexDecoder indexDecoder = new SegmentIndexDecoder();
+
+  SegmentIndexFile(final Path path) {
+    this.path = path;
+  }
+
+  Path path() {
+    return path;
+  }
+
+  /**
+   * Writes all entries of the given index which belong to the given segment, replacing any
+   * previously written file.
+   *
+   * @param segment the sealed segment
+   * @param index the journal index containing the segment's entries
+   * @throws IOException if the file cannot be written
+   */
+  void write(final Segment segment, final JournalIndex index) throws IOException {
+    final var indexes = new LongArrayList();
+    final var asqns = new LongArrayList();
+    final var positions = new IntArrayList();
+    index.forEachIndexed(
+        segment.index(),
+        segment.lastIndex(),
+        (entryIndex, asqn, position) -> {
+          indexes.addLong(entryIndex);
+          asqns.addLong(asqn);
+          positions.addInt(position);
+        });
+
+    // only keep every n-th entry if there are more than fit into the index
+    final int stride = Math.max(1, Math.ceilDiv(indexes.size(), EntriesEncoder.countMaxValue()));
+    final int count = Math.ceilDiv(indexes.size(), stride);
+    final int length =
+        INDEX_HEADER_OFFSET
+            + MessageHeaderEncoder.ENCODED_LENGTH
+            + SegmentIndexEncoder.BLOCK_LENGTH
+            + EntriesEncoder.sbeHeaderSize()
+            + count * EntriesEncoder.sbeBlockLength();
+    final var bytes = new byte[length];
+    final var buffer = new UnsafeBuffer(bytes);
+
+    buffer.putByte(0, VERSION);
+    final var entries =
+        indexEncoder
+            .wrapAndApplyHeader(buffer, INDEX_HEADER_OFFSET, headerEncoder)
+            .segmentId(segment.id())
+            .firstIndex(segment.index())
+            .lastIndex(segment.lastIndex())
+            .lastPosition(segment.lastEntryPosition())
+            .lastChecksum(segment.lastEntryChecksum())
+            .entriesCount(count);
+    for (int i = 0; i < indexes.size(); i += stride) {
+      entries.next().index(indexes.getLong(i)).asqn(asqns.getLong(i)).position(positions.getInt(i));
+    }
+
+    final long checksum =
+        checksumGen.compute(bytes, INDEX_HEADER_OFFSET, length - INDEX_HEADER_OFFSET);
+    metadataEncoder.wrapAndApplyHeader(buffer, VERSION_LENGTH, headerEncoder).checksum(checksum);
+
+    try (final var channel =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      final var data = ByteBuffer.wrap(bytes);
+      while (data.hasRemaining()) {
+        channel.write(data);
+      }
+    }
+  }
+
+  /**
+   * Restores the entries of the given segment into the index, if the file exists and matches the
+   * segment.
+   *
+   * @param segment the loaded segment
+   * @param index the journal index to restore the entries into
+   * @return true if the entries were restored, false otherwise
+   */
+  boolean read(final Segment segment, final JournalIndex index) {
+    try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final var mappedIndex = channel.map(MapMode.READ_ONLY, 0, channel.size());
+      try {
+        read(new UnsafeBuffer(mappedIndex), segment, index);
+        return true;
+      } finally {
+        IoUtil.unmap(mappedIndex);
+      }
+    } catch (final NoSuchFileException e) {
+      return false;
+    } catch (final IOException | RuntimeException e) {
+      LOG.debug(
+          "Failed to restore the index of segment {} from {}, it will be indexed lazily instead",
+          segment,
+          path,
+          e);
+      return false;
+    }
+  }
+
+  /** Deletes the file, if it exists. */
+  void delete() {
+    try {
+      Files.deleteIfExists(path);
+    } catch (final IOException e) {
+      LOG.warn("Failed to delete segment index file {}", path, e);
+    }
+  }
+
+  private void read(final DirectBuffer buffer, final Segment segment, final JournalIndex index) {
+    final byte version = buffer.getByte(0);
+    if (version != VERSION) {
+      throw new UnknownVersionException(
+          "Expected segment index version to be %d but read %d instead"
+              .formatted(VERSION, version));
+    }
+
+    validateHeader(
+        buffer, VERSION_LENGTH, metadataDecoder.sbeSchemaId(), metadataDecoder.sbeTemplateId());
+    metadataDecoder.wrap(
+        buffer,
+        VERSION_LENGTH + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    final long checksum =
+        checksumGen.compute(buffer, INDEX_HEADER_OFFSET, buffer.capacity() - INDEX_HEADER_OFFSET);
+    if (checksum != metadataDecoder.checksum()) {
+      throw new CorruptedJournalException(
+          "Segment index doesn't match checksum (possibly due to corruption).");
+    }
+
+    validateHeader(
+        buffer, INDEX_HEADER_OFFSET, indexDecoder.sbeSchemaId(), indexDecoder.sbeTemplateId());
+    indexDecoder.wrap(
+        buffer,
+        INDEX_HEADER_OFFSET + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+    if (indexDecoder.segmentId() != segment.id()
+        || indexDecoder.firstIndex() != segment.index()
+        || indexDecoder.lastIndex() != segment.lastIndex()
+        || indexDecoder.lastPosition() != segment.lastEntryPosition()
+        || indexDecoder.lastChecksum() != segment.lastEntryChecksum()) {
+      throw new CorruptedJournalException(
+          "Segment index of segment %d (indexes %d to %d) doesn't match segment %s (last index %d)"
+              .formatted(
+                  indexDecoder.segmentId(),
+                  indexDecoder.firstIndex(),
+                  indexDecoder.lastIndex(),
+                  segment,
+                  segment.lastIndex()));
+    }
+
+    final int entriesOffset = indexDecoder.limit();
+    for (final EntriesDecoder entry : indexDecoder.entries()) {
+      if (entry.index() < segment.index()
+          || entry.index() > segment.lastIndex()
+          || entry.position() > segment.lastEntryPosition()) {
+        throw new CorruptedJournalException(
+            "Segment index entry (index %d, position %d) is out of bounds of segment %s"
+                .formatted(entry.index(), entry.position(), segment));
+      }
+    }
+
+    // entries were validated, so we can now safely restore them
+    indexDecoder.limit(entriesOffset);
+    for (final EntriesDecoder entry : indexDecoder.entries()) {
+      index.index(entry.index(), entry.asqn(), entry.position());
+    }
+  }
+
+  /** Validate that the header's schema and template ids match the expected ones. */
+  private void validateHeader(
+      final DirectBuffer buffer, final int offset, final int schemaId, final int templateId) {
+    headerDecoder.wrap(buffer, offset);
+
+    if (headerDecoder.schemaId() != schemaId || headerDecoder.templateId() != templateId) {
+      throw new CorruptedJournalException(
+          "Cannot read segment index header. Read schema and template ids ('%d' and '%d') don't match expected '%d' and %d'."
+              .formatted(
+                  headerDecoder.schemaId(), headerDecoder.templateId(), schemaId, templateId));
+    }
+  }
+}
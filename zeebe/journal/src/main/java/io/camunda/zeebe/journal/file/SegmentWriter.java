@@ -100,6 +100,10 @@ final class SegmentWriter {
     return lastEntryPosition;
   }
 
+  long getLastEntryChecksum() {
+    return lastEntry != null ? lastEntry.checksum() : 0;
+  }
+
   long getNextIndex() {
     if (lastEntry != null) {
       return lastEntry.index() + 1;
@@ -33,6 +33,8 @@ public class SegmentedJournalBuilder {
   private static final long DEFAULT_MIN_FREE_DISK_SPACE = 1024L * 1024 * 1024;
   private static final int DEFAULT_JOURNAL_INDEX_DENSITY = 100;
   private static final boolean DEFAULT_PREALLOCATE_SEGMENT_FILES = true;
+  private static final boolean DEFAULT_PACKED_JOURNAL_INDEX = false;
+  private static final boolean DEFAULT_PERSIST_SEGMENT_INDEX = true;
 
   // impossible value to make it clear it's unset
   private static final int DEFAULT_PARTITION_ID = -1;
@@ -44,6 +46,8 @@ public class SegmentedJournalBuilder {
   private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private boolean packedJournalIndex = DEFAULT_PACKED_JOURNAL_INDEX;
+  private boolean persistSegmentIndex = DEFAULT_PERSIST_SEGMENT_INDEX;
   private int partitionId = DEFAULT_PARTITION_ID;
 
   private JournalMetaStore journalMetaStore;
@@ -131,6 +135,37 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets whether the journal index is backed by sorted primitive arrays instead of skip-list maps.
+   * Both index the same entries, but the packed index does not allocate when indexing entries, and
+   * has a considerably smaller heap footprint for large journals or a low index density.
+   *
+   * <p>By default, the skip-list based index is used.
+   *
+   * @param packedJournalIndex true to use the packed index, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPackedJournalIndex(final boolean packedJournalIndex) {
+    this.packedJournalIndex = packedJournalIndex;
+    return this;
+  }
+
+  /**
+   * Sets whether the journal index entries of a segment are persisted into a companion file once
+   * the segment is sealed. When loading the journal, the entries are then restored from these files
+   * instead of being rebuilt lazily by scanning the segments, which speeds up seeking after a
+   * restart. Missing or invalid index files are ignored.
+   *
+   * <p>By default, segment indexes are persisted.
+   *
+   * @param persistSegmentIndex true to persist segment indexes, false otherwise
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withPersistSegmentIndex(final boolean persistSegmentIndex) {
+    this.persistSegmentIndex = persistSegmentIndex;
+    return this;
+  }
+
   /**
    * Sets whether segment files are pre-allocated at creation. If true, segment files are
    * pre-allocated to the maximum segment size (see {@link #withMaxSegmentSize(int)}}) at creation
@@ -167,7 +202,10 @@ public class SegmentedJournalBuilder {
   }
 
   public SegmentedJournal build() {
-    final var journalIndex = new SparseJournalIndex(journalIndexDensity);
+    final JournalIndex journalIndex =
+        packedJournalIndex
+            ? new PackedJournalIndex(journalIndexDensity)
+            : new SparseJournalIndex(journalIndexDensity);
     final var journalMetrics = new JournalMetrics(meterRegistry);
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
@@ -180,7 +218,8 @@ public class SegmentedJournalBuilder {
             name,
             segmentLoader,
             journalMetrics,
-            journalMetaStore);
+            journalMetaStore,
+            persistSegmentIndex);
     final var segmentsFlusher = new SegmentsFlusher(journalMetaStore);
 
     return new SegmentedJournal(journalIndex, segmentsManager, journalMetrics, segmentsFlusher);
@@ -112,8 +112,9 @@ final class SegmentedJournalWriter {
     }
 
     // Reset last entry position in descriptor to 0, to ensure that after a restart it is not using
-    // the old truncated entry.
+    // the old truncated entry. Similarly, its persisted index may not match anymore.
     currentSegment.resetLastEntryInDescriptor();
+    currentSegment.deletePersistedIndex();
     // Truncate down to the current index, such that the last index is `index`, and the next index
     // `index + 1`
     currentWriter.truncate(index);
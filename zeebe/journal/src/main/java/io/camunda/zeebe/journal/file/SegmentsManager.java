@@ -55,6 +55,7 @@ final class SegmentsManager implements AutoCloseable {
   private final SegmentLoader segmentLoader;
   private final String name;
   private final JournalMetaStore metaStore;
+  private final boolean persistSegmentIndex;
 
   private volatile Segment currentSegment;
 
@@ -65,7 +66,8 @@ final class SegmentsManager implements AutoCloseable {
       final String name,
       final SegmentLoader segmentLoader,
       final JournalMetrics journalMetrics,
-      final JournalMetaStore metaStore) {
+      final JournalMetaStore metaStore,
+      final boolean persistSegmentIndex) {
     this.name = checkNotNull(name, "name cannot be null");
     this.journalIndex = journalIndex;
     this.maxSegmentSize = maxSegmentSize;
@@ -73,6 +75,7 @@ final class SegmentsManager implements AutoCloseable {
     this.segmentLoader = segmentLoader;
     this.journalMetrics = journalMetrics;
     this.metaStore = metaStore;
+    this.persistSegmentIndex = persistSegmentIndex;
   }
 
   @Override
@@ -119,6 +122,10 @@ final class SegmentsManager implements AutoCloseable {
    * @throws IllegalStateException if the segment manager is not open
    */
   Segment getNextSegment() {
+    // the current segment is sealed once we roll over to the next one
+    if (persistSegmentIndex && currentSegment != null) {
+      currentSegment.persistIndex();
+    }
 
     final Segment lastSegment = getLastSegment();
     final var lastWrittenAsqn = lastSegment != null ? lastSegment.lastAsqn() : INITIAL_ASQN;
@@ -384,6 +391,10 @@ final class SegmentsManager implements AutoCloseable {
                   .formatted(lastFlushedIndex, segment.lastIndex()));
         }
 
+        if (persistSegmentIndex && segment.restoreIndex()) {
+          LOG.trace("Restored index of segment {} from its index file", segment);
+        }
+
         segments.add(segment);
         previousSegment = segment;
       } catch (final CorruptedJournalException e) {
@@ -443,6 +454,7 @@ final class SegmentsManager implements AutoCloseable {
     for (int i = failedIndex; i < files.size(); i++) {
       final File file = files.get(i);
       try {
+        Files.deleteIfExists(new SegmentFile(file).indexFile().toPath());
         Files.delete(file.toPath());
       } catch (final IOException e) {
         throw new JournalException(
@@ -15,7 +15,6 @@
  */
 package io.camunda.zeebe.journal.file;
 
-import io.camunda.zeebe.journal.JournalRecord;
 import java.util.Map;
 import java.util.concurrent.ConcurrentNavigableMap;
 import java.util.concurrent.ConcurrentSkipListMap;
@@ -35,11 +34,9 @@ final class SparseJournalIndex implements JournalIndex {
   }
 
   @Override
-  public void index(final JournalRecord indexedEntry, final int position) {
-    final long index = indexedEntry.index();
+  public void index(final long index, final long asqn, final int position) {
     if (index % density == 0) {
       indexToPosition.put(index, position);
-      final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
         asqnToIndex.put(asqn, index);
         indexToAsqn.put(index, asqn);
@@ -47,6 +44,20 @@ final class SparseJournalIndex implements JournalIndex {
     }
   }
 
+  @Override
+  public void forEachIndexed(
+      final long fromIndex, final long toIndex, final IndexedEntryVisitor visitor) {
+    if (fromIndex > toIndex) {
+      return;
+    }
+
+    for (final var entry : indexToPosition.subMap(fromIndex, true, toIndex, true).entrySet()) {
+      final long index = entry.getKey();
+      final Long asqn = indexToAsqn.get(index);
+      visitor.visit(index, asqn != null ? asqn : SegmentedJournal.ASQN_IGNORE, entry.getValue());
+    }
+  }
+
   @Override
   public IndexInfo lookup(final long index) {
     final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
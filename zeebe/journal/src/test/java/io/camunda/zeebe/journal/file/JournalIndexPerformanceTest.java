@@ -0,0 +1,111 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link SparseJournalIndex} with the {@link PackedJournalIndex}.
+ *
+ * <p>{@code measureSeek} measures the lookup a reader does when seeking to a random index or asqn.
+ * {@code measureIndexing} rebuilds the index for a whole journal, as done when loading segments;
+ * run it with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to compare the heap footprint
+ * of both implementations, since nearly everything allocated there is retained by the index.
+ */
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class JournalIndexPerformanceTest {
+  private static final int DENSITY = 10;
+  private static final int ENTRY_COUNT = 1_000_000;
+
+  @Param({"PACKED", "SPARSE"})
+  public IndexType indexType;
+
+  private JournalRecord[] records;
+  private JournalIndex index;
+
+  @Setup
+  public void setup() {
+    records = new JournalRecord[ENTRY_COUNT / DENSITY];
+    for (int i = 0; i < records.length; i++) {
+      final long recordIndex = (i + 1L) * DENSITY;
+      records[i] = new TestJournalRecord(recordIndex, recordIndex * 2, 0, null, null);
+    }
+
+    index = indexType.create();
+    indexAll(index);
+  }
+
+  @Benchmark
+  public Object measureSeek() {
+    final long seekIndex = ThreadLocalRandom.current().nextLong(DENSITY, ENTRY_COUNT);
+    final IndexInfo info = index.lookup(seekIndex);
+    final Long asqnIndex = index.lookupAsqn(seekIndex * 2, seekIndex);
+    return info.position() + asqnIndex;
+  }
+
+  @Benchmark
+  public JournalIndex measureIndexing() {
+    final var freshIndex = indexType.create();
+    indexAll(freshIndex);
+    return freshIndex;
+  }
+
+  @JMHTest("measureSeek")
+  void shouldSeekWithPackedIndexWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/ms score, as measured locally
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 2_000;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("indexType", "PACKED")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void indexAll(final JournalIndex journalIndex) {
+    for (int i = 0; i < records.length; i++) {
+      journalIndex.index(records[i], i * 128);
+    }
+  }
+
+  public enum IndexType {
+    PACKED,
+    SPARSE;
+
+    JournalIndex create() {
+      return switch (this) {
+        case PACKED -> new PackedJournalIndex(DENSITY);
+        case SPARSE -> new SparseJournalIndex(DENSITY);
+      };
+    }
+  }
+}
@@ -0,0 +1,333 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.journal.file;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import org.junit.jupiter.api.Test;
+
+/** Packed journal index test. */
+class PackedJournalIndexTest {
+
+  @Test
+  void shouldNotFindIndexWhenNotReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+
+    // when
+    final IndexInfo position = index.lookup(1);
+
+    // then
+    assertNull(position);
+  }
+
+  private static JournalRecord asJournalRecord(final long index, final long asqn) {
+    return new TestJournalRecord(index, asqn, 0, null, null);
+  }
+
+  @Test
+  void shouldFindIndexWhenReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+
+    // then
+    assertEquals(5, index.lookup(5).index());
+    assertEquals(10, index.lookup(5).position());
+    assertEquals(5, index.lookupAsqn(5));
+  }
+
+  @Test
+  void shouldFindLowerIndexWhenNotReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+
+    // when
+    index.index(asJournalRecord(6, 6), 12);
+    index.index(asJournalRecord(7, 7), 14);
+    index.index(asJournalRecord(8, 8), 16);
+
+    // then
+    assertEquals(5, index.lookup(8).index());
+    assertEquals(10, index.lookup(8).position());
+    assertEquals(5, index.lookupAsqn(8));
+  }
+
+  @Test
+  void shouldFindNextIndexWhenReachedDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(6, 6), 12);
+    index.index(asJournalRecord(7, 7), 14);
+    index.index(asJournalRecord(8, 8), 16);
+
+    // when
+    index.index(asJournalRecord(9, 9), 18);
+    index.index(asJournalRecord(10, 10), 20);
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(20, index.lookup(10).position());
+    assertEquals(10, index.lookupAsqn(10));
+  }
+
+  @Test
+  void shouldTruncateIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.deleteAfter(8);
+
+    // then
+    assertEquals(5, index.lookup(8).index());
+    assertEquals(10, index.lookup(8).position());
+    assertEquals(5, index.lookup(10).index());
+    assertEquals(10, index.lookup(10).position());
+    assertEquals(5, index.lookupAsqn(80));
+    assertEquals(5, index.lookupAsqn(90));
+  }
+
+  @Test
+  void shouldTruncateCompleteIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+    index.deleteAfter(8);
+
+    // when
+    index.deleteAfter(4);
+
+    // then
+    assertNull(index.lookup(4));
+    assertNull(index.lookup(5));
+    assertNull(index.lookup(8));
+    assertNull(index.lookup(10));
+    assertNull(index.lookupAsqn(40));
+    assertNull(index.lookupAsqn(50));
+    assertNull(index.lookupAsqn(80));
+    assertNull(index.lookupAsqn(100));
+  }
+
+  @Test
+  void shouldNotCompactIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+
+    // when
+    index.deleteUntil(8);
+
+    // then
+    assertNull(index.lookup(8));
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(20, index.lookup(10).position());
+  }
+
+  @Test
+  void shouldCompactIndex() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    // index entries
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+    index.index(asJournalRecord(4, 40), 8);
+    index.index(asJournalRecord(5, 50), 10);
+    index.index(asJournalRecord(6, 60), 12);
+    index.index(asJournalRecord(7, 70), 14);
+    index.index(asJournalRecord(8, 80), 16);
+    index.index(asJournalRecord(9, 90), 18);
+    index.index(asJournalRecord(10, 100), 20);
+    // when
+    index.deleteUntil(11);
+
+    // then
+    assertNull(index.lookup(4));
+    assertNull(index.lookup(5));
+    assertNull(index.lookup(8));
+    assertNull(index.lookupAsqn(40));
+    assertNull(index.lookupAsqn(50));
+    assertNull(index.lookupAsqn(80));
+  }
+
+  @Test
+  void shouldFindAsqnWithInBound() {
+    // given - every 2nd index is added
+    final JournalIndex index = new PackedJournalIndex(2);
+
+    // when
+    index.index(asJournalRecord(1, 1), 2);
+    index.index(asJournalRecord(2, 2), 4);
+    index.index(asJournalRecord(3, 3), 6);
+    index.index(asJournalRecord(4, 4), 8);
+    index.index(asJournalRecord(5, 5), 10);
+    index.index(asJournalRecord(6, 6), 10);
+
+    // then
+    assertNull(index.lookupAsqn(5, 1));
+    assertEquals(2, index.lookupAsqn(5, 3));
+    assertEquals(2, index.lookupAsqn(5, 3));
+    assertEquals(4, index.lookupAsqn(5, 4));
+    assertEquals(4, index.lookupAsqn(5, 5));
+    assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
+    assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
+  }
+
+  @Test
+  void shouldReturnAsIndexedWhenWithInDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    index.index(asJournalRecord(5, 1), 2);
+
+    // when - then
+    assertThat(index.hasIndexed(6)).isTrue();
+    assertThat(index.hasIndexed(7)).isTrue();
+    assertThat(index.hasIndexed(8)).isTrue();
+    assertThat(index.hasIndexed(9)).isTrue();
+  }
+
+  @Test
+  void shouldReturnAsNotIndexedWhenOutsideDensity() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    index.index(asJournalRecord(5, 1), 2);
+
+    // when - then
+    assertThat(index.hasIndexed(10)).isFalse();
+    assertThat(index.hasIndexed(11)).isFalse();
+    assertThat(index.hasIndexed(100)).isFalse();
+  }
+
+  @Test
+  void shouldIndexOutOfOrderEntries() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    index.index(asJournalRecord(10, 100), 20);
+    index.index(asJournalRecord(20, 200), 40);
+
+    // when
+    index.index(asJournalRecord(15, 150), 30);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // then
+    assertEquals(5, index.lookup(9).index());
+    assertEquals(10, index.lookup(9).position());
+    assertEquals(15, index.lookup(19).index());
+    assertEquals(30, index.lookup(19).position());
+    assertEquals(20, index.lookup(100).index());
+    assertEquals(15, index.lookupAsqn(199));
+    assertEquals(5, index.lookupAsqn(99));
+  }
+
+  @Test
+  void shouldNotIndexAsqnWhenIgnored() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    index.index(asJournalRecord(5, 50), 10);
+
+    // when
+    index.index(asJournalRecord(10, SegmentedJournal.ASQN_IGNORE), 20);
+
+    // then
+    assertEquals(10, index.lookup(10).index());
+    assertEquals(5, index.lookupAsqn(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldIndexBeyondInitialCapacity() {
+    // given
+    final JournalIndex index = new PackedJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(7_777, index.lookup(7_777).index());
+    assertEquals(15_554, index.lookup(7_777).position());
+    assertEquals(7_777, index.lookupAsqn(77_775));
+  }
+
+  @Test
+  void shouldIndexAfterCompactingAndTruncating() {
+    // given - every 5 index is added
+    final JournalIndex index = new PackedJournalIndex(5);
+    for (int i = 1; i <= 30; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+    index.deleteUntil(11);
+    index.deleteAfter(20);
+
+    // when
+    index.index(asJournalRecord(25, 251), 99);
+
+    // then
+    assertNull(index.lookup(9));
+    assertEquals(15, index.lookup(19).index());
+    assertEquals(20, index.lookup(24).index());
+    assertEquals(25, index.lookup(30).index());
+    assertEquals(99, index.lookup(30).position());
+    assertEquals(25, index.lookupAsqn(300));
+    assertEquals(20, index.lookupAsqn(250));
+  }
+}
@@ -33,7 +33,9 @@ import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.File;
+import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -415,7 +417,7 @@ class SegmentedJournalTest {
   }
 
   @Test
-  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() {
+  void shouldNotUpdateIndexMappingsAfterRestartIfLastPositionIsInDescriptor() throws IOException {
     // given
     final int entriesPerSegment = 2;
     journal = openJournal(entriesPerSegment);
@@ -424,8 +426,9 @@ class SegmentedJournalTest {
     final var thirdIndex = journal.append(3, journalFactory.entry()).index();
     final JournalIndex indexBeforeRestart = journal.getJournalIndex();
 
-    // when
+    // when - restarting without a persisted index for the sealed segment
     journal.close();
+    Files.delete(directory.resolve("data").resolve("journal-1.idx"));
     journal = openJournal(entriesPerSegment);
 
     // then
@@ -13,9 +13,11 @@ import static org.assertj.core.api.Assertions.assertThatNoException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.file.SegmentIndexEncoder.EntriesEncoder;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -293,6 +295,114 @@ class SegmentsManagerTest {
     }
   }
 
+  @Test
+  void shouldRestoreIndexOfSealedSegmentsOnLoad() {
+    // given - the first segment is sealed once we append to the second one
+    final var multiEntryFactory = new TestJournalFactory(5);
+    try (final var journal =
+        multiEntryFactory.journal(multiEntryFactory.segmentsManager(directory))) {
+      for (int i = 1; i <= 6; i++) {
+        journal.append(i, multiEntryFactory.entry());
+      }
+    }
+    final var expectedPosition = multiEntryFactory.index().lookup(2).position();
+
+    // when
+    final var reloadedFactory = new TestJournalFactory(5);
+    segments = reloadedFactory.segmentsManager(directory);
+    segments.open();
+
+    // then - without restoring the index, only the last entry of each segment would be indexed
+    assertThat(directory.resolve("data").resolve("journal-1.idx")).exists();
+    assertThat(reloadedFactory.index().lookup(2)).isEqualTo(new IndexInfo(2, expectedPosition));
+    assertThat(reloadedFactory.index().lookupAsqn(3)).isEqualTo(3);
+  }
+
+  @Test
+  void shouldRestoreEveryNthEntryIfIndexOfSegmentIsTooLarge() {
+    // given - more indexed entries than fit into the segment index
+    final int entryCount = EntriesEncoder.countMaxValue() + 10;
+    final var multiEntryFactory = new TestJournalFactory(entryCount);
+    try (final var journal =
+        multiEntryFactory.journal(multiEntryFactory.segmentsManager(directory))) {
+      for (int i = 1; i <= entryCount + 1; i++) {
+        journal.append(i, multiEntryFactory.entry());
+      }
+    }
+
+    // when
+    final var reloadedFactory = new TestJournalFactory(entryCount);
+    segments = reloadedFactory.segmentsManager(directory);
+    segments.open();
+
+    // then - every second entry was written, starting with the first one
+    assertThat(reloadedFactory.index().lookup(2)).isEqualTo(multiEntryFactory.index().lookup(1));
+    assertThat(reloadedFactory.index().lookup(4)).isEqualTo(multiEntryFactory.index().lookup(3));
+  }
+
+  @Test
+  void shouldIgnoreCorruptedSegmentIndex() throws IOException {
+    // given
+    final var multiEntryFactory = new TestJournalFactory(5);
+    try (final var journal =
+        multiEntryFactory.journal(multiEntryFactory.segmentsManager(directory))) {
+      for (int i = 1; i <= 6; i++) {
+        journal.append(i, multiEntryFactory.entry());
+      }
+    }
+    final var indexFile = directory.resolve("data").resolve("journal-1.idx");
+    final var content = Files.readAllBytes(indexFile);
+    content[content.length - 1] ^= 0xFF;
+    Files.write(indexFile, content);
+
+    // when
+    final var reloadedFactory = new TestJournalFactory(5);
+    segments = reloadedFactory.segmentsManager(directory);
+    segments.open();
+
+    // then
+    assertThat(indexFile).doesNotExist();
+    assertThat(reloadedFactory.index().lookup(2)).isNull();
+    assertThat(segments.getFirstSegment().lastIndex()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldDeleteSegmentIndexOnTruncation() {
+    // given
+    final var multiEntryFactory = new TestJournalFactory(5);
+    final var indexFile = directory.resolve("data").resolve("journal-1.idx");
+    try (final var journal =
+        multiEntryFactory.journal(multiEntryFactory.segmentsManager(directory))) {
+      for (int i = 1; i <= 6; i++) {
+        journal.append(i, multiEntryFactory.entry());
+      }
+      assertThat(indexFile).exists();
+
+      // when
+      journal.deleteAfter(3);
+
+      // then
+      assertThat(indexFile).doesNotExist();
+    }
+  }
+
+  @Test
+  void shouldDeleteSegmentIndexWhenSegmentIsDeleted() {
+    // given
+    final var indexFile = directory.resolve("data").resolve("journal-1.idx");
+    try (final var journal = openJournal()) {
+      journal.append(1, journalFactory.entry());
+      journal.append(2, journalFactory.entry());
+      assertThat(indexFile).exists();
+
+      // when
+      journal.deleteUntil(2);
+
+      // then
+      assertThat(indexFile).doesNotExist();
+    }
+  }
+
   private SegmentedJournal openJournal() {
     return journalFactory.journal(journalFactory.segmentsManager(directory));
   }
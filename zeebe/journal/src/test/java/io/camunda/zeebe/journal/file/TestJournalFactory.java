@@ -99,6 +99,10 @@ final class TestJournalFactory {
     return metaStore;
   }
 
+  JournalIndex index() {
+    return index;
+  }
+
   SegmentsManager segmentsManager(final Path directory) {
     return segmentsManager(directory, segmentLoader());
   }
@@ -116,7 +120,8 @@ final class TestJournalFactory {
         "journal",
         loader,
         metrics,
-        metaStore);
+        metaStore,
+        true);
   }
 
   SegmentedJournal journal(final SegmentsManager segments) {
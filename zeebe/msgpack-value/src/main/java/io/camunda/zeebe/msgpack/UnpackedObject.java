@@ -36,10 +36,28 @@ public class UnpackedObject extends ObjectValue implements Recyclable, BufferRea
 
   @Override
   public void wrap(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, false);
+  }
+
+  /**
+   * Wraps the buffer like {@link #wrap(DirectBuffer, int, int)}, but defers decoding expensive
+   * properties until they're accessed, see {@link #readLazily}. Use this for read-only views which
+   * only access a few properties, and only as long as the buffer doesn't change.
+   */
+  public void wrapLazily(final DirectBuffer buff, final int offset, final int length) {
+    wrap(buff, offset, length, true);
+  }
+
+  private void wrap(
+      final DirectBuffer buff, final int offset, final int length, final boolean lazily) {
     reset();
     reader.wrap(buff, offset, length);
     try {
-      read(reader);
+      if (lazily) {
+        readLazily(reader);
+      } else {
+        read(reader);
+      }
     } catch (final Exception e) {
       throw new RuntimeException(
           "Could not deserialize object ["
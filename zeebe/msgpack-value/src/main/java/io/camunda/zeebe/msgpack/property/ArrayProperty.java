@@ -8,6 +8,8 @@
 package io.camunda.zeebe.msgpack.property;
 
 import io.camunda.zeebe.msgpack.MsgpackPropertyException;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.msgpack.value.ArrayValue;
 import io.camunda.zeebe.msgpack.value.BaseValue;
 import io.camunda.zeebe.msgpack.value.ValueArray;
@@ -15,9 +17,16 @@ import java.util.Iterator;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class ArrayProperty<T extends BaseValue> extends BaseProperty<ArrayValue<T>>
     implements ValueArray<T> {
+  // the encoded array, if it was read lazily and wasn't decoded yet
+  private final DirectBuffer undecodedValue = new UnsafeBuffer(0, 0);
+  private MsgPackReader undecodedValueReader;
+  private boolean isDecoded = true;
+
   public ArrayProperty(final String keyString, final Supplier<T> innerValueFactory) {
     super(keyString, new ArrayValue<>(innerValueFactory));
     isSet = true;
@@ -27,6 +36,34 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   public void reset() {
     super.reset();
     isSet = true;
+    isDecoded = true;
+  }
+
+  /**
+   * Skips the array and only decodes its items when the array is accessed, as decoding them creates
+   * a new value for every item.
+   */
+  @Override
+  public void readLazily(final MsgPackReader reader) {
+    final int offset = reader.getOffset();
+    reader.skipValue();
+
+    value.reset();
+    undecodedValue.wrap(reader.getBuffer(), offset, reader.getOffset() - offset);
+    isDecoded = false;
+    set();
+  }
+
+  @Override
+  protected ArrayValue<T> resolveValue() {
+    decode();
+    return super.resolveValue();
+  }
+
+  @Override
+  public void write(final MsgPackWriter writer) {
+    decode();
+    super.write(writer);
   }
 
   @Override
@@ -36,6 +73,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add() {
+    decode();
     try {
       return value.add();
     } catch (final Exception e) {
@@ -45,6 +83,7 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
 
   @Override
   public T add(final int index) {
+    decode();
     try {
       return value.add(index);
     } catch (final Exception e) {
@@ -60,6 +99,43 @@ public final class ArrayProperty<T extends BaseValue> extends BaseProperty<Array
   }
 
   public boolean isEmpty() {
+    decode();
     return value.isEmpty();
   }
+
+  @Override
+  public int hashCode() {
+    decode();
+    return super.hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    decode();
+    return super.equals(o);
+  }
+
+  @Override
+  public String toString() {
+    decode();
+    return super.toString();
+  }
+
+  private void decode() {
+    if (isDecoded) {
+      return;
+    }
+
+    if (undecodedValueReader == null) {
+      undecodedValueReader = new MsgPackReader();
+    }
+
+    undecodedValueReader.wrap(undecodedValue, 0, undecodedValue.capacity());
+    try {
+      value.read(undecodedValueReader);
+    } catch (final Exception e) {
+      throw new MsgpackPropertyException(getKey(), e);
+    }
+    isDecoded = true;
+  }
 }
@@ -76,6 +76,18 @@ public abstract class BaseProperty<T extends BaseValue> implements Recyclable {
     set();
   }
 
+  /**
+   * Reads the value like {@link #read(MsgPackReader)}, but allows to defer decoding it until it's
+   * accessed. The value may still point to the reader's buffer afterwards, so the buffer must not
+   * change as long as the value is used.
+   *
+   * <p>By default, the value is read right away, as it's cheap to read most values. Properties
+   * whose values are expensive to decode, like arrays, override this.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader);
+  }
+
   public void write(final MsgPackWriter writer) {
     T valueToWrite = value;
     if (!isSet) {
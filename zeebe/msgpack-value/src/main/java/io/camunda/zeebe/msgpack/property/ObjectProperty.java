@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.msgpack.property;
 
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
 import io.camunda.zeebe.msgpack.value.ObjectValue;
 
 public final class ObjectProperty<T extends ObjectValue> extends BaseProperty<T> {
@@ -14,6 +15,12 @@ public final class ObjectProperty<T extends ObjectValue> extends BaseProperty<T>
     super(key, objectValue, objectValue);
   }
 
+  @Override
+  public void readLazily(final MsgPackReader reader) {
+    value.readLazily(reader);
+    set();
+  }
+
   public T getValue() {
     return resolveValue();
   }
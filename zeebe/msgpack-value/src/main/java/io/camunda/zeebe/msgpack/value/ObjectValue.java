@@ -14,6 +14,8 @@ import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.BitUtil;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
   private final List<BaseProperty<? extends BaseValue>> declaredProperties;
@@ -22,6 +24,10 @@ public class ObjectValue extends BaseValue {
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing table of the declared properties by the hash of their key, holding the index
+  // of each property plus one; built on the first read after declaring a property
+  private int[] declaredPropertiesByKey;
+
   /**
    * Creates a new ObjectValue
    *
@@ -34,6 +40,7 @@ public class ObjectValue extends BaseValue {
 
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+    declaredPropertiesByKey = null;
     return this;
   }
 
@@ -95,29 +102,41 @@ public class ObjectValue extends BaseValue {
 
   @Override
   public void read(final MsgPackReader reader) {
+    read(reader, false);
+  }
+
+  /**
+   * Reads the object like {@link #read(MsgPackReader)}, but allows the declared properties to defer
+   * decoding their values until they're accessed, see {@link BaseProperty#readLazily}. Use this if
+   * only a few properties are accessed afterwards, and only as long as the reader's buffer doesn't
+   * change. Malformed values of these properties are only detected when they're accessed.
+   */
+  public void readLazily(final MsgPackReader reader) {
+    read(reader, true);
+  }
+
+  private void read(final MsgPackReader reader, final boolean lazily) {
     final int mapSize = reader.readMapHeader();
 
+    int expectedIndex = 0;
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
-
-      if (prop == null) {
+      final BaseProperty<? extends BaseValue> prop;
+      final int index = indexOfDeclaredProperty(decodedKey, expectedIndex);
+      if (index >= 0) {
+        prop = declaredProperties.get(index);
+        expectedIndex = index + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
       try {
-        prop.read(reader);
+        if (lazily) {
+          prop.readLazily(reader);
+        } else {
+          prop.read(reader);
+        }
       } catch (final Exception e) {
         throw new RuntimeException(String.format("Could not read property '%s'", prop.getKey()), e);
       }
@@ -133,6 +152,64 @@ public class ObjectValue extends BaseValue {
     }
   }
 
+  /**
+   * Looks up the declared property with the given key. As properties are usually written in the
+   * order in which they're declared, the property at the expected index is tried first, before
+   * looking up the key by its hash, instead of comparing it with every declared key.
+   *
+   * @return the index of the declared property, or -1 if no property with this key is declared
+   */
+  private int indexOfDeclaredProperty(final StringValue key, final int expectedIndex) {
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    if (declaredPropertiesByKey == null) {
+      declaredPropertiesByKey = indexDeclaredPropertiesByKey();
+    }
+
+    final int mask = declaredPropertiesByKey.length - 1;
+    for (int slot = hashKey(key) & mask;
+        declaredPropertiesByKey[slot] != 0;
+        slot = (slot + 1) & mask) {
+      final int index = declaredPropertiesByKey[slot] - 1;
+      if (declaredProperties.get(index).getKey().equals(key)) {
+        return index;
+      }
+    }
+
+    return -1;
+  }
+
+  private int[] indexDeclaredPropertiesByKey() {
+    // keep the table at most half full, so that a missing key is found out quickly
+    final int[] table =
+        new int[BitUtil.findNextPositivePowerOfTwo(Math.max(2, declaredProperties.size() * 2))];
+    final int mask = table.length - 1;
+
+    for (int index = 0; index < declaredProperties.size(); index++) {
+      int slot = hashKey(declaredProperties.get(index).getKey()) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = index + 1;
+    }
+
+    return table;
+  }
+
+  private static int hashKey(final StringValue key) {
+    final DirectBuffer bytes = key.getValue();
+    final int length = key.getLength();
+
+    int hash = length;
+    for (int i = 0; i < length; i++) {
+      hash = 31 * hash + bytes.getByte(i);
+    }
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public int getEncodedLength() {
     final int size = declaredProperties.size() + undeclaredProperties.size();
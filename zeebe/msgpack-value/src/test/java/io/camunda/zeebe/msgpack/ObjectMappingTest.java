@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.msgpack.POJO.POJOEnum;
+import io.camunda.zeebe.msgpack.property.LongProperty;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
@@ -387,4 +388,35 @@ public final class ObjectMappingTest {
     assertThatBuffer(pojo.getString()).hasBytes(BUF1);
     assertThat(pojo.nestedObject().getLong()).isEqualTo(24L);
   }
+
+  @Test
+  public void shouldDeserializePropertyDeclaredAfterDeserialization() {
+    // given
+    final MinimalPOJO pojo = new MinimalPOJO();
+    pojo.wrap(
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(1L);
+            }));
+
+    final LongProperty declaredLater = new LongProperty("declaredLater");
+    pojo.declareProperty(declaredLater);
+
+    // when
+    pojo.wrap(
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(2);
+              w.writeString(wrapString("declaredLater"));
+              w.writeInteger(2L);
+              w.writeString(wrapString("longProp"));
+              w.writeInteger(3L);
+            }));
+
+    // then
+    assertThat(pojo.getLongProp()).isEqualTo(3L);
+    assertThat(declaredLater.getValue()).isEqualTo(2L);
+  }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.msgpack;
+
+import io.camunda.zeebe.msgpack.property.BaseProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how fast an object with as many properties as the largest protocol records (e.g. the job
+ * and process instance records) is decoded. The properties share the long common prefixes of the
+ * record properties, like {@code processInstanceKey} and {@code processDefinitionKey}, which makes
+ * comparing keys byte by byte expensive.
+ *
+ * <p>The properties are either encoded in the order in which they're declared, like the broker
+ * writes them, or in the reverse order, like a client or another version might write them.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ObjectValueReadPerformanceTest {
+  private static final String[] LONG_PROPERTIES = {
+    "deadline",
+    "timeout",
+    "retries",
+    "retryBackoff",
+    "recurringTime",
+    "processDefinitionVersion",
+    "processDefinitionKey",
+    "processInstanceKey",
+    "elementInstanceKey",
+    "flowScopeKey",
+    "parentProcessInstanceKey",
+    "parentElementInstanceKey",
+    "rootProcessInstanceKey",
+    "rootProcessInstanceElementKey",
+  };
+  private static final String[] STRING_PROPERTIES = {
+    "type",
+    "worker",
+    "errorMessage",
+    "errorCode",
+    "bpmnProcessId",
+    "elementId",
+    "bpmnElementType",
+    "bpmnEventType",
+    "tenantId",
+    "jobKind",
+    "jobListenerEventType",
+    "processDefinitionPath",
+    "elementInstancePath",
+    "callingElementPath",
+    "changedAttributes",
+    "customHeaders",
+  };
+
+  @Param({"DECLARED", "REVERSED"})
+  public PropertyOrder propertyOrder;
+
+  private final LargeObject object = new LargeObject();
+  private DirectBuffer encodedObject;
+
+  @Setup
+  public void setup() {
+    final var source = new LargeObject();
+    for (int i = 0; i < source.longProperties.length; i++) {
+      source.longProperties[i].setValue(Long.MAX_VALUE - i);
+    }
+    for (int i = 0; i < source.stringProperties.length; i++) {
+      source.stringProperties[i].setValue("value-" + i);
+    }
+
+    final var buffer = new ExpandableArrayBuffer();
+    final var writer = new MsgPackWriter().wrap(buffer, 0);
+    final var properties = source.properties;
+    writer.writeMapHeader(properties.size());
+    for (int i = 0; i < properties.size(); i++) {
+      final int index = propertyOrder == PropertyOrder.DECLARED ? i : properties.size() - 1 - i;
+      properties.get(index).write(writer);
+    }
+    encodedObject = new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+
+  @Benchmark
+  public long measureRead() {
+    object.wrap(encodedObject);
+    return object.longProperties[0].getValue();
+  }
+
+  @JMHTest("measureRead")
+  void shouldReadWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/ms score, as measured locally
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 700;
+
+    // when
+    final var assertResult = testCase.withOptions(o -> o.param("propertyOrder", "DECLARED")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  public enum PropertyOrder {
+    DECLARED,
+    REVERSED
+  }
+
+  private static final class LargeObject extends UnpackedObject {
+    private final LongProperty[] longProperties = new LongProperty[LONG_PROPERTIES.length];
+    private final StringProperty[] stringProperties = new StringProperty[STRING_PROPERTIES.length];
+    private final List<BaseProperty<?>> properties = new ArrayList<>();
+
+    private LargeObject() {
+      super(LONG_PROPERTIES.length + STRING_PROPERTIES.length);
+      for (int i = 0; i < LONG_PROPERTIES.length; i++) {
+        longProperties[i] = new LongProperty(LONG_PROPERTIES[i], -1);
+        properties.add(longProperties[i]);
+      }
+      for (int i = 0; i < STRING_PROPERTIES.length; i++) {
+        stringProperties[i] = new StringProperty(STRING_PROPERTIES[i], "");
+        properties.add(stringProperties[i]);
+      }
+      properties.forEach(this::declareProperty);
+    }
+  }
+}
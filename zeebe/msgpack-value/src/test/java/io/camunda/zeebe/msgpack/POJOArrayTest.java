@@ -10,6 +10,7 @@ package io.camunda.zeebe.msgpack;
 import static io.camunda.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
 
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
@@ -409,6 +410,114 @@ public final class POJOArrayTest {
     assertThat(iterator.hasNext()).isFalse();
   }
 
+  @Test
+  public void shouldDeserializePOJOLazily() {
+    // given
+    final POJOArray pojo = new POJOArray();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              encodeSimpleArrayProp(w);
+            });
+
+    // when
+    pojo.wrapLazily(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(pojo.simpleArray())
+        .extracting(MinimalPOJO::getLongProp)
+        .containsExactly(123L, 456L, 789L, 555L, 777L);
+  }
+
+  @Test
+  public void shouldSerializeLazilyDeserializedPOJO() {
+    // given
+    final POJOArray pojo = new POJOArray();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              encodeSimpleArrayProp(w);
+            });
+    pojo.wrapLazily(buffer, 0, buffer.capacity());
+
+    // when
+    final UnsafeBuffer resultBuffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(resultBuffer, 0);
+
+    // then
+    assertThat(resultBuffer).isEqualTo(buffer);
+  }
+
+  @Test
+  public void shouldAppendEntryToLazilyDeserializedPOJO() {
+    // given
+    final POJOArray pojo = new POJOArray();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              encodeSimpleArrayProp(w);
+            });
+    pojo.wrapLazily(buffer, 0, buffer.capacity());
+
+    // when
+    pojo.simpleArray().add().setLongProp(999L);
+
+    // then
+    assertThat(pojo.simpleArray())
+        .extracting(MinimalPOJO::getLongProp)
+        .containsExactly(123L, 456L, 789L, 555L, 777L, 999L);
+  }
+
+  @Test
+  public void shouldFailOnAccessingMalformedLazilyDeserializedArray() {
+    // given
+    final POJOArray pojo = new POJOArray();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              w.writeString(wrapString("simpleArray"));
+              w.writeArrayHeader(1);
+              w.writeInteger(123L);
+            });
+    pojo.wrapLazily(buffer, 0, buffer.capacity());
+
+    // when
+    final var array = pojo.simpleArray();
+
+    // then
+    assertThatThrownBy(array::iterator)
+        .isInstanceOf(MsgpackPropertyException.class)
+        .hasMessageContaining("simpleArray");
+  }
+
+  @Test
+  public void shouldNotDecodeLazilyDeserializedArrayAfterReset() {
+    // given
+    final POJOArray pojo = new POJOArray();
+
+    final DirectBuffer buffer =
+        encodeMsgPack(
+            (w) -> {
+              w.writeMapHeader(1);
+              encodeSimpleArrayProp(w);
+            });
+    pojo.wrapLazily(buffer, 0, buffer.capacity());
+
+    // when
+    pojo.reset();
+
+    // then
+    assertThat(pojo.simpleArray()).isEmpty();
+  }
+
   protected void encodeSimpleArrayProp(final MsgPackWriter writer) {
     writer.writeString(wrapString("simpleArray"));
     writer.writeArrayHeader(5);
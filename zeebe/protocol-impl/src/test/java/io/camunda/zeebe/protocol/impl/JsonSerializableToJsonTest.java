@@ -9,6 +9,8 @@ package io.camunda.zeebe.protocol.impl;
 
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assumptions.assumeThat;
+import static org.assertj.core.api.Assumptions.assumeThatCode;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -130,6 +132,30 @@ final class JsonSerializableToJsonTest {
     JsonUtil.assertEquality(json, expectedJson);
   }
 
+  @ParameterizedTest(name = "{0}")
+  @MethodSource("records")
+  void shouldConvertLazilyReadRecordValueToJson(
+      @SuppressWarnings("unused") final String testDisplayName,
+      final Supplier<JsonSerializable> actualRecordSupplier,
+      final String expectedJson)
+      throws ReflectiveOperationException {
+    // given
+    final JsonSerializable actualRecord = actualRecordSupplier.get();
+    assumeThat(actualRecord).isInstanceOf(UnifiedRecordValue.class);
+
+    final UnifiedRecordValue recordValue = (UnifiedRecordValue) actualRecord;
+    assumeThatCode(recordValue::getLength).doesNotThrowAnyException();
+    final DirectBuffer buffer = BufferUtil.createCopy(recordValue);
+    final UnifiedRecordValue lazilyReadValue =
+        recordValue.getClass().getDeclaredConstructor().newInstance();
+
+    // when
+    lazilyReadValue.wrapLazily(buffer, 0, buffer.capacity());
+
+    // then
+    JsonUtil.assertEquality(lazilyReadValue.toJson(), expectedJson);
+  }
+
   private static Object[][] records() {
     return new Object[][] {
       /////////////////////////////////////////////////////////////////////////////////////////////
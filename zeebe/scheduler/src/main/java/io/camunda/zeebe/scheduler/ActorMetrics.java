@@ -16,6 +16,8 @@ public interface ActorMetrics {
 
   ActorMetricsScoped scoped(final String actorName);
 
+  ActorThreadGroupMetrics threadGroupScoped(final String threadGroupName);
+
   void observeJobSchedulingLatency(final long waitTimeNs, final SubscriptionType subscriptionType);
 
   static ActorMetrics ofNullable(final MeterRegistry registry) {
@@ -38,6 +40,11 @@ public interface ActorMetrics {
         return ActorMetricsScoped.noop();
       }
 
+      @Override
+      public ActorThreadGroupMetrics threadGroupScoped(final String threadGroupName) {
+        return ActorThreadGroupMetrics.noop();
+      }
+
       @Override
       public void observeJobSchedulingLatency(
           final long waitTimeNs, final SubscriptionType subscriptionType) {}
@@ -82,6 +89,27 @@ public interface ActorMetrics {
     boolean isEnabled();
   }
 
+  interface ActorThreadGroupMetrics {
+    ActorThreadGroupMetrics NOOP =
+        new ActorThreadGroupMetrics() {
+          @Override
+          public void countSteal() {}
+
+          @Override
+          public void countMigration() {}
+        };
+
+    /** Counts a task stolen from another thread's queue. */
+    void countSteal();
+
+    /** Counts a task executed by a different thread than the one which executed it before. */
+    void countMigration();
+
+    static ActorThreadGroupMetrics noop() {
+      return NOOP;
+    }
+  }
+
   enum SubscriptionType {
     FUTURE("Future"),
     TIMER("Timer"),
@@ -56,6 +56,20 @@ final class ActorMetricsImpl implements ActorMetrics {
         .register(registry);
   }
 
+  private Counter createStealCount(final String threadGroupName) {
+    return Counter.builder(TASK_STEAL_COUNT.getName())
+        .description(TASK_STEAL_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), threadGroupName)
+        .register(registry);
+  }
+
+  private Counter createMigrationCount(final String threadGroupName) {
+    return Counter.builder(TASK_MIGRATION_COUNT.getName())
+        .description(TASK_MIGRATION_COUNT.getDescription())
+        .tag(ActorMetricsKeyName.THREAD_GROUP.asString(), threadGroupName)
+        .register(registry);
+  }
+
   private Gauge createJobQueueLength(final String actorName, final AtomicLong value) {
     return Gauge.builder(JOB_QUEUE_LENGTH.getName(), value::get)
         .description(JOB_QUEUE_LENGTH.getDescription())
@@ -79,6 +93,12 @@ final class ActorMetricsImpl implements ActorMetrics {
         createExecutionCount(actorName));
   }
 
+  @Override
+  public ActorThreadGroupMetrics threadGroupScoped(final String threadGroupName) {
+    return new ActorThreadGroupMetricsEnabled(
+        createStealCount(threadGroupName), createMigrationCount(threadGroupName));
+  }
+
   @Override
   public void observeJobSchedulingLatency(
       final long waitTimeNs, final SubscriptionType subscriptionType) {
@@ -121,4 +141,18 @@ final class ActorMetricsImpl implements ActorMetrics {
       return true;
     }
   }
+
+  record ActorThreadGroupMetricsEnabled(Counter stealCount, Counter migrationCount)
+      implements ActorThreadGroupMetrics {
+
+    @Override
+    public void countSteal() {
+      stealCount.increment();
+    }
+
+    @Override
+    public void countMigration() {
+      migrationCount.increment();
+    }
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.scheduler;
 
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.clock.DefaultActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Objects;
@@ -129,11 +130,14 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
     private ActorClock actorClock;
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
+    private ActorThreadPlacement cpuBoundActorThreadPlacement = ActorThreadPlacement.unrestricted();
     private int ioBoundThreadsCount = 2;
+    private boolean virtualIoBoundActorThreads;
     private ActorThreadGroup ioBoundActorGroup;
     private ActorThreadFactory actorThreadFactory;
     private ActorExecutor actorExecutor;
-    private ActorTimerQueue actorTimerQueue;
+    private TimerQueue actorTimerQueue;
+    private boolean hierarchicalTimerQueue;
     private final boolean enableMetrics = false;
     private Supplier<IdleStrategy> idleStrategySupplier =
         ActorSchedulerBuilder::defaultIdleStrategySupplier;
@@ -175,15 +179,30 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
-    public ActorTimerQueue getActorTimerQueue() {
+    public TimerQueue getActorTimerQueue() {
       return actorTimerQueue;
     }
 
-    public ActorSchedulerBuilder setActorTimerQueue(final ActorTimerQueue actorTimerQueue) {
+    /** Sets a timer queue which is shared by all actor threads, e.g. to control it in tests. */
+    public ActorSchedulerBuilder setActorTimerQueue(final TimerQueue actorTimerQueue) {
       this.actorTimerQueue = actorTimerQueue;
       return this;
     }
 
+    public boolean isHierarchicalTimerQueue() {
+      return hierarchicalTimerQueue;
+    }
+
+    /**
+     * Uses a {@link HierarchicalActorTimerQueue} instead of an {@link ActorTimerQueue} for the
+     * timers of each actor thread, which scales better with many long running timers. Ignored if a
+     * shared timer queue is set.
+     */
+    public ActorSchedulerBuilder setHierarchicalTimerQueue(final boolean hierarchicalTimerQueue) {
+      this.hierarchicalTimerQueue = hierarchicalTimerQueue;
+      return this;
+    }
+
     public int getCpuBoundActorThreadCount() {
       return cpuBoundThreadsCount;
     }
@@ -193,6 +212,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public ActorThreadPlacement getCpuBoundActorThreadPlacement() {
+      return cpuBoundActorThreadPlacement;
+    }
+
+    /**
+     * Sets how the CPU bound actor threads are pinned to CPUs, and how actors are placed on them.
+     * I/O bound threads are mostly blocked on I/O, so they are never pinned.
+     */
+    public ActorSchedulerBuilder setCpuBoundActorThreadPlacement(
+        final ActorThreadPlacement placement) {
+      cpuBoundActorThreadPlacement = Objects.requireNonNull(placement);
+      return this;
+    }
+
     public int getIoBoundActorThreadCount() {
       return ioBoundThreadsCount;
     }
@@ -202,6 +235,20 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    public boolean isVirtualIoBoundActorThreads() {
+      return virtualIoBoundActorThreads;
+    }
+
+    /**
+     * Runs every I/O bound actor on its own virtual thread, instead of on the fixed number of I/O
+     * bound platform threads. The I/O bound thread count is then ignored.
+     */
+    public ActorSchedulerBuilder setVirtualIoBoundActorThreads(
+        final boolean virtualIoBoundActorThreads) {
+      this.virtualIoBoundActorThreads = virtualIoBoundActorThreads;
+      return this;
+    }
+
     public ActorThreadFactory getActorThreadFactory() {
       return actorThreadFactory;
     }
@@ -233,6 +280,19 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
       return this;
     }
 
+    /**
+     * @return the shared timer queue if one is set, otherwise a new timer queue for a single
+     *     thread, or null to let the thread create the default one
+     */
+    TimerQueue newActorTimerQueue() {
+      if (actorTimerQueue != null || !hierarchicalTimerQueue) {
+        return actorTimerQueue;
+      }
+
+      return new HierarchicalActorTimerQueue(
+          actorClock != null ? actorClock : new DefaultActorClock());
+    }
+
     private void initActorThreadFactory() {
       if (actorThreadFactory == null) {
         actorThreadFactory = new DefaultActorThreadFactory();
@@ -241,7 +301,8 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
 
     private void initIoBoundActorThreadGroup() {
       if (ioBoundActorGroup == null) {
-        ioBoundActorGroup = new IoThreadGroup(this);
+        ioBoundActorGroup =
+            virtualIoBoundActorThreads ? new VirtualIoThreadGroup(this) : new IoThreadGroup(this);
       }
     }
 
@@ -274,7 +335,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
         final ActorThreadGroup threadGroup,
         final TaskScheduler taskScheduler,
         final ActorClock clock,
-        final ActorTimerQueue timerQueue,
+        final TimerQueue timerQueue,
         final ActorMetrics actorMetrics,
         final IdleStrategy idleStrategy) {
       return new ActorThread(
@@ -289,7 +350,7 @@ public final class ActorScheduler implements AutoCloseable, ActorSchedulingServi
         final ActorThreadGroup threadGroup,
         final TaskScheduler taskScheduler,
         final ActorClock clock,
-        final ActorTimerQueue timerQueue,
+        final TimerQueue timerQueue,
         final ActorMetrics actorMetrics,
         final IdleStrategy idleStrategy);
   }
@@ -62,6 +62,11 @@ public class ActorTask {
 
   private ActorMetricsScoped metrics = ActorMetricsScoped.NOOP;
 
+  // the runner this task is always submitted to, or -1; see ActorThreadPlacement
+  private int homeRunnerId = -1;
+  // the runner which last executed this task, or -1; only accessed by the executing runner
+  private int lastRunnerId = -1;
+
   public ActorTask(final Actor actor) {
     this.actor = actor;
   }
@@ -69,6 +74,8 @@ public class ActorTask {
   /** called when the task is initially scheduled. */
   public ActorFuture<Void> onTaskScheduled(final ActorThreadGroup actorThreadGroup) {
     this.actorThreadGroup = actorThreadGroup;
+    homeRunnerId = actorThreadGroup.homeRunnerIdOf(actor);
+    lastRunnerId = -1;
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -546,6 +553,21 @@ public class ActorTask {
     metrics = scoped;
   }
 
+  int getHomeRunnerId() {
+    return homeRunnerId;
+  }
+
+  /**
+   * Called by the runner which is about to execute this task.
+   *
+   * @return true if the task was executed by a different runner before, false otherwise
+   */
+  boolean updateLastRunnerId(final int runnerId) {
+    final boolean migrated = lastRunnerId != -1 && lastRunnerId != runnerId;
+    lastRunnerId = runnerId;
+    return migrated;
+  }
+
   /** Describes an actor's scheduling state */
   public enum TaskSchedulingState {
     NOT_SCHEDULED,
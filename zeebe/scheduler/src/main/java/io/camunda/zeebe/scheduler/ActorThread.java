@@ -14,6 +14,7 @@ import io.camunda.zeebe.util.Loggers;
 import io.camunda.zeebe.util.error.FatalErrorHandler;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.VarHandle;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.locks.LockSupport;
 import java.util.function.Consumer;
@@ -23,6 +24,8 @@ import org.slf4j.Logger;
 import org.slf4j.MDC;
 
 public class ActorThread extends Thread implements Consumer<Runnable> {
+  // only set on virtual threads, which run the loop of an actor thread, see #newVirtualThreadLoop
+  private static final ThreadLocal<ActorThread> VIRTUAL_THREAD_RUNNER = new ThreadLocal<>();
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final FatalErrorHandler FATAL_ERROR_HANDLER = FatalErrorHandler.withLogger(LOG);
   private static final VarHandle STATE_HANDLE;
@@ -38,7 +41,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
 
   public final ManyToManyConcurrentArrayQueue<Runnable> submittedCallbacks =
       new ManyToManyConcurrentArrayQueue<>(1024 * 24);
-  protected final ActorTimerQueue timerJobQueue;
+  protected final TimerQueue timerJobQueue;
   protected ActorTaskRunnerIdleStrategy idleStrategy;
   ActorTask currentTask;
   private final ActorMetrics actorMetrics;
@@ -49,6 +52,9 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  // the thread which runs the loop, i.e. this thread or a virtual thread; null until it's running
+  private volatile Thread loopThread;
+  private BitSet cpuSet;
 
   public ActorThread(
       final String name,
@@ -56,7 +62,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       final ActorThreadGroup threadGroup,
       final TaskScheduler taskScheduler,
       final ActorClock clock,
-      final ActorTimerQueue timerQueue,
+      final TimerQueue timerQueue,
       final ActorMetrics actorMetrics) {
     this(
         name,
@@ -75,7 +81,7 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       final ActorThreadGroup threadGroup,
       final TaskScheduler taskScheduler,
       final ActorClock clock,
-      final ActorTimerQueue timerQueue,
+      final TimerQueue timerQueue,
       final ActorMetrics actorMetrics,
       final IdleStrategy idleStrategy) {
     this.actorMetrics = actorMetrics;
@@ -164,10 +170,14 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
      * since they are kept in a map datastructure on the current thread.
      * This implementation takes advantage of the fact that ActorTaskRunner extends Thread
      * itself. If we can cast down, the current thread is the current ActorTaskRunner.
+     * Only virtual threads, which can't extend ActorThread, fall back to a thread-local.
      */
-    return Thread.currentThread() instanceof ActorThread
-        ? (ActorThread) Thread.currentThread()
-        : null;
+    final Thread currentThread = Thread.currentThread();
+    if (currentThread instanceof final ActorThread actorThread) {
+      return actorThread;
+    }
+
+    return currentThread.isVirtual() ? VIRTUAL_THREAD_RUNNER.get() : null;
   }
 
   public static ActorThread ensureCalledFromActorThread(final String methodName) {
@@ -205,6 +215,15 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     return threadId;
   }
 
+  /**
+   * Sets the CPUs this thread is pinned to once it's started.
+   *
+   * @param cpuSet the CPUs to pin this thread to, or null to not pin it
+   */
+  void setCpuSet(final BitSet cpuSet) {
+    this.cpuSet = cpuSet;
+  }
+
   @Override
   public synchronized void start() {
     if (STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
@@ -214,8 +233,34 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  /**
+   * Starts this runner without starting this thread. Instead, its loop is returned, to be run by a
+   * virtual thread.
+   *
+   * @return the loop of this runner
+   */
+  Runnable newVirtualThreadLoop() {
+    if (!STATE_HANDLE.compareAndSet(this, ActorThreadState.NEW, ActorThreadState.RUNNING)) {
+      throw new IllegalStateException("Cannot start runner, not in state 'NEW'.");
+    }
+
+    return () -> {
+      VIRTUAL_THREAD_RUNNER.set(this);
+      try {
+        run();
+      } finally {
+        VIRTUAL_THREAD_RUNNER.remove();
+      }
+    };
+  }
+
   @Override
   public void run() {
+    loopThread = Thread.currentThread();
+    if (cpuSet != null) {
+      CpuAffinity.pinCurrentThread(cpuSet);
+    }
+
     idleStrategy.init();
     MDC.put("actor-scheduler", actorThreadGroup.getSchedulerName());
 
@@ -291,7 +336,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
 
     public void hintWorkAvailable() {
-      LockSupport.unpark(ActorThread.this);
+      // if the loop is not running yet, it checks for work before it's idle for the first time
+      final var thread = loopThread;
+      if (thread != null) {
+        LockSupport.unpark(thread);
+      }
     }
 
     protected void onIdle() {
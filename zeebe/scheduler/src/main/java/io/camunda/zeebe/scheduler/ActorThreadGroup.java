@@ -22,17 +22,30 @@ public abstract class ActorThreadGroup {
   protected final WorkStealingGroup tasks;
   protected final int numOfThreads;
   private final String schedulerName;
+  private final ActorThreadPlacement placement;
 
   public ActorThreadGroup(
       final String groupName,
       final int numOfThreads,
       final ActorSchedulerBuilder builder,
       final String schedulerName) {
+    this(groupName, numOfThreads, builder, schedulerName, ActorThreadPlacement.unrestricted());
+  }
+
+  public ActorThreadGroup(
+      final String groupName,
+      final int numOfThreads,
+      final ActorSchedulerBuilder builder,
+      final String schedulerName,
+      final ActorThreadPlacement placement) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
     this.schedulerName = schedulerName;
+    this.placement = placement;
 
-    tasks = new WorkStealingGroup(numOfThreads);
+    tasks =
+        new WorkStealingGroup(
+            numOfThreads, placement, builder.getActorMetrics().threadGroupScoped(groupName));
 
     threads = new ActorThread[numOfThreads];
 
@@ -47,9 +60,10 @@ public abstract class ActorThreadGroup {
                   this,
                   tasks,
                   builder.getActorClock(),
-                  builder.getActorTimerQueue(),
+                  builder.newActorTimerQueue(),
                   builder.getActorMetrics(),
                   builder.getIdleStrategySupplier().get());
+      thread.setCpuSet(placement.cpuSetOf(t, numOfThreads));
 
       threads[t] = thread;
     }
@@ -57,7 +71,13 @@ public abstract class ActorThreadGroup {
 
   public void submit(final ActorTask actorTask) {
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    final int homeRunnerId = actorTask.getHomeRunnerId();
+    if (homeRunnerId >= 0) {
+      tasks.submit(actorTask, homeRunnerId);
+      if (current != threads[homeRunnerId]) {
+        threads[homeRunnerId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, current.getRunnerId());
     } else {
       final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
@@ -66,6 +86,14 @@ public abstract class ActorThreadGroup {
     }
   }
 
+  /**
+   * @return the runner the given actor is always submitted to, or -1 if it can be submitted to any
+   *     runner
+   */
+  int homeRunnerIdOf(final Actor actor) {
+    return placement.homeThreadOf(actor, numOfThreads);
+  }
+
   public void start() {
     for (final ActorThread actorThread : threads) {
       actorThread.start();
@@ -0,0 +1,137 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes how the threads of an {@link ActorThreadGroup} are placed on the CPUs, and how actor
+ * tasks are placed on these threads.
+ *
+ * <ul>
+ *   <li>If CPU sets are given, the threads are split into as many domains as there are CPU sets,
+ *       and each thread is pinned to the CPU set of its domain. Threads only steal tasks from
+ *       threads of the same domain, so tasks don't migrate between e.g. sockets.
+ *   <li>If partition affinity is enabled, all actors of the same partition (i.e. whose context
+ *       contains the same {@link Actor#ACTOR_PROP_PARTITION_ID}) are always submitted to the same
+ *       thread. Together with the above, they stay on the same thread, or at least the same CPU
+ *       set, even if another thread stole them in between.
+ * </ul>
+ *
+ * @param cpuSets the CPU sets to pin the threads to, may be empty to not pin them
+ * @param partitionAffinity whether actors of the same partition are placed on the same thread
+ */
+public record ActorThreadPlacement(List<BitSet> cpuSets, boolean partitionAffinity) {
+
+  private static final ActorThreadPlacement UNRESTRICTED =
+      new ActorThreadPlacement(List.of(), false);
+
+  public ActorThreadPlacement {
+    Objects.requireNonNull(cpuSets, "cpuSets cannot be null");
+    cpuSets = cpuSets.stream().map(cpuSet -> (BitSet) cpuSet.clone()).toList();
+    for (final var cpuSet : cpuSets) {
+      if (cpuSet.isEmpty()) {
+        throw new IllegalArgumentException("Expected CPU sets to be non-empty, but one was empty");
+      }
+    }
+  }
+
+  /**
+   * @return a placement which neither pins threads nor places actors, the default
+   */
+  public static ActorThreadPlacement unrestricted() {
+    return UNRESTRICTED;
+  }
+
+  /**
+   * Parses CPU sets from the list format used by Linux, e.g. {@code 0-3,8,10-11}.
+   *
+   * @param cpuLists the CPU lists to parse, one per CPU set
+   * @param partitionAffinity whether actors of the same partition are placed on the same thread
+   * @return the placement with the parsed CPU sets
+   * @throws IllegalArgumentException if one of the lists can't be parsed
+   */
+  public static ActorThreadPlacement ofCpuLists(
+      final List<String> cpuLists, final boolean partitionAffinity) {
+    return new ActorThreadPlacement(
+        cpuLists.stream().map(ActorThreadPlacement::parseCpuList).toList(), partitionAffinity);
+  }
+
+  /**
+   * @return the number of domains the threads are split into, at least 1
+   */
+  int domainCount() {
+    return Math.max(1, cpuSets.size());
+  }
+
+  /**
+   * Returns the domain of the given thread. Threads are assigned to domains in contiguous ranges,
+   * such that the domains differ by at most one thread in size.
+   */
+  int domainOf(final int threadId, final int numOfThreads) {
+    return (int) ((long) threadId * domainCount() / numOfThreads);
+  }
+
+  /**
+   * @return the CPU set the given thread is pinned to, or null if it's not pinned
+   */
+  BitSet cpuSetOf(final int threadId, final int numOfThreads) {
+    if (cpuSets.isEmpty()) {
+      return null;
+    }
+
+    return cpuSets.get(domainOf(threadId, numOfThreads));
+  }
+
+  /**
+   * @return the thread the given actor is always submitted to, or -1 if it can be submitted to any
+   *     thread
+   */
+  int homeThreadOf(final Actor actor, final int numOfThreads) {
+    if (!partitionAffinity) {
+      return -1;
+    }
+
+    final var partitionId = actor.getContext().get(Actor.ACTOR_PROP_PARTITION_ID);
+    if (partitionId == null) {
+      return -1;
+    }
+
+    try {
+      return Math.floorMod(Integer.parseInt(partitionId), numOfThreads);
+    } catch (final NumberFormatException e) {
+      return -1;
+    }
+  }
+
+  private static BitSet parseCpuList(final String cpuList) {
+    final var cpuSet = new BitSet();
+    for (final var range : cpuList.split(",")) {
+      final var bounds = range.trim().split("-", 2);
+      try {
+        final int from = Integer.parseInt(bounds[0].trim());
+        final int to = bounds.length == 2 ? Integer.parseInt(bounds[1].trim()) : from;
+        if (from < 0 || to < from) {
+          throw new IllegalArgumentException(
+              "Expected CPU range '%s' of CPU list '%s' to be ascending and non-negative"
+                  .formatted(range, cpuList));
+        }
+        cpuSet.set(from, to + 1);
+      } catch (final NumberFormatException e) {
+        throw new IllegalArgumentException(
+            "Expected CPU list '%s' to be in the format '0-3,8,10-11', but failed to parse '%s'"
+                .formatted(cpuList, range),
+            e);
+      }
+    }
+
+    return cpuSet;
+  }
+}
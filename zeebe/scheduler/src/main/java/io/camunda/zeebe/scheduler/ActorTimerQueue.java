@@ -14,7 +14,13 @@ import org.agrona.DeadlineTimerWheel;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.slf4j.Logger;
 
-public final class ActorTimerQueue extends DeadlineTimerWheel {
+/**
+ * Timer queue based on a single {@link DeadlineTimerWheel}. Timers whose deadline is more than one
+ * rotation of the wheel away stay in their spoke, and are checked again on every rotation, so the
+ * cost of polling grows with the number of long timers. See {@link HierarchicalActorTimerQueue} for
+ * an alternative.
+ */
+public final class ActorTimerQueue extends DeadlineTimerWheel implements TimerQueue {
   private static final Logger LOG = Loggers.ACTOR_LOGGER;
   private static final int DEFAULT_TICKS_PER_WHEEL = 32;
   private final Long2ObjectHashMap<TimerSubscription> timerJobMap = new Long2ObjectHashMap<>();
@@ -40,6 +46,7 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
     super(TimeUnit.MILLISECONDS, clock.getTimeMillis(), 1, ticksPerWheel);
   }
 
+  @Override
   public void processExpiredTimers(final ActorClock clock) {
     int timersProcessed = 0;
 
@@ -48,6 +55,7 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
     } while (timersProcessed > 0);
   }
 
+  @Override
   public void schedule(final TimerSubscription timer, final ActorClock now) {
     final long deadline = timer.getDeadline(now);
 
@@ -64,6 +72,7 @@ public final class ActorTimerQueue extends DeadlineTimerWheel {
     timerJobMap.put(timerId, timer);
   }
 
+  @Override
   public void remove(final TimerSubscription timer) {
     final long timerId = timer.getTimerId();
 
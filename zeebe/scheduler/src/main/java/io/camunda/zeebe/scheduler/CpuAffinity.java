@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import com.sun.jna.LastErrorException;
+import com.sun.jna.Library;
+import com.sun.jna.Native;
+import com.sun.jna.Platform;
+import io.camunda.zeebe.util.Loggers;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Pins threads to CPUs via {@code sched_setaffinity}. Only supported on Linux; on other platforms,
+ * or if the call fails, threads are simply not pinned.
+ */
+final class CpuAffinity {
+
+  // size of cpu_set_t in glibc, which supports up to 1024 CPUs
+  private static final int CPU_SET_LONGS = 1024 / Long.SIZE;
+
+  private CpuAffinity() {}
+
+  /**
+   * Pins the calling thread to the given CPUs.
+   *
+   * @param cpuSet the CPUs the thread may run on
+   * @return true if the thread was pinned, false otherwise
+   */
+  static boolean pinCurrentThread(final BitSet cpuSet) {
+    if (!Platform.isLinux()) {
+      Loggers.ACTOR_LOGGER.warn(
+          "Cannot pin thread {} to CPUs {}, as this is only supported on Linux",
+          Thread.currentThread().getName(),
+          cpuSet);
+      return false;
+    }
+
+    final long[] words = cpuSet.toLongArray();
+    final long[] mask = Arrays.copyOf(words, Math.max(CPU_SET_LONGS, words.length));
+    try {
+      // pid 0 is the calling thread
+      LibC.INSTANCE.sched_setaffinity(0, mask.length * Long.BYTES, mask);
+      Loggers.ACTOR_LOGGER.debug(
+          "Pinned thread {} to CPUs {}", Thread.currentThread().getName(), cpuSet);
+      return true;
+    } catch (final LastErrorException | LinkageError e) {
+      Loggers.ACTOR_LOGGER.warn(
+          "Failed to pin thread {} to CPUs {}, it may run on any CPU",
+          Thread.currentThread().getName(),
+          cpuSet,
+          e);
+      return false;
+    }
+  }
+
+  private interface LibC extends Library {
+    LibC INSTANCE = Native.load("c", LibC.class);
+
+    @SuppressWarnings("checkstyle:MethodName")
+    int sched_setaffinity(int pid, int cpuSetSize, long[] mask) throws LastErrorException;
+  }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * Timer queue based on a hierarchical timing wheel with a resolution of one millisecond.
+ *
+ * <p>The wheel has several levels of 64 slots each; a slot on level {@code n} spans {@code 64^n}
+ * milliseconds. A timer is placed on the level of the highest 6-bit group in which its deadline
+ * differs from the current time, so it's always in a slot ahead of the current time on that level.
+ * Once the current time reaches the start of a slot, its timers are cascaded down, i.e. placed
+ * again relative to the new current time, until they're on level 0, where a slot is exactly one
+ * deadline.
+ *
+ * <p>Scheduling and removing a timer is O(1), and every timer is touched at most once per level
+ * until it expires, no matter how far ahead its deadline is. Which slot comes next is looked up in
+ * a bitmap per level, so large jumps of the clock don't step through every millisecond in between.
+ *
+ * <p>Deadlines and clock times are expected to be non-negative.
+ */
+public final class HierarchicalActorTimerQueue implements TimerQueue {
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS_PER_LEVEL = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS_PER_LEVEL - 1;
+  // enough levels to place any deadline
+  private static final int LEVEL_COUNT = (Long.SIZE + SLOT_BITS - 1) / SLOT_BITS;
+  // an extra slot after all levels, holding the timers which are due but not expired yet
+  private static final int DUE_SLOT = LEVEL_COUNT * SLOTS_PER_LEVEL;
+
+  private final TimerNode[] slotHeads = new TimerNode[DUE_SLOT + 1];
+  private final TimerNode[] slotTails = new TimerNode[DUE_SLOT + 1];
+  private final long[] occupiedSlots = new long[LEVEL_COUNT];
+  private final Long2ObjectHashMap<TimerNode> timers = new Long2ObjectHashMap<>();
+  private TimerNode freeNodes;
+  private long currentTime;
+  private long nextTimerId;
+
+  public HierarchicalActorTimerQueue(final ActorClock clock) {
+    currentTime = clock.getTimeMillis();
+  }
+
+  @Override
+  public void processExpiredTimers(final ActorClock clock) {
+    final long now = clock.getTimeMillis();
+    if (now < currentTime) {
+      rewind(now);
+    }
+    expireDueTimers(now);
+
+    while (!timers.isEmpty()) {
+      final int slot = nextSlot();
+      if (slot < 0) {
+        break;
+      }
+
+      final long slotTime = slotTime(slot);
+      if (slotTime > now) {
+        break;
+      }
+
+      currentTime = slotTime;
+      cascade(slot);
+      expireDueTimers(now);
+    }
+
+    // no slot starts before now, so every timer is still ahead of the current time on its level
+    currentTime = Math.max(currentTime, now);
+  }
+
+  @Override
+  public void schedule(final TimerSubscription timer, final ActorClock now) {
+    final long timerId = nextTimerId++;
+    final TimerNode node = newNode(timer, timerId, timer.getDeadline(now));
+
+    timer.setTimerId(timerId);
+    timers.put(timerId, node);
+    place(node);
+  }
+
+  @Override
+  public void remove(final TimerSubscription timer) {
+    final TimerNode node = timers.remove(timer.getTimerId());
+
+    if (node != null) {
+      unlink(node);
+      recycle(node);
+    }
+  }
+
+  /**
+   * @return the number of scheduled timers
+   */
+  int size() {
+    return timers.size();
+  }
+
+  private void place(final TimerNode node) {
+    if (node.deadline <= currentTime) {
+      link(node, DUE_SLOT);
+      return;
+    }
+
+    final int level =
+        (Long.SIZE - 1 - Long.numberOfLeadingZeros(node.deadline ^ currentTime)) / SLOT_BITS;
+    final int index = (int) (node.deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+    link(node, level * SLOTS_PER_LEVEL + index);
+    occupiedSlots[level] |= 1L << index;
+  }
+
+  /**
+   * @return the occupied slot which starts first, or -1 if no slot is occupied
+   */
+  private int nextSlot() {
+    int nextSlot = -1;
+    long nextSlotTime = Long.MAX_VALUE;
+
+    for (int level = 0; level < LEVEL_COUNT; level++) {
+      final long occupied = occupiedSlots[level];
+      if (occupied == 0) {
+        continue;
+      }
+
+      // all occupied slots of a level are ahead of the current time, so the lowest comes first
+      final int slot = level * SLOTS_PER_LEVEL + Long.numberOfTrailingZeros(occupied);
+      final long slotTime = slotTime(slot);
+      if (slotTime < nextSlotTime) {
+        nextSlot = slot;
+        nextSlotTime = slotTime;
+      }
+    }
+
+    return nextSlot;
+  }
+
+  /** Returns the time at which the given slot starts, in the current rotation of its level. */
+  private long slotTime(final int slot) {
+    final int level = slot / SLOTS_PER_LEVEL;
+    final int rotationBits = (level + 1) * SLOT_BITS;
+    final long rotationStart =
+        rotationBits >= Long.SIZE ? 0 : (currentTime >>> rotationBits) << rotationBits;
+    return rotationStart + ((long) (slot & SLOT_MASK) << (level * SLOT_BITS));
+  }
+
+  private void cascade(final int slot) {
+    TimerNode node = slotHeads[slot];
+    slotHeads[slot] = null;
+    slotTails[slot] = null;
+    occupiedSlots[slot / SLOTS_PER_LEVEL] &= ~(1L << (slot & SLOT_MASK));
+
+    while (node != null) {
+      final TimerNode next = node.next;
+      node.prev = null;
+      node.next = null;
+      place(node);
+      node = next;
+    }
+  }
+
+  /**
+   * Places all timers again relative to the given time, which is before the current time. This is
+   * O(n), but only happens if the clock is moved backwards, e.g. in tests.
+   */
+  private void rewind(final long time) {
+    // detach all timers first, as they may be placed into slots which weren't visited yet
+    TimerNode detached = null;
+    for (int slot = 0; slot <= DUE_SLOT; slot++) {
+      TimerNode node = slotHeads[slot];
+      while (node != null) {
+        final TimerNode next = node.next;
+        node.next = detached;
+        detached = node;
+        node = next;
+      }
+      slotHeads[slot] = null;
+      slotTails[slot] = null;
+    }
+    Arrays.fill(occupiedSlots, 0);
+
+    currentTime = time;
+    while (detached != null) {
+      final TimerNode next = detached.next;
+      detached.prev = null;
+      detached.next = null;
+      place(detached);
+      detached = next;
+    }
+  }
+
+  private void expireDueTimers(final long now) {
+    TimerNode node;
+    while ((node = slotHeads[DUE_SLOT]) != null) {
+      final TimerSubscription timer = node.timer;
+      timers.remove(node.timerId);
+      unlink(node);
+      recycle(node);
+
+      timer.onTimerExpired(TimeUnit.MILLISECONDS, now);
+    }
+  }
+
+  private void link(final TimerNode node, final int slot) {
+    final TimerNode tail = slotTails[slot];
+    node.slot = slot;
+    node.prev = tail;
+    node.next = null;
+
+    if (tail == null) {
+      slotHeads[slot] = node;
+    } else {
+      tail.next = node;
+    }
+    slotTails[slot] = node;
+  }
+
+  private void unlink(final TimerNode node) {
+    final int slot = node.slot;
+
+    if (node.prev == null) {
+      slotHeads[slot] = node.next;
+    } else {
+      node.prev.next = node.next;
+    }
+
+    if (node.next == null) {
+      slotTails[slot] = node.prev;
+    } else {
+      node.next.prev = node.prev;
+    }
+
+    if (slotHeads[slot] == null && slot != DUE_SLOT) {
+      occupiedSlots[slot / SLOTS_PER_LEVEL] &= ~(1L << (slot & SLOT_MASK));
+    }
+
+    node.prev = null;
+    node.next = null;
+  }
+
+  private TimerNode newNode(
+      final TimerSubscription timer, final long timerId, final long deadline) {
+    TimerNode node = freeNodes;
+    if (node == null) {
+      node = new TimerNode();
+    } else {
+      freeNodes = node.next;
+      node.next = null;
+    }
+
+    node.timer = timer;
+    node.timerId = timerId;
+    node.deadline = deadline;
+    return node;
+  }
+
+  private void recycle(final TimerNode node) {
+    node.timer = null;
+    node.next = freeNodes;
+    freeNodes = node;
+  }
+
+  private static final class TimerNode {
+    private TimerSubscription timer;
+    private long timerId;
+    private long deadline;
+    private int slot;
+    private TimerNode prev;
+    private TimerNode next;
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+
+/**
+ * Holds the timers scheduled on an {@link ActorThread}. It's only accessed by the thread it belongs
+ * to, so implementations don't need to be thread-safe.
+ */
+public interface TimerQueue {
+
+  /** Expires all timers whose deadline is at or before the current time of the given clock. */
+  void processExpiredTimers(ActorClock clock);
+
+  /** Schedules the given timer, and assigns it a timer id to remove it with. */
+  void schedule(TimerSubscription timer, ActorClock now);
+
+  /** Removes the given timer, if it's still scheduled. */
+  void remove(TimerSubscription timer);
+}
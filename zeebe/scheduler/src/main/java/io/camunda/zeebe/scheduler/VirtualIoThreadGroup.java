@@ -0,0 +1,223 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
+
+import io.camunda.zeebe.scheduler.ActorScheduler.ActorSchedulerBuilder;
+import io.camunda.zeebe.scheduler.ActorTask.ActorLifecyclePhase;
+import io.camunda.zeebe.util.Loggers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.agrona.concurrent.SleepingIdleStrategy;
+
+/**
+ * Thread group for I/O bound actors, which runs every actor on its own virtual thread instead of
+ * sharing a fixed number of platform threads between them. An actor which blocks on I/O then only
+ * blocks itself, and the carrier thread is free to run other actors in the meantime.
+ *
+ * <p>Every actor task is assigned a dedicated runner as long as it's scheduled, whose loop runs on
+ * a virtual thread. The runner executes nothing but this task, so the actor is still never executed
+ * concurrently, and timers, jobs and futures of the actor work as on any other actor thread, as the
+ * runner runs the loop of an {@link ActorThread} instead of starting it. An idle runner parks its
+ * virtual thread, which frees the carrier thread, until work is submitted or a timer may be due.
+ * Once the actor is closed, its runner terminates; if the task is submitted again, a new runner is
+ * created.
+ */
+public final class VirtualIoThreadGroup extends ActorThreadGroup {
+  private static final String GROUP_NAME = "zb-fs-workers";
+
+  private final ConcurrentHashMap<ActorTask, VirtualRunner> runners = new ConcurrentHashMap<>();
+  private final List<VirtualRunner> unstartedRunners = new ArrayList<>();
+  private final AtomicInteger runnerIds = new AtomicInteger();
+  private final ActorSchedulerBuilder builder;
+  private boolean started;
+  private boolean closed;
+
+  public VirtualIoThreadGroup(final ActorSchedulerBuilder builder) {
+    super(GROUP_NAME, 0, builder, builder.getSchedulerName());
+    this.builder = builder;
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    // queue the task atomically with looking up its runner, which may be about to terminate
+    final var runner =
+        runners.compute(
+            actorTask,
+            (task, existing) -> {
+              final var actualRunner = existing != null ? existing : newRunner(task);
+              actualRunner.scheduler.queue();
+              return actualRunner;
+            });
+    if (runner.actorThread != ActorThread.current()) {
+      runner.actorThread.hintWorkAvailable();
+    }
+  }
+
+  @Override
+  int homeRunnerIdOf(final Actor actor) {
+    // every actor has its own runner, so there is nothing to place
+    return -1;
+  }
+
+  @Override
+  public void start() {
+    synchronized (unstartedRunners) {
+      started = true;
+      unstartedRunners.forEach(VirtualRunner::start);
+      unstartedRunners.clear();
+    }
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
+
+    final List<CompletableFuture<Void>> terminationFutures = new ArrayList<>();
+    synchronized (unstartedRunners) {
+      closed = true;
+      for (final var runner : runners.values()) {
+        try {
+          terminationFutures.add(runner.actorThread.close());
+        } catch (final IllegalStateException e) {
+          // the runner was never started or terminated on its own in the meantime
+          Loggers.ACTOR_LOGGER.trace(
+              "Closing actor thread ground '{}'. Runner {} is not running",
+              groupName,
+              runner.actorThread.getName(),
+              e);
+        }
+      }
+    }
+
+    return CompletableFuture.allOf(terminationFutures.toArray(CompletableFuture[]::new))
+        .thenAccept(
+            ok ->
+                Loggers.ACTOR_LOGGER.debug(
+                    "Closing actor thread ground '{}': closed successfully", groupName));
+  }
+
+  /**
+   * @return the number of runners, i.e. of actors which are currently scheduled on this group
+   */
+  int getRunnerCount() {
+    return runners.size();
+  }
+
+  private VirtualRunner newRunner(final ActorTask task) {
+    final var scheduler = new DedicatedTaskScheduler(task);
+    final var runner =
+        new VirtualRunner(
+            String.format("%s-virtual-%d", groupName, runnerIds.getAndIncrement()), scheduler);
+
+    synchronized (unstartedRunners) {
+      if (closed) {
+        // like on a closed platform thread group, the task is queued but never executed
+        return runner;
+      }
+
+      if (started) {
+        runner.start();
+      } else {
+        unstartedRunners.add(runner);
+      }
+    }
+
+    return runner;
+  }
+
+  /**
+   * Called by a runner which found its task closed and not queued. Removes the runner and lets it
+   * terminate, unless the task was submitted again in the meantime. This is atomic with respect to
+   * {@link #submit(ActorTask)}, so a task which is submitted concurrently either finds the old
+   * runner still registered, or creates a new one.
+   */
+  private void tryRemoveRunner(final ActorTask task, final VirtualRunner runner) {
+    runners.computeIfPresent(
+        task,
+        (ignored, existing) -> {
+          if (existing != runner || runner.scheduler.isQueued() || !isTerminated(task)) {
+            return existing;
+          }
+
+          try {
+            runner.actorThread.close();
+          } catch (final IllegalStateException e) {
+            // the group is closed concurrently, which closes the runner as well
+          }
+          return null;
+        });
+  }
+
+  private static boolean isTerminated(final ActorTask task) {
+    final var phase = task.getLifecyclePhase();
+    return phase == ActorLifecyclePhase.CLOSED || phase == ActorLifecyclePhase.FAILED;
+  }
+
+  /** Schedules a single task, which is either queued or not. */
+  private final class DedicatedTaskScheduler implements TaskScheduler {
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final ActorTask task;
+    private VirtualRunner runner;
+
+    private DedicatedTaskScheduler(final ActorTask task) {
+      this.task = task;
+    }
+
+    private void queue() {
+      task.schedulingState.set(QUEUED);
+      queued.set(true);
+    }
+
+    private boolean isQueued() {
+      return queued.get();
+    }
+
+    @Override
+    public ActorTask getNextTask() {
+      if (queued.compareAndSet(true, false)) {
+        return task;
+      }
+
+      if (isTerminated(task)) {
+        tryRemoveRunner(task, runner);
+      }
+      return null;
+    }
+  }
+
+  /** Runs the loop of an actor thread, which is never started itself, on a virtual thread. */
+  private final class VirtualRunner {
+    private final ActorThread actorThread;
+    private final DedicatedTaskScheduler scheduler;
+
+    private VirtualRunner(final String name, final DedicatedTaskScheduler scheduler) {
+      actorThread =
+          new ActorThread(
+              name,
+              0,
+              VirtualIoThreadGroup.this,
+              scheduler,
+              builder.getActorClock(),
+              builder.newActorTimerQueue(),
+              builder.getActorMetrics(),
+              new SleepingIdleStrategy(ActorSchedulerBuilder.DEFAULT_MAX_PARK_PERIOD_NS));
+      this.scheduler = scheduler;
+      scheduler.runner = this;
+    }
+
+    private void start() {
+      Thread.ofVirtual().name(actorThread.getName()).start(actorThread.newVirtualThreadLoop());
+    }
+  }
+}
@@ -9,18 +9,40 @@ package io.camunda.zeebe.scheduler;
 
 import static io.camunda.zeebe.scheduler.ActorTask.TaskSchedulingState.QUEUED;
 
+import io.camunda.zeebe.scheduler.ActorMetrics.ActorThreadGroupMetrics;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
-/** Workstealing group maintains a queue per thread. */
+/**
+ * Workstealing group maintains a queue per thread. Threads only steal from threads of the same
+ * domain, see {@link ActorThreadPlacement}.
+ */
 public final class WorkStealingGroup implements TaskScheduler {
-  private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  // the runner ids each runner may steal from, i.e. the other runners of the same domain
+  private final int[][] victims;
+  private final ActorThreadGroupMetrics metrics;
 
   public WorkStealingGroup(final int numOfThreads) {
-    this.numOfThreads = numOfThreads;
+    this(numOfThreads, ActorThreadPlacement.unrestricted(), ActorThreadGroupMetrics.noop());
+  }
+
+  public WorkStealingGroup(
+      final int numOfThreads,
+      final ActorThreadPlacement placement,
+      final ActorThreadGroupMetrics metrics) {
+    this.metrics = metrics;
     taskQueues = new ActorTaskQueue[numOfThreads];
+    victims = new int[numOfThreads][];
     for (int i = 0; i < numOfThreads; i++) {
+      final int domain = placement.domainOf(i, numOfThreads);
+      final int runnerId = i;
       taskQueues[i] = new ActorTaskQueue();
+      victims[i] =
+          IntStream.range(0, numOfThreads)
+              .filter(
+                  other -> other != runnerId && placement.domainOf(other, numOfThreads) == domain)
+              .toArray();
     }
   }
 
@@ -42,11 +64,18 @@ public final class WorkStealingGroup implements TaskScheduler {
    */
   @Override
   public ActorTask getNextTask() {
-    final ActorThread currentThread = ActorThread.current();
-    ActorTask nextTask = taskQueues[currentThread.getRunnerId()].pop();
+    return getNextTask(ActorThread.current().getRunnerId());
+  }
+
+  ActorTask getNextTask(final int runnerId) {
+    ActorTask nextTask = taskQueues[runnerId].pop();
 
     if (nextTask == null) {
-      nextTask = trySteal(currentThread);
+      nextTask = trySteal(runnerId);
+    }
+
+    if (nextTask != null && nextTask.updateLastRunnerId(runnerId)) {
+      metrics.countMigration();
     }
 
     return nextTask;
@@ -59,7 +88,7 @@ public final class WorkStealingGroup implements TaskScheduler {
    * <p>Work stealing is a mechanism for <em>load balancing</em>: it relies upon the assumption that
    * there is more work to do than there is resources (threads) to run it.
    */
-  private ActorTask trySteal(final ActorThread currentThread) {
+  private ActorTask trySteal(final int runnerId) {
     /*
      * This implementation uses a random offset into the runner array. The idea is to
      *
@@ -75,17 +104,20 @@ public final class WorkStealingGroup implements TaskScheduler {
      * Experimental verification of the effectiveness of the optimization has not been conducted yet.
      * Also, the optimization only makes sense if the system uses at least 3 runners.
      */
-    final int offset = ThreadLocalRandom.current().nextInt(numOfThreads);
+    final int[] runnerVictims = victims[runnerId];
+    final int numOfVictims = runnerVictims.length;
+    if (numOfVictims == 0) {
+      return null;
+    }
 
-    for (int i = offset; i < offset + numOfThreads; i++) {
-      final int runnerId = i % numOfThreads;
+    final int offset = ThreadLocalRandom.current().nextInt(numOfVictims);
 
-      if (runnerId != currentThread.getRunnerId()) {
-        final ActorTask stolenActor = taskQueues[runnerId].trySteal();
+    for (int i = offset; i < offset + numOfVictims; i++) {
+      final ActorTask stolenActor = taskQueues[runnerVictims[i % numOfVictims]].trySteal();
 
-        if (stolenActor != null) {
-          return stolenActor;
-        }
+      if (stolenActor != null) {
+        metrics.countSteal();
+        return stolenActor;
       }
     }
 
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+final class ActorThreadPlacementTest {
+
+  @Test
+  void shouldParseCpuLists() {
+    // when
+    final var placement = ActorThreadPlacement.ofCpuLists(List.of("0-2,5", " 8 - 9 "), false);
+
+    // then
+    assertThat(placement.cpuSets()).containsExactly(cpuSet(0, 1, 2, 5), cpuSet(8, 9));
+  }
+
+  @Test
+  void shouldRejectInvalidCpuList() {
+    // when + then
+    assertThatThrownBy(() -> ActorThreadPlacement.ofCpuLists(List.of("0-a"), false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("0-a");
+    assertThatThrownBy(() -> ActorThreadPlacement.ofCpuLists(List.of("3-1"), false))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("3-1");
+  }
+
+  @Test
+  void shouldSplitThreadsIntoContiguousDomains() {
+    // given
+    final var placement = ActorThreadPlacement.ofCpuLists(List.of("0-1", "2-3"), false);
+
+    // when
+    final var domains = IntStream.range(0, 5).map(t -> placement.domainOf(t, 5)).toArray();
+
+    // then
+    assertThat(domains).containsExactly(0, 0, 0, 1, 1);
+    assertThat(placement.cpuSetOf(0, 5)).isEqualTo(cpuSet(0, 1));
+    assertThat(placement.cpuSetOf(4, 5)).isEqualTo(cpuSet(2, 3));
+  }
+
+  @Test
+  void shouldNotPinThreadsWithoutCpuSets() {
+    // given
+    final var placement = ActorThreadPlacement.unrestricted();
+
+    // when + then
+    assertThat(placement.cpuSetOf(0, 2)).isNull();
+    assertThat(placement.domainOf(1, 2)).isZero();
+  }
+
+  @Test
+  void shouldPlaceActorsOfSamePartitionOnSameThread() {
+    // given
+    final var placement = new ActorThreadPlacement(List.of(), true);
+
+    // when + then
+    assertThat(placement.homeThreadOf(new PartitionActor("a", 3), 2)).isOne();
+    assertThat(placement.homeThreadOf(new PartitionActor("b", 3), 2)).isOne();
+    assertThat(placement.homeThreadOf(new PartitionActor("c", 4), 2)).isZero();
+    assertThat(placement.homeThreadOf(new Actor() {}, 2)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldNotPlaceActorsWithoutPartitionAffinity() {
+    // given
+    final var placement = ActorThreadPlacement.unrestricted();
+
+    // when + then
+    assertThat(placement.homeThreadOf(new PartitionActor("a", 3), 2)).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldSubmitActorsOfSamePartitionToSameThread() {
+    // given - the threads are not started, so the tasks stay in their queues
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setCpuBoundActorThreadPlacement(new ActorThreadPlacement(List.of(), true));
+    builder.build();
+    final var threadGroup = builder.getCpuBoundActorThreads();
+    final var taskA = new ActorTask(new PartitionActor("a", 1));
+    final var taskB = new ActorTask(new PartitionActor("b", 1));
+    final var taskC = new ActorTask(new PartitionActor("c", 2));
+
+    // when
+    for (final var task : List.of(taskA, taskB, taskC)) {
+      task.onTaskScheduled(threadGroup);
+      threadGroup.submit(task);
+    }
+
+    // then - every thread of the group gets the tasks of its partition, if nothing was stolen
+    final var tasks = threadGroup.tasks;
+    assertThat(tasks.getNextTask(1)).isSameAs(taskA);
+    assertThat(tasks.getNextTask(1)).isSameAs(taskB);
+    assertThat(tasks.getNextTask(2)).isSameAs(taskC);
+  }
+
+  private static BitSet cpuSet(final int... cpus) {
+    final var cpuSet = new BitSet();
+    for (final int cpu : cpus) {
+      cpuSet.set(cpu);
+    }
+    return cpuSet;
+  }
+
+  private static class PartitionActor extends Actor {
+    private final String name;
+    private final int partitionId;
+
+    PartitionActor(final String name, final int partitionId) {
+      this.name = name;
+      this.partitionId = partitionId;
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    protected Map<String, String> createContext() {
+      final var context = super.createContext();
+      context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+      return context;
+    }
+  }
+}
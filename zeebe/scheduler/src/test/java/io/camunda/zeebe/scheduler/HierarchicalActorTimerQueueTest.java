@@ -0,0 +1,297 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class HierarchicalActorTimerQueueTest {
+  private static final long START_TIME = 1_000_000;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final List<TestTimer> expired = new ArrayList<>();
+  private HierarchicalActorTimerQueue timerQueue;
+
+  @BeforeEach
+  void setUp() {
+    setTime(START_TIME);
+    timerQueue = new HierarchicalActorTimerQueue(clock);
+  }
+
+  @Test
+  void shouldExpireTimerAtDeadline() {
+    // given
+    final var timer = schedule(START_TIME + 100);
+
+    // when
+    setTime(START_TIME + 99);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).isEmpty();
+
+    // when
+    setTime(START_TIME + 100);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).containsExactly(timer);
+    assertThat(timer.expiredAt).isEqualTo(START_TIME + 100);
+    assertThat(timerQueue.size()).isZero();
+  }
+
+  @Test
+  void shouldExpireTimersInOrderOfDeadlineAfterLargeJump() {
+    // given - timers on many different levels of the wheel
+    final var fourthTimer = schedule(START_TIME + 3_600_000);
+    final var firstTimer = schedule(START_TIME + 1);
+    final var thirdTimer = schedule(START_TIME + 5_000);
+    final var secondTimer = schedule(START_TIME + 70);
+    final var notExpiredTimer = schedule(START_TIME + 100_000_000_000L);
+
+    // when
+    setTime(START_TIME + 7_200_000);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).containsExactly(firstTimer, secondTimer, thirdTimer, fourthTimer);
+    assertThat(timerQueue.size()).isOne();
+
+    // when
+    setTime(START_TIME + 100_000_000_000L);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).last().isSameAs(notExpiredTimer);
+  }
+
+  @Test
+  void shouldNotExpireRemovedTimer() {
+    // given
+    final var removedTimer = schedule(START_TIME + 10);
+    final var timer = schedule(START_TIME + 10);
+
+    // when
+    timerQueue.remove(removedTimer);
+    setTime(START_TIME + 10);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).containsExactly(timer);
+  }
+
+  @Test
+  void shouldIgnoreRemovingExpiredTimer() {
+    // given
+    final var timer = schedule(START_TIME + 10);
+    setTime(START_TIME + 10);
+    timerQueue.processExpiredTimers(clock);
+
+    // when
+    timerQueue.remove(timer);
+
+    // then
+    assertThat(expired).containsExactly(timer);
+    assertThat(timerQueue.size()).isZero();
+  }
+
+  @Test
+  void shouldExpireTimerWithPastDeadlineOnNextPoll() {
+    // given
+    final var timer = schedule(START_TIME - 10);
+
+    // when
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).containsExactly(timer);
+  }
+
+  @Test
+  void shouldNotExpireTimersEarlyIfClockMovesBackwards() {
+    // given
+    setTime(START_TIME + 1_000);
+    timerQueue.processExpiredTimers(clock);
+    final var timer = schedule(START_TIME + 2_000);
+
+    // when
+    setTime(START_TIME);
+    final var earlierTimer = schedule(START_TIME + 100);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).isEmpty();
+
+    // when
+    setTime(START_TIME + 2_000);
+    timerQueue.processExpiredTimers(clock);
+
+    // then
+    assertThat(expired).containsExactly(earlierTimer, timer);
+  }
+
+  @Test
+  void shouldExpireTimersLikeReference() {
+    // given
+    final var random = new Random(42);
+    final List<TestTimer> scheduled = new ArrayList<>();
+    long time = START_TIME;
+
+    // when - timers are scheduled, removed and expired while the time moves on in random steps
+    for (int step = 0; step < 10_000; step++) {
+      final long delay =
+          switch (random.nextInt(3)) {
+            case 0 -> random.nextInt(100);
+            case 1 -> random.nextInt(100_000);
+            default -> random.nextLong(10_000_000_000L);
+          };
+      scheduled.add(schedule(time + delay));
+
+      if (random.nextInt(4) == 0) {
+        final var removed = scheduled.remove(random.nextInt(scheduled.size()));
+        timerQueue.remove(removed);
+      }
+
+      time += random.nextInt(2) == 0 ? random.nextInt(10) : random.nextInt(1_000_000);
+      setTime(time);
+      timerQueue.processExpiredTimers(clock);
+
+      // then - exactly the timers whose deadline passed are expired, each at most once
+      final long now = time;
+      final var due = scheduled.stream().filter(t -> t.deadline <= now).toList();
+      assertThat(expired).containsExactlyInAnyOrderElementsOf(due);
+      assertThat(expired).allMatch(t -> t.expiredAt == now);
+      scheduled.removeAll(due);
+      expired.clear();
+    }
+
+    assertThat(timerQueue.size()).isEqualTo(scheduled.size());
+  }
+
+  @Test
+  void shouldRunTimersOfActorsWithHierarchicalTimerQueue() throws Exception {
+    // given
+    final var scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(1)
+            .setHierarchicalTimerQueue(true)
+            .build();
+    scheduler.start();
+    final var timerFired = new CountDownLatch(2);
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            actor.schedule(Duration.ofMillis(10), timerFired::countDown);
+            final var cancelledTimer = actor.schedule(Duration.ofMillis(20), timerFired::countDown);
+            cancelledTimer.cancel();
+            actor.schedule(Duration.ofMillis(30), timerFired::countDown);
+          }
+        };
+
+    // when
+    try (scheduler) {
+      scheduler.submitActor(actor).join();
+
+      // then
+      assertThat(timerFired.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+  }
+
+  private void setTime(final long time) {
+    clock.setCurrentTime(time);
+    clock.update();
+  }
+
+  private TestTimer schedule(final long deadline) {
+    final var timer = new TestTimer(deadline, expired);
+    timerQueue.schedule(timer, clock);
+    return timer;
+  }
+
+  private static final class TestTimer implements TimerSubscription {
+    private final long deadline;
+    private final List<TestTimer> expired;
+    private long timerId = -1;
+    private long expiredAt = -1;
+
+    private TestTimer(final long deadline, final List<TestTimer> expired) {
+      this.deadline = deadline;
+      this.expired = expired;
+    }
+
+    @Override
+    public boolean poll() {
+      return expiredAt >= 0;
+    }
+
+    @Override
+    public ActorJob getJob() {
+      return null;
+    }
+
+    @Override
+    public boolean isRecurring() {
+      return false;
+    }
+
+    @Override
+    public void onJobCompleted() {}
+
+    @Override
+    public void cancel() {}
+
+    @Override
+    public long getTimerId() {
+      return timerId;
+    }
+
+    @Override
+    public void setTimerId(final long timerId) {
+      this.timerId = timerId;
+    }
+
+    @Override
+    public void submit() {}
+
+    @Override
+    public long getDeadline(final ActorClock now) {
+      return deadline;
+    }
+
+    @Override
+    public void onTimerExpired(final TimeUnit timeUnit, final long now) {
+      expiredAt = now;
+      expired.add(this);
+    }
+
+    @Override
+    public void run() {}
+
+    @Override
+    public long getTimerExpiredAt() {
+      return expiredAt;
+    }
+
+    @Override
+    public String toString() {
+      return "TestTimer{deadline=" + deadline + ", expiredAt=" + expiredAt + '}';
+    }
+  }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
+import io.camunda.zeebe.test.util.jmh.JMHTestCase;
+import io.camunda.zeebe.test.util.junit.JMHTest;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ActorTimerQueue} with the {@link HierarchicalActorTimerQueue}, with a load
+ * similar to many long polling requests, job timeouts and retries: {@code timerCount} timers are
+ * scheduled with a delay of up to a minute. Each operation cancels one of them, schedules a new one
+ * in its place, and advances the clock by one millisecond, expiring whatever timers are due.
+ */
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(
+    value = 1,
+    jvmArgs = {"-Xmx2g", "-Xms2g"})
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TimerQueuePerformanceTest {
+  private static final long MAX_DELAY_MILLIS = 60_000;
+
+  @Param({"HIERARCHICAL", "DEADLINE"})
+  public TimerQueueType timerQueueType;
+
+  @Param({"100000"})
+  public int timerCount;
+
+  private final ControlledActorClock clock = new ControlledActorClock();
+  private final SplittableRandom random = new SplittableRandom(1);
+  private TimerQueue timerQueue;
+  private NoopTimer[] timers;
+  private long currentTime;
+  private int nextTimer;
+
+  @Setup
+  public void setup() {
+    currentTime = 1_000_000;
+    tick();
+    timerQueue = timerQueueType.create(clock);
+    timers = new NoopTimer[timerCount];
+    for (int i = 0; i < timerCount; i++) {
+      timers[i] = new NoopTimer();
+      schedule(timers[i]);
+    }
+  }
+
+  @Benchmark
+  public long measureScheduleAndCancel() {
+    final NoopTimer timer = timers[nextTimer];
+    nextTimer = (nextTimer + 1) % timers.length;
+
+    // like the actor's timer subscriptions, only cancel timers which didn't expire yet, as the
+    // ActorTimerQueue reuses the ids of expired timers
+    if (timer.isScheduled) {
+      timerQueue.remove(timer);
+    }
+    schedule(timer);
+
+    tick();
+    timerQueue.processExpiredTimers(clock);
+    return timer.timerId;
+  }
+
+  @JMHTest("measureScheduleAndCancel")
+  void shouldScheduleAndCancelWithinExpectedDeviation(final JMHTestCase testCase) {
+    // given - an expected ops/ms score, as measured locally
+    // when running this test locally, you're likely to have a different score
+    final var referenceScore = 4_000;
+
+    // when
+    final var assertResult =
+        testCase.withOptions(o -> o.param("timerQueueType", "HIERARCHICAL")).run();
+
+    // then
+    assertResult.isAtLeast(referenceScore, 0.25);
+  }
+
+  private void schedule(final NoopTimer timer) {
+    timer.deadline = currentTime + 1 + random.nextLong(MAX_DELAY_MILLIS);
+    timer.isScheduled = true;
+    timerQueue.schedule(timer, clock);
+  }
+
+  private void tick() {
+    clock.setCurrentTime(++currentTime);
+    clock.update();
+  }
+
+  public enum TimerQueueType {
+    HIERARCHICAL(HierarchicalActorTimerQueue::new),
+    DEADLINE(ActorTimerQueue::new);
+
+    private final Function<ActorClock, TimerQueue> factory;
+
+    TimerQueueType(final Function<ActorClock, TimerQueue> factory) {
+      this.factory = factory;
+    }
+
+    TimerQueue create(final ActorClock clock) {
+      return factory.apply(clock);
+    }
+  }
+
+  private static final class NoopTimer implements TimerSubscription {
+    private long deadline;
+    private long timerId = -1;
+    private long expiredAt;
+    private boolean isScheduled;
+
+    @Override
+    public boolean poll() {
+      return false;
+    }
+
+    @Override
+    public ActorJob getJob() {
+      return null;
+    }
+
+    @Override
+    public boolean isRecurring() {
+      return false;
+    }
+
+    @Override
+    public void onJobCompleted() {}
+
+    @Override
+    public void cancel() {}
+
+    @Override
+    public long getTimerId() {
+      return timerId;
+    }
+
+    @Override
+    public void setTimerId(final long timerId) {
+      this.timerId = timerId;
+    }
+
+    @Override
+    public void submit() {}
+
+    @Override
+    public long getDeadline(final ActorClock now) {
+      return deadline;
+    }
+
+    @Override
+    public void onTimerExpired(final TimeUnit timeUnit, final long now) {
+      expiredAt = now;
+      isScheduled = false;
+    }
+
+    @Override
+    public void run() {}
+
+    @Override
+    public long getTimerExpiredAt() {
+      return expiredAt;
+    }
+  }
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class VirtualIoThreadGroupTest {
+
+  private ActorScheduler scheduler;
+  private VirtualIoThreadGroup threadGroup;
+
+  @BeforeEach
+  void setUp() {
+    final var builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setVirtualIoBoundActorThreads(true);
+    scheduler = builder.build();
+    threadGroup = (VirtualIoThreadGroup) builder.getIoBoundActorThreads();
+    scheduler.start();
+  }
+
+  @AfterEach
+  void tearDown() throws Exception {
+    scheduler.close();
+  }
+
+  @Test
+  void shouldRunIoBoundActorOnVirtualThread() {
+    // given
+    final var isVirtual = new AtomicReference<Boolean>();
+    final var actorThread = new AtomicReference<ActorThread>();
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            isVirtual.set(Thread.currentThread().isVirtual());
+            actorThread.set(ActorThread.current());
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(isVirtual).hasValue(true);
+    assertThat(actorThread.get()).isNotNull();
+    assertThat(actorThread.get().getActorThreadGroup()).isSameAs(threadGroup);
+  }
+
+  @Test
+  void shouldRunTimersAndContinuations() {
+    // given
+    final var cpuBoundActor = new Actor() {};
+    scheduler.submitActor(cpuBoundActor).join();
+    final var result = new CompletableActorFuture<String>();
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarted() {
+            actor.schedule(
+                Duration.ofMillis(10),
+                () ->
+                    actor.runOnCompletion(
+                        cpuBoundActor.actor.call(() -> "done"),
+                        (value, error) -> {
+                          if (Thread.currentThread().isVirtual()) {
+                            result.complete(value);
+                          } else {
+                            result.completeExceptionally(
+                                new IllegalStateException("Expected to run on a virtual thread"));
+                          }
+                        }));
+          }
+        };
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(result.join(5, TimeUnit.SECONDS)).isEqualTo("done");
+  }
+
+  @Test
+  void shouldNotBlockActorsOnEachOther() {
+    // given - more blocking actors than there would be I/O bound platform threads
+    final int actorCount = 16;
+    final var allBlocked = new CountDownLatch(actorCount);
+    final List<ActorFuture<Void>> startedFutures = new ArrayList<>();
+
+    // when
+    for (int i = 0; i < actorCount; i++) {
+      final var actor =
+          new Actor() {
+            @Override
+            protected void onActorStarting() {
+              allBlocked.countDown();
+              try {
+                // blocks until all actors are blocked at the same time
+                assertThat(allBlocked.await(10, TimeUnit.SECONDS)).isTrue();
+              } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+              }
+            }
+          };
+      startedFutures.add(scheduler.submitActor(actor, SchedulingHints.ioBound()));
+    }
+
+    // then
+    startedFutures.forEach(future -> future.join(15, TimeUnit.SECONDS));
+    assertThat(allBlocked.getCount()).isZero();
+  }
+
+  @Test
+  void shouldTerminateRunnerOfClosedActor() {
+    // given
+    final var actor = new Actor() {};
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    assertThat(threadGroup.getRunnerCount()).isOne();
+
+    // when
+    actor.closeAsync().join();
+
+    // then
+    Awaitility.await("until the runner of the closed actor terminated")
+        .untilAsserted(() -> assertThat(threadGroup.getRunnerCount()).isZero());
+  }
+
+  @Test
+  void shouldRunActorAgainAfterItWasClosed() {
+    // given
+    final var startCount = new CountDownLatch(2);
+    final var actor =
+        new Actor() {
+          @Override
+          protected void onActorStarting() {
+            startCount.countDown();
+          }
+        };
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+    actor.closeAsync().join();
+
+    // when
+    scheduler.submitActor(actor, SchedulingHints.ioBound()).join();
+
+    // then
+    assertThat(startCount.getCount()).isZero();
+  }
+}
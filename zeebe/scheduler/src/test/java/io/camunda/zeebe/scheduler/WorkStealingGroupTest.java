@@ -0,0 +1,75 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Camunda License 1.0. You may not use this file
+ * except in compliance with the Camunda License 1.0.
+ */
+package io.camunda.zeebe.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+final class WorkStealingGroupTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldStealFromAnyThreadWithoutCpuSets() {
+    // given
+    final var group = new WorkStealingGroup(4);
+    final var task = new ActorTask(new Actor() {});
+    group.submit(task, 0);
+
+    // when
+    final var stolenTask = group.getNextTask(3);
+
+    // then
+    assertThat(stolenTask).isSameAs(task);
+  }
+
+  @Test
+  void shouldOnlyStealFromThreadsOfSameCpuSet() {
+    // given - threads 0 and 1 are pinned to the first CPU set, 2 and 3 to the second
+    final var group = createGroup(ActorThreadPlacement.ofCpuLists(List.of("0", "1"), false));
+    final var task = new ActorTask(new Actor() {});
+    group.submit(task, 0);
+
+    // when
+    final var remoteTask = group.getNextTask(3);
+    final var localTask = group.getNextTask(1);
+
+    // then
+    assertThat(remoteTask).isNull();
+    assertThat(localTask).isSameAs(task);
+    assertThat(meterRegistry.get(ActorMetricsDoc.TASK_STEAL_COUNT.getName()).counter().count())
+        .isOne();
+  }
+
+  @Test
+  void shouldCountMigrations() {
+    // given
+    final var group = createGroup(ActorThreadPlacement.unrestricted());
+    final var task = new ActorTask(new Actor() {});
+
+    // when - executed by thread 0 twice, then stolen by thread 1
+    group.submit(task, 0);
+    group.getNextTask(0);
+    group.submit(task, 0);
+    group.getNextTask(0);
+    group.submit(task, 0);
+    group.getNextTask(1);
+
+    // then
+    assertThat(meterRegistry.get(ActorMetricsDoc.TASK_MIGRATION_COUNT.getName()).counter().count())
+        .isOne();
+  }
+
+  private WorkStealingGroup createGroup(final ActorThreadPlacement placement) {
+    return new WorkStealingGroup(
+        4, placement, ActorMetrics.ofNullable(meterRegistry).threadGroupScoped("test"));
+  }
+}
@@ -16,6 +16,7 @@ import io.camunda.zeebe.scheduler.ActorThread;
 import io.camunda.zeebe.scheduler.ActorThreadGroup;
 import io.camunda.zeebe.scheduler.ActorTimerQueue;
 import io.camunda.zeebe.scheduler.TaskScheduler;
+import io.camunda.zeebe.scheduler.TimerQueue;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -106,7 +107,7 @@ public class ControlledActorSchedulerExtension implements BeforeEachCallback, Af
         final ActorThreadGroup threadGroup,
         final TaskScheduler taskScheduler,
         final ActorClock clock,
-        final ActorTimerQueue timerQueue,
+        final TimerQueue timerQueue,
         final ActorMetrics actorMetrics,
         final IdleStrategy idleStrategy) {
       controlledThread =
@@ -18,6 +18,7 @@ import io.camunda.zeebe.scheduler.ActorThread;
 import io.camunda.zeebe.scheduler.ActorThreadGroup;
 import io.camunda.zeebe.scheduler.ActorTimerQueue;
 import io.camunda.zeebe.scheduler.TaskScheduler;
+import io.camunda.zeebe.scheduler.TimerQueue;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.scheduler.clock.ControlledActorClock;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
@@ -95,7 +96,7 @@ public final class ControlledActorSchedulerRule extends ExternalResource {
         final ActorThreadGroup threadGroup,
         final TaskScheduler taskScheduler,
         final ActorClock clock,
-        final ActorTimerQueue timerQueue,
+        final TimerQueue timerQueue,
         final ActorMetrics actorMetrics,
         final IdleStrategy idleStrategy) {
       controlledThread =
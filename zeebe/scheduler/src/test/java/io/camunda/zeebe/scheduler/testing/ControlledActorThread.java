@@ -10,8 +10,8 @@ package io.camunda.zeebe.scheduler.testing;
 import io.camunda.zeebe.scheduler.ActorMetrics;
 import io.camunda.zeebe.scheduler.ActorThread;
 import io.camunda.zeebe.scheduler.ActorThreadGroup;
-import io.camunda.zeebe.scheduler.ActorTimerQueue;
 import io.camunda.zeebe.scheduler.TaskScheduler;
+import io.camunda.zeebe.scheduler.TimerQueue;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Phaser;
@@ -26,7 +26,7 @@ public final class ControlledActorThread extends ActorThread {
       final ActorThreadGroup threadGroup,
       final TaskScheduler taskScheduler,
       final ActorClock clock,
-      final ActorTimerQueue timerQueue,
+      final TimerQueue timerQueue,
       final IdleStrategy idleStrategy) {
     super(
         name,
@@ -41,4 +41,15 @@ public interface SnapshotChunk {
   long getFileBlockPosition();
 
   long getTotalFileSize();
+
+  /**
+   * Returns true if the receiver already has the file of this chunk in its latest snapshot, and
+   * should reuse it instead of receiving it again. Such a chunk has no content, and its checksum is
+   * the checksum of the whole file.
+   *
+   * @return true if the chunk refers to a file the receiver already has
+   */
+  default boolean isReusedFile() {
+    return false;
+  }
 }
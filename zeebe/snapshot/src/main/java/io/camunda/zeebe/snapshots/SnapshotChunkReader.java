@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -41,4 +42,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @param maximumChunkSize
    */
   void setMaximumChunkSize(final int maximumChunkSize);
+
+  /**
+   * Sets the files which the receiver already has, mapping each file name to the checksum of the
+   * file. Files of the snapshot with the same name and checksum are not read anymore; instead, a
+   * single chunk is returned for each of them, which tells the receiver to reuse its own copy.
+   *
+   * @param fileChecksums the checksums of the files the receiver already has
+   * @see SnapshotChunk#isReusedFile()
+   */
+  default void setReusableFiles(final Map<String, Long> fileChecksums) {}
 }
@@ -18,6 +18,7 @@ import io.camunda.zeebe.util.FileUtil;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
@@ -85,7 +86,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isReusedFile()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -97,14 +100,20 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
     final var snapshotFile = tmpSnapshotDirectory.resolve(chunkName);
 
-    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
-    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
-
     if (checksumCollection == null) {
       checksumCollection = new SfvChecksumImpl();
     }
-    checksumCollection.updateFromBytes(
-        snapshotFile.getFileName().toString(), snapshotChunk.getContent());
+
+    if (snapshotChunk.isReusedFile()) {
+      LOGGER.trace("Reuse file {} of the latest snapshot for snapshot {}", chunkName, snapshotId);
+      linkReusedFile(snapshotChunk, snapshotFile);
+      checksumCollection.updateFromChecksum(snapshotFile, snapshotChunk.getChecksum());
+      return;
+    }
+
+    LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
+    writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
+    updateChecksum(snapshotChunk, snapshotFile);
 
     if (snapshotChunk.getChunkName().equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
       try {
@@ -115,6 +124,71 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private void updateChecksum(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final byte[] content = snapshotChunk.getContent();
+    if (snapshotChunk.getFileBlockPosition() == 0
+        && content.length == snapshotChunk.getTotalFileSize()) {
+      checksumCollection.updateFromBytes(snapshotFile.getFileName().toString(), content);
+      return;
+    }
+
+    // the checksum must cover the whole file, as it's compared with the checksums of other
+    // snapshots to find out which files can be reused
+    if (snapshotChunk.getFileBlockPosition() + content.length == snapshotChunk.getTotalFileSize()) {
+      try {
+        checksumCollection.updateFromFile(snapshotFile);
+      } catch (final IOException e) {
+        throw new SnapshotWriteException(
+            String.format("Failed to calculate the checksum of %s", snapshotFile), e);
+      }
+    }
+  }
+
+  /**
+   * Links the file of the latest snapshot, which the sender expects us to have, into the received
+   * snapshot. As snapshot files are immutable, the received snapshot can share it with the latest
+   * one, and it survives the deletion of the latest snapshot once the received one is persisted.
+   */
+  private void linkReusedFile(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var latestSnapshot =
+        snapshotStore
+            .getLatestSnapshot()
+            .orElseThrow(
+                () ->
+                    new SnapshotWriteException(
+                        String.format(
+                            "Expected to reuse file %s of the latest snapshot, but there is no snapshot",
+                            chunkName)));
+
+    final Long checksum = latestSnapshot.getChecksums().getChecksums().get(chunkName);
+    if (checksum == null || checksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse file %s with checksum %d of the latest snapshot %s, but its checksum is %s",
+              chunkName, snapshotChunk.getChecksum(), latestSnapshot.getId(), checksum));
+    }
+
+    final var reusedFile = latestSnapshot.getPath().resolve(chunkName);
+    try {
+      final long fileSize = Files.size(reusedFile);
+      if (fileSize != snapshotChunk.getTotalFileSize()) {
+        throw new SnapshotWriteException(
+            String.format(
+                "Expected to reuse file %s with size %d of the latest snapshot %s, but its size is %d",
+                chunkName, snapshotChunk.getTotalFileSize(), latestSnapshot.getId(), fileSize));
+      }
+
+      Files.deleteIfExists(snapshotFile);
+      Files.createLink(snapshotFile, reusedFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse file %s of the latest snapshot", reusedFile), e);
+    }
+  }
+
   private void collectMetadata(final SnapshotChunk chunk) throws IOException {
     if (metadataBuffer == null) {
       metadataBuffer = ByteBuffer.allocate(Math.toIntExact(chunk.getTotalFileSize()));
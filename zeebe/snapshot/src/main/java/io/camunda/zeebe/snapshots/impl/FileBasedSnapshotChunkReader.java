@@ -15,6 +15,7 @@ import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.TreeSet;
 
@@ -22,10 +23,16 @@ import java.util.TreeSet;
  * Implements a chunk reader where each chunk is a single file in a root directory. Chunks are then
  * ordered lexicographically, and the files are assumed to be immutable, i.e. no more are added to
  * the directory once this is created.
+ *
+ * <p>Files which the receiver already has, with the same name and checksum, are not read at all;
+ * see {@link #setReusableFiles(Map)}. The metadata file is always sent, as the receiver decodes it
+ * from the received chunks.
  */
 public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final Path directory;
   private final NavigableSet<CharSequence> chunks;
+  private final Map<String, Long> fileChecksums;
+  private Map<String, Long> reusableFiles = Map.of();
 
   private long offset;
   private NavigableSet<CharSequence> chunksView;
@@ -34,12 +41,24 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private long maximumChunkSize;
 
   public FileBasedSnapshotChunkReader(final Path directory) throws IOException {
-    this(directory, Long.MAX_VALUE);
+    this(directory, Map.of());
+  }
+
+  FileBasedSnapshotChunkReader(final Path directory, final Map<String, Long> fileChecksums)
+      throws IOException {
+    this(directory, fileChecksums, Long.MAX_VALUE);
   }
 
   FileBasedSnapshotChunkReader(final Path directory, final long maximumChunkSize)
       throws IOException {
+    this(directory, Map.of(), maximumChunkSize);
+  }
+
+  FileBasedSnapshotChunkReader(
+      final Path directory, final Map<String, Long> fileChecksums, final long maximumChunkSize)
+      throws IOException {
     this.directory = directory;
+    this.fileChecksums = fileChecksums;
     chunks = collectChunks(directory);
     totalCount = chunks.size();
     chunksView = new TreeSet<>(chunks);
@@ -89,6 +108,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     this.maximumChunkSize = maximumChunkSize;
   }
 
+  @Override
+  public void setReusableFiles(final Map<String, Long> fileChecksums) {
+    reusableFiles = Map.copyOf(fileChecksums);
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -105,6 +129,10 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     final var fileName = chunksView.first().toString();
     final var filePath = directory.resolve(fileName).toString();
 
+    if (offset == 0 && isReusable(fileName)) {
+      return nextReusedFileChunk(fileName);
+    }
+
     try (final var file = new RandomAccessFile(filePath, "r")) {
       final var fileLength = file.length();
       final var bytesToRead = Math.min(maximumChunkSize, fileLength - offset);
@@ -125,4 +153,24 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
       throw new UncheckedIOException(e);
     }
   }
+
+  private SnapshotChunk nextReusedFileChunk(final String fileName) {
+    try {
+      final var fileLength = Files.size(directory.resolve(fileName));
+      chunksView.pollFirst();
+      return SnapshotChunkUtil.createReusedFileChunk(
+          snapshotID, totalCount, fileName, fileChecksums.get(fileName), fileLength);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private boolean isReusable(final String fileName) {
+    if (fileName.equals(FileBasedSnapshotStoreImpl.METADATA_FILE_NAME)) {
+      return false;
+    }
+
+    final Long checksum = fileChecksums.get(fileName);
+    return checksum != null && checksum.equals(reusableFiles.get(fileName));
+  }
 }
@@ -27,6 +27,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.assertj.core.api.Assertions;
@@ -349,6 +350,69 @@ public class FileBasedReceivedSnapshotTest {
     }
   }
 
+  @Test
+  public void shouldReuseFilesOfLatestSnapshot() throws IOException {
+    // given
+    final var previousSnapshot = receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    final var reusedFiles = new ArrayList<String>();
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(previousSnapshot.getChecksums().getChecksums());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        if (chunk.isReusedFile()) {
+          reusedFiles.add(chunk.getChunkName());
+        }
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+
+    // then
+    assertThat(reusedFiles).containsExactlyInAnyOrderElementsOf(SNAPSHOT_FILE_CONTENTS.keySet());
+    for (final var fileName : reusedFiles) {
+      assertThat(
+              Files.isSameFile(
+                  receivedSnapshot.getPath().resolve(fileName),
+                  previousSnapshot.getPath().resolve(fileName)))
+          .as("the file %s is linked to the previous snapshot's file", fileName)
+          .isTrue();
+    }
+
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+    assertThat(previousSnapshot.getPath()).doesNotExist();
+    assertThat(persistedSnapshot.getChecksums().sameChecksums(snapshotToSend.getChecksums()))
+        .isTrue();
+    for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      assertThat(persistedSnapshot.getPath().resolve(entry.getKey())).hasContent(entry.getValue());
+    }
+  }
+
+  @Test
+  public void shouldNotReuseFileWithDifferentChecksum() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L);
+    final var receivedSnapshot =
+        receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId()).join();
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setReusableFiles(snapshotToSend.getChecksums().getChecksums());
+      final var reusedChunk =
+          SnapshotChunkWrapper.withChecksum(snapshotChunkReader.next(), 0xCAFEL);
+
+      // then
+      assertThat(reusedChunk.isReusedFile()).isTrue();
+      assertThatCode(() -> receivedSnapshot.apply(reusedChunk).join())
+          .hasCauseInstanceOf(SnapshotWriteException.class)
+          .hasMessageContaining("Expected to reuse file file1 with checksum " + 0xCAFEL);
+    }
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId()).join();
@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -332,6 +333,34 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(chunkFromFirstSeek.getChecksum()).isEqualTo(chunkFromSecondSeek.getChecksum());
   }
 
+  @Test
+  public void shouldReplaceReusableFilesWithReusedFileChunks() throws IOException {
+    // given
+    final var fileChecksums = new HashMap<String, Long>();
+    SNAPSHOT_CHUNK.forEach(
+        (name, content) ->
+            fileChecksums.put(name, SnapshotChunkUtil.createChecksum(content.getBytes())));
+    final var reader = newReader(fileChecksums, 2);
+
+    // when
+    reader.setReusableFiles(Map.of("file1", fileChecksums.get("file1"), "file3", 0L));
+    final var chunks = getAllChunks(reader);
+
+    // then - file1 is the same, but file3 differs from the receiver's copy
+    assertThat(chunks)
+        .extracting(SnapshotChunk::getChunkName, SnapshotChunk::isReusedFile)
+        .containsExactly(
+            tuple("file1", true),
+            tuple("file2", false),
+            tuple("file3", false),
+            tuple("file3", false),
+            tuple("file3", false),
+            tuple("file3", false));
+    assertThat(chunks.getFirst().getContent()).isEmpty();
+    assertThat(chunks.getFirst().getChecksum()).isEqualTo(fileChecksums.get("file1"));
+    assertThat(chunks.getFirst().getTotalFileSize()).isEqualTo("this".length());
+  }
+
   private List<SnapshotChunk> getAllChunks(final FileBasedSnapshotChunkReader reader) {
     final var snapshotChunks = new ArrayList<SnapshotChunk>();
 
@@ -347,6 +376,11 @@ public final class FileBasedSnapshotChunkReaderTest {
   }
 
   private FileBasedSnapshotChunkReader newReader(final long chunkSize) throws IOException {
+    return newReader(Map.of(), chunkSize);
+  }
+
+  private FileBasedSnapshotChunkReader newReader(
+      final Map<String, Long> fileChecksums, final long chunkSize) throws IOException {
     snapshotDirectory = temporaryFolder.getRoot().toPath();
 
     for (final var chunk : SNAPSHOT_CHUNK.keySet()) {
@@ -355,7 +389,7 @@ public final class FileBasedSnapshotChunkReaderTest {
       Files.writeString(path, SNAPSHOT_CHUNK.get(chunk));
     }
 
-    return new FileBasedSnapshotChunkReader(snapshotDirectory, chunkSize);
+    return new FileBasedSnapshotChunkReader(snapshotDirectory, fileChecksums, chunkSize);
   }
 
   private FileBasedSnapshotChunkReader newReader() throws IOException {
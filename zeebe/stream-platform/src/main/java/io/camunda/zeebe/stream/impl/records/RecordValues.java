@@ -35,4 +35,18 @@ public final class RecordValues {
     }
     return value;
   }
+
+  /**
+   * Reads the record value like {@link #readRecordValue(LoggedEvent, ValueType)}, but defers
+   * decoding its expensive properties until they're accessed, see {@link
+   * UnifiedRecordValue#wrapLazily}. The value is only valid as long as the event is.
+   */
+  public UnifiedRecordValue readRecordValueLazily(
+      final LoggedEvent event, final ValueType valueType) {
+    final UnifiedRecordValue value = eventCache.get(valueType);
+    if (value != null) {
+      value.wrapLazily(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    }
+    return value;
+  }
 }
@@ -482,6 +482,11 @@ public class CompactRecordLogger {
       result.append(" (truncated)");
     }
 
+    if (jobKeys != null && value.getJobs().size() < jobKeys.size()) {
+      // e.g. a TIME_OUT command, which refers to the jobs only by their keys
+      return result.append(" jobKeys: ").append(jobKeys).toString();
+    }
+
     if (jobKeys != null && !jobKeys.isEmpty()) {
       for (int i = 0; i < jobKeys.size(); i++) {
         final var jobKey = jobKeys.get(i);
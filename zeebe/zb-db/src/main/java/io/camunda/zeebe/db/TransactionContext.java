@@ -34,4 +34,13 @@ public interface TransactionContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Registers a listener which is called after a transaction of this context was rolled back, e.g.
+   * to reset in-memory state which was derived from the discarded changes. It is called by the
+   * thread which rolled the transaction back, but not after a committed transaction.
+   *
+   * @param listener the listener to call after a rollback
+   */
+  void addRollbackListener(Runnable listener);
 }
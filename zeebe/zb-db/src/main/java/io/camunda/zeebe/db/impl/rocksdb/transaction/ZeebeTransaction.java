@@ -12,6 +12,8 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.ArrayList;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -24,7 +26,11 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   private final long nativeHandle;
   private final TransactionRenovator transactionRenovator;
 
+  private final List<Runnable> rollbackListeners = new ArrayList<>();
+
   private boolean inCurrentTransaction;
+  // true from the start of a transaction until it's committed, i.e. if a rollback discards changes
+  private boolean uncommitted;
   private Transaction transaction;
 
   public ZeebeTransaction(
@@ -97,6 +103,7 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void resetTransaction() {
     transaction = transactionRenovator.renewTransaction(transaction);
     inCurrentTransaction = true;
+    uncommitted = true;
   }
 
   boolean isInCurrentTransaction() {
@@ -145,11 +152,20 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
   void commitInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.commit();
+    uncommitted = false;
   }
 
   void rollbackInternal() throws RocksDBException {
     inCurrentTransaction = false;
     transaction.rollback();
+    if (uncommitted) {
+      uncommitted = false;
+      rollbackListeners.forEach(Runnable::run);
+    }
+  }
+
+  void addRollbackListener(final Runnable listener) {
+    rollbackListeners.add(listener);
   }
 
   @Override
@@ -460,6 +460,60 @@ public final class DbTransactionTest {
     assertThat(threeColumnFamily.exists(threeKey)).isFalse();
   }
 
+  @Test
+  public void shouldNotifyRollbackListenersOnRollback() throws Exception {
+    // given
+    final var rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.insert(oneKey, oneValue));
+
+    // when
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyRollbackListenersOnError() {
+    // given
+    final var rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+
+    // when
+    assertThatThrownBy(
+        () ->
+            transactionContext.runInTransaction(
+                () -> {
+                  throw new RuntimeException("expected");
+                }));
+
+    // then
+    assertThat(rollbacks).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyRollbackListenersOnCommit() throws Exception {
+    // given
+    final var rollbacks = new AtomicLong();
+    transactionContext.addRollbackListener(rollbacks::incrementAndGet);
+    oneKey.wrapLong(1);
+    oneValue.wrapLong(-1);
+
+    // when
+    transactionContext.runInTransaction(() -> oneColumnFamily.insert(oneKey, oneValue));
+    final ZeebeDbTransaction transaction = transactionContext.getCurrentTransaction();
+    transaction.run(() -> oneColumnFamily.deleteExisting(oneKey));
+    transaction.commit();
+    transaction.rollback();
+
+    // then
+    assertThat(rollbacks).hasValue(0);
+  }
+
   @Test
   // See https://github.com/camunda/camunda/issues/11681, this test is to ensure that we don't
   // hide exceptions from the `ProcessingStateMachine`.